@@ -0,0 +1,28 @@
+package de.t14d3.rapunzellib.scheduler;
+
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Work queues for schedulers without their own tick pump, drained by a {@link Scheduler#runEveryTicks}
+ * task. Schedulers are held weakly so a discarded scheduler does not keep its queue alive.
+ */
+final class FallbackWorkQueues {
+    private static final Map<Scheduler, TickWorkQueue> QUEUES = new WeakHashMap<>();
+
+    private FallbackWorkQueues() {
+    }
+
+    static synchronized @NotNull TickWorkQueue of(@NotNull Scheduler scheduler) {
+        return QUEUES.computeIfAbsent(scheduler, FallbackWorkQueues::pumped);
+    }
+
+    private static TickWorkQueue pumped(Scheduler scheduler) {
+        TickWorkQueue queue = new TickWorkQueue(TickWorkQueue.DEFAULT_BUDGET, LoggerFactory.getLogger(TickWorkQueue.class));
+        scheduler.runEveryTicks(1L, 1L, Scheduler.labelled("tick-work-queue", queue::drainTick));
+        return queue;
+    }
+}
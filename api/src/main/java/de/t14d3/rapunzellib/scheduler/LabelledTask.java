@@ -0,0 +1,24 @@
+package de.t14d3.rapunzellib.scheduler;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * A task carrying an explicit label for {@link SchedulerProfiler} accounting.
+ *
+ * @param label the profiling label
+ * @param task  the wrapped task
+ * @see Scheduler#labelled(String, Runnable)
+ */
+public record LabelledTask(@NotNull String label, @NotNull Runnable task) implements Runnable {
+    public LabelledTask {
+        Objects.requireNonNull(label, "label");
+        Objects.requireNonNull(task, "task");
+    }
+
+    @Override
+    public void run() {
+        task.run();
+    }
+}
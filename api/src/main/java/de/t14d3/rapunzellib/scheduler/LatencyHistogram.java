@@ -0,0 +1,97 @@
+package de.t14d3.rapunzellib.scheduler;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free, HDR-style log-linear histogram of nanosecond durations.
+ *
+ * <p>Values below {@code 32} ns are counted exactly. Larger values fall into power-of-two ranges
+ * that are each split into 16 linear sub-buckets, so any recorded value is reported with a
+ * relative error of at most ~6%. Values above {@link #MAX_TRACKABLE_NANOS} (about 18 minutes) are
+ * clamped. The whole histogram is a fixed array of a few hundred counters, so recording never
+ * allocates.</p>
+ */
+public final class LatencyHistogram {
+    /** Largest value that is tracked with full precision; larger values are clamped. */
+    public static final long MAX_TRACKABLE_NANOS = (1L << 40) - 1L;
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_LIMIT = SUB_BUCKET_COUNT << 1;
+    private static final int BUCKET_COUNT = bucketIndex(MAX_TRACKABLE_NANOS) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records a duration.
+     *
+     * @param nanos the duration in nanoseconds; negative values are recorded as zero
+     */
+    public void record(long nanos) {
+        long value = Math.min(Math.max(0L, nanos), MAX_TRACKABLE_NANOS);
+        counts.incrementAndGet(bucketIndex(value));
+        total.incrementAndGet();
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    /** Returns the number of recorded values. */
+    public long count() {
+        return total.get();
+    }
+
+    /** Returns the largest recorded value, or {@code 0} if nothing was recorded. */
+    public long max() {
+        return max.get();
+    }
+
+    /**
+     * Returns the value at the given percentile, as the upper bound of the bucket that contains it.
+     *
+     * @param percentile percentile in {@code [0, 100]}
+     * @return the value in nanoseconds, or {@code 0} if nothing was recorded
+     */
+    public long valueAtPercentile(double percentile) {
+        long recorded = total.get();
+        if (recorded == 0L) return 0L;
+        double clamped = Math.min(100.0, Math.max(0.0, percentile));
+        long target = Math.max(1L, (long) Math.ceil(clamped / 100.0 * recorded));
+        long seen = 0L;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts.get(i);
+            if (seen >= target) {
+                return Math.min(bucketUpperBound(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    /** Clears all recorded values. */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts.set(i, 0L);
+        }
+        total.set(0L);
+        max.set(0L);
+    }
+
+    static int bucketIndex(long value) {
+        if (value < LINEAR_LIMIT) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) - SUB_BUCKET_COUNT;
+        return LINEAR_LIMIT + (shift - 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    static long bucketUpperBound(int index) {
+        if (index < LINEAR_LIMIT) {
+            return index;
+        }
+        int shift = (index - LINEAR_LIMIT) / SUB_BUCKET_COUNT + 1;
+        long subBucket = (index - LINEAR_LIMIT) % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+        return ((subBucket + 1L) << shift) - 1L;
+    }
+}
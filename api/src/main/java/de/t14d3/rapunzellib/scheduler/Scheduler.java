@@ -1,10 +1,29 @@
 package de.t14d3.rapunzellib.scheduler;
 
+import de.t14d3.rapunzellib.objects.REntity;
+import de.t14d3.rapunzellib.objects.RLocation;
+import de.t14d3.rapunzellib.objects.RWorldRef;
 import org.jetbrains.annotations.NotNull;
 
 import java.time.Duration;
+import java.util.Objects;
 
 public interface Scheduler {
+    /** Nominal duration of one server tick at 20 TPS. */
+    Duration TICK = Duration.ofMillis(50L);
+
+    /**
+     * Attaches a profiling label to a task, so {@link SchedulerProfiler} reports it under that
+     * label instead of its class name.
+     *
+     * @param label the label, e.g. {@code "autosave"}
+     * @param task  the task to label
+     * @return a runnable that runs {@code task}
+     */
+    static @NotNull Runnable labelled(@NotNull String label, @NotNull Runnable task) {
+        return new LabelledTask(label, task);
+    }
+
     /**
      * Schedules a task to run on the platform's primary thread (when applicable).
      *
@@ -60,5 +79,124 @@ public interface Scheduler {
 
     /** Schedules {@code task} to run repeatedly asynchronously. */
     @NotNull ScheduledTask runRepeatingAsync(@NotNull Duration initialDelay, @NotNull Duration period, @NotNull Runnable task);
-}
 
+    /**
+     * Schedules a task to run on the primary thread during the next server tick.
+     *
+     * <p>Platform schedulers with a tick loop count real server ticks, so the task runs one tick
+     * later even when the server is lagging. The default implementation approximates this with
+     * a {@link #TICK} wall-clock delay.</p>
+     *
+     * @param task the task to execute
+     * @return a {@link ScheduledTask} handle for the scheduled task
+     */
+    @NotNull
+    default ScheduledTask runNextTick(@NotNull Runnable task) {
+        return runLater(TICK, task);
+    }
+
+    /**
+     * Schedules a task to run repeatedly on the primary thread, measured in server ticks.
+     *
+     * <p>The default implementation approximates ticks with {@link #TICK} wall-clock periods.</p>
+     *
+     * @param initialDelayTicks ticks before the first execution; {@code 0} runs on the current or next tick
+     * @param periodTicks       ticks between executions, at least {@code 1}
+     * @param task              the task to execute
+     * @return a {@link ScheduledTask} handle for the scheduled task
+     */
+    @NotNull
+    default ScheduledTask runEveryTicks(long initialDelayTicks, long periodTicks, @NotNull Runnable task) {
+        return runRepeating(
+            TICK.multipliedBy(Math.max(0L, initialDelayTicks)),
+            TICK.multipliedBy(Math.max(1L, periodTicks)),
+            task
+        );
+    }
+
+    /**
+     * Schedules a task on the thread that owns the given chunk.
+     *
+     * <p>On region-threaded servers (Folia) tasks for the same region run in submission order on
+     * that region's thread, and tasks for different regions may run in parallel. Platforms with a
+     * single primary thread fall back to {@link #run}.</p>
+     *
+     * @param world  the world containing the chunk
+     * @param chunkX the chunk x coordinate
+     * @param chunkZ the chunk z coordinate
+     * @param task   the task to execute
+     * @return a {@link ScheduledTask} handle for the scheduled task
+     */
+    @NotNull
+    default ScheduledTask runAt(@NotNull RWorldRef world, int chunkX, int chunkZ, @NotNull Runnable task) {
+        Objects.requireNonNull(world, "world");
+        return run(task);
+    }
+
+    /**
+     * Schedules a task on the thread that owns the chunk containing {@code location}.
+     *
+     * @param location the location whose chunk owns the task
+     * @param task     the task to execute
+     * @return a {@link ScheduledTask} handle for the scheduled task
+     * @see #runAt(RWorldRef, int, int, Runnable)
+     */
+    @NotNull
+    default ScheduledTask runAt(@NotNull RLocation location, @NotNull Runnable task) {
+        Objects.requireNonNull(location, "location");
+        return runAt(location.world(), chunkCoord(location.x()), chunkCoord(location.z()), task);
+    }
+
+    /**
+     * Schedules a task on the thread that currently owns {@code entity}, following it across
+     * regions. If the entity is removed before the task runs, the task is dropped and the returned
+     * handle reports it as cancelled. Platforms with a single primary thread fall back to
+     * {@link #run}.
+     *
+     * @param entity the entity owning the task
+     * @param task   the task to execute
+     * @return a {@link ScheduledTask} handle for the scheduled task
+     */
+    @NotNull
+    default ScheduledTask runFor(@NotNull REntity entity, @NotNull Runnable task) {
+        Objects.requireNonNull(entity, "entity");
+        return run(task);
+    }
+
+    /**
+     * Schedules a task on the global region, for work that is not tied to a world position (world
+     * time, weather, console commands). This is the primary thread on single-threaded platforms.
+     *
+     * @param task the task to execute
+     * @return a {@link ScheduledTask} handle for the scheduled task
+     */
+    @NotNull
+    default ScheduledTask runGlobal(@NotNull Runnable task) {
+        return run(task);
+    }
+
+    /**
+     * Converts a block coordinate to the coordinate of the chunk containing it.
+     *
+     * @param blockCoord the block coordinate
+     * @return the chunk coordinate
+     */
+    static int chunkCoord(double blockCoord) {
+        return ((int) Math.floor(blockCoord)) >> 4;
+    }
+
+    /**
+     * Returns the time-budgeted work queue that this scheduler drains once per tick on the
+     * primary thread.
+     * <p>
+     * Platforms with their own tick pump override this. The default creates one queue per scheduler
+     * on first use and drains it from a {@link #runEveryTicks(long, long, Runnable) runEveryTicks(1, 1, ...)}
+     * task, which on proxies runs on the scheduler's repeating-task thread.</p>
+     *
+     * @return the shared work queue of this scheduler
+     */
+    @NotNull
+    default TickWorkQueue workQueue() {
+        return FallbackWorkQueues.of(this);
+    }
+}
@@ -0,0 +1,164 @@
+package de.t14d3.rapunzellib.scheduler;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-consumer, per-label accounting of scheduled task executions.
+ *
+ * <p>Contextual schedulers report every task run here with its consumer id, task label, run
+ * duration and queue-wait latency (time between the task becoming due and it starting). Recording
+ * is disabled by default; while disabled, {@link #enabled()} is the only work done per task run.
+ * Task labels come from {@link Scheduler#labelled(String, Runnable)} or fall back to the task's
+ * class name.</p>
+ *
+ * <p>One profiler is shared by all consumers of a runtime and is registered in the context's
+ * service registry.</p>
+ */
+public final class SchedulerProfiler {
+    private static final String LAMBDA_MARKER = "$$Lambda";
+
+    /**
+     * Aggregated statistics for one consumer and task label.
+     *
+     * @param consumer    the consumer id
+     * @param label       the task label
+     * @param runs        number of recorded runs
+     * @param totalNanos  cumulative run time
+     * @param maxNanos    longest single run
+     * @param runTime     run time distribution
+     * @param waitLatency queue-wait latency distribution
+     */
+    public record TaskStats(
+        @NotNull String consumer,
+        @NotNull String label,
+        long runs,
+        long totalNanos,
+        long maxNanos,
+        @NotNull LatencyHistogram runTime,
+        @NotNull LatencyHistogram waitLatency
+    ) {
+        /** Returns the mean run time in nanoseconds. */
+        public long meanNanos() {
+            return runs == 0L ? 0L : totalNanos / runs;
+        }
+    }
+
+    /**
+     * Aggregated statistics for one consumer across all of its task labels.
+     *
+     * @param consumer   the consumer id
+     * @param runs       number of recorded runs
+     * @param totalNanos cumulative run time
+     * @param maxNanos   longest single run
+     */
+    public record ConsumerStats(@NotNull String consumer, long runs, long totalNanos, long maxNanos) {
+    }
+
+    private record Key(String consumer, String label) {
+    }
+
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+    private volatile boolean enabled;
+
+    /** Returns whether task runs are currently recorded. */
+    public boolean enabled() {
+        return enabled;
+    }
+
+    /** Enables or disables recording. Already recorded statistics are kept. */
+    public void enabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Records one task run. Ignored while the profiler is disabled.
+     *
+     * @param consumer    the consumer id
+     * @param label       the task label
+     * @param waitNanos   time between the task becoming due and it starting
+     * @param runNanos    time the task took to run
+     */
+    public void record(@NotNull String consumer, @NotNull String label, long waitNanos, long runNanos) {
+        if (!enabled) return;
+        Entry entry = entries.computeIfAbsent(new Key(consumer, label), key -> new Entry());
+        entry.runs.increment();
+        entry.totalNanos.add(runNanos);
+        entry.maxNanos.accumulateAndGet(runNanos, Math::max);
+        entry.runTime.record(runNanos);
+        entry.waitLatency.record(waitNanos);
+    }
+
+    /** Returns per-label statistics, sorted by cumulative run time (highest first). */
+    public @NotNull List<TaskStats> taskStats() {
+        List<TaskStats> stats = new ArrayList<>(entries.size());
+        for (Map.Entry<Key, Entry> mapEntry : entries.entrySet()) {
+            Entry entry = mapEntry.getValue();
+            stats.add(new TaskStats(
+                mapEntry.getKey().consumer(),
+                mapEntry.getKey().label(),
+                entry.runs.sum(),
+                entry.totalNanos.sum(),
+                entry.maxNanos.get(),
+                entry.runTime,
+                entry.waitLatency
+            ));
+        }
+        stats.sort(Comparator.comparingLong(TaskStats::totalNanos).reversed());
+        return stats;
+    }
+
+    /** Returns per-consumer statistics, sorted by cumulative run time (highest first). */
+    public @NotNull List<ConsumerStats> consumerStats() {
+        Map<String, long[]> totals = new LinkedHashMap<>();
+        for (TaskStats task : taskStats()) {
+            long[] values = totals.computeIfAbsent(task.consumer(), consumer -> new long[3]);
+            values[0] += task.runs();
+            values[1] += task.totalNanos();
+            values[2] = Math.max(values[2], task.maxNanos());
+        }
+        List<ConsumerStats> stats = new ArrayList<>(totals.size());
+        totals.forEach((consumer, values) -> stats.add(new ConsumerStats(consumer, values[0], values[1], values[2])));
+        stats.sort(Comparator.comparingLong(ConsumerStats::totalNanos).reversed());
+        return stats;
+    }
+
+    /** Discards all recorded statistics. */
+    public void reset() {
+        entries.clear();
+    }
+
+    /**
+     * Returns the profiling label of a task.
+     *
+     * @param task the scheduled task
+     * @return the explicit label for {@link Scheduler#labelled labelled} tasks, otherwise the
+     *     class name with any synthetic lambda suffix removed
+     */
+    public static @NotNull String labelOf(@NotNull Runnable task) {
+        Objects.requireNonNull(task, "task");
+        if (task instanceof LabelledTask labelled) {
+            return labelled.label();
+        }
+        String name = task.getClass().getName();
+        int lambda = name.indexOf(LAMBDA_MARKER);
+        return lambda < 0 ? name : name.substring(0, lambda);
+    }
+
+    private static final class Entry {
+        private final LongAdder runs = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final LatencyHistogram runTime = new LatencyHistogram();
+        private final LatencyHistogram waitLatency = new LatencyHistogram();
+    }
+}
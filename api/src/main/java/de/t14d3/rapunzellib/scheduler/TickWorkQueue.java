@@ -0,0 +1,322 @@
+package de.t14d3.rapunzellib.scheduler;
+
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Time-budgeted main-thread work queue drained once per server tick.
+ *
+ * <p>Work is submitted from any thread under a consumer id (usually the plugin or mod id) and a
+ * {@link Priority}. Each {@link #drainTick()} runs queued work in priority order until the
+ * per-tick budget is spent, so bulk jobs such as placing thousands of blocks are spread over as
+ * many ticks as they need instead of stalling a single tick. At least one unit of work runs per
+ * drain, so the queue always makes progress even with a zero budget.</p>
+ *
+ * <p>Within a priority, one-shot tasks run in submission order. {@link Work incremental work}
+ * runs one step at a time and is re-queued behind the other work of its priority after each
+ * step, so long-running jobs of different consumers interleave instead of starving each other.</p>
+ *
+ * <p>{@link #drainTick()} must only be called from a single thread (the platform's primary
+ * thread); submission, cancellation and {@link #stats()} are thread-safe.</p>
+ */
+public final class TickWorkQueue {
+    /** Default per-tick budget used by the platform schedulers. */
+    public static final Duration DEFAULT_BUDGET = Duration.ofMillis(5L);
+
+    /** Execution priority of queued work. Higher priorities always drain first. */
+    public enum Priority {
+        HIGH,
+        NORMAL,
+        LOW
+    }
+
+    /**
+     * Incremental unit of work that is stepped once per drain slot until it reports completion.
+     */
+    @FunctionalInterface
+    public interface Work {
+        /**
+         * Performs one bounded step of work.
+         *
+         * @return {@code true} if more steps remain, {@code false} once the work is complete
+         */
+        boolean step();
+    }
+
+    /**
+     * Snapshot of the queue state after the last drained tick.
+     *
+     * @param ticks         number of drained ticks
+     * @param backlog       number of queued, not yet completed entries
+     * @param budgetNanos   the configured per-tick budget in nanoseconds
+     * @param lastTickNanos time spent in the last drained tick
+     * @param consumers     per-consumer accounting, sorted by consumer id
+     */
+    public record Stats(
+        long ticks,
+        int backlog,
+        long budgetNanos,
+        long lastTickNanos,
+        @NotNull List<ConsumerStats> consumers
+    ) {
+        public Stats {
+            consumers = List.copyOf(consumers);
+        }
+    }
+
+    /**
+     * Per-consumer accounting.
+     *
+     * @param consumer      the consumer id
+     * @param backlog       number of queued entries of this consumer
+     * @param lastTickNanos time this consumer's work took in the last drained tick
+     * @param totalNanos    cumulative time spent on this consumer's work
+     * @param completed     number of completed entries
+     */
+    public record ConsumerStats(
+        @NotNull String consumer,
+        int backlog,
+        long lastTickNanos,
+        long totalNanos,
+        long completed
+    ) {
+    }
+
+    private final Logger logger;
+    private final LongSupplier nanoClock;
+    private final Map<Priority, ConcurrentLinkedDeque<Entry>> lanes = new EnumMap<>(Priority.class);
+    private final Map<String, Account> accounts = new ConcurrentHashMap<>();
+    private final AtomicInteger backlog = new AtomicInteger();
+
+    private volatile long budgetNanos;
+    private volatile long ticks;
+    private volatile long lastTickNanos;
+
+    public TickWorkQueue(@NotNull Duration budget, @NotNull Logger logger) {
+        this(budget, logger, System::nanoTime);
+    }
+
+    /**
+     * Creates a work queue with an explicit clock, mainly for tests.
+     *
+     * @param budget    the per-tick time budget
+     * @param logger    the logger for failing work
+     * @param nanoClock monotonic nanosecond clock used for budgeting and accounting
+     */
+    public TickWorkQueue(@NotNull Duration budget, @NotNull Logger logger, @NotNull LongSupplier nanoClock) {
+        this.logger = Objects.requireNonNull(logger, "logger");
+        this.nanoClock = Objects.requireNonNull(nanoClock, "nanoClock");
+        budget(budget);
+        for (Priority priority : Priority.values()) {
+            lanes.put(priority, new ConcurrentLinkedDeque<>());
+        }
+    }
+
+    /** Returns the per-tick time budget. */
+    public @NotNull Duration budget() {
+        return Duration.ofNanos(budgetNanos);
+    }
+
+    /**
+     * Replaces the per-tick time budget. Takes effect on the next drained tick.
+     *
+     * @param budget the new budget; negative values are treated as zero
+     */
+    public void budget(@NotNull Duration budget) {
+        Objects.requireNonNull(budget, "budget");
+        this.budgetNanos = Math.max(0L, budget.toNanos());
+    }
+
+    /** Queues a one-shot task at {@link Priority#NORMAL}. */
+    public @NotNull ScheduledTask submit(@NotNull String consumer, @NotNull Runnable task) {
+        return submit(consumer, Priority.NORMAL, task);
+    }
+
+    /**
+     * Queues a one-shot task.
+     *
+     * @param consumer the consumer id the task is accounted to
+     * @param priority the task priority
+     * @param task     the task to run on a later drain
+     * @return a handle that removes the task from the queue when cancelled
+     */
+    public @NotNull ScheduledTask submit(@NotNull String consumer, @NotNull Priority priority, @NotNull Runnable task) {
+        Objects.requireNonNull(task, "task");
+        return submitIncremental(consumer, priority, () -> {
+            task.run();
+            return false;
+        });
+    }
+
+    /**
+     * Queues incremental work that is stepped until {@link Work#step()} returns {@code false}.
+     *
+     * @param consumer the consumer id the work is accounted to
+     * @param priority the work priority
+     * @param work     the work to step on later drains
+     * @return a handle that stops further steps when cancelled
+     */
+    public @NotNull ScheduledTask submitIncremental(@NotNull String consumer, @NotNull Priority priority, @NotNull Work work) {
+        Objects.requireNonNull(consumer, "consumer");
+        Objects.requireNonNull(priority, "priority");
+        Objects.requireNonNull(work, "work");
+        Account account = accounts.computeIfAbsent(consumer, Account::new);
+        Entry entry = new Entry(account, work);
+        account.backlog.incrementAndGet();
+        backlog.incrementAndGet();
+        lanes.get(priority).addLast(entry);
+        return entry;
+    }
+
+    /** Returns the number of queued, not yet completed entries. */
+    public int backlog() {
+        return backlog.get();
+    }
+
+    /**
+     * Runs queued work until the per-tick budget is spent or the queue is empty.
+     *
+     * @return the time spent in nanoseconds
+     */
+    public long drainTick() {
+        for (Account account : accounts.values()) {
+            account.tickNanos = 0L;
+        }
+
+        long budget = budgetNanos;
+        long start = nanoClock.getAsLong();
+        long now = start;
+        boolean ranAny = false;
+        for (Priority priority : Priority.values()) {
+            ConcurrentLinkedDeque<Entry> lane = lanes.get(priority);
+            Entry entry;
+            while ((!ranAny || now - start < budget) && (entry = lane.pollFirst()) != null) {
+                if (entry.isCancelled()) {
+                    continue;
+                }
+                boolean more = step(entry);
+                long after = nanoClock.getAsLong();
+                entry.account.tickNanos += after - now;
+                now = after;
+                ranAny = true;
+                if (more && !entry.isCancelled()) {
+                    lane.addLast(entry);
+                } else {
+                    entry.complete();
+                }
+            }
+            if (ranAny && now - start >= budget) {
+                break;
+            }
+        }
+
+        long spent = now - start;
+        for (Account account : accounts.values()) {
+            account.lastTickNanos = account.tickNanos;
+            account.totalNanos.addAndGet(account.tickNanos);
+        }
+        lastTickNanos = spent;
+        ticks++;
+        return spent;
+    }
+
+    /** Returns a snapshot of the queue and per-consumer accounting. */
+    public @NotNull Stats stats() {
+        List<ConsumerStats> consumers = new ArrayList<>(accounts.size());
+        for (Account account : accounts.values()) {
+            consumers.add(new ConsumerStats(
+                account.consumer,
+                account.backlog.get(),
+                account.lastTickNanos,
+                account.totalNanos.get(),
+                account.completed.get()
+            ));
+        }
+        consumers.sort(Comparator.comparing(ConsumerStats::consumer));
+        return new Stats(ticks, backlog.get(), budgetNanos, lastTickNanos, consumers);
+    }
+
+    /** Cancels all queued work. */
+    public void clear() {
+        for (ConcurrentLinkedDeque<Entry> lane : lanes.values()) {
+            Entry entry;
+            while ((entry = lane.pollFirst()) != null) {
+                entry.cancel();
+            }
+        }
+    }
+
+    private boolean step(Entry entry) {
+        try {
+            return entry.work.step();
+        } catch (Exception e) {
+            logger.warn("Unhandled exception in queued tick work of {}", entry.account.consumer, e);
+            return false;
+        }
+    }
+
+    private static final class Account {
+        private final String consumer;
+        private final AtomicInteger backlog = new AtomicInteger();
+        private final AtomicLong totalNanos = new AtomicLong();
+        private final AtomicLong completed = new AtomicLong();
+        private long tickNanos;
+        private volatile long lastTickNanos;
+
+        private Account(String consumer) {
+            this.consumer = consumer;
+        }
+    }
+
+    private final class Entry implements ScheduledTask {
+        private static final int PENDING = 0;
+        private static final int DONE = 1;
+        private static final int CANCELLED = 2;
+
+        private final Account account;
+        private final Work work;
+        private final AtomicInteger state = new AtomicInteger(PENDING);
+
+        private Entry(Account account, Work work) {
+            this.account = account;
+            this.work = work;
+        }
+
+        private void complete() {
+            if (state.compareAndSet(PENDING, DONE)) {
+                release();
+                account.completed.incrementAndGet();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            if (state.compareAndSet(PENDING, CANCELLED)) {
+                release();
+            }
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return state.get() == CANCELLED;
+        }
+
+        private void release() {
+            account.backlog.decrementAndGet();
+            backlog.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package de.t14d3.rapunzellib.scheduler;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class LatencyHistogramTest {
+    @Test
+    void bucketsCoverValuesContiguouslyWithBoundedRelativeError() {
+        long previousUpper = -1L;
+        for (int index = 0; index <= LatencyHistogram.bucketIndex(LatencyHistogram.MAX_TRACKABLE_NANOS); index++) {
+            long upper = LatencyHistogram.bucketUpperBound(index);
+            long lower = previousUpper + 1L;
+            assertEquals(index, LatencyHistogram.bucketIndex(lower));
+            assertEquals(index, LatencyHistogram.bucketIndex(upper));
+            assertTrue(upper - lower <= Math.max(0L, lower / 16L), "bucket " + index + " too wide");
+            previousUpper = upper;
+        }
+        assertEquals(LatencyHistogram.MAX_TRACKABLE_NANOS, previousUpper);
+    }
+
+    @Test
+    void reportsPercentilesCountAndMax() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1L; value <= 1_000L; value++) {
+            histogram.record(value * 1_000L);
+        }
+
+        assertEquals(1_000L, histogram.count());
+        assertEquals(1_000_000L, histogram.max());
+        assertWithin(500_000L, histogram.valueAtPercentile(50.0));
+        assertWithin(990_000L, histogram.valueAtPercentile(99.0));
+        assertEquals(1_000_000L, histogram.valueAtPercentile(100.0));
+
+        histogram.reset();
+        assertEquals(0L, histogram.count());
+        assertEquals(0L, histogram.valueAtPercentile(99.0));
+    }
+
+    @Test
+    void clampsNegativeAndOversizedValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5L);
+        histogram.record(Long.MAX_VALUE);
+
+        assertEquals(0L, histogram.valueAtPercentile(50.0));
+        assertEquals(LatencyHistogram.MAX_TRACKABLE_NANOS, histogram.max());
+    }
+
+    private static void assertWithin(long expected, long actual) {
+        assertTrue(actual >= expected && actual <= expected + expected / 16L,
+            "expected ~" + expected + " but was " + actual);
+    }
+}
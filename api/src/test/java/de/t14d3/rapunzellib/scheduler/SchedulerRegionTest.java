@@ -0,0 +1,263 @@
+package de.t14d3.rapunzellib.scheduler;
+
+import de.t14d3.rapunzellib.objects.REntity;
+import de.t14d3.rapunzellib.objects.RKey;
+import de.t14d3.rapunzellib.objects.RLocation;
+import de.t14d3.rapunzellib.objects.RWorldRef;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class SchedulerRegionTest {
+    private static final RWorldRef OVERWORLD = new RWorldRef(null, RKey.of("minecraft", "overworld"));
+    private static final int TASKS_PER_REGION = 500;
+
+    @Test
+    void regionOverloadsFallBackToTheMainThread() throws InterruptedException {
+        try (FakeServer server = new FakeServer()) {
+            Scheduler scheduler = server.scheduler();
+            List<String> threads = new CopyOnWriteArrayList<>();
+            CountDownLatch done = new CountDownLatch(4);
+            Runnable recordThread = () -> {
+                threads.add(Thread.currentThread().getName());
+                done.countDown();
+            };
+
+            scheduler.runAt(OVERWORLD, 3, -7, recordThread);
+            scheduler.runAt(RLocation.of(OVERWORLD, 100.5, 64.0, -0.5), recordThread);
+            scheduler.runFor(entity(OVERWORLD, 0.0, 0.0), recordThread);
+            scheduler.runGlobal(recordThread);
+
+            assertTrue(done.await(5L, TimeUnit.SECONDS));
+            assertEquals(List.of(FakeServer.MAIN, FakeServer.MAIN, FakeServer.MAIN, FakeServer.MAIN), threads);
+        }
+    }
+
+    @Test
+    void locationsMapToTheirChunk() {
+        assertEquals(0, Scheduler.chunkCoord(15.9));
+        assertEquals(1, Scheduler.chunkCoord(16.0));
+        assertEquals(-1, Scheduler.chunkCoord(-0.5));
+        assertEquals(-2, Scheduler.chunkCoord(-17.0));
+    }
+
+    @Test
+    void mainThreadFallbackKeepsPerRegionFifoOrder() throws InterruptedException {
+        try (FakeServer server = new FakeServer()) {
+            assertPerRegionFifo(server.scheduler());
+        }
+    }
+
+    @Test
+    void regionThreadedSchedulerKeepsPerRegionFifoOrder() throws InterruptedException {
+        try (FakeServer server = new FakeServer(); FakeRegionizedScheduler scheduler = new FakeRegionizedScheduler(server.scheduler(), 4)) {
+            assertPerRegionFifo(scheduler);
+            assertTrue(scheduler.threadsUsed() > 1);
+        }
+    }
+
+    /**
+     * Contract: tasks submitted from one thread to the same region run in submission order,
+     * whichever overload addressed the region.
+     */
+    private static void assertPerRegionFifo(Scheduler scheduler) throws InterruptedException {
+        int[][] regions = {{0, 0}, {1, 0}, {-4, 9}};
+        Map<String, List<Integer>> observed = new ConcurrentHashMap<>();
+        CountDownLatch done = new CountDownLatch(regions.length * TASKS_PER_REGION + TASKS_PER_REGION);
+
+        for (int i = 0; i < TASKS_PER_REGION; i++) {
+            for (int r = 0; r < regions.length; r++) {
+                int[] region = regions[r];
+                String name = "region" + r;
+                int sequence = i;
+                Runnable task = () -> {
+                    observed.computeIfAbsent(name, ignored -> new CopyOnWriteArrayList<>()).add(sequence);
+                    done.countDown();
+                };
+                if ((i & 1) == 0) {
+                    scheduler.runAt(OVERWORLD, region[0], region[1], task);
+                } else {
+                    scheduler.runAt(RLocation.of(OVERWORLD, region[0] * 16 + 8, 64.0, region[1] * 16 + 8), task);
+                }
+            }
+            int sequence = i;
+            scheduler.runGlobal(() -> {
+                observed.computeIfAbsent("global", ignored -> new CopyOnWriteArrayList<>()).add(sequence);
+                done.countDown();
+            });
+        }
+
+        assertTrue(done.await(10L, TimeUnit.SECONDS));
+        List<Integer> expected = new ArrayList<>(TASKS_PER_REGION);
+        for (int i = 0; i < TASKS_PER_REGION; i++) {
+            expected.add(i);
+        }
+        assertEquals(regions.length + 1, observed.size());
+        for (Map.Entry<String, List<Integer>> entry : observed.entrySet()) {
+            assertEquals(expected, entry.getValue(), entry.getKey());
+        }
+    }
+
+    private static REntity entity(RWorldRef world, double x, double z) {
+        UUID uuid = UUID.randomUUID();
+        RLocation location = RLocation.of(world, x, 64.0, z);
+        return (REntity) Proxy.newProxyInstance(
+            REntity.class.getClassLoader(),
+            new Class<?>[]{REntity.class},
+            (proxy, method, args) -> switch (method.getName()) {
+                case "uuid" -> uuid;
+                case "location" -> Optional.of(location);
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                default -> throw new UnsupportedOperationException(method.getName());
+            }
+        );
+    }
+
+    /** Single-threaded server stand-in: only the main-thread methods are implemented. */
+    private static final class FakeServer implements AutoCloseable {
+        private static final String MAIN = "fake-main";
+        private final ExecutorService mainThread = Executors.newSingleThreadExecutor(r -> new Thread(r, MAIN));
+
+        private Scheduler scheduler() {
+            return new Scheduler() {
+                @Override
+                public @NotNull ScheduledTask run(@NotNull Runnable task) {
+                    return new FutureHandle(mainThread.submit(task));
+                }
+
+                @Override
+                public @NotNull ScheduledTask runAsync(@NotNull Runnable task) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public @NotNull ScheduledTask runLater(@NotNull Duration delay, @NotNull Runnable task) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public @NotNull ScheduledTask runRepeating(@NotNull Duration initialDelay, @NotNull Duration period, @NotNull Runnable task) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public @NotNull ScheduledTask runRepeatingAsync(@NotNull Duration initialDelay, @NotNull Duration period, @NotNull Runnable task) {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+
+        @Override
+        public void close() throws InterruptedException {
+            mainThread.shutdown();
+            mainThread.awaitTermination(5L, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Region-threaded stand-in: a fixed pool of region threads that each own many chunks, plus a
+     * separate global thread, like Folia. Regions run in parallel with each other and the global
+     * region.
+     */
+    private static final class FakeRegionizedScheduler implements Scheduler, AutoCloseable {
+        private final Scheduler global;
+        private final ExecutorService[] regionThreads;
+        private final Set<String> threadsUsed = ConcurrentHashMap.newKeySet();
+
+        private FakeRegionizedScheduler(Scheduler global, int threads) {
+            this.global = global;
+            this.regionThreads = new ExecutorService[threads];
+            for (int i = 0; i < threads; i++) {
+                String name = "fake-region-" + i;
+                regionThreads[i] = Executors.newSingleThreadExecutor(r -> new Thread(r, name));
+            }
+        }
+
+        private int threadsUsed() {
+            return threadsUsed.size();
+        }
+
+        @Override
+        public @NotNull ScheduledTask runAt(@NotNull RWorldRef world, int chunkX, int chunkZ, @NotNull Runnable task) {
+            int owner = Math.floorMod(31 * chunkX + chunkZ, regionThreads.length);
+            return new FutureHandle(regionThreads[owner].submit(() -> {
+                threadsUsed.add(Thread.currentThread().getName());
+                task.run();
+            }));
+        }
+
+        @Override
+        public @NotNull ScheduledTask runFor(@NotNull REntity entity, @NotNull Runnable task) {
+            return runAt(entity.location().orElseThrow(), task);
+        }
+
+        @Override
+        public @NotNull ScheduledTask runGlobal(@NotNull Runnable task) {
+            return global.run(task);
+        }
+
+        @Override
+        public @NotNull ScheduledTask run(@NotNull Runnable task) {
+            return global.run(task);
+        }
+
+        @Override
+        public @NotNull ScheduledTask runAsync(@NotNull Runnable task) {
+            return global.runAsync(task);
+        }
+
+        @Override
+        public @NotNull ScheduledTask runLater(@NotNull Duration delay, @NotNull Runnable task) {
+            return global.runLater(delay, task);
+        }
+
+        @Override
+        public @NotNull ScheduledTask runRepeating(@NotNull Duration initialDelay, @NotNull Duration period, @NotNull Runnable task) {
+            return global.runRepeating(initialDelay, period, task);
+        }
+
+        @Override
+        public @NotNull ScheduledTask runRepeatingAsync(@NotNull Duration initialDelay, @NotNull Duration period, @NotNull Runnable task) {
+            return global.runRepeatingAsync(initialDelay, period, task);
+        }
+
+        @Override
+        public void close() throws InterruptedException {
+            for (ExecutorService executor : regionThreads) {
+                executor.shutdown();
+                executor.awaitTermination(5L, TimeUnit.SECONDS);
+            }
+        }
+    }
+
+    private record FutureHandle(Future<?> future) implements ScheduledTask {
+        @Override
+        public void cancel() {
+            future.cancel(false);
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return future.isCancelled();
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package de.t14d3.rapunzellib.scheduler;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class TickWorkQueueTest {
+    private static final Logger LOGGER = LoggerFactory.getLogger(TickWorkQueueTest.class);
+
+    @Test
+    void drainsUpToBudgetPerTickAndCarriesBacklogOver() {
+        AtomicLong clock = new AtomicLong();
+        TickWorkQueue queue = new TickWorkQueue(Duration.ofNanos(1_000L), LOGGER, clock::get);
+        AtomicInteger ran = new AtomicInteger();
+        for (int i = 0; i < 10; i++) {
+            queue.submit("bulk", () -> {
+                clock.addAndGet(300L);
+                ran.incrementAndGet();
+            });
+        }
+
+        assertEquals(1_200L, queue.drainTick());
+        assertEquals(4, ran.get());
+        assertEquals(6, queue.backlog());
+
+        queue.drainTick();
+        queue.drainTick();
+        assertEquals(10, ran.get());
+        assertEquals(0, queue.backlog());
+    }
+
+    @Test
+    void runsAtLeastOneUnitWithZeroBudget() {
+        AtomicLong clock = new AtomicLong();
+        TickWorkQueue queue = new TickWorkQueue(Duration.ZERO, LOGGER, clock::get);
+        AtomicInteger ran = new AtomicInteger();
+        queue.submit("a", () -> {
+            clock.addAndGet(10L);
+            ran.incrementAndGet();
+        });
+        queue.submit("a", ran::incrementAndGet);
+
+        queue.drainTick();
+        assertEquals(1, ran.get());
+        queue.drainTick();
+        assertEquals(2, ran.get());
+    }
+
+    @Test
+    void higherPrioritiesDrainFirstAndFifoWithinPriority() {
+        TickWorkQueue queue = new TickWorkQueue(Duration.ofSeconds(1L), LOGGER, () -> 0L);
+        List<String> order = new ArrayList<>();
+        queue.submit("a", TickWorkQueue.Priority.LOW, () -> order.add("low"));
+        queue.submit("a", TickWorkQueue.Priority.NORMAL, () -> order.add("normal-1"));
+        queue.submit("a", TickWorkQueue.Priority.HIGH, () -> order.add("high"));
+        queue.submit("a", TickWorkQueue.Priority.NORMAL, () -> order.add("normal-2"));
+
+        queue.drainTick();
+
+        assertEquals(List.of("high", "normal-1", "normal-2", "low"), order);
+    }
+
+    @Test
+    void incrementalWorkInterleavesAcrossConsumers() {
+        TickWorkQueue queue = new TickWorkQueue(Duration.ofSeconds(1L), LOGGER, () -> 0L);
+        List<String> order = new ArrayList<>();
+        AtomicInteger first = new AtomicInteger(3);
+        AtomicInteger second = new AtomicInteger(2);
+        queue.submitIncremental("first", TickWorkQueue.Priority.NORMAL, () -> {
+            order.add("first");
+            return first.decrementAndGet() > 0;
+        });
+        queue.submitIncremental("second", TickWorkQueue.Priority.NORMAL, () -> {
+            order.add("second");
+            return second.decrementAndGet() > 0;
+        });
+
+        queue.drainTick();
+
+        assertEquals(List.of("first", "second", "first", "second", "first"), order);
+        assertEquals(0, queue.backlog());
+    }
+
+    @Test
+    void cancelledWorkIsSkippedAndReleasesBacklog() {
+        TickWorkQueue queue = new TickWorkQueue(Duration.ofSeconds(1L), LOGGER, () -> 0L);
+        AtomicInteger ran = new AtomicInteger();
+        ScheduledTask cancelled = queue.submit("a", ran::incrementAndGet);
+        queue.submit("a", ran::incrementAndGet);
+
+        cancelled.cancel();
+        assertTrue(cancelled.isCancelled());
+        assertEquals(1, queue.backlog());
+
+        queue.drainTick();
+        assertEquals(1, ran.get());
+        assertEquals(0, queue.backlog());
+    }
+
+    @Test
+    void reportsPerConsumerSpendAndBacklog() {
+        AtomicLong clock = new AtomicLong();
+        TickWorkQueue queue = new TickWorkQueue(Duration.ofNanos(500L), LOGGER, clock::get);
+        queue.submit("alpha", () -> clock.addAndGet(200L));
+        queue.submit("beta", () -> clock.addAndGet(100L));
+        queue.submit("beta", () -> clock.addAndGet(300L));
+        queue.submit("alpha", () -> clock.addAndGet(50L));
+
+        queue.drainTick();
+        TickWorkQueue.Stats stats = queue.stats();
+
+        assertEquals(1L, stats.ticks());
+        assertEquals(1, stats.backlog());
+        assertEquals(600L, stats.lastTickNanos());
+        TickWorkQueue.ConsumerStats alpha = stats.consumers().get(0);
+        TickWorkQueue.ConsumerStats beta = stats.consumers().get(1);
+        assertEquals("alpha", alpha.consumer());
+        assertEquals(200L, alpha.lastTickNanos());
+        assertEquals(1, alpha.backlog());
+        assertEquals(1L, alpha.completed());
+        assertEquals("beta", beta.consumer());
+        assertEquals(400L, beta.lastTickNanos());
+        assertEquals(0, beta.backlog());
+
+        queue.drainTick();
+        stats = queue.stats();
+        assertEquals(50L, stats.consumers().get(0).lastTickNanos());
+        assertEquals(250L, stats.consumers().get(0).totalNanos());
+        assertEquals(0L, stats.consumers().get(1).lastTickNanos());
+    }
+
+    @Test
+    void failingWorkDoesNotStopTheDrain() {
+        TickWorkQueue queue = new TickWorkQueue(Duration.ofSeconds(1L), LOGGER, () -> 0L);
+        AtomicInteger ran = new AtomicInteger();
+        queue.submit("a", () -> {
+            throw new IllegalStateException("boom");
+        });
+        queue.submit("a", ran::incrementAndGet);
+
+        queue.drainTick();
+
+        assertEquals(1, ran.get());
+        assertEquals(0, queue.backlog());
+    }
+
+    @Test
+    void defaultWorkQueueIsPumpedEveryTickByTheScheduler() {
+        List<Runnable> pumps = new ArrayList<>();
+        List<Duration> periods = new ArrayList<>();
+        Scheduler scheduler = new Scheduler() {
+            @Override
+            public @NotNull ScheduledTask run(@NotNull Runnable task) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public @NotNull ScheduledTask runAsync(@NotNull Runnable task) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public @NotNull ScheduledTask runLater(@NotNull Duration delay, @NotNull Runnable task) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public @NotNull ScheduledTask runRepeating(@NotNull Duration initialDelay, @NotNull Duration period, @NotNull Runnable task) {
+                pumps.add(task);
+                periods.add(period);
+                return new ScheduledTask() {
+                    @Override
+                    public void cancel() {
+                    }
+
+                    @Override
+                    public boolean isCancelled() {
+                        return false;
+                    }
+                };
+            }
+
+            @Override
+            public @NotNull ScheduledTask runRepeatingAsync(@NotNull Duration initialDelay, @NotNull Duration period, @NotNull Runnable task) {
+                throw new UnsupportedOperationException();
+            }
+        };
+        AtomicInteger ran = new AtomicInteger();
+
+        TickWorkQueue queue = scheduler.workQueue();
+        queue.submit("proxy", ran::incrementAndGet);
+
+        assertSame(queue, scheduler.workQueue());
+        assertEquals(List.of(Scheduler.TICK), periods);
+        pumps.get(0).run();
+        assertEquals(1, ran.get());
+        assertEquals(1L, queue.stats().ticks());
+    }
+}
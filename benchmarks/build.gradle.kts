@@ -0,0 +1,64 @@
+plugins {
+    java
+    alias(libs.plugins.jmh)
+}
+
+// JMH microbenchmarks for JVM-only hot paths. Not published.
+//
+//   ./gradlew :benchmarks:jmh -Prapunzellib.minecraftTarget=<target>     run, writes build/results/jmh/results.json
+//   ./gradlew :benchmarks:jmhCompare ...                                  compare the results with baseline/jmh-baseline.json
+//   ./gradlew :benchmarks:jmhSaveBaseline ...                             store the results as the new baseline
+//
+// -Prapunzellib.jmh.includes=<regex> narrows the run, -Prapunzellib.jmh.threshold=<percent> (default 10)
+// sets the regression threshold for jmhCompare.
+
+dependencies {
+    implementation(libs.gson)
+
+    jmh(project(":api"))
+    jmh(project(":common"))
+    jmh(project(":events"))
+    jmh(project(":gui"))
+    jmh(project(":nbt"))
+    jmh(project(":network"))
+    jmh(libs.slf4j.api)
+}
+
+val jmhResults = layout.buildDirectory.file("results/jmh/results.json")
+val jmhBaseline = layout.projectDirectory.file("baseline/jmh-baseline.json")
+
+jmh {
+    jmhVersion.set(libs.versions.jmh)
+    resultFormat.set("JSON")
+    resultsFile.set(jmhResults)
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    providers.gradleProperty("rapunzellib.jmh.includes").orNull?.let { includes.add(it) }
+}
+
+tasks.register<JavaExec>("jmhCompare") {
+    group = "benchmark"
+    description = "Flags JMH results that regressed beyond the threshold against the stored baseline."
+    mustRunAfter("jmh")
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("de.t14d3.rapunzellib.benchmarks.BenchmarkComparison")
+    args(
+        jmhBaseline.asFile.absolutePath,
+        jmhResults.get().asFile.absolutePath,
+        providers.gradleProperty("rapunzellib.jmh.threshold").orElse("10").get(),
+    )
+}
+
+tasks.register<Copy>("jmhSaveBaseline") {
+    group = "benchmark"
+    description = "Stores the latest JMH results as the comparison baseline."
+    mustRunAfter("jmh")
+    from(jmhResults)
+    into(jmhBaseline.asFile.parentFile)
+    rename { jmhBaseline.asFile.name }
+}
+
+tasks.withType<AbstractPublishToMaven>().configureEach {
+    enabled = false
+}
@@ -0,0 +1,75 @@
+package de.t14d3.rapunzellib.benchmarks;
+
+import de.t14d3.rapunzellib.events.entity.EntityMoveTracker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/** Runs the entity move hook once per entity with the tracker on the entity or in a global UUID map. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityMoveTrackerBenchmark {
+    @Param({"100000"})
+    public int entities;
+
+    private UUID[] uuids;
+    private EntityMoveTracker[] trackers;
+    private Map<UUID, double[]> lastPositions;
+    private double x;
+
+    @Setup
+    public void setUp() {
+        uuids = new UUID[entities];
+        trackers = new EntityMoveTracker[entities];
+        lastPositions = new ConcurrentHashMap<>();
+        for (int i = 0; i < entities; i++) {
+            uuids[i] = new UUID(0L, i);
+            trackers[i] = new EntityMoveTracker();
+        }
+    }
+
+    @Benchmark
+    public int perEntityField() {
+        x += 2.0;
+        int events = 0;
+        for (EntityMoveTracker tracker : trackers) {
+            if (tracker.moveTo(x, 64.0, 0.0, 1.0)) {
+                events++;
+            }
+        }
+        return events;
+    }
+
+    @Benchmark
+    public int globalUuidMap() {
+        x += 2.0;
+        int events = 0;
+        for (UUID uuid : uuids) {
+            double[] previous = lastPositions.get(uuid);
+            if (previous == null) {
+                lastPositions.put(uuid, new double[]{x, 64.0, 0.0});
+            } else if (Math.abs(x - previous[0]) >= 1.0) {
+                lastPositions.put(uuid, new double[]{x, 64.0, 0.0});
+                events++;
+            }
+        }
+        return events;
+    }
+}
@@ -0,0 +1,114 @@
+package de.t14d3.rapunzellib.benchmarks;
+
+import de.t14d3.rapunzellib.events.BaseCancellablePreEvent;
+import de.t14d3.rapunzellib.events.GameEventBus;
+import de.t14d3.rapunzellib.events.GamePostEvent;
+import de.t14d3.rapunzellib.scheduler.ScheduledTask;
+import de.t14d3.rapunzellib.scheduler.Scheduler;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/** {@link GameEventBus} pre and post dispatch with varying listener counts. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameEventBusBenchmark {
+    @Param({"0", "1", "8"})
+    public int listeners;
+
+    private GameEventBus bus;
+    private Blackhole blackhole;
+
+    @Setup
+    public void setUp(Blackhole blackhole) {
+        this.blackhole = blackhole;
+        bus = new GameEventBus(new InlineScheduler(), LoggerFactory.getLogger(GameEventBusBenchmark.class));
+        for (int i = 0; i < listeners; i++) {
+            bus.onPost(BenchPostEvent.class, this.blackhole::consume);
+            bus.onPre(BenchPreEvent.class, this.blackhole::consume);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        bus.close();
+    }
+
+    @Benchmark
+    public void dispatchPost() {
+        bus.dispatchPost(new BenchPostEvent(42));
+    }
+
+    @Benchmark
+    public boolean dispatchPre() {
+        BenchPreEvent event = new BenchPreEvent();
+        bus.dispatchPre(event);
+        return event.isCancelled();
+    }
+
+    /** Minimal post event, so the benchmark measures the bus rather than event construction. */
+    public record BenchPostEvent(int value) implements GamePostEvent {
+    }
+
+    public static final class BenchPreEvent extends BaseCancellablePreEvent {
+    }
+
+    private static final class InlineScheduler implements Scheduler {
+        private static final ScheduledTask DONE = new ScheduledTask() {
+            @Override
+            public void cancel() {
+            }
+
+            @Override
+            public boolean isCancelled() {
+                return false;
+            }
+        };
+
+        @Override
+        public @NotNull ScheduledTask run(@NotNull Runnable task) {
+            task.run();
+            return DONE;
+        }
+
+        @Override
+        public @NotNull ScheduledTask runAsync(@NotNull Runnable task) {
+            task.run();
+            return DONE;
+        }
+
+        @Override
+        public @NotNull ScheduledTask runLater(@NotNull Duration delay, @NotNull Runnable task) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public @NotNull ScheduledTask runRepeating(@NotNull Duration initialDelay, @NotNull Duration period, @NotNull Runnable task) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public @NotNull ScheduledTask runRepeatingAsync(@NotNull Duration initialDelay, @NotNull Duration period, @NotNull Runnable task) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package de.t14d3.rapunzellib.benchmarks;
+
+import de.t14d3.rapunzellib.gui.Gui;
+import de.t14d3.rapunzellib.gui.builder.GuiBuilder;
+import de.t14d3.rapunzellib.gui.core.GuiSlotPlan;
+import de.t14d3.rapunzellib.gui.element.ElementType;
+import de.t14d3.rapunzellib.gui.element.GuiElement;
+import net.kyori.adventure.text.Component;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/** {@link GuiSlotPlan#resolve} for a full chest grid and for a linear layout. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GuiSlotPlanBenchmark {
+    private Gui grid;
+    private Gui linear;
+
+    @Setup
+    public void setUp() {
+        GuiBuilder gridBuilder = Gui.builder().title("Grid").rows(6);
+        for (int slot = 0; slot < 54; slot++) {
+            gridBuilder.slot(slot, new BenchElement());
+        }
+        grid = gridBuilder.build();
+
+        GuiBuilder linearBuilder = Gui.builder().title("Linear").linear(true);
+        for (int i = 0; i < 54; i++) {
+            Component line = Component.text("Line " + i);
+            linearBuilder.text(text -> text.text(line));
+        }
+        linear = linearBuilder.build();
+    }
+
+    @Benchmark
+    public GuiSlotPlan resolveGrid() {
+        return GuiSlotPlan.resolve(grid, 6);
+    }
+
+    @Benchmark
+    public GuiSlotPlan resolveLinear() {
+        return GuiSlotPlan.resolve(linear, 6);
+    }
+
+    private static final class BenchElement implements GuiElement {
+        @Override
+        public @NotNull ElementType type() {
+            return ElementType.TEXT;
+        }
+    }
+}
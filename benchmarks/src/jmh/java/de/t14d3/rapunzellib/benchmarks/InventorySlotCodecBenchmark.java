@@ -0,0 +1,149 @@
+package de.t14d3.rapunzellib.benchmarks;
+
+import com.google.gson.Gson;
+import de.t14d3.rapunzellib.nbt.RNbtCompound;
+import de.t14d3.rapunzellib.nbt.RNbtList;
+import de.t14d3.rapunzellib.nbt.RNbtPrimitive;
+import de.t14d3.rapunzellib.nbt.RNbtType;
+import de.t14d3.rapunzellib.nbt.RNbtValue;
+import de.t14d3.rapunzellib.nbt.item.RItem;
+import de.t14d3.rapunzellib.network.json.JsonCodecs;
+import de.t14d3.rapunzellib.network.remote.InventorySlotCodec;
+import de.t14d3.rapunzellib.network.remote.rpc.Requests;
+import de.t14d3.rapunzellib.objects.RKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full inventory replies in the binary slot format against the SNBT string replies they replace,
+ * both including the Gson step of the RPC result. SNBT decoding stops at the strings: parsing them
+ * into items needs the platform, so the SNBT side is measured favourably.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InventorySlotCodecBenchmark {
+    private static final int SIZE = 41;
+    private static final List<RKey> TYPES = List.of(
+        RKey.of("minecraft", "stone"), RKey.of("minecraft", "diamond_sword"),
+        RKey.of("minecraft", "bread"), RKey.of("minecraft", "iron_pickaxe"));
+
+    private final Gson gson = JsonCodecs.gson();
+    private Map<Integer, RItem> inventory;
+    private String binaryJson;
+    private String snbtJson;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(1234L);
+        inventory = new TreeMap<>();
+        for (int slot = 0; slot < 36; slot++) {
+            inventory.put(slot, item(random));
+        }
+        binaryJson = encodeBinary();
+        snbtJson = encodeSnbt();
+    }
+
+    @Benchmark
+    public String encodeBinary() {
+        List<InventorySlotCodec.Slot> slots = new ArrayList<>(inventory.size());
+        inventory.forEach((slot, item) -> slots.add(InventorySlotCodec.Slot.of(slot, item)));
+        String data = Base64.getEncoder().encodeToString(InventorySlotCodec.encodeFull(SIZE, 1L, slots));
+        return gson.toJson(new Requests.InventoryBinaryResult(true, "inventory", data));
+    }
+
+    @Benchmark
+    public String encodeSnbt() {
+        List<Requests.SlotEntry> entries = new ArrayList<>(inventory.size());
+        inventory.forEach((slot, item) -> entries.add(new Requests.SlotEntry(slot, snbt(item))));
+        return gson.toJson(new Requests.InventorySnapshotResult("inventory", SIZE, entries, true));
+    }
+
+    @Benchmark
+    public InventorySlotCodec.Decoded decodeBinary() {
+        Requests.InventoryBinaryResult result = gson.fromJson(binaryJson, Requests.InventoryBinaryResult.class);
+        return InventorySlotCodec.decode(Base64.getDecoder().decode(result.data()));
+    }
+
+    @Benchmark
+    public Requests.InventorySnapshotResult decodeSnbt() {
+        return gson.fromJson(snbtJson, Requests.InventorySnapshotResult.class);
+    }
+
+    private static RItem item(Random random) {
+        List<RNbtValue> enchantments = new ArrayList<>();
+        for (String id : List.of("sharpness", "unbreaking", "mending")) {
+            enchantments.add(RNbtCompound.builder()
+                .putString("id", "minecraft:" + id)
+                .put("lvl", RNbtPrimitive.ofShort((short) (1 + random.nextInt(5))))
+                .build());
+        }
+        RNbtCompound data = RNbtCompound.builder()
+            .put("Damage", RNbtPrimitive.ofInt(random.nextInt(250)))
+            .put("Enchantments", new RNbtList(RNbtType.COMPOUND, enchantments))
+            .build();
+        return RItem.builder()
+            .typeKey(TYPES.get(random.nextInt(TYPES.size())))
+            .amount(1 + random.nextInt(64))
+            .data(data)
+            .build();
+    }
+
+    private static String snbt(RItem item) {
+        StringBuilder builder = new StringBuilder("{id:\"").append(item.typeKey().asString())
+            .append("\",count:").append(item.amount());
+        if (!item.data().isEmpty()) {
+            builder.append(",components:");
+            appendSnbt(builder, item.data());
+        }
+        return builder.append('}').toString();
+    }
+
+    private static void appendSnbt(StringBuilder builder, RNbtValue value) {
+        switch (value.type()) {
+            case COMPOUND -> {
+                builder.append('{');
+                boolean first = true;
+                for (Map.Entry<String, RNbtValue> entry : value.asCompound().asMap().entrySet()) {
+                    if (!first) builder.append(',');
+                    first = false;
+                    builder.append('"').append(entry.getKey()).append("\":");
+                    appendSnbt(builder, entry.getValue());
+                }
+                builder.append('}');
+            }
+            case LIST -> {
+                builder.append('[');
+                boolean first = true;
+                for (RNbtValue element : value.asList()) {
+                    if (!first) builder.append(',');
+                    first = false;
+                    appendSnbt(builder, element);
+                }
+                builder.append(']');
+            }
+            case STRING -> builder.append('"').append(((RNbtPrimitive) value).stringValue()).append('"');
+            case SHORT -> builder.append(((RNbtPrimitive) value).shortValue()).append('s');
+            default -> builder.append(((RNbtPrimitive) value).value());
+        }
+    }
+}
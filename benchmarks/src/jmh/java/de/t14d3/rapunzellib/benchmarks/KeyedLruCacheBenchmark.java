@@ -0,0 +1,72 @@
+package de.t14d3.rapunzellib.benchmarks;
+
+import de.t14d3.rapunzellib.common.objects.KeyedLruCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/** {@link KeyedLruCache} hits, misses with eviction, and contended access. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KeyedLruCacheBenchmark {
+    private static final int KEYS = 4_096;
+
+    @Param({"256", "4096"})
+    public int maxSize;
+
+    private KeyedLruCache<UUID, Object> cache;
+    private UUID[] keys;
+
+    @Setup
+    public void setUp() {
+        cache = new KeyedLruCache<>(maxSize);
+        keys = new UUID[KEYS];
+        for (int i = 0; i < KEYS; i++) {
+            keys[i] = new UUID(0L, i);
+            cache.put(keys[i], new Object());
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int next;
+
+        private UUID nextKey(UUID[] keys) {
+            next = (next + 1) & (KEYS - 1);
+            return keys[next];
+        }
+    }
+
+    /** Cycles through {@value #KEYS} keys: always hits at 4096 entries, mostly evicts at 256. */
+    @Benchmark
+    public Object getOrCreate(Cursor cursor) {
+        return cache.getOrCreate(cursor.nextKey(keys), ignored -> new Object());
+    }
+
+    @Benchmark
+    public Object getHot() {
+        return cache.get(keys[KEYS - 1]);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Object getOrCreateContended(Cursor cursor) {
+        return cache.getOrCreate(cursor.nextKey(keys), ignored -> new Object());
+    }
+}
@@ -0,0 +1,73 @@
+package de.t14d3.rapunzellib.benchmarks;
+
+import de.t14d3.rapunzellib.common.message.YamlMessageFormatService;
+import de.t14d3.rapunzellib.config.SnakeYamlConfigService;
+import de.t14d3.rapunzellib.message.Placeholders;
+import net.kyori.adventure.text.Component;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/** {@link YamlMessageFormatService} rendering of MiniMessage templates. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessageRenderBenchmark {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MessageRenderBenchmark.class);
+
+    private Path directory;
+    private YamlMessageFormatService messages;
+    private Placeholders placeholders;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("rapunzellib-jmh");
+        Path file = directory.resolve("messages.yml");
+        Files.writeString(
+            file,
+            "prefix: \"<gray>[<gold>Bench</gold>]</gray> \"\n" +
+                "plain: \"<green>Saved.\"\n" +
+                "placeholders: \"<light_purple>Name: </light_purple><gold><name></gold> <gray>(<count> items)\"\n",
+            StandardCharsets.UTF_8
+        );
+        messages = new YamlMessageFormatService(
+            new SnakeYamlConfigService(path -> Optional.empty(), LOGGER), LOGGER, file, null);
+        placeholders = Placeholders.builder().string("name", "bob").string("count", "64").build();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(directory.resolve("messages.yml"));
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public Component renderPlain() {
+        return messages.component("plain");
+    }
+
+    @Benchmark
+    public Component renderWithPlaceholders() {
+        return messages.component("placeholders", placeholders);
+    }
+}
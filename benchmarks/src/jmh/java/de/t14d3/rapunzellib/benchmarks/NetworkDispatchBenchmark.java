@@ -0,0 +1,95 @@
+package de.t14d3.rapunzellib.benchmarks;
+
+import com.google.gson.Gson;
+import de.t14d3.rapunzellib.network.InMemoryMessenger;
+import de.t14d3.rapunzellib.network.json.JsonCodecs;
+import de.t14d3.rapunzellib.network.rpc.RpcChannels;
+import de.t14d3.rapunzellib.network.rpc.RpcRequest;
+import de.t14d3.rapunzellib.network.rpc.RpcResponse;
+import de.t14d3.rapunzellib.network.runtime.DefaultNetworkRuntimeGateway;
+import de.t14d3.rapunzellib.network.runtime.NetworkRuntimeGateway;
+import de.t14d3.rapunzellib.network.runtime.RpcMethod;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RPC request dispatch with one request subscription per handler, each decoding the request and
+ * matching the method, against the per-service dispatch table of {@link DefaultNetworkRuntimeGateway}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NetworkDispatchBenchmark {
+    private static final String SERVICE = "bench";
+
+    @Param({"10", "200"})
+    public int handlers;
+
+    private final Gson gson = JsonCodecs.gson();
+    private DefaultNetworkRuntimeGateway perHandler;
+    private DefaultNetworkRuntimeGateway table;
+    private RpcRequest[] requests;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        perHandler = DefaultNetworkRuntimeGateway.compatibility(new InMemoryMessenger("per-handler", "proxy"));
+        table = DefaultNetworkRuntimeGateway.compatibility(new InMemoryMessenger("table", "proxy"));
+        requests = new RpcRequest[handlers];
+        for (int i = 0; i < handlers; i++) {
+            RpcMethod<String, String> method = RpcMethod.of(SERVICE, "m" + i, String.class, String.class);
+            subscribePerHandler(method);
+            table.register(method, NetworkRuntimeGateway.RpcHandler.sync((request, sourceServer) -> request));
+            requests[i] = new RpcRequest("r" + i, SERVICE, method.method(), gson.toJsonTree("payload"), 0L);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        perHandler.close();
+        table.close();
+    }
+
+    @Benchmark
+    public void perHandlerSubscriptions() {
+        perHandler.publishToServer(RpcChannels.REQUEST_TOPIC, "per-handler", nextRequest());
+    }
+
+    @Benchmark
+    public void dispatchTable() {
+        table.publishToServer(RpcChannels.REQUEST_TOPIC, "table", nextRequest());
+    }
+
+    private RpcRequest nextRequest() {
+        RpcRequest request = requests[next];
+        next = (next + 1) % requests.length;
+        return request;
+    }
+
+    /** The dispatch before the table: every handler decodes each request and checks the method. */
+    private void subscribePerHandler(RpcMethod<String, String> method) {
+        perHandler.subscribe(RpcChannels.REQUEST_TOPIC, (request, sourceServer) -> {
+            if (!method.service().equals(request.service()) || !method.method().equals(request.method())) {
+                return;
+            }
+            String payload = gson.fromJson(request.payload(), method.requestType());
+            perHandler.publishToServer(RpcChannels.RESPONSE_TOPIC, sourceServer,
+                new RpcResponse(request.requestId(), true, gson.toJsonTree(payload), null, 0L));
+        });
+    }
+}
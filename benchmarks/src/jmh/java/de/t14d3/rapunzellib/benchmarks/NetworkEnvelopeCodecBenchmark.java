@@ -0,0 +1,56 @@
+package de.t14d3.rapunzellib.benchmarks;
+
+import com.google.gson.Gson;
+import de.t14d3.rapunzellib.network.NetworkEnvelope;
+import de.t14d3.rapunzellib.network.json.JsonCodecs;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/** Gson encoding and decoding of {@link NetworkEnvelope}s, as done for every network message. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NetworkEnvelopeCodecBenchmark {
+    @Param({"64", "4096"})
+    public int payloadChars;
+
+    private final Gson gson = JsonCodecs.gson();
+    private NetworkEnvelope envelope;
+    private String encoded;
+
+    @Setup
+    public void setUp() {
+        StringBuilder payload = new StringBuilder("{\"data\":\"");
+        while (payload.length() < payloadChars - 2) {
+            payload.append('x');
+        }
+        payload.append("\"}");
+        envelope = new NetworkEnvelope(
+            "rapunzellib:bench", payload.toString(), NetworkEnvelope.Target.SERVER, "lobby", "survival", 1_700_000_000_000L);
+        encoded = gson.toJson(envelope);
+    }
+
+    @Benchmark
+    public String encode() {
+        return gson.toJson(envelope);
+    }
+
+    @Benchmark
+    public NetworkEnvelope decode() {
+        return gson.fromJson(encoded, NetworkEnvelope.class);
+    }
+}
@@ -0,0 +1,54 @@
+package de.t14d3.rapunzellib.benchmarks;
+
+import de.t14d3.rapunzellib.objects.RKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/** {@link RKey} parsing and construction. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RKeyBenchmark {
+    private String namespaced = "minecraft:diamond_sword";
+    private String nested = "rapunzellib:gui/main_menu";
+    private String path = "diamond_sword";
+    private String invalid = "Minecraft:Diamond Sword";
+
+    @Benchmark
+    public RKey parseNamespaced() {
+        return RKey.parse(namespaced);
+    }
+
+    @Benchmark
+    public RKey parseNestedPath() {
+        return RKey.parse(nested);
+    }
+
+    @Benchmark
+    public RKey ofNamespaceAndPath() {
+        return RKey.of("minecraft", path);
+    }
+
+    @Benchmark
+    public Optional<RKey> tryParseInvalid() {
+        return RKey.tryParse(invalid);
+    }
+
+    @Benchmark
+    public String asString() {
+        return RKey.parse(namespaced).asString();
+    }
+}
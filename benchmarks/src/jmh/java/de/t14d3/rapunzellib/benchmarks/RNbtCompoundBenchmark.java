@@ -0,0 +1,63 @@
+package de.t14d3.rapunzellib.benchmarks;
+
+import de.t14d3.rapunzellib.nbt.RNbtCompound;
+import de.t14d3.rapunzellib.nbt.RNbtCompoundBuilder;
+import de.t14d3.rapunzellib.nbt.RNbtPrimitive;
+import de.t14d3.rapunzellib.nbt.RNbtValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/** Copy-on-write {@link RNbtCompound#put} against compounds of different sizes. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RNbtCompoundBenchmark {
+    @Param({"4", "32", "256"})
+    public int entries;
+
+    private RNbtCompound compound;
+    private final RNbtValue value = RNbtPrimitive.ofInt(7);
+
+    @Setup
+    public void setUp() {
+        RNbtCompoundBuilder builder = RNbtCompound.builder();
+        for (int i = 0; i < entries; i++) {
+            builder.putInt("key" + i, i);
+        }
+        compound = builder.build();
+    }
+
+    @Benchmark
+    public RNbtCompound putNewKey() {
+        return compound.put("added", value);
+    }
+
+    @Benchmark
+    public RNbtCompound replaceExistingKey() {
+        return compound.put("key0", value);
+    }
+
+    /** Builds a compound through repeated puts, the pattern of naive item editing code. */
+    @Benchmark
+    public RNbtCompound chainedPuts() {
+        RNbtCompound result = RNbtCompound.empty();
+        for (int i = 0; i < 8; i++) {
+            result = result.put("chained" + i, value);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,93 @@
+package de.t14d3.rapunzellib.benchmarks;
+
+import de.t14d3.rapunzellib.nbt.RNbtCodecs;
+import de.t14d3.rapunzellib.nbt.RNbtCompound;
+import de.t14d3.rapunzellib.nbt.RNbtPrimitive;
+import de.t14d3.rapunzellib.nbt.RNbtValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/** Reads one key from many native-like tags, converting them fully or through {@link RNbtCompound#lazy}. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RNbtLazyCompoundBenchmark {
+    @Param({"10000"})
+    public int items;
+
+    @Param({"32"})
+    public int keysPerItem;
+
+    private List<Map<String, Object>> tags;
+
+    @Setup
+    public void setUp() {
+        tags = new ArrayList<>(items);
+        for (int i = 0; i < items; i++) {
+            LinkedHashMap<String, Object> tag = new LinkedHashMap<>();
+            for (int key = 0; key < keysPerItem; key++) {
+                tag.put("key" + key, key);
+            }
+            tag.put("nested", Map.of("owner", "owner-" + i));
+            tags.add(tag);
+        }
+    }
+
+    @Benchmark
+    public long eagerReadOneKey() {
+        long sum = 0L;
+        for (Map<String, Object> tag : tags) {
+            sum += RNbtCodecs.INT.decode(eager(tag).get("key7").orElseThrow());
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long lazyReadOneKey() {
+        long sum = 0L;
+        for (Map<String, Object> tag : tags) {
+            sum += RNbtCodecs.INT.decode(lazy(tag).get("key7").orElseThrow());
+        }
+        return sum;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static RNbtCompound lazy(Map<String, Object> tag) {
+        return RNbtCompound.lazy(tag.keySet(), key -> {
+            Object value = tag.get(key);
+            return value instanceof Map<?, ?> nested ? lazy((Map<String, Object>) nested) : convert(value);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static RNbtCompound eager(Map<String, Object> tag) {
+        LinkedHashMap<String, RNbtValue> entries = new LinkedHashMap<>();
+        tag.forEach((key, value) -> entries.put(
+            key,
+            value instanceof Map<?, ?> nested ? eager((Map<String, Object>) nested) : convert(value)
+        ));
+        return RNbtCompound.of(entries);
+    }
+
+    private static RNbtValue convert(Object value) {
+        return value instanceof Integer number ? RNbtPrimitive.ofInt(number) : RNbtPrimitive.ofString(String.valueOf(value));
+    }
+}
@@ -0,0 +1,102 @@
+package de.t14d3.rapunzellib.benchmarks;
+
+import de.t14d3.rapunzellib.nbt.RNbtCodecs;
+import de.t14d3.rapunzellib.nbt.RNbtCompiledPath;
+import de.t14d3.rapunzellib.nbt.RNbtCompound;
+import de.t14d3.rapunzellib.nbt.RNbtPath;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Interpreted against compiled {@link RNbtPath} access on item-data shaped compounds, and
+ * sequential writes against {@link RNbtPath#writeAll}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RNbtPathBenchmark {
+    private static final RNbtPath<Integer> LEVEL = RNbtPath.of(RNbtCodecs.INT)
+        .key("components").key("rapunzellib:data").key("level");
+    private static final RNbtPath<String> OWNER = RNbtPath.of(RNbtCodecs.STRING)
+        .key("components").key("rapunzellib:data").key("owner");
+    private static final RNbtPath<Integer> CHARGES = RNbtPath.of(RNbtCodecs.INT)
+        .key("components").key("rapunzellib:data").key("charges");
+    private static final RNbtCompiledPath<Integer> LEVEL_COMPILED = LEVEL.compile();
+    private static final RNbtCompiledPath<String> OWNER_COMPILED = OWNER.compile();
+    private static final RNbtCompiledPath<Integer> CHARGES_COMPILED = CHARGES.compile();
+
+    private RNbtCompound item;
+    private Map<RNbtPath<?>, Object> batch;
+
+    @Setup
+    public void setUp() {
+        RNbtCompound data = RNbtCompound.builder()
+            .putInt("level", 3)
+            .putString("owner", "t14d3")
+            .putInt("charges", 12)
+            .build();
+        RNbtCompound components = RNbtCompound.builder()
+            .put("rapunzellib:data", data)
+            .putInt("minecraft:max_damage", 250)
+            .putString("minecraft:rarity", "rare")
+            .build();
+        item = RNbtCompound.builder()
+            .putString("id", "minecraft:diamond_sword")
+            .putInt("count", 1)
+            .put("components", components)
+            .build();
+        batch = new LinkedHashMap<>();
+        batch.put(LEVEL, 4);
+        batch.put(OWNER, "someone");
+        batch.put(CHARGES, 11);
+    }
+
+    @Benchmark
+    public Optional<Integer> readInterpreted() {
+        return LEVEL.read(item);
+    }
+
+    @Benchmark
+    public Optional<Integer> readCompiled() {
+        return LEVEL_COMPILED.read(item);
+    }
+
+    @Benchmark
+    public RNbtCompound writeInterpreted() {
+        return LEVEL.write(item, 4);
+    }
+
+    @Benchmark
+    public RNbtCompound writeCompiled() {
+        return LEVEL_COMPILED.write(item, 4);
+    }
+
+    /** Three writes sharing a two-key prefix, one after the other. */
+    @Benchmark
+    public RNbtCompound writeThreeSequential() {
+        RNbtCompound result = LEVEL_COMPILED.write(item, 4);
+        result = OWNER_COMPILED.write(result, "someone");
+        return CHARGES_COMPILED.write(result, 11);
+    }
+
+    @Benchmark
+    public RNbtCompound writeThreeBatched() {
+        return RNbtPath.writeAll(item, batch);
+    }
+}
@@ -0,0 +1,98 @@
+package de.t14d3.rapunzellib.benchmarks;
+
+import de.t14d3.rapunzellib.nbt.RNbtCompound;
+import de.t14d3.rapunzellib.nbt.RNbtIntArray;
+import de.t14d3.rapunzellib.nbt.RNbtList;
+import de.t14d3.rapunzellib.nbt.RNbtPrimitive;
+import de.t14d3.rapunzellib.nbt.SerializedEntity;
+import de.t14d3.rapunzellib.nbt.SerializedEntityCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link SerializedEntityCodec} against the Java serialization it replaces, for a chicken jockey
+ * shaped snapshot (one passenger).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializedEntityBenchmark {
+    private SerializedEntity entity;
+    private byte[] binary;
+    private byte[] legacy;
+
+    @Setup
+    public void setUp() throws IOException {
+        SerializedEntity chicken = new SerializedEntity(
+            "minecraft:chicken", mobData("minecraft:chicken", 4f), List.of(),
+            UUID.randomUUID(), Instant.parse("2026-03-09T12:00:00Z"), RNbtCompound.empty());
+        entity = new SerializedEntity(
+            "minecraft:zombie", mobData("minecraft:zombie", 20f), List.of(chicken),
+            UUID.randomUUID(), Instant.parse("2026-03-09T12:00:00Z"),
+            RNbtCompound.builder().putString("source", "vault").build());
+        binary = SerializedEntityCodec.encode(entity);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOutput = new ObjectOutputStream(output)) {
+            objectOutput.writeObject(entity);
+        }
+        legacy = output.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] encodeBinary() {
+        return SerializedEntityCodec.encode(entity);
+    }
+
+    @Benchmark
+    public SerializedEntity decodeBinary() {
+        return SerializedEntityCodec.decode(binary);
+    }
+
+    @Benchmark
+    public byte[] encodeJavaSerialization() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOutput = new ObjectOutputStream(output)) {
+            objectOutput.writeObject(entity);
+        }
+        return output.toByteArray();
+    }
+
+    @Benchmark
+    public Object decodeJavaSerialization() throws IOException, ClassNotFoundException {
+        try (ObjectInputStream objectInput = new ObjectInputStream(new ByteArrayInputStream(legacy))) {
+            return objectInput.readObject();
+        }
+    }
+
+    private static RNbtCompound mobData(String type, float health) {
+        return RNbtCompound.builder()
+            .putString("id", type)
+            .put("Pos", RNbtList.of(List.of(RNbtPrimitive.ofDouble(12.5), RNbtPrimitive.ofDouble(64), RNbtPrimitive.ofDouble(-30.5))))
+            .put("Rotation", RNbtList.of(List.of(RNbtPrimitive.ofFloat(90f), RNbtPrimitive.ofFloat(0f))))
+            .putFloat("Health", health)
+            .putShort("Air", (short) 300)
+            .put("UUID", new RNbtIntArray(new int[] {1, 2, 3, 4}))
+            .build();
+    }
+}
@@ -0,0 +1,172 @@
+package de.t14d3.rapunzellib.benchmarks;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Compares two JMH JSON result files and flags regressions.
+ *
+ * <p>Usage: {@code BenchmarkComparison <baseline.json> <current.json> [thresholdPercent]}. Exits
+ * with {@code 1} when any benchmark got worse by more than the threshold (default 10%), and with
+ * {@code 2} when a file cannot be read. Throughput scores regress when they drop, time-based
+ * scores ({@code avgt}, {@code sample}, {@code ss}) when they grow. Benchmarks missing from either
+ * file are reported but never fail the comparison.</p>
+ */
+public final class BenchmarkComparison {
+    public static final double DEFAULT_THRESHOLD_PERCENT = 10.0;
+
+    private BenchmarkComparison() {
+    }
+
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.err.println("usage: BenchmarkComparison <baseline.json> <current.json> [thresholdPercent]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD_PERCENT;
+        List<Result> results;
+        try {
+            results = compare(read(Path.of(args[0])), read(Path.of(args[1])), threshold);
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Cannot compare benchmark results: " + e.getMessage());
+            System.exit(2);
+            return;
+        }
+
+        boolean regressed = false;
+        for (Result result : results) {
+            System.out.println(result.describe());
+            regressed |= result.regression();
+        }
+        System.out.printf(Locale.ROOT, "%d benchmarks compared, threshold %.1f%%%n", results.size(), threshold);
+        if (regressed) {
+            System.err.println("Benchmark regressions detected");
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Compares the benchmarks of two JMH result arrays.
+     *
+     * @param baseline         the stored baseline results
+     * @param current          the results of the latest run
+     * @param thresholdPercent relative change that counts as a regression
+     * @return one result per benchmark and parameter combination, sorted by name
+     */
+    public static @NotNull List<Result> compare(@NotNull JsonArray baseline, @NotNull JsonArray current, double thresholdPercent) {
+        Objects.requireNonNull(baseline, "baseline");
+        Objects.requireNonNull(current, "current");
+        if (!(thresholdPercent >= 0.0)) {
+            throw new IllegalArgumentException("thresholdPercent must be >= 0: " + thresholdPercent);
+        }
+
+        Map<String, Score> before = scores(baseline);
+        Map<String, Score> after = scores(current);
+        Map<String, Result> results = new TreeMap<>();
+        for (Map.Entry<String, Score> entry : after.entrySet()) {
+            Score now = entry.getValue();
+            Score then = before.get(entry.getKey());
+            results.put(entry.getKey(), Result.of(entry.getKey(), then, now, thresholdPercent));
+        }
+        for (Map.Entry<String, Score> entry : before.entrySet()) {
+            results.putIfAbsent(entry.getKey(), Result.of(entry.getKey(), entry.getValue(), null, thresholdPercent));
+        }
+        return List.copyOf(results.values());
+    }
+
+    private static JsonArray read(Path file) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            throw new IOException("missing file " + file + " (run jmh, then jmhSaveBaseline to record a baseline)");
+        }
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return JsonParser.parseReader(reader).getAsJsonArray();
+        }
+    }
+
+    private static Map<String, Score> scores(JsonArray results) {
+        Map<String, Score> scores = new LinkedHashMap<>();
+        for (JsonElement element : results) {
+            JsonObject result = element.getAsJsonObject();
+            String mode = result.get("mode").getAsString();
+            StringBuilder name = new StringBuilder(result.get("benchmark").getAsString());
+            JsonObject params = result.getAsJsonObject("params");
+            if (params != null) {
+                new TreeMap<>(params.asMap()).forEach((key, value) ->
+                    name.append(' ').append(key).append('=').append(value.getAsString()));
+            }
+            name.append(" [").append(mode).append(']');
+
+            JsonObject metric = result.getAsJsonObject("primaryMetric");
+            scores.put(name.toString(), new Score(
+                mode,
+                metric.get("score").getAsDouble(),
+                metric.has("scoreUnit") ? metric.get("scoreUnit").getAsString() : ""
+            ));
+        }
+        return scores;
+    }
+
+    private record Score(String mode, double value, String unit) {
+        private boolean higherIsBetter() {
+            return "thrpt".equals(mode);
+        }
+    }
+
+    /**
+     * Comparison of one benchmark.
+     *
+     * @param benchmark     benchmark name with parameters and mode
+     * @param baseline      the baseline score, or {@code NaN} if the benchmark is new
+     * @param current       the current score, or {@code NaN} if the benchmark was removed
+     * @param unit          the score unit
+     * @param changePercent relative change where positive means slower, {@code NaN} if not comparable
+     * @param regression    whether the change exceeds the threshold
+     */
+    public record Result(
+        @NotNull String benchmark,
+        double baseline,
+        double current,
+        @NotNull String unit,
+        double changePercent,
+        boolean regression
+    ) {
+        private static Result of(String benchmark, @Nullable Score then, @Nullable Score now, double thresholdPercent) {
+            Score reference = now != null ? now : Objects.requireNonNull(then);
+            if (then == null || now == null || then.value == 0.0) {
+                return new Result(benchmark, then == null ? Double.NaN : then.value, now == null ? Double.NaN : now.value,
+                    reference.unit, Double.NaN, false);
+            }
+            double change = (now.value - then.value) / then.value * 100.0;
+            double slowdown = reference.higherIsBetter() ? -change : change;
+            return new Result(benchmark, then.value, now.value, reference.unit, slowdown, slowdown > thresholdPercent);
+        }
+
+        /** Returns a one-line, human-readable description of this comparison. */
+        public @NotNull String describe() {
+            if (Double.isNaN(baseline)) {
+                return String.format(Locale.ROOT, "  NEW        %s: %.3f %s", benchmark, current, unit);
+            }
+            if (Double.isNaN(current)) {
+                return String.format(Locale.ROOT, "  REMOVED    %s", benchmark);
+            }
+            return String.format(Locale.ROOT, "%s %s: %.3f -> %.3f %s (slowdown %+.1f%%)",
+                regression ? "! REGRESSED" : "  ok       ", benchmark, baseline, current, unit, changePercent);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package de.t14d3.rapunzellib.benchmarks;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonParser;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class BenchmarkComparisonTest {
+    @Test
+    void flagsSlowdownsBeyondTheThresholdInTheMetricsDirection() {
+        JsonArray baseline = results(
+            result("bench.RKeyBenchmark.parseNamespaced", "avgt", null, 100.0),
+            result("bench.RKeyBenchmark.asString", "avgt", null, 100.0),
+            result("bench.GameEventBusBenchmark.dispatchPost", "thrpt", null, 1_000.0),
+            result("bench.GameEventBusBenchmark.dispatchPre", "thrpt", null, 1_000.0)
+        );
+        JsonArray current = results(
+            result("bench.RKeyBenchmark.parseNamespaced", "avgt", null, 125.0),
+            result("bench.RKeyBenchmark.asString", "avgt", null, 60.0),
+            result("bench.GameEventBusBenchmark.dispatchPost", "thrpt", null, 850.0),
+            result("bench.GameEventBusBenchmark.dispatchPre", "thrpt", null, 950.0)
+        );
+
+        List<BenchmarkComparison.Result> results = BenchmarkComparison.compare(baseline, current, 10.0);
+
+        assertEquals(4, results.size());
+        assertTrue(find(results, "parseNamespaced").regression());
+        assertEquals(25.0, find(results, "parseNamespaced").changePercent(), 1e-9);
+        assertFalse(find(results, "asString").regression());
+        assertTrue(find(results, "dispatchPost").regression());
+        assertEquals(15.0, find(results, "dispatchPost").changePercent(), 1e-9);
+        assertFalse(find(results, "dispatchPre").regression());
+    }
+
+    @Test
+    void parametersSeparateResultsAndUnmatchedBenchmarksNeverFail() {
+        JsonArray baseline = results(
+            result("bench.RNbtCompoundBenchmark.putNewKey", "avgt", "4", 10.0),
+            result("bench.RNbtCompoundBenchmark.putNewKey", "avgt", "256", 400.0),
+            result("bench.Removed.gone", "avgt", null, 1.0)
+        );
+        JsonArray current = results(
+            result("bench.RNbtCompoundBenchmark.putNewKey", "avgt", "4", 10.5),
+            result("bench.RNbtCompoundBenchmark.putNewKey", "avgt", "256", 900.0),
+            result("bench.Added.fresh", "avgt", null, 1.0)
+        );
+
+        List<BenchmarkComparison.Result> results = BenchmarkComparison.compare(baseline, current, 10.0);
+
+        assertEquals(4, results.size());
+        assertFalse(find(results, "entries=4 ").regression());
+        assertTrue(find(results, "entries=256 ").regression());
+        assertFalse(find(results, "fresh").regression());
+        assertTrue(Double.isNaN(find(results, "fresh").baseline()));
+        assertFalse(find(results, "gone").regression());
+        assertTrue(Double.isNaN(find(results, "gone").current()));
+        assertThrows(IllegalArgumentException.class, () -> BenchmarkComparison.compare(baseline, current, -1.0));
+    }
+
+    private static BenchmarkComparison.Result find(List<BenchmarkComparison.Result> results, String fragment) {
+        return results.stream()
+            .filter(result -> result.benchmark().contains(fragment))
+            .findFirst()
+            .orElseThrow(() -> new AssertionError("no result containing " + fragment));
+    }
+
+    private static JsonArray results(String... results) {
+        return JsonParser.parseString("[" + String.join(",", results) + "]").getAsJsonArray();
+    }
+
+    private static String result(String benchmark, String mode, String entries, double score) {
+        String params = entries == null ? "" : ",\"params\":{\"entries\":\"" + entries + "\"}";
+        return "{\"benchmark\":\"" + benchmark + "\",\"mode\":\"" + mode + "\"" + params
+            + ",\"primaryMetric\":{\"score\":" + score + ",\"scoreError\":0.1,\"scoreUnit\":\"ns/op\"}}";
+    }
+}
@@ -5,6 +5,7 @@ plugins {
 
 val excludedProjects = setOf(
     project.path,
+    ":benchmarks",
     ":gradle-plugin",
 )
 
@@ -502,7 +502,7 @@ gradle.projectsEvaluated {
     }
 }
 
-val excludedFromAggregation = setOf(":bom")
+val excludedFromAggregation = setOf(":bom", ":benchmarks")
 val aggregationProjects = subprojects.filter {
     it.path !in excludedFromAggregation && !it.name.startsWith("gradle")
 }
@@ -40,6 +40,9 @@ public final class CommandFeatures {
 
     /**
      * Installs the command features into the given context.
+     * <p>
+     * Also registers the built-in {@link SchedulerProfilerCommand} admin command.
+     * </p>
      *
      * @param context the Rapunzel context
      * @return the installed command service
@@ -52,7 +55,10 @@ public final class CommandFeatures {
             () -> context.services().get(RCommandService.class),
             RuntimeCapability.COMMANDS,
             "command features",
-            () -> INSTALLER_REGISTRY.resolve(context.platformId()).install(context)
+            () -> {
+                INSTALLER_REGISTRY.resolve(context.platformId()).install(context);
+                SchedulerProfilerCommand.registerIfAbsent(context, context.services().get(RCommandService.class));
+            }
         );
     }
 
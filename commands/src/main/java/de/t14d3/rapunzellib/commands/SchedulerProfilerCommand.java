@@ -0,0 +1,160 @@
+package de.t14d3.rapunzellib.commands;
+
+import de.t14d3.rapunzellib.commands.arguments.RIntegerArgument;
+import de.t14d3.rapunzellib.commands.core.RCommandNode;
+import de.t14d3.rapunzellib.commands.core.RCommandResult;
+import de.t14d3.rapunzellib.context.RapunzelContext;
+import de.t14d3.rapunzellib.scheduler.SchedulerProfiler;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Admin command for the shared {@link SchedulerProfiler}.
+ * <p>
+ * Registered as {@code /rapunzelprofiler} (alias {@code /rprofiler}) with the subcommands
+ * {@code on}, {@code off}, {@code reset}, {@code consumers} and {@code top [count]}.
+ * Requires the {@value #PERMISSION} permission.
+ * </p>
+ */
+public final class SchedulerProfilerCommand {
+    /** Registration id of the profiler command tree. */
+    public static final String REGISTRATION_ID = "rapunzellib-profiler";
+    /** Permission required to use the profiler command. */
+    public static final String PERMISSION = "rapunzellib.admin.profiler";
+
+    private static final int DEFAULT_TOP = 10;
+
+    private SchedulerProfilerCommand() {
+    }
+
+    /**
+     * Registers the profiler command unless it is already registered or no profiler is available.
+     *
+     * @param context  the context providing the {@link SchedulerProfiler} service
+     * @param commands the command service to register with
+     */
+    public static void registerIfAbsent(@NotNull RapunzelContext context, @NotNull RCommandService commands) {
+        Objects.requireNonNull(context, "context");
+        Objects.requireNonNull(commands, "commands");
+        if (commands.find(REGISTRATION_ID).isPresent()) return;
+        context.services().find(SchedulerProfiler.class)
+            .ifPresent(profiler -> commands.registerRoot(REGISTRATION_ID, createNode(profiler)));
+    }
+
+    /**
+     * Creates the {@code /rapunzelprofiler} command tree.
+     *
+     * @param profiler the profiler to control and query
+     * @return the root command node
+     */
+    public static @NotNull RCommandNode<RCommandSource> createNode(@NotNull SchedulerProfiler profiler) {
+        Objects.requireNonNull(profiler, "profiler");
+
+        RCommandNode<RCommandSource> onNode = RCommandNode.<RCommandSource>literal("on")
+            .executes((source, args) -> {
+                profiler.enabled(true);
+                source.sendMessage(Component.text("Scheduler profiling enabled.", NamedTextColor.GREEN));
+                return RCommandResult.SUCCESS;
+            });
+
+        RCommandNode<RCommandSource> offNode = RCommandNode.<RCommandSource>literal("off")
+            .executes((source, args) -> {
+                profiler.enabled(false);
+                source.sendMessage(Component.text("Scheduler profiling disabled.", NamedTextColor.YELLOW));
+                return RCommandResult.SUCCESS;
+            });
+
+        RCommandNode<RCommandSource> resetNode = RCommandNode.<RCommandSource>literal("reset")
+            .executes((source, args) -> {
+                profiler.reset();
+                source.sendMessage(Component.text("Scheduler profiling data cleared.", NamedTextColor.GRAY));
+                return RCommandResult.SUCCESS;
+            });
+
+        RCommandNode<RCommandSource> consumersNode = RCommandNode.<RCommandSource>literal("consumers")
+            .executes((source, args) -> {
+                sendLines(source, formatConsumers(profiler.consumerStats()));
+                return RCommandResult.SUCCESS;
+            });
+
+        RCommandNode<RCommandSource> topNode = RCommandNode.<RCommandSource>literal("top")
+            .executes((source, args) -> {
+                sendLines(source, formatTasks(profiler.taskStats(), DEFAULT_TOP));
+                return RCommandResult.SUCCESS;
+            })
+            .then(RCommandNode.argument(RIntegerArgument.<RCommandSource>required("count"))
+                .executes((source, args) -> {
+                    int count = args.getInteger("count").orElse(DEFAULT_TOP);
+                    sendLines(source, formatTasks(profiler.taskStats(), count));
+                    return RCommandResult.SUCCESS;
+                }));
+
+        return RCommandNode.<RCommandSource>literal("rapunzelprofiler")
+            .addAlias("rprofiler")
+            .requiresPermission(PERMISSION)
+            .setDescription("Scheduler task profiling")
+            .executes((source, args) -> {
+                source.sendMessage(Component.text(
+                    "Scheduler profiling is " + (profiler.enabled() ? "enabled" : "disabled")
+                        + ". Use on|off|reset|consumers|top [count].",
+                    NamedTextColor.GOLD
+                ));
+                return RCommandResult.SUCCESS;
+            })
+            .then(onNode)
+            .then(offNode)
+            .then(resetNode)
+            .then(consumersNode)
+            .then(topNode);
+    }
+
+    static @NotNull String formatConsumers(@NotNull List<SchedulerProfiler.ConsumerStats> stats) {
+        if (stats.isEmpty()) {
+            return "No scheduler tasks recorded.";
+        }
+        StringBuilder sb = new StringBuilder("Scheduler time by consumer:\n");
+        for (SchedulerProfiler.ConsumerStats consumer : stats) {
+            sb.append(" - ").append(consumer.consumer())
+                .append(": runs=").append(consumer.runs())
+                .append(" total=").append(millis(consumer.totalNanos()))
+                .append(" max=").append(millis(consumer.maxNanos()))
+                .append('\n');
+        }
+        return sb.toString().stripTrailing();
+    }
+
+    static @NotNull String formatTasks(@NotNull List<SchedulerProfiler.TaskStats> stats, int limit) {
+        if (stats.isEmpty()) {
+            return "No scheduler tasks recorded.";
+        }
+        int count = Math.min(Math.max(1, limit), stats.size());
+        StringBuilder sb = new StringBuilder("Top " + count + " scheduler tasks by total time:\n");
+        for (SchedulerProfiler.TaskStats task : stats.subList(0, count)) {
+            sb.append(" - ").append(task.consumer()).append(' ').append(task.label())
+                .append(": runs=").append(task.runs())
+                .append(" total=").append(millis(task.totalNanos()))
+                .append(" mean=").append(millis(task.meanNanos()))
+                .append(" p99=").append(millis(task.runTime().valueAtPercentile(99.0)))
+                .append(" max=").append(millis(task.maxNanos()))
+                .append(" wait p50/p99=").append(millis(task.waitLatency().valueAtPercentile(50.0)))
+                .append('/').append(millis(task.waitLatency().valueAtPercentile(99.0)))
+                .append('\n');
+        }
+        return sb.toString().stripTrailing();
+    }
+
+    private static void sendLines(RCommandSource source, String text) {
+        for (String line : text.split("\n")) {
+            source.sendMessage(Component.text(line, NamedTextColor.GOLD));
+        }
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.3fms", nanos / 1_000_000.0);
+    }
+}
@@ -11,9 +11,11 @@ import de.t14d3.rapunzellib.nbt.RNbtValue;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 
 /**
  * Abstract base for attachment containers that support both transient and persistent attachments.
@@ -21,10 +23,32 @@ import java.util.Optional;
  * Transient attachments are stored in a mutable {@link RAttachmentContainer} delegate.
  * Persistent attachments are loaded and saved via a {@link PersistentAttachmentSession}.
  * Subclasses must implement {@link #openSession()} to provide persistence.
+ * <p>
+ * The persistent root is loaded once and kept together with the decoded values, so repeated reads
+ * of a persistent key are a map lookup instead of a root conversion plus decode. Every persistent
+ * mutation bumps {@link #version()}. Without a flush executor the updated root is saved
+ * immediately; with one, the first mutation schedules a single {@link #flush()} and later
+ * mutations before it runs are folded into the same save. The cache is dropped when the session's
+ * {@link PersistentAttachmentSession#stamp() stamp} changes or on {@link #invalidate()}. If the
+ * stamp changed while writes were pending, the fresh root is loaded and only the keys changed
+ * through this container are applied on top of it before saving.
+ * <p>
+ * Cached values are returned as stored; treat persistent attachment values as immutable and
+ * {@link #put put} changes back. {@code byte[]} values are copied on every read and write.
  */
 public abstract class DefaultAttachmentContainer implements RAttachmentContainer, AttachmentMapAccess {
     private final AttachmentStorageSupport support;
     private final RAttachmentContainer transientAttachments;
+    private final @Nullable Executor flushExecutor;
+
+    private final Object persistentLock = new Object();
+    private final Map<RAttachmentKey<?>, Optional<?>> decoded = new HashMap<>();
+    private final Map<String, Optional<RNbtValue>> unsaved = new HashMap<>();
+    private @Nullable RNbtCompound cachedRoot;
+    private @Nullable Object cachedStamp;
+    private long version;
+    private long savedVersion;
+    private boolean flushScheduled;
 
     protected DefaultAttachmentContainer() {
         this(AttachmentStorageSupport.TRANSIENT_AND_PERSISTENT, RAttachmentContainer.lazyMutable());
@@ -34,6 +58,17 @@ public abstract class DefaultAttachmentContainer implements RAttachmentContainer
         this(support, RAttachmentContainer.lazyMutable());
     }
 
+    /**
+     * Creates a container whose persistent writes are deferred to {@code flushExecutor}.
+     *
+     * @param support       the storage support, must include transient and persistent scopes
+     * @param flushExecutor runs deferred saves (typically at the end of the current tick), or
+     *                      {@code null} to save on every mutation
+     */
+    protected DefaultAttachmentContainer(@NotNull AttachmentStorageSupport support, @Nullable Executor flushExecutor) {
+        this(support, RAttachmentContainer.lazyMutable(), flushExecutor);
+    }
+
     protected DefaultAttachmentContainer(@NotNull RAttachmentContainer transientAttachments) {
         this(AttachmentStorageSupport.TRANSIENT_AND_PERSISTENT, transientAttachments);
     }
@@ -41,6 +76,14 @@ public abstract class DefaultAttachmentContainer implements RAttachmentContainer
     protected DefaultAttachmentContainer(
         @NotNull AttachmentStorageSupport support,
         @NotNull RAttachmentContainer transientAttachments
+    ) {
+        this(support, transientAttachments, null);
+    }
+
+    protected DefaultAttachmentContainer(
+        @NotNull AttachmentStorageSupport support,
+        @NotNull RAttachmentContainer transientAttachments,
+        @Nullable Executor flushExecutor
     ) {
         AttachmentStorageSupport resolvedSupport = Objects.requireNonNull(support, "support");
         if (!resolvedSupport.supported() || !resolvedSupport.supportsTransient()) {
@@ -51,14 +94,15 @@ public abstract class DefaultAttachmentContainer implements RAttachmentContainer
         }
         this.support = resolvedSupport;
         this.transientAttachments = Objects.requireNonNull(transientAttachments, "transientAttachments");
+        this.flushExecutor = flushExecutor;
     }
 
     /**
      * Retrieves an attachment value by its key.
      *
-     * <p>Transient keys look up in-memory storage. Persistent keys look up
-     * in the persistent storage session. Returns empty if the scope is not
-     * supported.</p>
+     * <p>Transient keys look up in-memory storage. Persistent keys are decoded once from the
+     * persistent root and served from the decoded cache afterwards. Returns empty if the scope is
+     * not supported.</p>
      *
      * @param key the attachment key (scope determines storage strategy)
      * @param <T> the expected value type
@@ -74,22 +118,17 @@ public abstract class DefaultAttachmentContainer implements RAttachmentContainer
         if (session == null) {
             return Optional.empty();
         }
-        RNbtValue value = session.load().get(key.id().asString()).orElse(null);
-        if (value == null) {
-            return Optional.empty();
-        }
-        try {
-            return Optional.of(NbtAttachmentValueMapper.decode(key, value));
-        } catch (RuntimeException ignored) {
-            return Optional.empty();
+        synchronized (persistentLock) {
+            return copyOut(key, cachedValue(key, root(session)));
         }
     }
 
     /**
      * Stores an attachment value by its key.
      *
-     * <p>Transient keys store in memory. Persistent keys write to the persistent
-     * storage session. Throws if the scope is not supported.</p>
+     * <p>Transient keys store in memory. Persistent keys update the cached root and are saved
+     * immediately or on the next {@link #flush()}, depending on the flush executor. Throws if the
+     * scope is not supported.</p>
      *
      * @param key   the attachment key (scope determines storage strategy)
      * @param value the value to store
@@ -104,15 +143,23 @@ public abstract class DefaultAttachmentContainer implements RAttachmentContainer
             return;
         }
         PersistentAttachmentSession session = requireSession();
-        RNbtCompound root = session.load().put(key.id().asString(), NbtAttachmentValueMapper.encode(key, value));
-        session.save(root);
+        RNbtValue encoded = NbtAttachmentValueMapper.encode(key, value);
+        synchronized (persistentLock) {
+            String id = key.id().asString();
+            cachedRoot = root(session).put(id, encoded);
+            unsaved.put(id, Optional.of(encoded));
+            forgetDecoded(key);
+            decoded.put(key, Optional.of(value instanceof byte[] bytes ? bytes.clone() : value));
+            version++;
+        }
+        writeBack();
     }
 
     /**
      * Removes an attachment by its key and returns the previous value.
      *
-     * <p>Transient keys remove from memory. Persistent keys remove from the
-     * persistent storage session. Returns empty if absent or scope unsupported.</p>
+     * <p>Transient keys remove from memory. Persistent keys remove from the cached root, which is
+     * written back like {@link #put}. Returns empty if absent or scope unsupported.</p>
      *
      * @param key the attachment key
      * @param <T> the expected value type
@@ -128,12 +175,75 @@ public abstract class DefaultAttachmentContainer implements RAttachmentContainer
         if (session == null) {
             return Optional.empty();
         }
-        RNbtCompound root = session.load();
-        Optional<T> existing = get(key);
-        session.save(root.remove(key.id().asString()));
+        Optional<T> existing;
+        synchronized (persistentLock) {
+            RNbtCompound root = root(session);
+            String id = key.id().asString();
+            if (!root.contains(id)) {
+                return Optional.empty();
+            }
+            existing = cachedValue(key, root);
+            cachedRoot = root.remove(id);
+            unsaved.put(id, Optional.empty());
+            forgetDecoded(key);
+            version++;
+        }
+        writeBack();
         return existing;
     }
 
+    /**
+     * Saves pending persistent writes, if any. Called by the flush executor after deferred
+     * mutations and should be called when the holder unloads. Pending writes are kept if the
+     * holder currently has no persistent session.
+     */
+    public final void flush() {
+        synchronized (persistentLock) {
+            flushScheduled = false;
+            if (cachedRoot == null || savedVersion == version) {
+                return;
+            }
+            PersistentAttachmentSession session = openSession();
+            if (session == null) {
+                return;
+            }
+            save(session, session.stamp());
+        }
+    }
+
+    /**
+     * Flushes pending writes and drops the cached root and decoded values, so the next access
+     * reloads from storage. Use this when the backing storage was changed outside this container.
+     */
+    public final void invalidate() {
+        synchronized (persistentLock) {
+            flush();
+            if (savedVersion == version) {
+                cachedRoot = null;
+                unsaved.clear();
+                cachedStamp = null;
+                decoded.clear();
+            }
+        }
+    }
+
+    /**
+     * Returns the persistent version stamp. It starts at {@code 0} and increases with every
+     * persistent mutation made through this container.
+     */
+    public final long version() {
+        synchronized (persistentLock) {
+            return version;
+        }
+    }
+
+    /** Returns whether persistent mutations are waiting for {@link #flush()}. */
+    public final boolean hasPendingWrites() {
+        synchronized (persistentLock) {
+            return savedVersion != version;
+        }
+    }
+
     @Override
     public final boolean supports(@NotNull RAttachmentScope scope) {
         Objects.requireNonNull(scope, "scope");
@@ -159,4 +269,94 @@ public abstract class DefaultAttachmentContainer implements RAttachmentContainer
         }
         return session;
     }
+
+    private RNbtCompound root(PersistentAttachmentSession session) {
+        Object stamp = session.stamp();
+        RNbtCompound root = cachedRoot;
+        if (root != null && Objects.equals(stamp, cachedStamp)) {
+            return root;
+        }
+        if (root != null && savedVersion != version) {
+            save(session, stamp);
+            return cachedRoot;
+        }
+        root = session.load();
+        cachedRoot = root;
+        cachedStamp = stamp;
+        decoded.clear();
+        return root;
+    }
+
+    /**
+     * Saves the pending writes. When the backing root changed since it was cached, the changed
+     * keys are applied to a freshly loaded root so edits made outside this container survive.
+     */
+    private void save(PersistentAttachmentSession session, @Nullable Object stamp) {
+        RNbtCompound root = cachedRoot;
+        if (!Objects.equals(stamp, cachedStamp)) {
+            root = session.load();
+            for (Map.Entry<String, Optional<RNbtValue>> change : unsaved.entrySet()) {
+                root = change.getValue().isPresent()
+                    ? root.put(change.getKey(), change.getValue().get())
+                    : root.remove(change.getKey());
+            }
+            decoded.clear();
+        }
+        session.save(root);
+        cachedRoot = root;
+        savedVersion = version;
+        unsaved.clear();
+        cachedStamp = session.stamp();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Optional<T> cachedValue(RAttachmentKey<T> key, RNbtCompound root) {
+        Optional<?> cached = decoded.get(key);
+        if (cached == null) {
+            cached = decode(key, root);
+            decoded.put(key, cached);
+        }
+        return (Optional<T>) cached;
+    }
+
+    private static <T> Optional<T> decode(RAttachmentKey<T> key, RNbtCompound root) {
+        RNbtValue value = root.get(key.id().asString()).orElse(null);
+        if (value == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(NbtAttachmentValueMapper.decode(key, value));
+        } catch (RuntimeException ignored) {
+            return Optional.empty();
+        }
+    }
+
+    private static <T> Optional<T> copyOut(RAttachmentKey<T> key, Optional<T> value) {
+        if (key.type() == byte[].class && value.isPresent()) {
+            return Optional.of(key.type().cast(((byte[]) value.get()).clone()));
+        }
+        return value;
+    }
+
+    private void forgetDecoded(RAttachmentKey<?> key) {
+        decoded.keySet().removeIf(cached -> cached.id().equals(key.id()));
+    }
+
+    private void writeBack() {
+        if (flushExecutor == null) {
+            flush();
+            return;
+        }
+        synchronized (persistentLock) {
+            if (flushScheduled) {
+                return;
+            }
+            flushScheduled = true;
+        }
+        try {
+            flushExecutor.execute(this::flush);
+        } catch (RuntimeException e) {
+            flush();
+        }
+    }
 }
@@ -2,6 +2,7 @@ package de.t14d3.rapunzellib.common.attachments;
 
 import de.t14d3.rapunzellib.nbt.RNbtCompound;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Objects;
 import java.util.function.Consumer;
@@ -28,6 +29,20 @@ public interface PersistentAttachmentSession {
      */
     void save(@NotNull RNbtCompound root);
 
+    /**
+     * Returns a stamp describing the current backing storage. Containers keep their decoded cache
+     * while consecutive sessions return equal stamps (compared with {@link Object#equals}) and reload
+     * the root when it changes. The stamp is read on every access, so it must be cheap; a revision
+     * stored next to the root and replaced by {@link #save} works well, and unlike the identity of
+     * the native holder object it also survives fresh snapshots of the same holder.
+     *
+     * @return the stamp, or {@code null} (the default) if the backing root is only ever changed
+     *     through this session
+     */
+    default @Nullable Object stamp() {
+        return null;
+    }
+
     /**
      * Creates a session from loader and saver callbacks.
      *
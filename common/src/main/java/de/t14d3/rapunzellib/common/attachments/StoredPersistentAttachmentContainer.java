@@ -3,8 +3,10 @@ package de.t14d3.rapunzellib.common.attachments;
 import de.t14d3.rapunzellib.attachments.AttachmentStorageSupport;
 import de.t14d3.rapunzellib.nbt.RNbtCompound;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Objects;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -12,7 +14,8 @@ import java.util.function.Supplier;
  * Default attachment container backed by simple load/save callbacks for a persistent root compound.
  * <p>
  * Uses a {@link Supplier} for loading and a {@link Consumer} for saving the persistent NBT root,
- * wrapping them into a {@link PersistentAttachmentSession} on each access.
+ * wrapping them into a {@link PersistentAttachmentSession} on each access. When created with a flush
+ * executor, writes made during a tick are saved once through the saver instead of on every mutation.
  */
 public class StoredPersistentAttachmentContainer extends DefaultAttachmentContainer {
     private final Supplier<RNbtCompound> loader;
@@ -30,7 +33,24 @@ public class StoredPersistentAttachmentContainer extends DefaultAttachmentContai
         @NotNull Supplier<@NotNull RNbtCompound> loader,
         @NotNull Consumer<@NotNull RNbtCompound> saver
     ) {
-        super(support);
+        this(support, loader, saver, null);
+    }
+
+    /**
+     * Creates a container whose persistent writes are deferred to {@code flushExecutor}.
+     *
+     * @param support       the storage support
+     * @param loader        supplies the current root compound
+     * @param saver         persists an updated root compound
+     * @param flushExecutor runs deferred saves, or {@code null} to save on every mutation
+     */
+    public StoredPersistentAttachmentContainer(
+        @NotNull AttachmentStorageSupport support,
+        @NotNull Supplier<@NotNull RNbtCompound> loader,
+        @NotNull Consumer<@NotNull RNbtCompound> saver,
+        @Nullable Executor flushExecutor
+    ) {
+        super(support, flushExecutor);
         this.loader = Objects.requireNonNull(loader, "loader");
         this.saver = Objects.requireNonNull(saver, "saver");
     }
@@ -5,6 +5,7 @@ import de.t14d3.rapunzellib.attachments.AttachmentSupport;
 import de.t14d3.rapunzellib.attachments.RAttachmentContainer;
 import de.t14d3.rapunzellib.commands.ConsoleCommandDispatcher;
 import de.t14d3.rapunzellib.common.message.YamlMessageFormatService;
+import de.t14d3.rapunzellib.common.scheduler.ContextualScheduler;
 import de.t14d3.rapunzellib.config.ConfigService;
 import de.t14d3.rapunzellib.config.SnakeYamlConfigService;
 import de.t14d3.rapunzellib.context.RapunzelContext;
@@ -78,6 +79,14 @@ public final class ConsumerView implements RapunzelContext {
     private final ConfigService consumerConfigs;
     private final MessageFormatService consumerMessages;
 
+    /**
+     * Consumer-scoped view of the shared scheduler, so scheduler profiling attributes
+     * tasks to this consumer. The consumer id is the owner when it is a plain id string
+     * (mod ids on Fabric/NeoForge), otherwise the consumer logger name. It shares the
+     * platform scheduler and is never closed here.
+     */
+    private final Scheduler consumerScheduler;
+
     public ConsumerView(
         @NotNull RapunzelContext shared,
         @NotNull Logger logger,
@@ -94,6 +103,10 @@ public final class ConsumerView implements RapunzelContext {
         this.consumerMessages = new YamlMessageFormatService(
             consumerConfigs, logger, dataDirectory.resolve("messages.yml"), "messages.yml"
         );
+        Scheduler sharedScheduler = shared.scheduler();
+        this.consumerScheduler = sharedScheduler instanceof ContextualScheduler contextual
+            ? contextual.forConsumer(this, owner.raw() instanceof String id ? id : logger.getName())
+            : sharedScheduler;
     }
 
     // -- Shared runtime (global) --------------------------------------------------
@@ -141,7 +154,7 @@ public final class ConsumerView implements RapunzelContext {
 
     @Override
     public @NotNull Scheduler scheduler() {
-        return shared.scheduler();
+        return consumerScheduler;
     }
 
     // -- Service registry (shared with platform) -----------------------------------
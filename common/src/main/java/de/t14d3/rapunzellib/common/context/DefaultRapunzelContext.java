@@ -7,6 +7,7 @@ import de.t14d3.rapunzellib.common.scheduler.ContextualScheduler;
 import de.t14d3.rapunzellib.runtime.PlatformRuntime;
 import de.t14d3.rapunzellib.runtime.RapunzelRuntime;
 import de.t14d3.rapunzellib.scheduler.Scheduler;
+import de.t14d3.rapunzellib.scheduler.SchedulerProfiler;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 
@@ -20,7 +21,9 @@ import java.util.Objects;
  * Default implementation of {@link RapunzelContext}.
  * <p>
  * Wires together the platform runtime, logging, data directory, resource provider,
- * and a contextual scheduler. Manages a list of closeable resources that are
+ * and a contextual scheduler. The scheduler reports to the runtime-wide
+ * {@link SchedulerProfiler}, registered as a service, under the logger name as
+ * consumer id. Manages a list of closeable resources that are
  * cleaned up in reverse registration order when the context is closed.
  */
 public final class DefaultRapunzelContext implements RapunzelContext {
@@ -58,7 +61,14 @@ public final class DefaultRapunzelContext implements RapunzelContext {
         this.logger = Objects.requireNonNull(logger, "logger");
         this.dataDirectory = Objects.requireNonNull(dataDirectory, "dataDirectory");
         this.resources = Objects.requireNonNull(resources, "resources");
-        this.scheduler = new ContextualScheduler(this, Objects.requireNonNull(scheduler, "scheduler"));
+        SchedulerProfiler profiler = sharedRuntime.getOrCreate(SchedulerProfiler.class, SchedulerProfiler::new);
+        services.register(SchedulerProfiler.class, profiler);
+        this.scheduler = new ContextualScheduler(
+            this,
+            Objects.requireNonNull(scheduler, "scheduler"),
+            logger.getName(),
+            profiler
+        );
         registerCloseable((AutoCloseable) this.scheduler);
     }
 
@@ -2,12 +2,19 @@ package de.t14d3.rapunzellib.common.scheduler;
 
 import de.t14d3.rapunzellib.Rapunzel;
 import de.t14d3.rapunzellib.context.RapunzelContext;
+import de.t14d3.rapunzellib.objects.REntity;
+import de.t14d3.rapunzellib.objects.RLocation;
+import de.t14d3.rapunzellib.objects.RWorldRef;
 import de.t14d3.rapunzellib.scheduler.ScheduledTask;
 import de.t14d3.rapunzellib.scheduler.Scheduler;
+import de.t14d3.rapunzellib.scheduler.SchedulerProfiler;
+import de.t14d3.rapunzellib.scheduler.TickWorkQueue;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.time.Duration;
 import java.util.Objects;
+import java.util.function.LongSupplier;
 
 /**
  * A scheduler wrapper that automatically binds each submitted task to a {@link RapunzelContext}.
@@ -16,14 +23,84 @@ import java.util.Objects;
  * {@link Rapunzel#context()} always returns the global context, so no explicit scoping
  * wrapping is needed. This class exists to implement {@link AutoCloseable} for cleanup
  * and to document the context association.</p>
+ * <p>
+ * When created with a {@link SchedulerProfiler}, tasks scheduled while the profiler is enabled are
+ * wrapped so their run time and queue-wait latency are reported under this scheduler's consumer id.
+ * Tasks scheduled while it is disabled are passed through unwrapped, and a wrapped task that runs
+ * while it is disabled only checks {@link SchedulerProfiler#enabled()} and never reads the clock.
+ * Work queue entries are not profiled here; {@link TickWorkQueue#stats()} already accounts them.</p>
  */
 public final class ContextualScheduler implements Scheduler, AutoCloseable {
     private final RapunzelContext context;
     private final Scheduler delegate;
+    private final String consumer;
+    private final @Nullable SchedulerProfiler profiler;
+    private final boolean ownsDelegate;
+    private final LongSupplier nanoClock;
 
     public ContextualScheduler(@NotNull RapunzelContext context, @NotNull Scheduler delegate) {
+        this(context, delegate, "", null, true, System::nanoTime);
+    }
+
+    /**
+     * Creates a profiled scheduler that owns (and closes) its delegate.
+     *
+     * @param context  the bound context
+     * @param delegate the platform scheduler
+     * @param consumer the consumer id tasks are accounted to
+     * @param profiler the shared profiler
+     */
+    public ContextualScheduler(
+        @NotNull RapunzelContext context,
+        @NotNull Scheduler delegate,
+        @NotNull String consumer,
+        @NotNull SchedulerProfiler profiler
+    ) {
+        this(context, delegate, consumer, Objects.requireNonNull(profiler, "profiler"), true, System::nanoTime);
+    }
+
+    /** Creates a profiled scheduler with an explicit monotonic clock, for tests. */
+    ContextualScheduler(
+        @NotNull RapunzelContext context,
+        @NotNull Scheduler delegate,
+        @NotNull String consumer,
+        @NotNull SchedulerProfiler profiler,
+        @NotNull LongSupplier nanoClock
+    ) {
+        this(context, delegate, consumer, Objects.requireNonNull(profiler, "profiler"), true, nanoClock);
+    }
+
+    private ContextualScheduler(
+        RapunzelContext context,
+        Scheduler delegate,
+        String consumer,
+        @Nullable SchedulerProfiler profiler,
+        boolean ownsDelegate,
+        LongSupplier nanoClock
+    ) {
         this.context = Objects.requireNonNull(context, "context");
         this.delegate = Objects.requireNonNull(delegate, "delegate");
+        this.consumer = Objects.requireNonNull(consumer, "consumer");
+        this.profiler = profiler;
+        this.ownsDelegate = ownsDelegate;
+        this.nanoClock = Objects.requireNonNull(nanoClock, "nanoClock");
+    }
+
+    /**
+     * Returns a scheduler for another consumer that shares this scheduler's delegate and profiler.
+     * Closing the returned scheduler does not close the shared delegate.
+     *
+     * @param consumerContext the consumer's context
+     * @param consumer        the consumer id tasks are accounted to
+     * @return the consumer-scoped scheduler
+     */
+    public @NotNull ContextualScheduler forConsumer(@NotNull RapunzelContext consumerContext, @NotNull String consumer) {
+        return new ContextualScheduler(consumerContext, delegate, consumer, profiler, false, nanoClock);
+    }
+
+    /** Returns the consumer id tasks of this scheduler are accounted to. */
+    public @NotNull String consumer() {
+        return consumer;
     }
 
     /**
@@ -34,12 +111,12 @@ public final class ContextualScheduler implements Scheduler, AutoCloseable {
      */
     @Override
     public @NotNull ScheduledTask run(@NotNull Runnable task) {
-        return delegate.run(task);
+        return delegate.run(profiled(task, 0L, 0L, false));
     }
 
     @Override
     public @NotNull ScheduledTask runAsync(@NotNull Runnable task) {
-        return delegate.runAsync(task);
+        return delegate.runAsync(profiled(task, 0L, 0L, false));
     }
 
     /**
@@ -51,28 +128,144 @@ public final class ContextualScheduler implements Scheduler, AutoCloseable {
      */
     @Override
     public @NotNull ScheduledTask runLater(@NotNull Duration delay, @NotNull Runnable task) {
-        return delegate.runLater(delay, task);
+        return delegate.runLater(delay, profiled(task, nanos(delay), 0L, false));
     }
 
     @Override
     public @NotNull ScheduledTask runLaterAsync(@NotNull Duration delay, @NotNull Runnable task) {
-        return delegate.runLaterAsync(delay, task);
+        return delegate.runLaterAsync(delay, profiled(task, nanos(delay), 0L, false));
     }
 
     @Override
     public @NotNull ScheduledTask runRepeating(@NotNull Duration initialDelay, @NotNull Duration period, @NotNull Runnable task) {
-        return delegate.runRepeating(initialDelay, period, task);
+        return delegate.runRepeating(initialDelay, period, profiled(task, nanos(initialDelay), nanos(period), false));
     }
 
     @Override
     public @NotNull ScheduledTask runRepeatingAsync(@NotNull Duration initialDelay, @NotNull Duration period, @NotNull Runnable task) {
-        return delegate.runRepeatingAsync(initialDelay, period, task);
+        return delegate.runRepeatingAsync(initialDelay, period, profiled(task, nanos(initialDelay), nanos(period), false));
+    }
+
+    @Override
+    public @NotNull ScheduledTask runNextTick(@NotNull Runnable task) {
+        return delegate.runNextTick(profiled(task, TICK.toNanos(), 0L, true));
+    }
+
+    @Override
+    public @NotNull ScheduledTask runEveryTicks(long initialDelayTicks, long periodTicks, @NotNull Runnable task) {
+        return delegate.runEveryTicks(
+            initialDelayTicks,
+            periodTicks,
+            profiled(task, TICK.toNanos() * Math.max(0L, initialDelayTicks), TICK.toNanos() * Math.max(1L, periodTicks), true)
+        );
+    }
+
+    @Override
+    public @NotNull ScheduledTask runAt(@NotNull RWorldRef world, int chunkX, int chunkZ, @NotNull Runnable task) {
+        return delegate.runAt(world, chunkX, chunkZ, profiled(task, 0L, 0L, false));
+    }
+
+    @Override
+    public @NotNull ScheduledTask runAt(@NotNull RLocation location, @NotNull Runnable task) {
+        return delegate.runAt(location, profiled(task, 0L, 0L, false));
+    }
+
+    @Override
+    public @NotNull ScheduledTask runFor(@NotNull REntity entity, @NotNull Runnable task) {
+        return delegate.runFor(entity, profiled(task, 0L, 0L, false));
+    }
+
+    @Override
+    public @NotNull ScheduledTask runGlobal(@NotNull Runnable task) {
+        return delegate.runGlobal(profiled(task, 0L, 0L, false));
+    }
+
+    @Override
+    public @NotNull TickWorkQueue workQueue() {
+        return delegate.workQueue();
     }
 
     @Override
     public void close() throws Exception {
-        if (delegate instanceof AutoCloseable closeable) {
+        if (ownsDelegate && delegate instanceof AutoCloseable closeable) {
             closeable.close();
         }
     }
+
+    private Runnable profiled(Runnable task, long delayNanos, long periodNanos, boolean tickPeriod) {
+        Objects.requireNonNull(task, "task");
+        if (profiler == null || !profiler.enabled()) return task;
+        return new ProfiledTask(profiler, consumer, task, nanoClock, nanoClock.getAsLong() + delayNanos, periodNanos, tickPeriod);
+    }
+
+    private static long nanos(Duration duration) {
+        return duration == null ? 0L : Math.max(0L, duration.toNanos());
+    }
+
+    /**
+     * Measures a task run. Wall-clock repeating tasks advance their nominal due time by the period
+     * after every run, so their wait latency is measured against the fixed-rate schedule. Tick
+     * tasks are re-anchored to the actual run instead: tick schedulers never catch up on missed
+     * ticks, so a fixed-rate due time would report lag that grows with every slow tick. A tick task
+     * that ran while profiling was disabled has no anchor, so its next profiled run only re-anchors.
+     */
+    private static final class ProfiledTask implements Runnable {
+        private final SchedulerProfiler profiler;
+        private final String consumer;
+        private final Runnable task;
+        private final LongSupplier nanoClock;
+        private final long periodNanos;
+        private final boolean tickPeriod;
+        private String label;
+        private long dueNanos;
+        private boolean unanchored;
+
+        private ProfiledTask(
+            SchedulerProfiler profiler,
+            String consumer,
+            Runnable task,
+            LongSupplier nanoClock,
+            long dueNanos,
+            long periodNanos,
+            boolean tickPeriod
+        ) {
+            this.profiler = profiler;
+            this.consumer = consumer;
+            this.task = task;
+            this.nanoClock = nanoClock;
+            this.dueNanos = dueNanos;
+            this.periodNanos = periodNanos;
+            this.tickPeriod = tickPeriod;
+        }
+
+        @Override
+        public void run() {
+            long due = dueNanos;
+            if (!profiler.enabled()) {
+                if (tickPeriod) {
+                    unanchored = true;
+                } else {
+                    dueNanos = due + periodNanos;
+                }
+                task.run();
+                return;
+            }
+            long start = nanoClock.getAsLong();
+            dueNanos = (tickPeriod ? start : due) + periodNanos;
+            if (unanchored) {
+                unanchored = false;
+                task.run();
+                return;
+            }
+            try {
+                task.run();
+            } finally {
+                long end = nanoClock.getAsLong();
+                if (label == null) {
+                    label = SchedulerProfiler.labelOf(task);
+                }
+                profiler.record(consumer, label, start - due, end - start);
+            }
+        }
+    }
 }
@@ -1,11 +1,17 @@
 package de.t14d3.rapunzellib.common.attachments;
 
+import de.t14d3.rapunzellib.attachments.AttachmentStorageSupport;
 import de.t14d3.rapunzellib.attachments.RAttachmentContainer;
 import de.t14d3.rapunzellib.attachments.RAttachmentKey;
 import de.t14d3.rapunzellib.attachments.RAttachmentScope;
 import de.t14d3.rapunzellib.nbt.RNbtCompound;
+import de.t14d3.rapunzellib.nbt.RNbtPrimitive;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -30,6 +36,117 @@ final class DefaultAttachmentContainerTest {
         assertFalse(container.transientEntries().isEmpty());
     }
 
+    @Test
+    void persistentReadsAreServedFromDecodedCache() {
+        CountingContainer container = new CountingContainer(null);
+        RAttachmentKey<Integer> key = RAttachmentKey.persistent("test:counter", Integer.class);
+        container.root = RNbtCompound.empty().put("test:counter", RNbtPrimitive.ofInt(3));
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(3, container.get(key).orElseThrow());
+        }
+
+        assertEquals(1, container.loads);
+        assertEquals(0, container.saves);
+    }
+
+    @Test
+    void deferredWritesAreBatchedIntoOneSave() {
+        List<Runnable> tickEnd = new ArrayList<>();
+        CountingContainer container = new CountingContainer(tickEnd::add);
+        RAttachmentKey<Integer> counter = RAttachmentKey.persistent("test:counter", Integer.class);
+        RAttachmentKey<String> name = RAttachmentKey.persistent("test:name", String.class);
+
+        for (int i = 1; i <= 10; i++) {
+            container.put(counter, i);
+        }
+        container.put(name, "alex");
+        container.remove(name);
+
+        assertEquals(10, container.get(counter).orElseThrow());
+        assertEquals(0, container.saves);
+        assertEquals(1, tickEnd.size());
+        assertEquals(12L, container.version());
+        assertTrue(container.hasPendingWrites());
+
+        tickEnd.forEach(Runnable::run);
+
+        assertEquals(1, container.saves);
+        assertFalse(container.hasPendingWrites());
+        assertEquals(RNbtPrimitive.ofInt(10), container.root.get("test:counter").orElseThrow());
+        assertFalse(container.root.contains("test:name"));
+    }
+
+    @Test
+    void changedSessionStampReloadsRoot() {
+        CountingContainer container = new CountingContainer(null);
+        RAttachmentKey<Integer> key = RAttachmentKey.persistent("test:counter", Integer.class);
+        container.put(key, 1);
+
+        container.stamp = new Object();
+        container.root = RNbtCompound.empty().put("test:counter", RNbtPrimitive.ofInt(5));
+
+        assertEquals(5, container.get(key).orElseThrow());
+        assertEquals(1, container.saves);
+    }
+
+    @Test
+    void pendingWritesAreMergedIntoAnExternallyEditedRoot() {
+        List<Runnable> tickEnd = new ArrayList<>();
+        CountingContainer container = new CountingContainer(tickEnd::add);
+        container.stampOnSave = true;
+        RAttachmentKey<Integer> ours = RAttachmentKey.persistent("test:ours", Integer.class);
+        RAttachmentKey<String> theirs = RAttachmentKey.persistent("test:theirs", String.class);
+        container.put(ours, 1);
+
+        container.stamp = new Object();
+        container.root = RNbtCompound.empty().put("test:theirs", RNbtPrimitive.ofString("edited"));
+        tickEnd.forEach(Runnable::run);
+
+        assertEquals(1, container.saves);
+        assertEquals(RNbtPrimitive.ofInt(1), container.root.get("test:ours").orElseThrow());
+        assertEquals(RNbtPrimitive.ofString("edited"), container.root.get("test:theirs").orElseThrow());
+        int loads = container.loads;
+        assertEquals("edited", container.get(theirs).orElseThrow());
+        assertEquals(1, container.get(ours).orElseThrow());
+        assertEquals(loads, container.loads);
+    }
+
+    @Test
+    void equalSessionStampsKeepTheCache() {
+        CountingContainer container = new CountingContainer(null);
+        RAttachmentKey<Integer> key = RAttachmentKey.persistent("test:counter", Integer.class);
+        container.root = RNbtCompound.empty().put("test:counter", RNbtPrimitive.ofInt(3));
+        container.stamp = List.of("snapshot");
+        assertEquals(3, container.get(key).orElseThrow());
+
+        container.stamp = new ArrayList<>(List.of("snapshot"));
+        assertEquals(3, container.get(key).orElseThrow());
+        assertEquals(1, container.loads);
+
+        container.stamp = List.of("edited");
+        container.root = RNbtCompound.empty().put("test:counter", RNbtPrimitive.ofInt(4));
+        assertEquals(4, container.get(key).orElseThrow());
+        assertEquals(2, container.loads);
+    }
+
+    @Test
+    void invalidateFlushesPendingWritesAndReloads() {
+        List<Runnable> tickEnd = new ArrayList<>();
+        CountingContainer container = new CountingContainer(tickEnd::add);
+        RAttachmentKey<byte[]> key = RAttachmentKey.persistent("test:bytes", byte[].class);
+        byte[] value = {1, 2, 3};
+        container.put(key, value);
+        value[0] = 9;
+        container.get(key).orElseThrow()[1] = 9;
+
+        container.invalidate();
+
+        assertEquals(1, container.saves);
+        assertArrayEquals(new byte[] {1, 2, 3}, container.get(key).orElseThrow());
+        assertEquals(2, container.loads);
+    }
+
     private static final class TestContainer extends DefaultAttachmentContainer {
         private RNbtCompound root = RNbtCompound.empty();
 
@@ -38,4 +155,41 @@ final class DefaultAttachmentContainerTest {
             return PersistentAttachmentSession.of(() -> root, updated -> TestContainer.this.root = updated);
         }
     }
+
+    private static final class CountingContainer extends DefaultAttachmentContainer {
+        private RNbtCompound root = RNbtCompound.empty();
+        private Object stamp;
+        private boolean stampOnSave;
+        private int loads;
+        private int saves;
+
+        private CountingContainer(Executor flushExecutor) {
+            super(AttachmentStorageSupport.TRANSIENT_AND_PERSISTENT, flushExecutor);
+        }
+
+        @Override
+        protected PersistentAttachmentSession openSession() {
+            return new PersistentAttachmentSession() {
+                @Override
+                public RNbtCompound load() {
+                    loads++;
+                    return root;
+                }
+
+                @Override
+                public void save(RNbtCompound updated) {
+                    saves++;
+                    root = updated;
+                    if (stampOnSave) {
+                        stamp = new Object();
+                    }
+                }
+
+                @Override
+                public Object stamp() {
+                    return stamp;
+                }
+            };
+        }
+    }
 }
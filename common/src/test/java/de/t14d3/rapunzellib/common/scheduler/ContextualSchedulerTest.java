@@ -0,0 +1,337 @@
+package de.t14d3.rapunzellib.common.scheduler;
+
+import de.t14d3.rapunzellib.PlatformId;
+import de.t14d3.rapunzellib.Rapunzel;
+import de.t14d3.rapunzellib.common.bootstrap.BootstrapServices;
+import de.t14d3.rapunzellib.common.context.ConsumerView;
+import de.t14d3.rapunzellib.context.RapunzelContext;
+import de.t14d3.rapunzellib.objects.REntity;
+import de.t14d3.rapunzellib.objects.RKey;
+import de.t14d3.rapunzellib.objects.RLocation;
+import de.t14d3.rapunzellib.objects.RWorldRef;
+import de.t14d3.rapunzellib.runtime.EngineFamily;
+import de.t14d3.rapunzellib.runtime.LifecycleOwner;
+import de.t14d3.rapunzellib.scheduler.ScheduledTask;
+import de.t14d3.rapunzellib.scheduler.Scheduler;
+import de.t14d3.rapunzellib.scheduler.SchedulerProfiler;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Proxy;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class ContextualSchedulerTest {
+    @BeforeEach
+    void resetRuntime() throws Exception {
+        Rapunzel.sharedRuntime().shutdown();
+    }
+
+    @Test
+    void recordsNothingWhileProfilerIsDisabled() {
+        RapunzelContext context = createContext("platform");
+        SchedulerProfiler profiler = context.services().get(SchedulerProfiler.class);
+        AtomicInteger ran = new AtomicInteger();
+
+        context.scheduler().run(ran::incrementAndGet);
+
+        assertEquals(1, ran.get());
+        assertTrue(profiler.taskStats().isEmpty());
+    }
+
+    @Test
+    void attributesTasksToConsumerAndLabel() {
+        RapunzelContext platform = createContext("platform");
+        ConsumerView consumer = new ConsumerView(
+            platform,
+            LoggerFactory.getLogger("consumer-plugin"),
+            Path.of("."),
+            path -> Optional.empty(),
+            new LifecycleOwner("consumer-plugin")
+        );
+        SchedulerProfiler profiler = platform.services().get(SchedulerProfiler.class);
+        assertSame(profiler, consumer.services().get(SchedulerProfiler.class));
+        profiler.enabled(true);
+
+        platform.scheduler().run(Scheduler.labelled("platform-task", () -> {
+        }));
+        consumer.scheduler().runRepeating(Duration.ZERO, Duration.ofMillis(50L), Scheduler.labelled("autosave", () -> {
+        }));
+        consumer.scheduler().runAsync(Scheduler.labelled("autosave", () -> {
+        }));
+
+        List<SchedulerProfiler.TaskStats> stats = profiler.taskStats();
+        assertEquals(2, stats.size());
+        SchedulerProfiler.TaskStats autosave = stats.stream()
+            .filter(task -> task.label().equals("autosave"))
+            .findFirst()
+            .orElseThrow();
+        assertEquals("consumer-plugin", autosave.consumer());
+        assertEquals(2L, autosave.runs());
+        assertEquals(2L, autosave.waitLatency().count());
+        SchedulerProfiler.TaskStats platformTask = stats.stream()
+            .filter(task -> task.label().equals("platform-task"))
+            .findFirst()
+            .orElseThrow();
+        assertEquals(platform.logger().getName(), platformTask.consumer());
+        assertEquals(1L, platformTask.runs());
+    }
+
+    @Test
+    void unlabelledTasksAreReportedByDeclaringClass() {
+        RapunzelContext context = createContext("platform");
+        SchedulerProfiler profiler = context.services().get(SchedulerProfiler.class);
+        profiler.enabled(true);
+
+        context.scheduler().run(() -> {
+        });
+
+        String label = profiler.taskStats().get(0).label();
+        assertEquals(ContextualSchedulerTest.class.getName(), label);
+    }
+
+    @Test
+    void tickTaskWaitLatencyIsMeasuredFromTheLastRun() throws Exception {
+        RapunzelContext context = createContext("platform");
+        SchedulerProfiler profiler = context.services().get(SchedulerProfiler.class);
+        profiler.enabled(true);
+        AtomicLong clock = new AtomicLong();
+        List<Runnable> ticking = new ArrayList<>();
+        Scheduler capturing = new ForwardingScheduler() {
+            @Override
+            public @NotNull ScheduledTask runEveryTicks(long initialDelayTicks, long periodTicks, @NotNull Runnable task) {
+                ticking.add(task);
+                return NoopTask.INSTANCE;
+            }
+        };
+
+        try (ContextualScheduler scheduler = new ContextualScheduler(context, capturing, "lagging", profiler, clock::get)) {
+            scheduler.runEveryTicks(1L, 1L, Scheduler.labelled("every-tick", () -> {
+            }));
+            // A server at 16 TPS runs the task every 62.5 ms instead of every 50 ms.
+            for (int run = 0; run < 20; run++) {
+                clock.addAndGet(62_500_000L);
+                ticking.get(0).run();
+            }
+        }
+
+        SchedulerProfiler.TaskStats stats = profiler.taskStats().stream()
+            .filter(task -> task.label().equals("every-tick"))
+            .findFirst()
+            .orElseThrow();
+        assertEquals(20L, stats.waitLatency().count());
+        assertEquals(12_500_000L, stats.waitLatency().max());
+    }
+
+    @Test
+    void disabledProfilerNeitherWrapsTasksNorReadsTheClock() throws Exception {
+        RapunzelContext context = createContext("platform");
+        SchedulerProfiler profiler = context.services().get(SchedulerProfiler.class);
+        AtomicLong clock = new AtomicLong();
+        AtomicInteger clockReads = new AtomicInteger();
+        List<Runnable> ticking = new ArrayList<>();
+        Scheduler capturing = new ForwardingScheduler() {
+            @Override
+            public @NotNull ScheduledTask runEveryTicks(long initialDelayTicks, long periodTicks, @NotNull Runnable task) {
+                ticking.add(task);
+                return NoopTask.INSTANCE;
+            }
+        };
+
+        try (ContextualScheduler scheduler = new ContextualScheduler(context, capturing, "toggled", profiler, () -> {
+            clockReads.incrementAndGet();
+            return clock.get();
+        })) {
+            Runnable plain = () -> {
+            };
+            scheduler.runEveryTicks(1L, 1L, plain);
+            assertSame(plain, ticking.get(0));
+            assertEquals(0, clockReads.get());
+
+            profiler.enabled(true);
+            scheduler.runEveryTicks(1L, 1L, Scheduler.labelled("toggled-task", () -> {
+            }));
+            profiler.enabled(false);
+            int readsAtSchedule = clockReads.get();
+            for (int run = 0; run < 5; run++) {
+                clock.addAndGet(50_000_000L);
+                ticking.get(1).run();
+            }
+            assertEquals(readsAtSchedule, clockReads.get());
+
+            // The first profiled run after re-enabling only re-anchors the due time.
+            profiler.enabled(true);
+            clock.addAndGet(50_000_000L);
+            ticking.get(1).run();
+            clock.addAndGet(60_000_000L);
+            ticking.get(1).run();
+        }
+
+        SchedulerProfiler.TaskStats stats = profiler.taskStats().stream()
+            .filter(task -> task.label().equals("toggled-task"))
+            .findFirst()
+            .orElseThrow();
+        assertEquals(1L, stats.runs());
+        assertEquals(10_000_000L, stats.waitLatency().max());
+    }
+
+    @Test
+    void regionMethodsAreForwardedToTheDelegate() throws Exception {
+        RapunzelContext context = createContext("platform");
+        SchedulerProfiler profiler = context.services().get(SchedulerProfiler.class);
+        profiler.enabled(true);
+        RWorldRef world = new RWorldRef(null, RKey.of("minecraft", "overworld"));
+        REntity entity = (REntity) Proxy.newProxyInstance(
+            REntity.class.getClassLoader(),
+            new Class<?>[]{REntity.class},
+            (proxy, method, args) -> {
+                throw new UnsupportedOperationException(method.getName());
+            }
+        );
+        List<String> routed = new ArrayList<>();
+        Scheduler regionized = new ForwardingScheduler() {
+            @Override
+            public @NotNull ScheduledTask run(@NotNull Runnable task) {
+                routed.add("run");
+                return super.run(task);
+            }
+
+            @Override
+            public @NotNull ScheduledTask runAt(@NotNull RWorldRef target, int chunkX, int chunkZ, @NotNull Runnable task) {
+                routed.add("chunk " + chunkX + "," + chunkZ);
+                return super.run(task);
+            }
+
+            @Override
+            public @NotNull ScheduledTask runAt(@NotNull RLocation location, @NotNull Runnable task) {
+                routed.add("location");
+                return super.run(task);
+            }
+
+            @Override
+            public @NotNull ScheduledTask runFor(@NotNull REntity target, @NotNull Runnable task) {
+                routed.add(target == entity ? "entity" : "other entity");
+                return super.run(task);
+            }
+
+            @Override
+            public @NotNull ScheduledTask runGlobal(@NotNull Runnable task) {
+                routed.add("global");
+                return super.run(task);
+            }
+        };
+
+        try (ContextualScheduler scheduler = new ContextualScheduler(context, regionized, "regions", profiler)) {
+            scheduler.runAt(world, 3, -7, Scheduler.labelled("region-task", () -> {
+            }));
+            scheduler.runAt(RLocation.of(world, 8.0, 64.0, 8.0), Scheduler.labelled("region-task", () -> {
+            }));
+            scheduler.runFor(entity, Scheduler.labelled("region-task", () -> {
+            }));
+            scheduler.runGlobal(Scheduler.labelled("region-task", () -> {
+            }));
+        }
+
+        assertEquals(List.of("chunk 3,-7", "location", "entity", "global"), routed);
+        SchedulerProfiler.TaskStats stats = profiler.taskStats().stream()
+            .filter(task -> task.label().equals("region-task"))
+            .findFirst()
+            .orElseThrow();
+        assertEquals(4L, stats.runs());
+    }
+
+    private static RapunzelContext createContext(String loggerName) {
+        return BootstrapServices.createContext(
+            BootstrapServices.serverRuntime(PlatformId.PAPER, EngineFamily.MOJANG_SERVER, new Object()),
+            LoggerFactory.getLogger(loggerName),
+            Path.of("."),
+            path -> Optional.empty(),
+            InlineScheduler.INSTANCE
+        );
+    }
+
+    private enum InlineScheduler implements Scheduler {
+        INSTANCE;
+
+        @Override
+        public @NotNull ScheduledTask run(@NotNull Runnable task) {
+            task.run();
+            return NoopTask.INSTANCE;
+        }
+
+        @Override
+        public @NotNull ScheduledTask runAsync(@NotNull Runnable task) {
+            task.run();
+            return NoopTask.INSTANCE;
+        }
+
+        @Override
+        public @NotNull ScheduledTask runLater(@NotNull Duration delay, @NotNull Runnable task) {
+            task.run();
+            return NoopTask.INSTANCE;
+        }
+
+        @Override
+        public @NotNull ScheduledTask runRepeating(@NotNull Duration initialDelay, @NotNull Duration period, @NotNull Runnable task) {
+            task.run();
+            return NoopTask.INSTANCE;
+        }
+
+        @Override
+        public @NotNull ScheduledTask runRepeatingAsync(@NotNull Duration initialDelay, @NotNull Duration period, @NotNull Runnable task) {
+            task.run();
+            return NoopTask.INSTANCE;
+        }
+    }
+
+    private static class ForwardingScheduler implements Scheduler {
+        @Override
+        public @NotNull ScheduledTask run(@NotNull Runnable task) {
+            return InlineScheduler.INSTANCE.run(task);
+        }
+
+        @Override
+        public @NotNull ScheduledTask runAsync(@NotNull Runnable task) {
+            return InlineScheduler.INSTANCE.runAsync(task);
+        }
+
+        @Override
+        public @NotNull ScheduledTask runLater(@NotNull Duration delay, @NotNull Runnable task) {
+            return InlineScheduler.INSTANCE.runLater(delay, task);
+        }
+
+        @Override
+        public @NotNull ScheduledTask runRepeating(@NotNull Duration initialDelay, @NotNull Duration period, @NotNull Runnable task) {
+            return InlineScheduler.INSTANCE.runRepeating(initialDelay, period, task);
+        }
+
+        @Override
+        public @NotNull ScheduledTask runRepeatingAsync(@NotNull Duration initialDelay, @NotNull Duration period, @NotNull Runnable task) {
+            return InlineScheduler.INSTANCE.runRepeatingAsync(initialDelay, period, task);
+        }
+    }
+
+    private enum NoopTask implements ScheduledTask {
+        INSTANCE;
+
+        @Override
+        public void cancel() {
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return false;
+        }
+    }
+}
@@ -1,25 +1,103 @@
 package de.t14d3.rapunzellib.database;
 
 import de.t14d3.spool.core.EntityManager;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 
 import java.sql.Connection;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 /**
  * Thread-safe database wrapper backed by the Spool ORM.
  * <p>
- * Relies on Spool's {@link EntityManager} having thread-safe, queue-based internals:
- * persist/remove are lock-free, find/flush synchronize only on the JDBC connection.
+ * Work is split into two lanes:
+ * </p>
+ * <ul>
+ *     <li>the <b>write lane</b> is a single thread that runs {@link #runAsync}, {@link #supplyAsync} and
+ *     {@link #flushAsync} in submission order against the primary {@link #entityManager()};</li>
+ *     <li>the <b>read lane</b> runs {@link #readAsync} on a pool of threads, each borrowing its own
+ *     reader {@link EntityManager} (and therefore its own JDBC connection), so a slow write does not
+ *     hold up reads.</li>
+ * </ul>
+ * <p>
+ * The primary entity manager is guarded by a lock: write-lane tasks, {@link #flush()},
+ * {@link #transactional} and {@link #runLocked}/{@link #locked} callers on other threads are mutually
+ * exclusive. Writes are usually submitted fire-and-forget from the server thread, so the write
+ * lane's queue is unbounded: a backlog neither drops writes nor blocks the submitter. Its depth and
+ * peak are reported in {@link #stats()}, and a warning is logged when the backlog grows past the
+ * {@linkplain Builder#queueCapacity queue capacity}. The read lane's queue is bounded; when it is
+ * full the returned future fails with a {@link RejectedExecutionException} and the rejection is
+ * counted.
+ * </p>
+ * <p>
+ * Reader entity managers keep their own identity maps. Treat entities returned from {@link #readAsync}
+ * as read-only snapshots and do not persist them through the primary entity manager. Private in-memory
+ * databases ({@code jdbc:h2:mem:}, {@code jdbc:sqlite::memory:}) cannot be opened twice, so for those
+ * URLs reads run on the write lane instead.
  * </p>
  */
 public final class SpoolDatabase implements AutoCloseable {
+    public static final int DEFAULT_READ_POOL_SIZE = 2;
+    public static final int DEFAULT_QUEUE_CAPACITY = 10_000;
+    public static final Duration DEFAULT_SLOW_TASK_THRESHOLD = Duration.ofSeconds(10);
+
+    private static final long CLOSE_TIMEOUT_MILLIS = 5_000L;
+
+    /**
+     * Snapshot of one execution lane.
+     *
+     * @param lane          the lane name ({@code write} or {@code read})
+     * @param threads       number of worker threads
+     * @param active        number of tasks currently running
+     * @param queued        number of tasks waiting in the queue
+     * @param queueCapacity maximum number of queued read tasks; for the write lane, the backlog size
+     *                      above which a warning is logged
+     * @param peakQueued    highest queue depth observed
+     * @param completed     number of finished tasks, successful or not
+     * @param rejected      number of submissions rejected because the queue was full
+     * @param slowTasks     number of tasks that ran longer than the slow task threshold
+     */
+    public record LaneStats(
+        @NotNull String lane,
+        int threads,
+        int active,
+        int queued,
+        int queueCapacity,
+        int peakQueued,
+        long completed,
+        long rejected,
+        long slowTasks
+    ) {
+    }
+
+    /**
+     * Snapshot of both lanes.
+     *
+     * @param write the write lane
+     * @param read  the read lane, or {@code null} if reads run on the write lane
+     */
+    public record Stats(@NotNull LaneStats write, @Nullable LaneStats read) {
+    }
 
     public static Builder builder() {
         return new Builder();
@@ -34,12 +112,25 @@ public final class SpoolDatabase implements AutoCloseable {
     }
 
     private final EntityManager entityManager;
-    private final ExecutorService flushExecutor;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Lane writeLane;
+    private final @Nullable Lane readLane;
+    private final BlockingQueue<EntityManager> readers;
+    private final List<EntityManager> allReaders;
     private final Logger logger;
 
-    private SpoolDatabase(EntityManager entityManager, ExecutorService flushExecutor, Logger logger) {
+    private SpoolDatabase(
+        EntityManager entityManager,
+        List<EntityManager> readers,
+        Lane writeLane,
+        @Nullable Lane readLane,
+        Logger logger
+    ) {
         this.entityManager = Objects.requireNonNull(entityManager, "entityManager");
-        this.flushExecutor = Objects.requireNonNull(flushExecutor, "flushExecutor");
+        this.allReaders = List.copyOf(readers);
+        this.readers = new ArrayBlockingQueue<>(Math.max(1, readers.size()), false, readers);
+        this.writeLane = Objects.requireNonNull(writeLane, "writeLane");
+        this.readLane = readLane;
         this.logger = Objects.requireNonNull(logger, "logger");
     }
 
@@ -49,38 +140,54 @@ public final class SpoolDatabase implements AutoCloseable {
 
     public void runLocked(Runnable runnable) {
         Objects.requireNonNull(runnable, "runnable");
-        runnable.run();
+        lock.lock();
+        try {
+            runnable.run();
+        } finally {
+            lock.unlock();
+        }
     }
 
     public <T> T locked(Supplier<T> supplier) {
         Objects.requireNonNull(supplier, "supplier");
-        return supplier.get();
+        lock.lock();
+        try {
+            return supplier.get();
+        } finally {
+            lock.unlock();
+        }
     }
 
     public void flush() {
         try {
-            entityManager.flush();
+            runLocked(entityManager::flush);
         } catch (Exception e) {
             logger.error("DB flush failed", e);
         }
     }
 
     public CompletableFuture<Void> flushAsync() {
-        return CompletableFuture.runAsync(this::flush, flushExecutor);
+        return writeLane.submit(() -> {
+            flush();
+            return null;
+        });
     }
 
     public CompletableFuture<Void> runAsync(Runnable runnable) {
         if (runnable == null) {
             return CompletableFuture.completedFuture(null);
         }
-        return CompletableFuture.runAsync(runnable, flushExecutor);
+        return writeLane.submit(() -> {
+            runLocked(runnable);
+            return null;
+        });
     }
 
     public <T> CompletableFuture<T> supplyAsync(Supplier<T> supplier) {
         if (supplier == null) {
             return CompletableFuture.completedFuture(null);
         }
-        return CompletableFuture.supplyAsync(supplier, flushExecutor);
+        return writeLane.submit(() -> locked(supplier));
     }
 
     public CompletableFuture<Void> runLockedAsync(Runnable runnable) {
@@ -91,17 +198,78 @@ public final class SpoolDatabase implements AutoCloseable {
         return supplyAsync(supplier);
     }
 
+    /**
+     * Runs a read-only query on the read lane with a reader entity manager.
+     * <p>
+     * Reads see committed rows only; pending writes of the primary entity manager must be flushed
+     * first. If the database has no separate readers, the query runs on the write lane against the
+     * primary entity manager.
+     * </p>
+     *
+     * @param reader the query
+     * @param <T>    the result type
+     * @return the query result
+     */
+    public <T> CompletableFuture<T> readAsync(Function<EntityManager, T> reader) {
+        if (reader == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        if (readLane == null) {
+            return writeLane.submit(() -> locked(() -> reader.apply(entityManager)));
+        }
+        return readLane.submit(() -> {
+            EntityManager borrowed;
+            try {
+                borrowed = readers.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CompletionException(e);
+            }
+            try {
+                return reader.apply(borrowed);
+            } finally {
+                readers.add(borrowed);
+            }
+        });
+    }
+
     public void transactional(Runnable work) {
-        entityManager.transactional(work);
+        runLocked(() -> entityManager.transactional(work));
     }
 
     public <T> T transactional(Supplier<T> work) {
-        return entityManager.transactional(work);
+        return locked(() -> entityManager.transactional(work));
+    }
+
+    /** Returns a snapshot of the lane queues and counters. */
+    public @NotNull Stats stats() {
+        return new Stats(writeLane.stats(), readLane == null ? null : readLane.stats());
     }
 
     @Override
     public void close() {
-        flushExecutor.shutdown();
+        if (readLane != null) {
+            readLane.executor.shutdown();
+        }
+        writeLane.executor.shutdown();
+        try {
+            if (!writeLane.executor.awaitTermination(CLOSE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                logger.warn("DB write lane did not drain within {}ms; {} task(s) still queued",
+                    CLOSE_TIMEOUT_MILLIS, writeLane.executor.getQueue().size());
+            }
+            if (readLane != null) {
+                readLane.executor.awaitTermination(CLOSE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (EntityManager reader : allReaders) {
+            closeConnection(reader, logger);
+        }
+        closeConnection(entityManager, logger);
+    }
+
+    private static void closeConnection(EntityManager entityManager, Logger logger) {
         try {
             Connection conn = entityManager.getExecutor().getConnection();
             if (conn != null) conn.close();
@@ -110,6 +278,27 @@ public final class SpoolDatabase implements AutoCloseable {
         }
     }
 
+    /**
+     * Whether every connection to the URL opens a separate, empty database, so reader connections
+     * would not see the primary's data.
+     */
+    static boolean isPrivateInMemory(String jdbcUrl) {
+        String url = jdbcUrl.toLowerCase(Locale.ROOT);
+        if (url.startsWith("jdbc:h2:mem:")) {
+            String name = url.substring("jdbc:h2:mem:".length());
+            int options = name.indexOf(';');
+            return (options < 0 ? name : name.substring(0, options)).isBlank();
+        }
+        if (url.startsWith("jdbc:sqlite:")) {
+            String path = url.substring("jdbc:sqlite:".length());
+            if (path.isBlank() || path.startsWith(":memory:")) {
+                return true;
+            }
+            return path.contains("mode=memory") && !path.contains("cache=shared");
+        }
+        return false;
+    }
+
     public static final class Builder {
         private static final AtomicInteger DB_THREAD_IDS = new AtomicInteger();
 
@@ -118,11 +307,19 @@ public final class SpoolDatabase implements AutoCloseable {
         private Class<?>[] entities = new Class<?>[0];
         private boolean updateSchema = true;
         private boolean validateSchema = true;
+        private int readPoolSize = DEFAULT_READ_POOL_SIZE;
+        private int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+        private Duration slowTaskThreshold = DEFAULT_SLOW_TASK_THRESHOLD;
         private ThreadFactory flushThreadFactory = r -> {
             Thread t = new Thread(r, "RapunzelLib-DBFlush-" + DB_THREAD_IDS.incrementAndGet());
             t.setDaemon(true);
             return t;
         };
+        private ThreadFactory readThreadFactory = r -> {
+            Thread t = new Thread(r, "RapunzelLib-DBRead-" + DB_THREAD_IDS.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
 
         private Builder() {
         }
@@ -152,11 +349,50 @@ public final class SpoolDatabase implements AutoCloseable {
             return this;
         }
 
+        /**
+         * Sets the number of read-lane threads, each with its own reader connection. {@code 0} runs
+         * reads on the write lane.
+         */
+        public Builder readPoolSize(int readPoolSize) {
+            if (readPoolSize < 0) {
+                throw new IllegalArgumentException("readPoolSize must be >= 0");
+            }
+            this.readPoolSize = readPoolSize;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of queued read tasks before reads are rejected. The write lane is
+         * never bounded; a write backlog larger than this is logged as a warning.
+         */
+        public Builder queueCapacity(int queueCapacity) {
+            if (queueCapacity <= 0) {
+                throw new IllegalArgumentException("queueCapacity must be > 0");
+            }
+            this.queueCapacity = queueCapacity;
+            return this;
+        }
+
+        /** Sets the run time after which a lane task is logged as a possible stall. */
+        public Builder slowTaskThreshold(Duration slowTaskThreshold) {
+            Objects.requireNonNull(slowTaskThreshold, "slowTaskThreshold");
+            if (slowTaskThreshold.isNegative()) {
+                throw new IllegalArgumentException("slowTaskThreshold must not be negative");
+            }
+            this.slowTaskThreshold = slowTaskThreshold;
+            return this;
+        }
+
         public Builder flushThreadFactory(ThreadFactory flushThreadFactory) {
             this.flushThreadFactory = Objects.requireNonNull(flushThreadFactory, "flushThreadFactory");
             return this;
         }
 
+        public Builder readThreadFactory(ThreadFactory readThreadFactory) {
+            this.readThreadFactory = Objects.requireNonNull(readThreadFactory, "readThreadFactory");
+            return this;
+        }
+
         public SpoolDatabase build() {
             Objects.requireNonNull(jdbcUrl, "jdbcUrl");
             Objects.requireNonNull(logger, "logger");
@@ -184,100 +420,141 @@ public final class SpoolDatabase implements AutoCloseable {
                 }
             }
 
-            ExecutorService flushExecutor = Executors.newSingleThreadExecutor(flushThreadFactory);
-            return new SpoolDatabase(em, new TrackingExecutor(flushExecutor, logger, 10_000L), logger);
+            int readerCount = readPoolSize;
+            if (readerCount > 0 && isPrivateInMemory(jdbcUrl)) {
+                logger.info("Private in-memory database; DB reads run on the write lane");
+                readerCount = 0;
+            }
+            List<EntityManager> readers = new ArrayList<>(readerCount);
+            try {
+                for (int i = 0; i < readerCount; i++) {
+                    EntityManager reader = EntityManager.create(jdbcUrl);
+                    readers.add(reader);
+                    if (entities.length > 0) {
+                        reader.registerEntities(entities);
+                    }
+                }
+            } catch (RuntimeException e) {
+                for (EntityManager reader : readers) {
+                    closeConnection(reader, logger);
+                }
+                closeConnection(em, logger);
+                throw new RuntimeException("Opening DB reader connections failed", e);
+            }
+
+            long slowTaskMillis = slowTaskThreshold.toMillis();
+            Lane writeLane = new Lane("write", 1, queueCapacity, false, flushThreadFactory, logger, slowTaskMillis);
+            Lane readLane = readerCount == 0
+                ? null
+                : new Lane("read", readerCount, queueCapacity, true, readThreadFactory, logger, slowTaskMillis);
+            return new SpoolDatabase(em, readers, writeLane, readLane, logger);
         }
     }
 
     /**
-     * Delegating {@link ExecutorService} that logs any task running longer than
-     * the given threshold (with the stack trace at completion). A stuck task on
-     * the single-thread flush executor silently stalls every queued DB
-     * write/flush (e.g. homes never persisting), so visibility matters.
+     * Fixed-size pool that logs any task running longer than the slow task threshold. A stuck task
+     * on the single-thread write lane silently stalls every queued DB write/flush (e.g. homes never
+     * persisting), so visibility matters. A bounded lane rejects submissions once its queue is full;
+     * an unbounded lane accepts them all and warns once per backlog that grows past the capacity.
      */
-    private static final class TrackingExecutor implements ExecutorService {
-        private final ExecutorService delegate;
+    private static final class Lane {
+        private final String name;
+        private final ThreadPoolExecutor executor;
+        private final int queueCapacity;
         private final Logger logger;
-        private final long timeoutMillis;
-
-        TrackingExecutor(ExecutorService delegate, Logger logger, long timeoutMillis) {
-            this.delegate = delegate;
+        private final long slowTaskMillis;
+        private final boolean bounded;
+        private final AtomicBoolean backlogWarned = new AtomicBoolean();
+        private final AtomicInteger peakQueued = new AtomicInteger();
+        private final AtomicLong completed = new AtomicLong();
+        private final AtomicLong rejected = new AtomicLong();
+        private final AtomicLong slowTasks = new AtomicLong();
+
+        Lane(
+            String name,
+            int threads,
+            int queueCapacity,
+            boolean bounded,
+            ThreadFactory threadFactory,
+            Logger logger,
+            long slowTaskMillis
+        ) {
+            this.name = name;
+            this.queueCapacity = queueCapacity;
+            this.bounded = bounded;
             this.logger = logger;
-            this.timeoutMillis = timeoutMillis;
+            this.slowTaskMillis = slowTaskMillis;
+            this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                bounded ? new ArrayBlockingQueue<>(queueCapacity) : new LinkedBlockingQueue<>(),
+                threadFactory,
+                new ThreadPoolExecutor.AbortPolicy()
+            );
         }
 
-        @Override
-        public void execute(Runnable command) {
-            long started = System.currentTimeMillis();
-            delegate.execute(() -> {
-                try {
-                    command.run();
-                } finally {
-                    long took = System.currentTimeMillis() - started;
-                    if (took > timeoutMillis) {
-                        logger.error("[DBFlush] Task took {}ms (>{}ms) on the flush executor - possible stall; stack:", took, timeoutMillis);
-                        for (StackTraceElement el : Thread.currentThread().getStackTrace()) {
-                            logger.error("    at {}", el);
-                        }
-                    }
+        <T> CompletableFuture<T> submit(Supplier<T> task) {
+            CompletableFuture<T> future = new CompletableFuture<>();
+            long submitted = System.currentTimeMillis();
+            try {
+                executor.execute(() -> run(task, future, submitted));
+            } catch (RejectedExecutionException e) {
+                long count = rejected.incrementAndGet();
+                if (!bounded) {
+                    logger.warn("[DB] {} lane is shut down; task rejected ({} so far)", name, count);
+                } else if (count == 1L || count % 1_000L == 0L) {
+                    logger.warn("[DB] {} lane queue is full ({} tasks); {} submission(s) rejected so far",
+                        name, queueCapacity, count);
                 }
-            });
-        }
-
-        @Override
-        public void shutdown() { delegate.shutdown(); }
-
-        @Override
-        public java.util.List<Runnable> shutdownNow() { return delegate.shutdownNow(); }
-
-        @Override
-        public boolean isShutdown() { return delegate.isShutdown(); }
-
-        @Override
-        public boolean isTerminated() { return delegate.isTerminated(); }
-
-        @Override
-        public boolean awaitTermination(long timeout, java.util.concurrent.TimeUnit unit) throws InterruptedException {
-            return delegate.awaitTermination(timeout, unit);
-        }
-
-        @Override
-        public <T> java.util.concurrent.Future<T> submit(java.util.concurrent.Callable<T> task) {
-            java.util.concurrent.CompletableFuture<T> cf = new java.util.concurrent.CompletableFuture<>();
-            execute(() -> {
-                try { cf.complete(task.call()); } catch (Throwable t) { cf.completeExceptionally(t); }
-            });
-            return cf;
-        }
-
-        @Override
-        public <T> java.util.concurrent.Future<T> submit(Runnable task, T result) {
-            return submit(java.util.concurrent.Executors.callable(task, result));
-        }
-
-        @Override
-        public java.util.concurrent.Future<?> submit(Runnable task) {
-            return submit(java.util.concurrent.Executors.callable(task));
-        }
-
-        @Override
-        public <T> java.util.List<java.util.concurrent.Future<T>> invokeAll(java.util.Collection<? extends java.util.concurrent.Callable<T>> tasks) throws InterruptedException {
-            return delegate.invokeAll(tasks);
-        }
-
-        @Override
-        public <T> java.util.List<java.util.concurrent.Future<T>> invokeAll(java.util.Collection<? extends java.util.concurrent.Callable<T>> tasks, long timeout, java.util.concurrent.TimeUnit unit) throws InterruptedException {
-            return delegate.invokeAll(tasks, timeout, unit);
+                future.completeExceptionally(e);
+                return future;
+            }
+            int queued = executor.getQueue().size();
+            peakQueued.accumulateAndGet(queued, Math::max);
+            if (!bounded) {
+                if (queued > queueCapacity && backlogWarned.compareAndSet(false, true)) {
+                    logger.warn("[DB] {} lane backlog passed {} tasks; the database is not keeping up", name, queueCapacity);
+                } else if (queued <= queueCapacity / 2) {
+                    backlogWarned.set(false);
+                }
+            }
+            return future;
         }
 
-        @Override
-        public <T> T invokeAny(java.util.Collection<? extends java.util.concurrent.Callable<T>> tasks) throws InterruptedException, java.util.concurrent.ExecutionException {
-            return delegate.invokeAny(tasks);
+        private <T> void run(Supplier<T> task, CompletableFuture<T> future, long submitted) {
+            long started = System.currentTimeMillis();
+            try {
+                future.complete(task.get());
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            } finally {
+                completed.incrementAndGet();
+                long took = System.currentTimeMillis() - started;
+                if (took > slowTaskMillis) {
+                    slowTasks.incrementAndGet();
+                    logger.error("[DB] Task took {}ms (>{}ms, queued {}ms) on the {} lane - possible stall; stack:",
+                        took, slowTaskMillis, started - submitted, name);
+                    for (StackTraceElement el : Thread.currentThread().getStackTrace()) {
+                        logger.error("    at {}", el);
+                    }
+                }
+            }
         }
 
-        @Override
-        public <T> T invokeAny(java.util.Collection<? extends java.util.concurrent.Callable<T>> tasks, long timeout, java.util.concurrent.TimeUnit unit) throws InterruptedException, java.util.concurrent.ExecutionException, java.util.concurrent.TimeoutException {
-            return delegate.invokeAny(tasks, timeout, unit);
+        LaneStats stats() {
+            return new LaneStats(
+                name,
+                executor.getCorePoolSize(),
+                executor.getActiveCount(),
+                executor.getQueue().size(),
+                queueCapacity,
+                peakQueued.get(),
+                completed.get(),
+                rejected.get(),
+                slowTasks.get()
+            );
         }
     }
 }
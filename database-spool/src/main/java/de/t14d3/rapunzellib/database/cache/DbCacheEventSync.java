@@ -29,8 +29,9 @@ import java.util.concurrent.CopyOnWriteArrayList;
  * <p>This is the RLib-native replacement for consumer-side hand-wired cache
  * sync: it serves as the {@link CacheEventSink} of the (shared) entity manager
  * and broadcasts every local cache event over
- * {@link DistributedCacheManager#CACHE_INVALIDATION_CHANNEL} via the
- * {@link DistributedCacheManager}; on the receiving side it invalidates the
+ * {@link DistributedCacheManager#CACHE_INVALIDATION_BATCH_CHANNEL} via the
+ * {@link DistributedCacheManager} (coalesced per entity class for a short
+ * window, see {@link #flush()}); on the receiving side it invalidates the
  * local L2 cache, evicts the matching identity-map entry (so the next read is
  * a fresh database read - no manual {@code refresh()} hacks needed), and
  * notifies registered {@link Listener}s.</p>
@@ -51,7 +52,7 @@ public final class DbCacheEventSync implements CacheEventSink, AutoCloseable {
     }
 
     private final DistributedCacheManager cacheManager;
-    private final CacheProvider cacheProvider;
+    private volatile CacheProvider cacheProvider;
     private final EntityManager entityManager;
     private final Messenger localMessenger;
     private final Logger logger;
@@ -89,7 +90,13 @@ public final class DbCacheEventSync implements CacheEventSink, AutoCloseable {
             .withCacheProvider(cacheProvider)
             .withCacheTtl(Objects.requireNonNull(cacheTtl, "cacheTtl"))
             .withCacheEventSink(this);
-        this.cacheManager = new DistributedCacheManager(messenger, logger);
+        // Receivers refresh identity-map entries by id, so bulk writes are always sent as key sets.
+        this.cacheManager = new DistributedCacheManager(
+            messenger,
+            logger,
+            DistributedCacheManager.DEFAULT_COALESCE_WINDOW,
+            Integer.MAX_VALUE
+        );
         this.cacheManager.registerInvalidationListener("*", this::onRemoteInvalidation);
     }
 
@@ -112,6 +119,13 @@ public final class DbCacheEventSync implements CacheEventSink, AutoCloseable {
         cacheManager.broadcastInvalidation(event.key().entityClassName(), event.key().id(), operation);
     }
 
+    /**
+     * Publishes pending cache events immediately instead of at the end of the coalescing window.
+     */
+    public void flush() {
+        cacheManager.flush();
+    }
+
     /**
      * Registers a listener for remote cache events.
      *
@@ -134,7 +148,8 @@ public final class DbCacheEventSync implements CacheEventSink, AutoCloseable {
     }
 
     /**
-     * The local cache provider installed on the entity manager.
+     * The local cache provider currently installed on the entity manager. A clear-all invalidation
+     * replaces it with an empty one.
      *
      * @return the local L2 cache provider
      */
@@ -152,6 +167,10 @@ public final class DbCacheEventSync implements CacheEventSink, AutoCloseable {
             && message.serverName().equalsIgnoreCase(local)) {
             return;
         }
+        if (message.operation() == InvalidationOperation.CLEAR) {
+            clearCache(message);
+            return;
+        }
 
         CacheKey key = new CacheKey(message.entityClassName(), message.id());
         cacheProvider.invalidate(key);
@@ -167,6 +186,25 @@ public final class DbCacheEventSync implements CacheEventSink, AutoCloseable {
         dispatch(event, message.serverName());
     }
 
+    /**
+     * Drops the local L2 cache for a clear-all invalidation. The provider cannot drop a single entity
+     * class, so it is replaced by an empty one; without ids there is no identity-map entry to
+     * refresh.
+     */
+    private void clearCache(CacheInvalidationMessage message) {
+        CacheProvider previous;
+        synchronized (this) {
+            previous = cacheProvider;
+            cacheProvider = new LocalMemoryCacheProvider();
+            entityManager.withCacheProvider(cacheProvider);
+        }
+        try {
+            previous.close();
+        } catch (Exception ignored) {
+        }
+        logger.debug("Cleared local cache for {} from {}", message.entityClassName(), message.serverName());
+    }
+
     /**
      * Refreshes (UPSERT) or detaches (DELETE) the stale identity-map entry so
      * the next read observes the committed remote state.
@@ -0,0 +1,228 @@
+package de.t14d3.rapunzellib.database;
+
+import de.t14d3.spool.annotations.Column;
+import de.t14d3.spool.annotations.Entity;
+import de.t14d3.spool.annotations.Id;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class SpoolDatabaseTest {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SpoolDatabaseTest.class);
+
+    @Entity
+    public static class LaneEntity {
+        @Id(autoIncrement = true)
+        @Column(name = "id")
+        private long id;
+
+        @Column(name = "value", type = "VARCHAR(64)")
+        private String value;
+
+        public long getId() {
+            return id;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        public void setValue(String value) {
+            this.value = value;
+        }
+    }
+
+    @Test
+    void concurrentReadsAreNotBlockedBySlowWriter() throws Exception {
+        try (SpoolDatabase db = database("jdbc:h2:mem:spool_lanes;DB_CLOSE_DELAY=-1", 4, 1_000)) {
+            long id = db.supplyAsync(() -> {
+                LaneEntity entity = new LaneEntity();
+                entity.setValue("stored");
+                db.entityManager().persist(entity);
+                db.entityManager().flush();
+                return entity.getId();
+            }).get(5, TimeUnit.SECONDS);
+
+            CountDownLatch writerStarted = new CountDownLatch(1);
+            CountDownLatch releaseWriter = new CountDownLatch(1);
+            CompletableFuture<Void> slowWrite = db.runAsync(() -> {
+                writerStarted.countDown();
+                try {
+                    releaseWriter.await(30, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            assertTrue(writerStarted.await(5, TimeUnit.SECONDS));
+
+            try {
+                long start = System.nanoTime();
+                List<CompletableFuture<String>> reads = new ArrayList<>();
+                for (int i = 0; i < 200; i++) {
+                    reads.add(db.readAsync(em -> {
+                        assertTrue(Thread.currentThread().getName().startsWith("RapunzelLib-DBRead-"));
+                        return em.find(LaneEntity.class, id).getValue();
+                    }));
+                }
+                for (CompletableFuture<String> read : reads) {
+                    assertEquals("stored", read.get(5, TimeUnit.SECONDS));
+                }
+                long elapsed = System.nanoTime() - start;
+                LOGGER.info("200 reads while the writer was blocked: {} us", elapsed / 1_000L);
+
+                assertFalse(slowWrite.isDone());
+                SpoolDatabase.Stats stats = db.stats();
+                assertNotNull(stats.read());
+                assertEquals(4, stats.read().threads());
+                assertEquals(200L, stats.read().completed());
+                assertEquals(1, stats.write().active());
+            } finally {
+                releaseWriter.countDown();
+            }
+            slowWrite.get(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    void lockedCallersExcludeTheWriteLane() throws Exception {
+        try (SpoolDatabase db = database("jdbc:h2:mem:spool_locked;DB_CLOSE_DELAY=-1", 1, 1_000)) {
+            CountDownLatch holding = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            Thread holder = new Thread(() -> db.runLocked(() -> {
+                holding.countDown();
+                try {
+                    release.await(30, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+            holder.start();
+            assertTrue(holding.await(5, TimeUnit.SECONDS));
+
+            AtomicBoolean ran = new AtomicBoolean();
+            CompletableFuture<Void> write = db.runAsync(() -> ran.set(true));
+            Thread.sleep(100L);
+            assertFalse(ran.get());
+
+            release.countDown();
+            write.get(5, TimeUnit.SECONDS);
+            assertTrue(ran.get());
+            holder.join();
+        }
+    }
+
+    @Test
+    void fullReadQueueRejectsSubmissionsAndCountsThem() throws Exception {
+        try (SpoolDatabase db = database("jdbc:h2:mem:spool_full;DB_CLOSE_DELAY=-1", 1, 1)) {
+            CountDownLatch readerStarted = new CountDownLatch(1);
+            CountDownLatch releaseReader = new CountDownLatch(1);
+            CompletableFuture<Integer> blocking = db.readAsync(em -> {
+                readerStarted.countDown();
+                try {
+                    releaseReader.await(30, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return 0;
+            });
+            assertTrue(readerStarted.await(5, TimeUnit.SECONDS));
+
+            CompletableFuture<Integer> queued = db.readAsync(em -> 1);
+            CompletableFuture<Integer> rejected = db.readAsync(em -> 2);
+            ExecutionException failure = assertThrows(ExecutionException.class, () -> rejected.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(RejectedExecutionException.class, failure.getCause());
+
+            SpoolDatabase.LaneStats stats = db.stats().read();
+            assertNotNull(stats);
+            assertEquals(1, stats.queued());
+            assertEquals(1, stats.peakQueued());
+            assertEquals(1L, stats.rejected());
+
+            releaseReader.countDown();
+            blocking.get(5, TimeUnit.SECONDS);
+            assertEquals(1, queued.get(5, TimeUnit.SECONDS));
+            assertEquals(1, db.readAsync(em -> 1).get(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void writeBacklogIsQueuedWithoutBlockingOrDroppingWrites() throws Exception {
+        try (SpoolDatabase db = database("jdbc:h2:mem:spool_backlog;DB_CLOSE_DELAY=-1", 0, 1)) {
+            CountDownLatch writerStarted = new CountDownLatch(1);
+            CountDownLatch releaseWriter = new CountDownLatch(1);
+            CompletableFuture<Void> blocking = db.runAsync(() -> {
+                writerStarted.countDown();
+                try {
+                    releaseWriter.await(30, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            assertTrue(writerStarted.await(5, TimeUnit.SECONDS));
+
+            // The submitting thread stands in for the server thread: none of these calls may wait.
+            AtomicInteger written = new AtomicInteger();
+            List<CompletableFuture<Void>> writes = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                writes.add(db.runAsync(written::incrementAndGet));
+            }
+            writes.add(db.flushAsync());
+            assertEquals(0, written.get());
+
+            SpoolDatabase.LaneStats stats = db.stats().write();
+            assertNull(db.stats().read());
+            assertEquals(101, stats.queued());
+            assertEquals(101, stats.peakQueued());
+            assertEquals(0L, stats.rejected());
+
+            releaseWriter.countDown();
+            blocking.get(5, TimeUnit.SECONDS);
+            for (CompletableFuture<Void> write : writes) {
+                write.get(5, TimeUnit.SECONDS);
+            }
+            assertEquals(100, written.get());
+            assertEquals(0L, db.stats().write().rejected());
+        }
+    }
+
+    @Test
+    void privateInMemoryUrlsAreDetected() {
+        assertTrue(SpoolDatabase.isPrivateInMemory("jdbc:h2:mem:"));
+        assertTrue(SpoolDatabase.isPrivateInMemory("jdbc:h2:mem:;MODE=MySQL"));
+        assertTrue(SpoolDatabase.isPrivateInMemory("jdbc:sqlite::memory:"));
+        assertTrue(SpoolDatabase.isPrivateInMemory("jdbc:sqlite:"));
+        assertTrue(SpoolDatabase.isPrivateInMemory("jdbc:sqlite:file:test?mode=memory"));
+        assertFalse(SpoolDatabase.isPrivateInMemory("jdbc:sqlite:file:test?mode=memory&cache=shared"));
+        assertFalse(SpoolDatabase.isPrivateInMemory("jdbc:h2:mem:shared;DB_CLOSE_DELAY=-1"));
+        assertFalse(SpoolDatabase.isPrivateInMemory("jdbc:sqlite:plugins/data.db"));
+        assertFalse(SpoolDatabase.isPrivateInMemory("jdbc:mysql://localhost/rapunzel"));
+    }
+
+    private static SpoolDatabase database(String jdbcUrl, int readPoolSize, int queueCapacity) {
+        return SpoolDatabase.builder()
+            .jdbcUrl(jdbcUrl)
+            .logger(LOGGER)
+            .entities(LaneEntity.class)
+            .readPoolSize(readPoolSize)
+            .queueCapacity(queueCapacity)
+            .build();
+    }
+}
@@ -167,6 +167,7 @@ final class DbCacheEventSyncTest {
             alphaEntity.setValue("fresh");
             alphaEm.persist(alphaEntity); // managed entity -> queued update
             alphaEm.flush();
+            alphaSync.flush(); // publish the coalesced cache events now
 
             // The save's cache event must reach beta's listener with the
             // writer's server name.
@@ -209,6 +210,7 @@ final class DbCacheEventSyncTest {
             entity.setValue("local");
             alphaEm.persist(entity);
             alphaEm.flush();
+            alphaSync.flush();
 
             // The self-broadcast (in-memory networks deliver to the sender too)
             // must be filtered out by the origin-server check.
@@ -6,6 +6,7 @@ import de.t14d3.rapunzellib.events.shared.SharedGameEventSupportManifests;
 import de.t14d3.rapunzellib.events.block.*;
 import de.t14d3.rapunzellib.events.entity.*;
 import de.t14d3.rapunzellib.events.interact.UseBlockSnapshot;
+import de.t14d3.rapunzellib.events.inventory.HopperTransferBatchEvent;
 import de.t14d3.rapunzellib.events.inventory.InventoryActionPost;
 import de.t14d3.rapunzellib.events.inventory.InventoryActionPre;
 import de.t14d3.rapunzellib.events.inventory.InventoryClosePost;
@@ -77,6 +78,7 @@ final class FabricGameEventSupport {
                     InventoryOpenPost.class,
                     InventoryClosePost.class,
                     InventoryTransferPre.class,
+                    HopperTransferBatchEvent.class,
                     PistonMovePre.class,
                     EntityDeathPre.class,
                     EntityDeathPost.class,
@@ -24,6 +24,7 @@ import de.t14d3.rapunzellib.events.inventory.InventoryActionPre;
 import de.t14d3.rapunzellib.events.inventory.InventoryClosePost;
 import de.t14d3.rapunzellib.events.inventory.InventoryOpenPre;
 import de.t14d3.rapunzellib.events.inventory.InventoryOpenPost;
+import de.t14d3.rapunzellib.events.inventory.HopperTransferBatchEvent;
 import de.t14d3.rapunzellib.events.inventory.InventoryTransferPre;
 import de.t14d3.rapunzellib.events.player.InteractBlockPost;
 import de.t14d3.rapunzellib.events.player.PlayerJoinPost;
@@ -80,6 +81,7 @@ final class FabricGameEventSupportTest {
         assertEquals(GameEventSupportParity.EMULATED, manifest.support(PlayerMessagePost.class).parity());
         assertEquals(GameEventSupportParity.EMULATED, manifest.support(PlayerStatePost.class).parity());
         assertEquals(GameEventSupportParity.EMULATED, manifest.support(InventoryTransferPre.class).parity());
+        assertEquals(GameEventSupportParity.EMULATED, manifest.support(HopperTransferBatchEvent.class).parity());
     }
 
     @Test
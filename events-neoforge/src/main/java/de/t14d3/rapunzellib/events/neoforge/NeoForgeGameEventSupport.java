@@ -25,6 +25,7 @@ import de.t14d3.rapunzellib.events.inventory.InventoryActionPre;
 import de.t14d3.rapunzellib.events.inventory.InventoryClosePost;
 import de.t14d3.rapunzellib.events.inventory.InventoryOpenPost;
 import de.t14d3.rapunzellib.events.inventory.InventoryOpenPre;
+import de.t14d3.rapunzellib.events.inventory.HopperTransferBatchEvent;
 import de.t14d3.rapunzellib.events.inventory.InventoryTransferPre;
 import de.t14d3.rapunzellib.events.interact.UseBlockSnapshot;
 import de.t14d3.rapunzellib.events.item.BucketEmptyPre;
@@ -109,7 +110,8 @@ final class NeoForgeGameEventSupport {
                 )
                 .emulatedSupport(
                     "NeoForge HopperBlockEntity.addItem mixin (vanilla containers; modded IItemHandler transfers are not covered)",
-                    InventoryTransferPre.class
+                    InventoryTransferPre.class,
+                    HopperTransferBatchEvent.class
                 )
                 .emulatedSupport(
                     "NeoForge Entity.move() mixin",
@@ -0,0 +1,119 @@
+package de.t14d3.rapunzellib.events.shared;
+
+import de.t14d3.rapunzellib.events.GameEventBus;
+import de.t14d3.rapunzellib.events.inventory.HopperTransferBatchEvent;
+import de.t14d3.rapunzellib.events.inventory.HopperTransferBatcher;
+import de.t14d3.rapunzellib.events.inventory.InventoryTransferPre.TransferSource;
+import de.t14d3.rapunzellib.events.shared.mixin.SharedMixinEventsBridge;
+import de.t14d3.rapunzellib.nbt.NbtFeatures;
+import de.t14d3.rapunzellib.nbt.item.RItem;
+import de.t14d3.rapunzellib.objects.RBlockPos;
+import de.t14d3.rapunzellib.objects.RKey;
+import de.t14d3.rapunzellib.objects.RWorldRef;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.item.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shared state behind the hopper transfer mixins: the per-tick
+ * {@link HopperTransferBatcher} feeding {@link HopperTransferBatchEvent}, the
+ * transfer captured between the head and return of
+ * {@code HopperBlockEntity.addItem}, and a per-dimension world ref cache.
+ */
+public final class SharedHopperTransferHooks {
+    private static final Map<Object, RWorldRef> WORLD_REFS = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Pending> PENDING = new ThreadLocal<>();
+    private static volatile long currentTick;
+    private static final HopperTransferBatcher BATCHER =
+        new HopperTransferBatcher(() -> currentTick, SharedHopperTransferHooks::dispatch);
+
+    private SharedHopperTransferHooks() {
+    }
+
+    /** Whether anyone listens for {@link HopperTransferBatchEvent}. */
+    public static boolean batching(@Nullable GameEventBus bus) {
+        return bus != null && bus.hasPostListeners(HopperTransferBatchEvent.class);
+    }
+
+    /**
+     * Remembers a transfer that is about to run so {@link #complete} can record
+     * how many items it actually moved. {@code stack} is copied.
+     */
+    public static void begin(
+        @NotNull RWorldRef world,
+        @Nullable RBlockPos sourcePos,
+        @Nullable RBlockPos targetPos,
+        @NotNull TransferSource source,
+        @NotNull ItemStack stack
+    ) {
+        PENDING.set(new Pending(world, sourcePos, targetPos, source, stack.copy()));
+    }
+
+    /**
+     * Records the transfer started by {@link #begin} on this thread, if any.
+     *
+     * @param remainder the stack {@code addItem} returned (what did not move)
+     */
+    public static void complete(@Nullable ItemStack remainder) {
+        Pending pending = PENDING.get();
+        if (pending == null) return;
+        PENDING.remove();
+
+        ItemStack moved = pending.stack;
+        int amount = moved.getCount() - (remainder == null ? 0 : remainder.getCount());
+        if (amount <= 0) return;
+        moved.setCount(amount);
+        BATCHER.record(pending.world, pending.sourcePos, pending.targetPos, pending.source, amount,
+            () -> wrapItem(moved));
+    }
+
+    /** Marks the start of a server tick. */
+    public static void startTick(long tick) {
+        currentTick = tick;
+    }
+
+    /** Emits the batches collected during the tick that just ended. */
+    public static void endTick() {
+        BATCHER.flush();
+    }
+
+    /** Drops pending batches (bridge shutdown). */
+    public static void reset() {
+        BATCHER.clear();
+        PENDING.remove();
+    }
+
+    public static @NotNull RWorldRef worldRef(@NotNull ServerLevel level) {
+        return WORLD_REFS.computeIfAbsent(level.dimension(), ignored -> {
+            // #if VERSION >= 1.21.11
+            RKey dimKey = RKey.of(level.dimension().identifier().toString());
+            // #else
+            RKey dimKey = RKey.of(level.dimension().location().toString());
+            // #endif
+            return new RWorldRef(null, dimKey);
+        });
+    }
+
+    public static @Nullable RItem wrapItem(@NotNull ItemStack stack) {
+        try {
+            return NbtFeatures.itemStackAdapter(ItemStack.class).snapshot(stack);
+        } catch (RuntimeException ignored) {
+            // Item-stack adapters may not be installed; callers skip the item.
+            return null;
+        }
+    }
+
+    private static void dispatch(HopperTransferBatchEvent event) {
+        GameEventBus bus = SharedMixinEventsBridge.bus();
+        if (bus != null) {
+            bus.dispatchPost(event);
+        }
+    }
+
+    private record Pending(RWorldRef world, RBlockPos sourcePos, RBlockPos targetPos,
+                           TransferSource source, ItemStack stack) {}
+}
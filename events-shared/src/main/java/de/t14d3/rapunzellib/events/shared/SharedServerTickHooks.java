@@ -0,0 +1,36 @@
+package de.t14d3.rapunzellib.events.shared;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Listeners run on the server thread at the end of every server tick, driven
+ * by the return of {@code MinecraftServer.tickServer}. Unlike a wall-clock
+ * timer they run exactly once per tick, however long the tick takes.
+ */
+public final class SharedServerTickHooks {
+    private static final List<Runnable> TICK_END = new CopyOnWriteArrayList<>();
+
+    private SharedServerTickHooks() {
+    }
+
+    /** Registers a listener run at the end of every server tick. */
+    public static void addTickEndListener(@NotNull Runnable listener) {
+        TICK_END.add(Objects.requireNonNull(listener, "listener"));
+    }
+
+    /** Unregisters a listener added with {@link #addTickEndListener}. */
+    public static void removeTickEndListener(@NotNull Runnable listener) {
+        TICK_END.remove(listener);
+    }
+
+    /** Runs the tick end listeners. Called on the server thread. */
+    public static void endTick() {
+        for (Runnable listener : TICK_END) {
+            listener.run();
+        }
+    }
+}
@@ -3,6 +3,7 @@ package de.t14d3.rapunzellib.events.shared.mixin;
 import de.t14d3.rapunzellib.Rapunzel;
 import de.t14d3.rapunzellib.events.GameEventBus;
 import de.t14d3.rapunzellib.events.entity.EntityMovePost;
+import de.t14d3.rapunzellib.events.entity.EntityMoveTracker;
 import de.t14d3.rapunzellib.events.shared.mixin.SharedMixinEventsBridge;
 import de.t14d3.rapunzellib.objects.RKey;
 import de.t14d3.rapunzellib.objects.RLocation;
@@ -10,62 +11,75 @@ import de.t14d3.rapunzellib.objects.RWorldRef;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.MoverType;
-import net.minecraft.world.level.Level;
 import net.minecraft.world.phys.Vec3;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
 import java.util.Map;
-import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Dispatches {@link EntityMovePost} once an entity has moved at least
+ * {@value #THRESHOLD} block along any axis.
+ *
+ * <p>The last reported position lives in an {@link EntityMoveTracker} held by
+ * the entity itself, so it is collected with the entity instead of piling up in
+ * a global UUID map. The tracker is only allocated while post listeners exist
+ * and is dropped again when they go away, so a later listener never sees a
+ * stale {@code from}. World references are cached per dimension key.</p>
+ */
 @Mixin(Entity.class)
 public abstract class EntityMoveMixin {
-    private static final Map<UUID, Vec3> LAST_POSITIONS = new ConcurrentHashMap<>();
+    @Unique
     private static final double THRESHOLD = 1.0;
 
+    /** Dimension key -> world ref; bounded by the number of loaded dimensions. */
+    @Unique
+    private static final Map<Object, RWorldRef> WORLD_REFS = new ConcurrentHashMap<>();
+
+    @Unique
+    private EntityMoveTracker rapunzel$moveTracker;
+
     @Inject(method = "move", at = @At("RETURN"))
     private void onEntityMove(MoverType type, Vec3 movement, CallbackInfo ci) {
-        Entity self = (Entity) (Object) this;
-        Level level = self.level();
-        if (!(level instanceof ServerLevel serverLevel)) return;
-
         GameEventBus bus = SharedMixinEventsBridge.bus();
-        if (bus == null || !bus.hasPostListeners(EntityMovePost.class)) return;
-
-        UUID uuid = self.getUUID();
-        Vec3 current = self.position();
-        Vec3 previous = LAST_POSITIONS.get(uuid);
-
-        // First observed move: record the anchor and skip - there is no
-        // previous position yet, so dispatching would produce a phantom
-        // event with from == to.
-        if (previous == null) {
-            LAST_POSITIONS.put(uuid, current);
+        if (bus == null || !bus.hasPostListeners(EntityMovePost.class)) {
+            rapunzel$moveTracker = null;
             return;
         }
 
-        // Skip if movement is below threshold
-        if (Math.abs(current.x - previous.x) < THRESHOLD
-                && Math.abs(current.y - previous.y) < THRESHOLD
-                && Math.abs(current.z - previous.z) < THRESHOLD) {
-            return;
-        }
+        Entity self = (Entity) (Object) this;
+        if (!(self.level() instanceof ServerLevel serverLevel)) return;
 
-        LAST_POSITIONS.put(uuid, current);
+        EntityMoveTracker tracker = rapunzel$moveTracker;
+        if (tracker == null) {
+            tracker = new EntityMoveTracker();
+            rapunzel$moveTracker = tracker;
+        }
 
-        var rEntity = Rapunzel.entities().require(self);
-        // #if VERSION >= 1.21.11
-        RKey dimKey = RKey.of(serverLevel.dimension().identifier().toString());
-        // #else
-        RKey dimKey = RKey.of(serverLevel.dimension().location().toString());
-        // #endif
-        RWorldRef worldRef = new RWorldRef(null, dimKey);
+        // The first observed move only anchors the position: dispatching it
+        // would produce a phantom event with from == to.
+        Vec3 current = self.position();
+        if (!tracker.moveTo(current.x, current.y, current.z, THRESHOLD)) return;
 
-        bus.dispatchPost(new EntityMovePost(rEntity,
-                new RLocation(worldRef, previous.x, previous.y, previous.z),
+        RWorldRef worldRef = rapunzel$worldRef(serverLevel);
+        bus.dispatchPost(new EntityMovePost(Rapunzel.entities().require(self),
+                new RLocation(worldRef, tracker.fromX(), tracker.fromY(), tracker.fromZ()),
                 new RLocation(worldRef, current.x, current.y, current.z)));
     }
-}
\ No newline at end of file
+
+    @Unique
+    private static RWorldRef rapunzel$worldRef(ServerLevel level) {
+        return WORLD_REFS.computeIfAbsent(level.dimension(), ignored -> {
+            // #if VERSION >= 1.21.11
+            RKey dimKey = RKey.of(level.dimension().identifier().toString());
+            // #else
+            RKey dimKey = RKey.of(level.dimension().location().toString());
+            // #endif
+            return new RWorldRef(null, dimKey);
+        });
+    }
+}
@@ -3,10 +3,9 @@ package de.t14d3.rapunzellib.events.shared.mixin;
 import de.t14d3.rapunzellib.events.GameEventBus;
 import de.t14d3.rapunzellib.events.inventory.InventoryTransferPre;
 import de.t14d3.rapunzellib.events.inventory.InventoryTransferPre.TransferSource;
-import de.t14d3.rapunzellib.nbt.NbtFeatures;
+import de.t14d3.rapunzellib.events.shared.SharedHopperTransferHooks;
 import de.t14d3.rapunzellib.nbt.item.RItem;
 import de.t14d3.rapunzellib.objects.RBlockPos;
-import de.t14d3.rapunzellib.objects.RKey;
 import de.t14d3.rapunzellib.objects.RWorldRef;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
@@ -55,6 +54,13 @@ import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
  * transfers into/out of modded {@code IItemHandler} inventories bypass
  * {@code addItem} (via {@code VanillaInventoryCodeHooks}) and are not
  * covered.</p>
+ *
+ * <p>The same choke point feeds the opt-in
+ * {@link de.t14d3.rapunzellib.events.inventory.HopperTransferBatchEvent}: the
+ * head injection remembers the transfer, the return injection records how many
+ * items actually moved, and {@link ServerTickMixin} flushes the batch at the
+ * end of the tick. Nothing is captured or wrapped while neither event has
+ * listeners.</p>
  */
 @Mixin(HopperBlockEntity.class)
 public abstract class HopperTransferMixin {
@@ -75,7 +81,10 @@ public abstract class HopperTransferMixin {
         if (from == null || stack == null || stack.isEmpty()) return;
 
         GameEventBus bus = SharedMixinEventsBridge.bus();
-        if (bus == null || !bus.hasPreListeners(InventoryTransferPre.class)) return;
+        if (bus == null) return;
+        boolean pre = bus.hasPreListeners(InventoryTransferPre.class);
+        boolean batching = SharedHopperTransferHooks.batching(bus);
+        if (!pre && !batching) return;
 
         Level level = levelOf(from);
         if (level == null) {
@@ -92,32 +101,49 @@ public abstract class HopperTransferMixin {
         // the other side (the block container) still resolves.
         if (sourcePos == null && targetPos == null) return;
 
-        // #if VERSION >= 1.21.11
-        RKey dimKey = RKey.of(serverLevel.dimension().identifier().toString());
-        // #else
-        RKey dimKey = RKey.of(serverLevel.dimension().location().toString());
-        // #endif
-        RWorldRef worldRef = new RWorldRef(null, dimKey);
-        RItem item = wrapItem(stack);
-        if (item == null) return;
-
-        InventoryTransferPre pre = new InventoryTransferPre(
-            worldRef,
-            sourcePos,
-            targetPos,
-            item,
-            stack.getCount(),
-            source
-        );
-        bus.dispatchPre(pre);
-        if (pre.isDenied()) {
-            // Returning the input stack unchanged means "nothing moved"; every
-            // caller (ejectItems / tryTakeInItemFromSlot / DropperBlock) treats
-            // a non-empty return as a failed transfer and restores the item.
-            cir.setReturnValue(stack);
+        RWorldRef worldRef = SharedHopperTransferHooks.worldRef(serverLevel);
+        // The item is only wrapped when a per-transfer listener exists.
+        RItem item = pre ? SharedHopperTransferHooks.wrapItem(stack) : null;
+        if (item != null) {
+            InventoryTransferPre event = new InventoryTransferPre(
+                worldRef,
+                sourcePos,
+                targetPos,
+                item,
+                stack.getCount(),
+                source
+            );
+            bus.dispatchPre(event);
+            if (event.isDenied()) {
+                // Returning the input stack unchanged means "nothing moved"; every
+                // caller (ejectItems / tryTakeInItemFromSlot / DropperBlock) treats
+                // a non-empty return as a failed transfer and restores the item.
+                cir.setReturnValue(stack);
+                return;
+            }
+        }
+        if (batching) {
+            SharedHopperTransferHooks.begin(worldRef, sourcePos, targetPos, source, stack);
         }
     }
 
+    /**
+     * Feeds the completed transfer into the per-tick
+     * {@link de.t14d3.rapunzellib.events.inventory.HopperTransferBatchEvent}
+     * batch. The returned stack is what did not move; denied transfers return
+     * from the head injection and never reach this point.
+     */
+    @Inject(
+        method = "addItem(Lnet/minecraft/world/Container;Lnet/minecraft/world/Container;Lnet/minecraft/world/item/ItemStack;Lnet/minecraft/core/Direction;)Lnet/minecraft/world/item/ItemStack;",
+        at = @At("RETURN")
+    )
+    private static void onInventoryTransferReturn(
+        Container from, Container into, ItemStack stack, Direction direction, CallbackInfoReturnable<ItemStack> cir
+    ) {
+        if (from == null) return;
+        SharedHopperTransferHooks.complete(cir.getReturnValue());
+    }
+
     /** Resolves the level of a container via its block-entity or entity backing. */
     private static Level levelOf(Container container) {
         if (container instanceof BlockEntity blockEntity) {
@@ -160,14 +186,4 @@ public abstract class HopperTransferMixin {
         }
         return TransferSource.HOPPER;
     }
-
-    private static RItem wrapItem(ItemStack stack) {
-        try {
-            return NbtFeatures.itemStackAdapter(ItemStack.class).snapshot(stack);
-        } catch (RuntimeException ignored) {
-            // Item-stack adapters may not be installed; the transfer is
-            // skipped rather than dispatched with a broken payload.
-            return null;
-        }
-    }
 }
@@ -0,0 +1,35 @@
+package de.t14d3.rapunzellib.events.shared.mixin;
+
+import de.t14d3.rapunzellib.events.shared.SharedHopperTransferHooks;
+import de.t14d3.rapunzellib.events.shared.SharedServerTickHooks;
+import net.minecraft.server.MinecraftServer;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * Tick boundaries for events that are aggregated per server tick.
+ *
+ * <p>The tick counter drives the {@link SharedHopperTransferHooks} batch
+ * clock; the return of {@code MinecraftServer.tickServer} emits the
+ * {@link de.t14d3.rapunzellib.events.inventory.HopperTransferBatchEvent}s
+ * collected during the tick and runs the {@link SharedServerTickHooks} tick
+ * end listeners.</p>
+ */
+@Mixin(MinecraftServer.class)
+public abstract class ServerTickMixin {
+
+    @Inject(method = "tickServer", at = @At("HEAD"))
+    private void onTickStart(BooleanSupplier hasTimeLeft, CallbackInfo ci) {
+        SharedHopperTransferHooks.startTick(((MinecraftServer) (Object) this).getTickCount());
+    }
+
+    @Inject(method = "tickServer", at = @At("RETURN"))
+    private void onTickEnd(BooleanSupplier hasTimeLeft, CallbackInfo ci) {
+        SharedHopperTransferHooks.endTick();
+        SharedServerTickHooks.endTick();
+    }
+}
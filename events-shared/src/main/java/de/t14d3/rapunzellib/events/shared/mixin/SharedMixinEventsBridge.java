@@ -1,6 +1,7 @@
 package de.t14d3.rapunzellib.events.shared.mixin;
 
 import de.t14d3.rapunzellib.events.GameEventBus;
+import de.t14d3.rapunzellib.events.shared.SharedHopperTransferHooks;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -28,6 +29,7 @@ public final class SharedMixinEventsBridge {
      */
     public static void shutdown() {
         SharedMixinBusHolder.clear();
+        SharedHopperTransferHooks.reset();
     }
 
     public static @Nullable GameEventBus bus() {
@@ -29,6 +29,7 @@ import de.t14d3.rapunzellib.events.entity.EntityTeleportPost;
 import de.t14d3.rapunzellib.events.entity.EntityTeleportPre;
 import de.t14d3.rapunzellib.events.entity.InteractEntityPost;
 import de.t14d3.rapunzellib.events.entity.InteractEntityPre;
+import de.t14d3.rapunzellib.events.inventory.HopperTransferBatchEvent;
 import de.t14d3.rapunzellib.events.inventory.InventoryActionPost;
 import de.t14d3.rapunzellib.events.inventory.InventoryActionPre;
 import de.t14d3.rapunzellib.events.inventory.InventoryClosePost;
@@ -106,6 +107,9 @@ final class GameEventCatalog {
         // null when that side is not a block (e.g. hopper minecart) or
         // unresolvable; at least one side is non-null. Deny = no transfer.
         InventoryTransferPre.class,
+        // Per-tick aggregate of completed carrier transfers, grouped by
+        // carrier/source/target; items are wrapped lazily.
+        HopperTransferBatchEvent.class,
         InventoryOpenPre.class,
         InventoryOpenPost.class,
         InventoryClosePost.class,
@@ -0,0 +1,74 @@
+package de.t14d3.rapunzellib.events.entity;
+
+/**
+ * Per-entity movement anchor used to decide when an {@link EntityMovePost} is due.
+ * <p>
+ * Instances are meant to live on the entity itself (the shared {@code EntityMoveMixin} keeps one
+ * in an injected field) so the state is released together with the entity; there is no global
+ * per-UUID registry. Not thread-safe: an entity is only ever moved from its owning tick thread.
+ * </p>
+ */
+public final class EntityMoveTracker {
+    private double x;
+    private double y;
+    private double z;
+    private double fromX;
+    private double fromY;
+    private double fromZ;
+    private boolean anchored;
+
+    /**
+     * Records the entity at {@code (x, y, z)}.
+     * <p>
+     * The first call only anchors the position. Later calls return {@code true} once the entity
+     * has moved at least {@code threshold} blocks along any axis since the last reported move;
+     * the previous anchor is then available via {@link #fromX()}, {@link #fromY()} and
+     * {@link #fromZ()} and the new position becomes the anchor.</p>
+     *
+     * @return whether a move event should be dispatched
+     */
+    public boolean moveTo(double x, double y, double z, double threshold) {
+        if (!anchored) {
+            anchor(x, y, z);
+            anchored = true;
+            return false;
+        }
+        if (Math.abs(x - this.x) < threshold
+            && Math.abs(y - this.y) < threshold
+            && Math.abs(z - this.z) < threshold) {
+            return false;
+        }
+        fromX = this.x;
+        fromY = this.y;
+        fromZ = this.z;
+        anchor(x, y, z);
+        return true;
+    }
+
+    public double fromX() {
+        return fromX;
+    }
+
+    public double fromY() {
+        return fromY;
+    }
+
+    public double fromZ() {
+        return fromZ;
+    }
+
+    public boolean isAnchored() {
+        return anchored;
+    }
+
+    /** Forgets the anchor; the next {@link #moveTo} starts over. */
+    public void reset() {
+        anchored = false;
+    }
+
+    private void anchor(double x, double y, double z) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+    }
+}
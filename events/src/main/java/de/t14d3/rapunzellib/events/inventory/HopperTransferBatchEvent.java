@@ -0,0 +1,148 @@
+package de.t14d3.rapunzellib.events.inventory;
+
+import de.t14d3.rapunzellib.events.GamePostEvent;
+import de.t14d3.rapunzellib.events.inventory.InventoryTransferPre.TransferSource;
+import de.t14d3.rapunzellib.nbt.item.RItem;
+import de.t14d3.rapunzellib.objects.RBlockPos;
+import de.t14d3.rapunzellib.objects.RWorldRef;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Post-event summarising the completed carrier transfers (hopper block, hopper
+ * minecart, dropper) of one world during one server tick.
+ *
+ * <p>Opt-in alternative to {@link InventoryTransferPre} for listeners that
+ * only observe throughput: transfers are grouped per carrier, source and
+ * destination position and the event is fired once at the end of the tick.
+ * Only transfers that actually moved items are counted; transfers denied by an
+ * {@link InventoryTransferPre} listener are not.</p>
+ *
+ * <p>Items are wrapped lazily: {@link Transfer#transfers()} and
+ * {@link Transfer#amount()} never allocate {@link RItem}s, only
+ * {@link Transfer#items()} does.</p>
+ *
+ * <p>Platform coverage: Fabric and NeoForge, from the same
+ * {@code HopperBlockEntity.addItem} mixin as {@link InventoryTransferPre}.</p>
+ */
+public final class HopperTransferBatchEvent implements GamePostEvent {
+    private final RWorldRef world;
+    private final long tick;
+    private final List<Transfer> transfers;
+
+    public HopperTransferBatchEvent(@NotNull RWorldRef world, long tick, @NotNull List<Transfer> transfers) {
+        this.world = Objects.requireNonNull(world, "world");
+        this.tick = tick;
+        this.transfers = List.copyOf(Objects.requireNonNull(transfers, "transfers"));
+    }
+
+    /** Returns the world the transfers happened in. */
+    public @NotNull RWorldRef world() {
+        return world;
+    }
+
+    /** Returns the server tick the transfers happened in. */
+    public long tick() {
+        return tick;
+    }
+
+    /**
+     * Returns one aggregate per carrier / source / destination combination, in
+     * the order the combinations first transferred during the tick.
+     *
+     * @return the aggregated transfers
+     */
+    public @NotNull List<Transfer> transfers() {
+        return transfers;
+    }
+
+    /** Returns the number of items moved by all transfers in this batch. */
+    public long totalAmount() {
+        long total = 0L;
+        for (Transfer transfer : transfers) {
+            total += transfer.amount;
+        }
+        return total;
+    }
+
+    /**
+     * Aggregated transfers between one source and one destination. Positions
+     * follow the {@link InventoryTransferPre} contract.
+     */
+    public static final class Transfer {
+        private final RBlockPos sourcePos;
+        private final RBlockPos targetPos;
+        private final TransferSource source;
+        private final int transfers;
+        private final long amount;
+        private final List<Supplier<RItem>> itemSuppliers;
+        private List<RItem> items;
+
+        public Transfer(
+            @Nullable RBlockPos sourcePos,
+            @Nullable RBlockPos targetPos,
+            @NotNull TransferSource source,
+            int transfers,
+            long amount,
+            @NotNull List<Supplier<RItem>> items
+        ) {
+            if (sourcePos == null && targetPos == null) {
+                throw new IllegalArgumentException("at least one of sourcePos/targetPos must be non-null");
+            }
+            this.sourcePos = sourcePos;
+            this.targetPos = targetPos;
+            this.source = Objects.requireNonNull(source, "source");
+            this.transfers = transfers;
+            this.amount = amount;
+            this.itemSuppliers = List.copyOf(Objects.requireNonNull(items, "items"));
+        }
+
+        public @Nullable RBlockPos sourcePos() {
+            return sourcePos;
+        }
+
+        public @Nullable RBlockPos targetPos() {
+            return targetPos;
+        }
+
+        public @NotNull TransferSource source() {
+            return source;
+        }
+
+        /** Returns the number of individual transfer operations aggregated here. */
+        public int transfers() {
+            return transfers;
+        }
+
+        /** Returns the number of items moved by those operations. */
+        public long amount() {
+            return amount;
+        }
+
+        /**
+         * Returns the moved items, one per transfer operation, each with the
+         * amount that operation moved. Wrapped on first access; items the
+         * platform could not wrap are left out.
+         *
+         * @return the moved items
+         */
+        public synchronized @NotNull List<RItem> items() {
+            if (items == null) {
+                List<RItem> wrapped = new ArrayList<>(itemSuppliers.size());
+                for (Supplier<RItem> supplier : itemSuppliers) {
+                    RItem item = supplier.get();
+                    if (item != null) {
+                        wrapped.add(item);
+                    }
+                }
+                items = List.copyOf(wrapped);
+            }
+            return items;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package de.t14d3.rapunzellib.events.inventory;
+
+import de.t14d3.rapunzellib.events.inventory.InventoryTransferPre.TransferSource;
+import de.t14d3.rapunzellib.nbt.item.RItem;
+import de.t14d3.rapunzellib.objects.RBlockPos;
+import de.t14d3.rapunzellib.objects.RWorldRef;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Aggregates carrier transfers into one {@link HopperTransferBatchEvent} per
+ * world and tick.
+ *
+ * <p>Platform bridges {@link #record} every completed transfer and call
+ * {@link #flush()} at the end of the server tick. Transfers recorded after the
+ * tick clock advanced without a flush first emit the previous tick's batches,
+ * so a missed tick-end hook delays events by at most one tick instead of
+ * merging ticks.</p>
+ */
+public final class HopperTransferBatcher {
+    private final LongSupplier tickClock;
+    private final Consumer<HopperTransferBatchEvent> sink;
+    private final Map<RWorldRef, Map<Key, Aggregate>> pending = new LinkedHashMap<>();
+    private long tick;
+
+    /**
+     * @param tickClock returns the current server tick
+     * @param sink      receives the batches, outside of the batcher's lock
+     */
+    public HopperTransferBatcher(@NotNull LongSupplier tickClock, @NotNull Consumer<HopperTransferBatchEvent> sink) {
+        this.tickClock = Objects.requireNonNull(tickClock, "tickClock");
+        this.sink = Objects.requireNonNull(sink, "sink");
+    }
+
+    /**
+     * Records one completed transfer.
+     *
+     * @param amount the number of items the transfer moved; non-positive amounts are ignored
+     * @param item   lazily wraps the moved item, or null when no item should be reported
+     */
+    public void record(
+        @NotNull RWorldRef world,
+        @Nullable RBlockPos sourcePos,
+        @Nullable RBlockPos targetPos,
+        @NotNull TransferSource source,
+        int amount,
+        @Nullable Supplier<RItem> item
+    ) {
+        Objects.requireNonNull(world, "world");
+        Objects.requireNonNull(source, "source");
+        if (amount <= 0 || (sourcePos == null && targetPos == null)) return;
+
+        long now = tickClock.getAsLong();
+        List<HopperTransferBatchEvent> stale = null;
+        synchronized (this) {
+            if (now != tick) {
+                stale = drain();
+                tick = now;
+            }
+            pending.computeIfAbsent(world, ignored -> new LinkedHashMap<>())
+                .computeIfAbsent(new Key(sourcePos, targetPos, source), ignored -> new Aggregate())
+                .add(amount, item);
+        }
+        emit(stale);
+    }
+
+    /** Emits all pending batches. Called at the end of every server tick. */
+    public void flush() {
+        List<HopperTransferBatchEvent> batches;
+        synchronized (this) {
+            batches = drain();
+        }
+        emit(batches);
+    }
+
+    /** Drops pending batches without emitting them (bridge shutdown). */
+    public synchronized void clear() {
+        pending.clear();
+    }
+
+    /** Returns the number of source/destination aggregates waiting for the next flush. */
+    public synchronized int pendingCount() {
+        int count = 0;
+        for (Map<Key, Aggregate> aggregates : pending.values()) {
+            count += aggregates.size();
+        }
+        return count;
+    }
+
+    private List<HopperTransferBatchEvent> drain() {
+        if (pending.isEmpty()) return null;
+        List<HopperTransferBatchEvent> batches = new ArrayList<>(pending.size());
+        for (Map.Entry<RWorldRef, Map<Key, Aggregate>> world : pending.entrySet()) {
+            List<HopperTransferBatchEvent.Transfer> transfers = new ArrayList<>(world.getValue().size());
+            for (Map.Entry<Key, Aggregate> entry : world.getValue().entrySet()) {
+                Key key = entry.getKey();
+                Aggregate aggregate = entry.getValue();
+                transfers.add(new HopperTransferBatchEvent.Transfer(
+                    key.sourcePos, key.targetPos, key.source, aggregate.transfers, aggregate.amount, aggregate.items));
+            }
+            batches.add(new HopperTransferBatchEvent(world.getKey(), tick, transfers));
+        }
+        pending.clear();
+        return batches;
+    }
+
+    private void emit(@Nullable List<HopperTransferBatchEvent> batches) {
+        if (batches == null) return;
+        for (HopperTransferBatchEvent batch : batches) {
+            sink.accept(batch);
+        }
+    }
+
+    private record Key(@Nullable RBlockPos sourcePos, @Nullable RBlockPos targetPos, TransferSource source) {}
+
+    private static final class Aggregate {
+        private final List<Supplier<RItem>> items = new ArrayList<>(4);
+        private int transfers;
+        private long amount;
+
+        private void add(int moved, @Nullable Supplier<RItem> item) {
+            transfers++;
+            amount += moved;
+            if (item != null) {
+                items.add(item);
+            }
+        }
+    }
+}
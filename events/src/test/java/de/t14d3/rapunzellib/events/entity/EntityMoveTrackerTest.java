@@ -0,0 +1,57 @@
+package de.t14d3.rapunzellib.events.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class EntityMoveTrackerTest {
+    @Test
+    void firstMoveAnchorsAndLaterMovesReportThePreviousAnchor() {
+        EntityMoveTracker tracker = new EntityMoveTracker();
+
+        assertFalse(tracker.moveTo(0.0, 64.0, 0.0, 1.0));
+        assertFalse(tracker.moveTo(0.5, 64.0, -0.5, 1.0));
+        assertTrue(tracker.moveTo(1.2, 64.0, 0.0, 1.0));
+        assertEquals(0.0, tracker.fromX());
+        assertEquals(64.0, tracker.fromY());
+        assertFalse(tracker.moveTo(2.0, 64.0, 0.0, 1.0));
+        assertTrue(tracker.moveTo(2.3, 64.0, 0.0, 1.0));
+        assertEquals(1.2, tracker.fromX());
+
+        tracker.reset();
+        assertFalse(tracker.isAnchored());
+        assertFalse(tracker.moveTo(100.0, 64.0, 0.0, 1.0));
+    }
+
+    @Test
+    void trackingStateLivesOnlyInTheTrackerInstance() {
+        for (Field field : EntityMoveTracker.class.getDeclaredFields()) {
+            assertFalse(Modifier.isStatic(field.getModifiers()), field.getName());
+            assertTrue(field.getType().isPrimitive(), field.getName());
+        }
+
+        FakeEntity first = new FakeEntity();
+        FakeEntity second = new FakeEntity();
+        assertFalse(first.move(0.0));
+        assertFalse(second.move(100.0));
+
+        assertTrue(first.move(1.5));
+        assertFalse(second.move(100.5));
+        assertEquals(0.0, first.tracker.fromX());
+        assertFalse(new FakeEntity().tracker.isAnchored());
+    }
+
+    /** Stand-in for a vanilla entity carrying the mixin-injected tracker field. */
+    private static final class FakeEntity {
+        private final EntityMoveTracker tracker = new EntityMoveTracker();
+
+        private boolean move(double x) {
+            return tracker.moveTo(x, 64.0, 0.0, 1.0);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package de.t14d3.rapunzellib.events.inventory;
+
+import de.t14d3.rapunzellib.events.inventory.InventoryTransferPre.TransferSource;
+import de.t14d3.rapunzellib.nbt.item.RItem;
+import de.t14d3.rapunzellib.objects.RBlockPos;
+import de.t14d3.rapunzellib.objects.RKey;
+import de.t14d3.rapunzellib.objects.RWorldRef;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class HopperTransferBatcherTest {
+    private static final RWorldRef OVERWORLD = new RWorldRef(null, RKey.of("minecraft", "overworld"));
+    private static final RWorldRef NETHER = new RWorldRef(null, RKey.of("minecraft", "the_nether"));
+    private static final RBlockPos CHEST = new RBlockPos(0, 64, 0);
+    private static final RBlockPos HOPPER = new RBlockPos(0, 63, 0);
+    private static final RBlockPos FURNACE = new RBlockPos(1, 63, 0);
+
+    @Test
+    void transfersWithinATickAreGroupedPerSourceAndDestination() {
+        AtomicLong clock = new AtomicLong(100L);
+        List<HopperTransferBatchEvent> fired = new ArrayList<>();
+        HopperTransferBatcher batcher = new HopperTransferBatcher(clock::get, fired::add);
+
+        for (int i = 0; i < 8; i++) {
+            batcher.record(OVERWORLD, CHEST, HOPPER, TransferSource.HOPPER, 1, null);
+        }
+        batcher.record(OVERWORLD, HOPPER, FURNACE, TransferSource.HOPPER, 3, null);
+        batcher.record(OVERWORLD, CHEST, null, TransferSource.HOPPER_MINECART, 2, null);
+        batcher.record(NETHER, CHEST, HOPPER, TransferSource.HOPPER, 1, null);
+        batcher.record(OVERWORLD, CHEST, HOPPER, TransferSource.HOPPER, 0, null);
+        assertTrue(fired.isEmpty());
+        assertEquals(4, batcher.pendingCount());
+
+        batcher.flush();
+
+        assertEquals(2, fired.size());
+        HopperTransferBatchEvent overworld = fired.get(0);
+        assertEquals(OVERWORLD, overworld.world());
+        assertEquals(100L, overworld.tick());
+        assertEquals(3, overworld.transfers().size());
+        HopperTransferBatchEvent.Transfer chestToHopper = overworld.transfers().get(0);
+        assertEquals(CHEST, chestToHopper.sourcePos());
+        assertEquals(HOPPER, chestToHopper.targetPos());
+        assertEquals(8, chestToHopper.transfers());
+        assertEquals(8L, chestToHopper.amount());
+        assertEquals(TransferSource.HOPPER_MINECART, overworld.transfers().get(2).source());
+        assertEquals(13L, overworld.totalAmount());
+        assertEquals(NETHER, fired.get(1).world());
+        assertEquals(0, batcher.pendingCount());
+
+        batcher.flush();
+        assertEquals(2, fired.size());
+    }
+
+    @Test
+    void advancingTheClockWithoutFlushEmitsThePreviousTickFirst() {
+        AtomicLong clock = new AtomicLong(1L);
+        List<HopperTransferBatchEvent> fired = new ArrayList<>();
+        HopperTransferBatcher batcher = new HopperTransferBatcher(clock::get, fired::add);
+
+        batcher.record(OVERWORLD, CHEST, HOPPER, TransferSource.HOPPER, 1, null);
+        batcher.record(OVERWORLD, CHEST, HOPPER, TransferSource.HOPPER, 1, null);
+        clock.set(2L);
+        batcher.record(OVERWORLD, CHEST, HOPPER, TransferSource.HOPPER, 1, null);
+
+        assertEquals(1, fired.size());
+        assertEquals(1L, fired.get(0).tick());
+        assertEquals(2, fired.get(0).transfers().get(0).transfers());
+
+        batcher.flush();
+        assertEquals(2, fired.size());
+        assertEquals(2L, fired.get(1).tick());
+        assertEquals(1, fired.get(1).transfers().get(0).transfers());
+    }
+
+    @Test
+    void itemsAreOnlyWrappedWhenAListenerAsksForThem() {
+        AtomicLong clock = new AtomicLong();
+        AtomicInteger wrapped = new AtomicInteger();
+        List<HopperTransferBatchEvent> fired = new ArrayList<>();
+        HopperTransferBatcher batcher = new HopperTransferBatcher(clock::get, fired::add);
+        Supplier<RItem> stone = () -> {
+            wrapped.incrementAndGet();
+            return RItem.of("minecraft:stone", 1);
+        };
+
+        for (int tick = 0; tick < 20; tick++) {
+            clock.set(tick);
+            for (int i = 0; i < 50; i++) {
+                batcher.record(OVERWORLD, CHEST, HOPPER, TransferSource.HOPPER, 1, stone);
+            }
+            batcher.flush();
+        }
+
+        long counted = fired.stream().mapToLong(HopperTransferBatchEvent::totalAmount).sum();
+        assertEquals(1_000L, counted);
+        assertEquals(0, wrapped.get());
+
+        HopperTransferBatchEvent.Transfer transfer = fired.get(0).transfers().get(0);
+        assertEquals(50, transfer.items().size());
+        assertEquals(50, transfer.items().size());
+        assertEquals(50, wrapped.get());
+        assertEquals(RKey.of("minecraft", "stone"), transfer.items().get(0).typeKey());
+    }
+}
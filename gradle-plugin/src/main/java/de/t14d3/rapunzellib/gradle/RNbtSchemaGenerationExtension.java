@@ -26,10 +26,13 @@ public abstract class RNbtSchemaGenerationExtension {
 
     public abstract DirectoryProperty getOutputDir();
 
+    public abstract Property<Boolean> getViews();
+
     public void applyDefaultConventions(Project project) {
         getInputFiles().from(project.getLayout().getProjectDirectory().file("src/main/rapunzellib/rnbt-schema.yml"));
         getPackageName().convention("generated.rapunzellib.nbt");
         getClassName().convention("GeneratedRNbtSchema");
         getOutputDir().convention(project.getLayout().getProjectDirectory().dir("src/generated/java"));
+        getViews().convention(false);
     }
 }
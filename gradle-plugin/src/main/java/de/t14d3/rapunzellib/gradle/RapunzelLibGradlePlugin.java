@@ -185,7 +185,7 @@ public final class RapunzelLibGradlePlugin implements Plugin<Project> {
             }
             if (project.getTasks().findByName("javadoc") != null) {
                 // Must match the active version's output dir used in createAndWirePreprocessTasks
-                File javadocSourceDir = new File(project.getBuildDir(), "generated-sources/multiversion");
+                File javadocSourceDir = activeOutputDir(project, "generated-sources/multiversion");
                 Set<File> javadocSourceDirs = new LinkedHashSet<>(mainSourceSet.getJava().getSrcDirs());
                 String srcDirCanonical = canonicalPath(sourceDir);
                 javadocSourceDirs.removeIf(f -> canonicalPath(f).equals(srcDirCanonical));
@@ -232,7 +232,9 @@ public final class RapunzelLibGradlePlugin implements Plugin<Project> {
                 // Use a version-independent output path so Gradle's incremental
                 // compilation detects unchanged source files across sequential
                 // version builds (same relative paths -> content-hash comparison works).
-                activeOutputDir = new File(project.getBuildDir(), outputRoot);
+                // It must not contain the per-version dirs: the task deletes stale files
+                // under its output dir, and overlapping outputs break up-to-date checks.
+                activeOutputDir = activeOutputDir(project, outputRoot);
                 File finalActiveOutputDir = activeOutputDir;
                 task.configure(t -> t.getOutputDir().set(finalActiveOutputDir));
             }
@@ -294,6 +296,10 @@ public final class RapunzelLibGradlePlugin implements Plugin<Project> {
         return new File(project.getBuildDir(), outputRoot + "/" + version);
     }
 
+    private File activeOutputDir(Project project, String outputRoot) {
+        return new File(project.getBuildDir(), outputRoot + "-active");
+    }
+
     private static String canonicalPath(File file) {
         if (file == null) return "";
         try {
@@ -53,6 +53,7 @@ public final class RapunzelLibTaskRegistrars {
             task.getPackageName().convention(extension.getRNbtSchema().getPackageName());
             task.getClassName().convention(extension.getRNbtSchema().getClassName());
             task.getOutputDir().convention(extension.getRNbtSchema().getOutputDir());
+            task.getViews().convention(extension.getRNbtSchema().getViews());
         });
     }
 
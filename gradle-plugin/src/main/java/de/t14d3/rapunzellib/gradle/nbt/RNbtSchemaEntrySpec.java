@@ -2,7 +2,15 @@ package de.t14d3.rapunzellib.gradle.nbt;
 
 import java.util.List;
 
-public record RNbtSchemaEntrySpec(String key, CodecSpec codec, List<RNbtSchemaEntrySpec> children) {
+public record RNbtSchemaEntrySpec(String key, CodecSpec codec, List<RNbtSchemaEntrySpec> children, boolean required) {
+    public RNbtSchemaEntrySpec(String key, CodecSpec codec, List<RNbtSchemaEntrySpec> children) {
+        this(key, codec, children, false);
+    }
+
+    public boolean hasChildren() {
+        return !children.isEmpty();
+    }
+
     public boolean requiresListImport() {
         return codec.requiresListImport() || children.stream().anyMatch(RNbtSchemaEntrySpec::requiresListImport);
     }
@@ -10,11 +10,14 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.regex.Pattern;
 
 public final class RNbtSchemaGenerator {
@@ -22,6 +25,21 @@ public final class RNbtSchemaGenerator {
     private static final Pattern CAMEL_CASE_BOUNDARY = Pattern.compile("([a-z0-9])([A-Z])");
     private static final Pattern NON_IDENTIFIER = Pattern.compile("[^A-Z0-9]+");
     private static final Pattern DUPLICATE_UNDERSCORES = Pattern.compile("_+");
+    private static final Set<String> RESERVED_COMPONENT_NAMES = Set.of(
+        "abstract", "assert", "boolean", "break", "byte", "case", "catch", "char", "class", "const", "continue",
+        "default", "do", "double", "else", "enum", "extends", "false", "final", "finally", "float", "for", "goto",
+        "if", "implements", "import", "instanceof", "int", "interface", "long", "native", "new", "null", "package",
+        "private", "protected", "public", "return", "short", "static", "strictfp", "super", "switch", "synchronized",
+        "this", "throw", "throws", "transient", "true", "try", "void", "volatile", "while", "_",
+        "builder", "compound", "encode", "entry", "extra", "clone", "equals", "finalize", "getClass", "hashCode",
+        "notify", "notifyAll", "toString", "wait"
+    );
+    private static final Set<String> RESERVED_TYPE_NAMES = Set.of(
+        "Boolean", "Byte", "Component", "Double", "Fields", "Float", "IllegalArgumentException", "Integer",
+        "LinkedHashMap", "List", "Long", "Map", "Object", "Objects", "Paths", "RNbtCodec", "RNbtCodecs",
+        "RNbtCompound", "RNbtCompoundBuilder", "RNbtField", "RNbtPath", "RNbtSchema", "RNbtValue",
+        "RuntimeException", "SerializationException", "Short", "String", "View"
+    );
 
     private RNbtSchemaGenerator() {
     }
@@ -67,6 +85,18 @@ public final class RNbtSchemaGenerator {
     }
 
     public static String renderJavaSource(String packageName, String className, RNbtSchemaSpec schema) {
+        return renderJavaSource(packageName, className, schema, false);
+    }
+
+    /**
+     * Renders the generated schema class.
+     * <p>
+     * With {@code views} enabled the class also contains a {@code View} record with one typed
+     * component per root entry (nested records for compound entries that declare children) and a
+     * single-pass {@code decode}/{@code encode} pair, so hot item and entity data paths can read a
+     * whole compound once instead of resolving every field through {@code RNbtPath} lookups.</p>
+     */
+    public static String renderJavaSource(String packageName, String className, RNbtSchemaSpec schema, boolean views) {
         requireValidPackageName(packageName);
         requireValidJavaIdentifier(className, "class name");
         if (schema.name().isBlank()) {
@@ -76,7 +106,7 @@ public final class RNbtSchemaGenerator {
             throw new GradleException("RNbt schema '" + schema.name() + "' must contain at least one entry.");
         }
 
-        LinkedHashSet<String> imports = new LinkedHashSet<>(List.of(
+        TreeSet<String> imports = new TreeSet<>(List.of(
             "de.t14d3.rapunzellib.nbt.RNbtCodec",
             "de.t14d3.rapunzellib.nbt.RNbtCodecs",
             "de.t14d3.rapunzellib.nbt.RNbtField",
@@ -95,6 +125,17 @@ public final class RNbtSchemaGenerator {
         if (schema.requiresComponentImport()) {
             imports.add("net.kyori.adventure.text.Component");
         }
+        if (views) {
+            imports.addAll(List.of(
+                "de.t14d3.rapunzellib.nbt.RNbtCompound",
+                "de.t14d3.rapunzellib.nbt.RNbtCompoundBuilder",
+                "de.t14d3.rapunzellib.nbt.RNbtValue",
+                "de.t14d3.rapunzellib.nbt.SerializationException",
+                "java.util.LinkedHashMap",
+                "java.util.Map",
+                "java.util.Objects"
+            ));
+        }
 
         List<RNbtSchemaEntrySpec> rootFields = schema.entries();
         Map<String, String> rootFieldNames = uniqueConstantNames(rootFields.stream().map(RNbtSchemaEntrySpec::key).toList());
@@ -109,8 +150,11 @@ public final class RNbtSchemaGenerator {
         }
         source.append("\n/**\n")
             .append(" * Generated by rapunzellibGenerateRNbtSchema for the '").append(schema.name()).append("' schema.\n")
-            .append(" * Schema inputs are checked-in YAML declarations of known NBT paths.\n")
-            .append(" */\n")
+            .append(" * Schema inputs are checked-in YAML declarations of known NBT paths.\n");
+        if (views) {
+            source.append(" * {@link View} decodes and encodes a whole compound of this schema in a single pass.\n");
+        }
+        source.append(" */\n")
             .append("public final class ").append(className).append(" {\n")
             .append("    public static final String NAME = ").append(javaString(schema.name())).append(";\n")
             .append("    public static final RNbtSchema SCHEMA = RNbtSchema.of(\n")
@@ -160,8 +204,18 @@ public final class RNbtSchemaGenerator {
         source.append("\n")
             .append("        private Paths() {\n")
             .append("        }\n")
-            .append("    }\n\n")
-            .append("    private static <T> RNbtPath<T> path(RNbtCodec<T> codec, String first, String... rest) {\n")
+            .append("    }\n\n");
+
+        if (views) {
+            // Nested view types share one namespace, so none of them can shadow an enclosing or imported type.
+            Set<String> usedTypeNames = new HashSet<>(RESERVED_TYPE_NAMES);
+            usedTypeNames.add(className);
+            renderView(source, "    ", "View", "Typed view of a compound of this schema.", rootFields, List.of(), pathNames, usedTypeNames);
+            source.append("\n");
+            renderViewSupport(source, schema.entries().stream().anyMatch(RNbtSchemaGenerator::requiresEntry));
+        }
+
+        source.append("    private static <T> RNbtPath<T> path(RNbtCodec<T> codec, String first, String... rest) {\n")
             .append("        RNbtPath<T> path = RNbtPath.of(codec, first);\n")
             .append("        for (String key : rest) {\n")
             .append("            path = path.key(key);\n")
@@ -172,6 +226,222 @@ public final class RNbtSchemaGenerator {
         return source.toString();
     }
 
+    private static void renderView(
+        StringBuilder source,
+        String indent,
+        String typeName,
+        String description,
+        List<RNbtSchemaEntrySpec> entries,
+        List<String> parentSegments,
+        Map<String, String> pathNames,
+        Set<String> usedTypeNames
+    ) {
+        List<ViewComponent> components = viewComponents(entries, parentSegments, pathNames, usedTypeNames);
+
+        source.append(indent).append("/**\n")
+            .append(indent).append(" * ").append(description).append("\n")
+            .append(indent).append(" * <p>\n")
+            .append(indent).append(" * A component is {@code null} when its entry is absent. Entries the schema does not declare are\n")
+            .append(indent).append(" * kept in {@code extra}, so decoding and re-encoding a compound never drops data.</p>\n")
+            .append(indent).append(" */\n")
+            .append(indent).append("public record ").append(typeName).append("(\n");
+        for (ViewComponent component : components) {
+            source.append(indent).append("    ").append(component.javaType()).append(" ").append(component.name()).append(",\n");
+        }
+        source.append(indent).append("    RNbtCompound extra\n")
+            .append(indent).append(") {\n");
+
+        boolean hasCodecConstants = false;
+        for (ViewComponent component : components) {
+            if (component.nestedType() == null) {
+                source.append(indent).append("    private static final RNbtCodec<").append(component.javaType()).append("> ")
+                    .append(component.pathName()).append(" = Paths.").append(component.pathName()).append(".codec();\n");
+                hasCodecConstants = true;
+            }
+        }
+        if (hasCodecConstants) {
+            source.append("\n");
+        }
+
+        source.append(indent).append("    public ").append(typeName).append(" {\n");
+        for (ViewComponent component : components) {
+            if (component.entry().required()) {
+                source.append(indent).append("        Objects.requireNonNull(").append(component.name()).append(", ")
+                    .append(javaString(component.name())).append(");\n");
+            }
+        }
+        source.append(indent).append("        extra = requireUndeclared(extra");
+        for (ViewComponent component : components) {
+            source.append(", ").append(javaString(component.entry().key()));
+        }
+        source.append(");\n")
+            .append(indent).append("    }\n\n");
+
+        source.append(indent).append("    public static ").append(typeName).append(" decode(RNbtCompound compound) {\n");
+        for (ViewComponent component : components) {
+            source.append(indent).append("        ").append(component.javaType()).append(" ").append(component.name()).append(" = null;\n");
+        }
+        source.append(indent).append("        Map<String, RNbtValue> extra = null;\n")
+            .append(indent).append("        for (Map.Entry<String, RNbtValue> entry : compound.asMap().entrySet()) {\n")
+            .append(indent).append("            switch (entry.getKey()) {\n");
+        for (ViewComponent component : components) {
+            source.append(indent).append("                case ").append(javaString(component.entry().key())).append(" -> ")
+                .append(component.name()).append(" = ");
+            if (component.nestedType() != null) {
+                source.append(component.nestedType()).append(".decode(decodeEntry(RNbtCodecs.COMPOUND, entry.getValue(), ")
+                    .append(javaString(component.path())).append("));\n");
+            } else {
+                source.append("decodeEntry(").append(component.pathName()).append(", entry.getValue(), ")
+                    .append(javaString(component.path())).append(");\n");
+            }
+        }
+        source.append(indent).append("                default -> extra = putExtra(extra, entry.getKey(), entry.getValue());\n")
+            .append(indent).append("            }\n")
+            .append(indent).append("        }\n")
+            .append(indent).append("        return new ").append(typeName).append("(\n");
+        for (ViewComponent component : components) {
+            source.append(indent).append("            ");
+            if (component.entry().required()) {
+                source.append("requirePresent(").append(component.name()).append(", ").append(javaString(component.path())).append(")");
+            } else {
+                source.append(component.name());
+            }
+            source.append(",\n");
+        }
+        source.append(indent).append("            extra == null ? RNbtCompound.empty() : RNbtCompound.of(extra)\n")
+            .append(indent).append("        );\n")
+            .append(indent).append("    }\n\n");
+
+        source.append(indent).append("    public RNbtCompound encode() {\n")
+            .append(indent).append("        RNbtCompoundBuilder builder = RNbtCompound.builder();\n");
+        for (ViewComponent component : components) {
+            source.append(indent).append("        if (").append(component.name()).append(" != null) {\n")
+                .append(indent).append("            builder.put(").append(javaString(component.entry().key())).append(", ");
+            if (component.nestedType() != null) {
+                source.append(component.name()).append(".encode()");
+            } else {
+                source.append(component.pathName()).append(".encode(").append(component.name()).append(")");
+            }
+            source.append(");\n")
+                .append(indent).append("        }\n");
+        }
+        source.append(indent).append("        return builder.putAll(extra.asMap()).build();\n")
+            .append(indent).append("    }\n");
+
+        for (ViewComponent component : components) {
+            if (component.nestedType() == null) {
+                continue;
+            }
+            List<String> segments = new ArrayList<>(parentSegments);
+            segments.add(component.entry().key());
+            source.append("\n");
+            renderView(
+                source,
+                indent + "    ",
+                component.nestedType(),
+                "Typed view of the '" + component.path() + "' compound.",
+                component.entry().children(),
+                segments,
+                pathNames,
+                usedTypeNames
+            );
+        }
+        source.append(indent).append("}\n");
+    }
+
+    private static List<ViewComponent> viewComponents(
+        List<RNbtSchemaEntrySpec> entries,
+        List<String> parentSegments,
+        Map<String, String> pathNames,
+        Set<String> usedTypeNames
+    ) {
+        Map<String, String> constantNames = uniqueConstantNames(entries.stream().map(RNbtSchemaEntrySpec::key).toList());
+        Set<String> usedNames = new HashSet<>();
+        List<ViewComponent> components = new ArrayList<>();
+        for (RNbtSchemaEntrySpec entry : entries) {
+            String constantName = constantNames.get(entry.key());
+            String name = uniqueName(camelCase(constantName, false), usedNames, RESERVED_COMPONENT_NAMES, "Value");
+            List<String> segments = new ArrayList<>(parentSegments);
+            segments.add(entry.key());
+            String path = String.join(".", segments);
+            String nestedType = entry.hasChildren()
+                ? uniqueName(camelCase(constantName, true), usedTypeNames, Set.of(), "Entry")
+                : null;
+            String javaType = nestedType != null ? nestedType : entry.codec().javaType();
+            components.add(new ViewComponent(entry, name, javaType, nestedType, pathNames.get(path), path));
+        }
+        return components;
+    }
+
+    private static String uniqueName(String baseName, Set<String> used, Set<String> reserved, String suffix) {
+        String name = reserved.contains(baseName) || used.contains(baseName) ? baseName + suffix : baseName;
+        int count = 2;
+        while (reserved.contains(name) || used.contains(name)) {
+            name = baseName + suffix + count++;
+        }
+        used.add(name);
+        return name;
+    }
+
+    private static String camelCase(String constantName, boolean capitalizeFirst) {
+        StringBuilder name = new StringBuilder();
+        for (String part : constantName.split("_")) {
+            if (part.isEmpty()) {
+                continue;
+            }
+            boolean upper = capitalizeFirst || !name.isEmpty();
+            name.append(upper ? part.charAt(0) : Character.toLowerCase(part.charAt(0)))
+                .append(part.substring(1).toLowerCase(Locale.ROOT));
+        }
+        return name.toString();
+    }
+
+    private static boolean requiresEntry(RNbtSchemaEntrySpec entry) {
+        return entry.required() || entry.children().stream().anyMatch(RNbtSchemaGenerator::requiresEntry);
+    }
+
+    private static void renderViewSupport(StringBuilder source, boolean hasRequiredEntries) {
+        source.append("    private static <T> T decodeEntry(RNbtCodec<T> codec, RNbtValue value, String path) {\n")
+            .append("        try {\n")
+            .append("            return codec.decode(value);\n")
+            .append("        } catch (RuntimeException ex) {\n")
+            .append("            throw new SerializationException(\"Invalid RNbt entry '\" + path + \"' in schema '\" + NAME + \"': \" + ex.getMessage(), ex);\n")
+            .append("        }\n")
+            .append("    }\n\n");
+        if (hasRequiredEntries) {
+            source.append("    private static <T> T requirePresent(T value, String path) {\n")
+                .append("        if (value == null) {\n")
+                .append("            throw new SerializationException(\"Missing required RNbt entry '\" + path + \"' in schema '\" + NAME + \"'.\");\n")
+                .append("        }\n")
+                .append("        return value;\n")
+                .append("    }\n\n");
+        }
+        source.append("    private static Map<String, RNbtValue> putExtra(Map<String, RNbtValue> extra, String key, RNbtValue value) {\n")
+            .append("        Map<String, RNbtValue> entries = extra == null ? new LinkedHashMap<>() : extra;\n")
+            .append("        entries.put(key, value);\n")
+            .append("        return entries;\n")
+            .append("    }\n\n")
+            .append("    private static RNbtCompound requireUndeclared(RNbtCompound extra, String... declaredKeys) {\n")
+            .append("        Objects.requireNonNull(extra, \"extra\");\n")
+            .append("        for (String key : declaredKeys) {\n")
+            .append("            if (extra.contains(key)) {\n")
+            .append("                throw new IllegalArgumentException(\"Extra entries must not contain the declared key '\" + key + \"'.\");\n")
+            .append("            }\n")
+            .append("        }\n")
+            .append("        return extra;\n")
+            .append("    }\n\n");
+    }
+
+    private record ViewComponent(
+        RNbtSchemaEntrySpec entry,
+        String name,
+        String javaType,
+        String nestedType,
+        String pathName,
+        String path
+    ) {
+    }
+
     private static RNbtSchemaSpec parseInputFile(File file) {
         Yaml yaml = new Yaml(new SafeConstructor(new LoaderOptions()));
         Object loaded;
@@ -216,7 +486,8 @@ public final class RNbtSchemaGenerator {
             }
             children = parseEntries(rawChildren, file, context + ".children");
         }
-        return new RNbtSchemaEntrySpec(key, codec, children);
+        boolean required = optionalBoolean(rawEntry.get("required"), file, context + ".required");
+        return new RNbtSchemaEntrySpec(key, codec, children, required);
     }
 
     private static CodecSpec parseCodec(String typeName, Object rawElementType, File file, String context) {
@@ -330,6 +601,16 @@ public final class RNbtSchemaGenerator {
         return stringValue;
     }
 
+    private static boolean optionalBoolean(Object value, File file, String context) {
+        if (value == null) {
+            return false;
+        }
+        if (!(value instanceof Boolean booleanValue)) {
+            throw new GradleException("Expected RNbt schema boolean at " + file.getAbsolutePath() + " (" + context + ").");
+        }
+        return booleanValue;
+    }
+
     private static String javaString(String value) {
         StringBuilder builder = new StringBuilder("\"");
         for (int index = 0; index < value.length(); index++) {
@@ -27,6 +27,7 @@ public abstract class GenerateRNbtSchemaTask extends DefaultTask {
 
     public GenerateRNbtSchemaTask() {
         onlyIf("at least one RNbt schema input file exists", task -> inputFiles.getFiles().stream().anyMatch(File::isFile));
+        getViews().convention(false);
     }
 
     @InputFiles
@@ -42,6 +43,12 @@ public abstract class GenerateRNbtSchemaTask extends DefaultTask {
     @Input
     public abstract Property<String> getClassName();
 
+    /**
+     * Whether to also generate a typed {@code View} record with a single-pass decoder and encoder.
+     */
+    @Input
+    public abstract Property<Boolean> getViews();
+
     @OutputDirectory
     public abstract DirectoryProperty getOutputDir();
 
@@ -61,7 +68,7 @@ public abstract class GenerateRNbtSchemaTask extends DefaultTask {
         }
 
         var schema = RNbtSchemaGenerator.parseInputFiles(sourceInputs);
-        String source = RNbtSchemaGenerator.renderJavaSource(getPackageName().get(), getClassName().get(), schema);
+        String source = RNbtSchemaGenerator.renderJavaSource(getPackageName().get(), getClassName().get(), schema, getViews().get());
 
         File outputRoot = getOutputDir().get().getAsFile();
         if (!outputRoot.exists() && !outputRoot.mkdirs()) {
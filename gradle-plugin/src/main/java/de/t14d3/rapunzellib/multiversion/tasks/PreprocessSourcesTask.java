@@ -2,23 +2,62 @@ package de.t14d3.rapunzellib.multiversion.tasks;
 
 import de.t14d3.rapunzellib.multiversion.SourcePreprocessor;
 import org.gradle.api.DefaultTask;
+import org.gradle.api.file.ConfigurableFileTree;
 import org.gradle.api.file.FileTree;
+import org.gradle.api.file.FileType;
 import org.gradle.api.provider.Property;
 import org.gradle.api.tasks.*;
-import org.gradle.work.DisableCachingByDefault;
+import org.gradle.work.ChangeType;
+import org.gradle.work.FileChange;
+import org.gradle.work.Incremental;
+import org.gradle.work.InputChanges;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
-
-@DisableCachingByDefault
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Runs {@link SourcePreprocessor} over a source directory for one target version.
+ * <p>
+ * The task is incremental: after the first run only added or modified files are preprocessed
+ * and the outputs of removed files are deleted. Files are processed in parallel, and an output
+ * is only rewritten when its bytes change, so downstream compile tasks stay up to date when a
+ * source change does not affect this version. Outputs are cacheable.
+ */
+@CacheableTask
 public abstract class PreprocessSourcesTask extends DefaultTask {
+    private static final String[] SOURCE_PATTERNS = {"**/*.java", "**/*.kt"};
 
-    @InputDirectory
-    @PathSensitive(PathSensitivity.RELATIVE)
+    private final ConfigurableFileTree sourceFiles = getProject().getObjects().fileTree();
+
+    public PreprocessSourcesTask() {
+        sourceFiles.from(getSourceDir());
+        sourceFiles.include(SOURCE_PATTERNS);
+    }
+
+    /** Root of the sources; tracked through {@link #getSourceFiles()}. */
+    @Internal
     public abstract Property<File> getSourceDir();
 
+    @InputFiles
+    @Incremental
+    @SkipWhenEmpty
+    @IgnoreEmptyDirectories
+    @PathSensitive(PathSensitivity.RELATIVE)
+    public FileTree getSourceFiles() {
+        return sourceFiles;
+    }
+
     @OutputDirectory
     public abstract Property<File> getOutputDir();
 
@@ -26,9 +65,38 @@ public abstract class PreprocessSourcesTask extends DefaultTask {
     public abstract Property<String> getTargetVersion();
 
     @TaskAction
+    public void execute(InputChanges inputChanges) throws IOException {
+        if (!inputChanges.isIncremental()) {
+            preprocess();
+            return;
+        }
+
+        List<String> changed = new ArrayList<>();
+        int removed = 0;
+        for (FileChange change : inputChanges.getFileChanges(getSourceFiles())) {
+            if (change.getFileType() == FileType.DIRECTORY) {
+                continue;
+            }
+            if (change.getChangeType() == ChangeType.REMOVED) {
+                Files.deleteIfExists(getOutputDir().get().toPath().resolve(change.getNormalizedPath()));
+                removed++;
+            } else {
+                changed.add(change.getNormalizedPath());
+            }
+        }
+
+        int written = process(changed);
+        getLogger().info(
+                "Preprocessed {} changed files for version {} ({} rewritten, {} removed)",
+                changed.size(), getTargetVersion().get(), written, removed
+        );
+    }
+
+    /**
+     * Preprocesses every source file and deletes outputs whose source no longer exists.
+     */
     public void preprocess() throws IOException {
         File sourceDir = getSourceDir().get();
-        File outputDir = getOutputDir().get();
         String targetVersion = getTargetVersion().get();
 
         if (!sourceDir.exists()) {
@@ -36,30 +104,72 @@ public abstract class PreprocessSourcesTask extends DefaultTask {
             return;
         }
 
-        FileTree sourceFiles = getProject()
-                .fileTree(sourceDir)
-                .matching(spec -> spec.include("**/*.java", "**/*.kt"));
-
-        SourcePreprocessor preprocessor = new SourcePreprocessor(targetVersion);
-
-        int processedCount = 0;
-
-        for (File sourceFile : sourceFiles) {
-            String relativePath = sourceDir.toPath().relativize(sourceFile.toPath()).toString();
-            File outputFile = new File(outputDir, relativePath);
-
-            File parent = outputFile.getParentFile();
-            if (parent != null) {
-                parent.mkdirs();
+        List<String> relativePaths = new ArrayList<>();
+        getSourceFiles().visit(details -> {
+            if (!details.isDirectory()) {
+                relativePaths.add(details.getRelativePath().getPathString());
             }
+        });
+
+        int removed = deleteStaleOutputs(new HashSet<>(relativePaths));
+        int written = process(relativePaths);
+        getLogger().info(
+                "Preprocessed {} files for version {} ({} rewritten, {} stale outputs removed)",
+                relativePaths.size(), targetVersion, written, removed
+        );
+    }
 
-            String content = Files.readString(sourceFile.toPath(), StandardCharsets.UTF_8);
-            String processed = preprocessor.process(content);
+    private int process(List<String> relativePaths) throws IOException {
+        Path sourceRoot = getSourceDir().get().toPath();
+        Path outputRoot = getOutputDir().get().toPath();
+        SourcePreprocessor preprocessor = new SourcePreprocessor(getTargetVersion().get());
+        AtomicInteger written = new AtomicInteger();
+        try {
+            relativePaths.parallelStream().forEach(relativePath -> {
+                try {
+                    String content = Files.readString(sourceRoot.resolve(relativePath), StandardCharsets.UTF_8);
+                    byte[] processed = preprocessor.process(content).getBytes(StandardCharsets.UTF_8);
+                    if (writeIfChanged(outputRoot.resolve(relativePath), processed)) {
+                        written.incrementAndGet();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Failed to preprocess " + relativePath, e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return written.get();
+    }
 
-            Files.writeString(outputFile.toPath(), processed, StandardCharsets.UTF_8);
-            processedCount++;
+    private static boolean writeIfChanged(Path outputFile, byte[] content) throws IOException {
+        if (Files.isRegularFile(outputFile)
+                && Files.size(outputFile) == content.length
+                && Arrays.equals(Files.readAllBytes(outputFile), content)) {
+            return false;
         }
+        Path parent = outputFile.getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Files.write(outputFile, content);
+        return true;
+    }
 
-        getLogger().info("Preprocessed {} files for version {}", processedCount, targetVersion);
+    private int deleteStaleOutputs(Set<String> expected) throws IOException {
+        Path outputRoot = getOutputDir().get().toPath();
+        if (!Files.isDirectory(outputRoot)) {
+            return 0;
+        }
+        List<Path> stale;
+        try (Stream<Path> files = Files.walk(outputRoot)) {
+            stale = files.filter(Files::isRegularFile)
+                    .filter(file -> !expected.contains(outputRoot.relativize(file).toString().replace(File.separatorChar, '/')))
+                    .toList();
+        }
+        for (Path file : stale) {
+            Files.delete(file);
+        }
+        return stale.size();
     }
-}
\ No newline at end of file
+}
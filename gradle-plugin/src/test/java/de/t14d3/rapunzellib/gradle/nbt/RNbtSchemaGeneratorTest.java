@@ -9,6 +9,7 @@ import java.nio.file.Path;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -72,6 +73,65 @@ class RNbtSchemaGeneratorTest {
         assertTrue(source.contains("public static final RNbtSchema SCHEMA = RNbtSchema.of("));
     }
 
+    @Test
+    void renderJavaSourceEmitsTypedViewsWhenEnabled() throws Exception {
+        Path input = tempDir.resolve("item.yml");
+        Files.writeString(
+            input,
+            """
+            name: sample_item
+            entries:
+              - key: id
+                type: string
+                required: true
+              - key: components
+                type: compound
+                children:
+                  - key: rapunzellib:data
+                    type: compound
+                    children:
+                      - key: level
+                        type: int
+                      - key: class
+                        type: string
+                      - key: extra
+                        type: byte
+            """
+        );
+        RNbtSchemaSpec schema = RNbtSchemaGenerator.parseInputFiles(List.of(input.toFile()));
+
+        String source = RNbtSchemaGenerator.renderJavaSource("com.example.nbt", "GeneratedItemNbt", schema, true);
+
+        assertTrue(schema.entries().getFirst().required());
+        assertTrue(source.contains("public record View(\n        String id,\n        Components components,\n        RNbtCompound extra\n    )"));
+        assertTrue(source.contains("public record RapunzellibData(\n                Integer level,\n                String classValue,\n                Byte extraValue,\n"));
+        assertTrue(source.contains("case \"components\" -> components = Components.decode(decodeEntry(RNbtCodecs.COMPOUND, entry.getValue(), \"components\"));"));
+        assertTrue(source.contains("case \"level\" -> level = decodeEntry(COMPONENTS_RAPUNZELLIB_DATA_LEVEL, entry.getValue(), \"components.rapunzellib:data.level\");"));
+        assertTrue(source.contains("requirePresent(id, \"id\")"));
+        assertTrue(source.contains("builder.put(\"id\", ID.encode(id));"));
+        assertTrue(source.contains("import de.t14d3.rapunzellib.nbt.SerializationException;"));
+        assertFalse(RNbtSchemaGenerator.renderJavaSource("com.example.nbt", "GeneratedItemNbt", schema).contains("record View"));
+    }
+
+    @Test
+    void parseInputFilesRejectsNonBooleanRequiredFlags() throws Exception {
+        Path input = tempDir.resolve("required.yml");
+        Files.writeString(
+            input,
+            """
+            name: sample_item
+            entries:
+              - key: id
+                type: string
+                required: sometimes
+            """
+        );
+
+        GradleException failure = assertThrows(GradleException.class, () -> RNbtSchemaGenerator.parseInputFiles(List.of(input.toFile())));
+
+        assertTrue(failure.getMessage().contains("entries[0].required"));
+    }
+
     @Test
     void parseInputFilesRejectsDuplicatePaths() throws Exception {
         Path input = tempDir.resolve("duplicate.yml");
@@ -1,7 +1,10 @@
 package de.t14d3.rapunzellib.multiversion;
 
+import de.t14d3.rapunzellib.gradle.testutil.TestSupport;
 import de.t14d3.rapunzellib.multiversion.tasks.PreprocessSourcesTask;
 import org.gradle.api.Project;
+import org.gradle.testkit.runner.BuildResult;
+import org.gradle.testkit.runner.TaskOutcome;
 import org.gradle.testfixtures.ProjectBuilder;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -11,6 +14,8 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -302,4 +307,64 @@ class PreprocessSourcesTaskTest {
                 "Inactive branch should not be emitted as code"
         );
     }
+
+    @Test
+    void testIncrementalRunsOnlyTouchChangedFiles(@TempDir Path projectDir) throws IOException {
+        TestSupport.writeFile(projectDir, "settings.gradle", "rootProject.name = 'preprocess-incremental'");
+        TestSupport.writeFile(projectDir, "build.gradle", """
+                plugins {
+                    id 'java'
+                    id 'de.t14d3.rapunzellib'
+                }
+
+                rapunzellib {
+                    contextWrapper {
+                        enabled.set(false)
+                    }
+                }
+
+                tasks.register('preprocessTest', de.t14d3.rapunzellib.multiversion.tasks.PreprocessSourcesTask) {
+                    sourceDir.set(file('versioned'))
+                    outputDir.set(file('build/preprocessed'))
+                    targetVersion.set('1.21')
+                }
+                """);
+        TestSupport.writeFile(projectDir, "versioned/a/A.java", """
+                public class A {
+                    // #if VERSION >= 1.21
+                    int modern;
+                    // #endif
+                }""");
+        TestSupport.writeFile(projectDir, "versioned/b/B.java", "public class B {}");
+        TestSupport.writeFile(projectDir, "versioned/c/C.kt", "class C");
+
+        BuildResult first = TestSupport.runGradle(projectDir, "preprocessTest", "--build-cache");
+        assertEquals(TaskOutcome.SUCCESS, first.task(":preprocessTest").getOutcome());
+        Path outputA = projectDir.resolve("build/preprocessed/a/A.java");
+        Path outputB = projectDir.resolve("build/preprocessed/b/B.java");
+        Path outputC = projectDir.resolve("build/preprocessed/c/C.kt");
+        assertTrue(Files.exists(outputA) && Files.exists(outputB) && Files.exists(outputC));
+
+        FileTime untouched = FileTime.fromMillis(1_000_000L);
+        Files.setLastModifiedTime(outputB, untouched);
+        TestSupport.writeFile(projectDir, "versioned/a/A.java", "public class A { int changed; }");
+        // Only the line endings change, so the preprocessed output stays byte-identical.
+        Files.writeString(projectDir.resolve("versioned/b/B.java"), "public class B {}\r\n", StandardCharsets.UTF_8);
+        Files.delete(projectDir.resolve("versioned/c/C.kt"));
+
+        BuildResult second = TestSupport.runGradle(projectDir, "preprocessTest", "--build-cache", "--info");
+        assertEquals(TaskOutcome.SUCCESS, second.task(":preprocessTest").getOutcome());
+        assertTrue(second.getOutput().contains("Preprocessed 2 changed files for version 1.21 (1 rewritten, 1 removed)"));
+        assertTrue(Files.readString(outputA).contains("int changed;"));
+        assertEquals(untouched, Files.getLastModifiedTime(outputB), "Byte-identical outputs must not be rewritten");
+        assertFalse(Files.exists(outputC), "Outputs of removed sources must be deleted");
+
+        BuildResult third = TestSupport.runGradle(projectDir, "preprocessTest", "--build-cache");
+        assertEquals(TaskOutcome.UP_TO_DATE, third.task(":preprocessTest").getOutcome());
+
+        TestSupport.runGradle(projectDir, "clean");
+        BuildResult cached = TestSupport.runGradle(projectDir, "preprocessTest", "--build-cache");
+        assertEquals(TaskOutcome.FROM_CACHE, cached.task(":preprocessTest").getOutcome());
+        assertTrue(Files.readString(outputA).contains("int changed;"));
+    }
 }
@@ -1,5 +1,6 @@
 package de.t14d3.rapunzellib.gui.shared.dialog;
 
+import de.t14d3.rapunzellib.Rapunzel;
 import de.t14d3.rapunzellib.gui.context.GuiState;
 import de.t14d3.rapunzellib.gui.core.GuiSessionStore;
 import de.t14d3.rapunzellib.gui.dialog.GuiDialogFieldValues;
@@ -9,6 +10,7 @@ import de.t14d3.rapunzellib.gui.dialog.GuiDialogSubmissionProcessor;
 import de.t14d3.rapunzellib.objects.RPlayer;
 import org.jetbrains.annotations.NotNull;
 
+import java.time.Duration;
 import java.util.UUID;
 
 /**
@@ -17,7 +19,12 @@ import java.util.UUID;
  * Handles registration, clearing, and submission of dialog results.
  */
 public final class SharedDialogSessions {
-    private static final GuiSessionStore<PendingDialog> PENDING_DIALOGS = new GuiSessionStore<>();
+    /** Dialogs the client never answered (e.g. it disconnected) are dropped after this long. */
+    private static final Duration DIALOG_IDLE_TIMEOUT = Duration.ofMinutes(30);
+    private static final GuiSessionStore<PendingDialog> PENDING_DIALOGS = GuiSessionStore.<PendingDialog>builder()
+        .idleTimeout(DIALOG_IDLE_TIMEOUT)
+        .maxSessions(4_096)
+        .build();
 
     private SharedDialogSessions() {
     }
@@ -30,6 +37,7 @@ public final class SharedDialogSessions {
      */
     public static void register(@NotNull UUID playerId, @NotNull PendingDialog dialog) {
         PENDING_DIALOGS.put(playerId, dialog);
+        Rapunzel.findContext().ifPresent(context -> PENDING_DIALOGS.scheduleSweeps(context.scheduler()));
     }
 
     /**
@@ -1,5 +1,6 @@
 package de.t14d3.rapunzellib.gui.shared.inventory;
 
+import de.t14d3.rapunzellib.Rapunzel;
 import de.t14d3.rapunzellib.events.inventory.InventoryClickType;
 import de.t14d3.rapunzellib.events.inventory.InventoryEventBridge;
 import de.t14d3.rapunzellib.gui.Gui;
@@ -15,6 +16,8 @@ import de.t14d3.rapunzellib.gui.context.GuiState;
 import de.t14d3.rapunzellib.gui.core.GuiChildTransitions;
 import de.t14d3.rapunzellib.gui.core.GuiContexts;
 import de.t14d3.rapunzellib.gui.core.GuiInventoryElementHandler;
+import de.t14d3.rapunzellib.gui.core.GuiRenderPipeline;
+import de.t14d3.rapunzellib.gui.core.GuiRenderPlan;
 import de.t14d3.rapunzellib.gui.core.GuiSessionStore;
 import de.t14d3.rapunzellib.gui.core.GuiSlotPlan;
 import de.t14d3.rapunzellib.gui.element.DropdownElement;
@@ -27,12 +30,14 @@ import de.t14d3.rapunzellib.gui.shared.SharedGuiComponents;
 import de.t14d3.rapunzellib.inventory.InventoryFeatures;
 import de.t14d3.rapunzellib.inventory.RInventory;
 import de.t14d3.rapunzellib.nbt.item.ItemStackAdapter;
+import de.t14d3.rapunzellib.objects.REntity;
 import de.t14d3.rapunzellib.objects.RPlayer;
 import net.kyori.adventure.text.Component;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.SimpleContainer;
 import net.minecraft.world.entity.player.Inventory;
 import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.inventory.AbstractContainerMenu;
 import net.minecraft.world.inventory.AnvilMenu;
 import net.minecraft.world.inventory.ChestMenu;
 import net.minecraft.world.inventory.ContainerLevelAccess;
@@ -42,11 +47,13 @@ import net.minecraft.world.item.Items;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.time.Duration;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.OptionalInt;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 /**
@@ -66,12 +73,47 @@ public abstract class AbstractSharedInventoryRenderer implements GuiRenderer {
         MenuType.GENERIC_9x6,
     };
 
+    /**
+     * Sessions untouched for this long are assumed leaked (e.g. the close callback never fired), unless
+     * the player is still online and looking at the session's menu.
+     */
+    private static final Duration SESSION_IDLE_TIMEOUT = Duration.ofMinutes(30);
+    private static final int MAX_SESSIONS = 4_096;
+    private static final long SESSION_BASE_BYTES = 1_024L;
+    private static final long ITEM_SLOT_BYTES = 256L;
+    private static final long OPTION_BYTES = 64L;
+
     private final String name;
     private final Supplier<? extends ItemStackAdapter<ItemStack>> itemAdapterSupplier;
-    private final GuiSessionStore<OpenGuiSession> openGuis = new GuiSessionStore<>();
-    private final GuiSessionStore<DropdownSession> activeDropdowns = new GuiSessionStore<>();
-    private final GuiSessionStore<InputSession> activeInputs = new GuiSessionStore<>();
+    private final GuiSessionStore<OpenGuiSession> openGuis = GuiSessionStore.<OpenGuiSession>builder()
+        .idleTimeout(SESSION_IDLE_TIMEOUT)
+        .maxSessions(MAX_SESSIONS)
+        .sizeEstimator(session -> SESSION_BASE_BYTES + session.container.getContainerSize() * ITEM_SLOT_BYTES)
+        .keepAlive((playerId, session) -> this.activeDropdowns.contains(playerId)
+            || this.activeInputs.contains(playerId)
+            || showsMenu(session.context.player(), playerId, session.container))
+        .onEvict((playerId, session, cause) -> evictOpenGui(playerId, session))
+        .build();
+    private final GuiSessionStore<DropdownSession> activeDropdowns = GuiSessionStore.<DropdownSession>builder()
+        .idleTimeout(SESSION_IDLE_TIMEOUT)
+        .maxSessions(MAX_SESSIONS)
+        .sizeEstimator(session -> SESSION_BASE_BYTES
+            + session.container.getContainerSize() * ITEM_SLOT_BYTES
+            + session.slotOptions.size() * OPTION_BYTES)
+        .keepAlive((playerId, session) -> showsMenu(session.parent.context.player(), playerId, null))
+        .onEvict((playerId, session, cause) -> evictChildSession(playerId, session.parent))
+        .build();
+    private final GuiSessionStore<InputSession> activeInputs = GuiSessionStore.<InputSession>builder()
+        .idleTimeout(SESSION_IDLE_TIMEOUT)
+        .maxSessions(MAX_SESSIONS)
+        .sizeEstimator(session -> SESSION_BASE_BYTES)
+        .keepAlive((playerId, session) -> showsMenu(session.parent.context.player(), playerId, null))
+        .onEvict((playerId, session, cause) -> evictChildSession(playerId, session.parent))
+        .build();
     private final GuiChildTransitions childTransitions = new GuiChildTransitions();
+    private final GuiRenderPipeline renderPipeline = new GuiRenderPipeline(
+        task -> Rapunzel.findContext().ifPresentOrElse(context -> context.scheduler().runAsync(task), task)
+    );
 
     /**
      * Creates an inventory renderer.
@@ -102,16 +144,68 @@ public abstract class AbstractSharedInventoryRenderer implements GuiRenderer {
         return capabilities().contains(capability);
     }
 
+    /**
+     * Renders in two phases: the slot plan, element presentation and item stacks are prepared on an
+     * async worker from a state snapshot, then the menu is opened on the player's thread (its region
+     * thread on Folia). Rendering is therefore asynchronous: the menu is not open yet when this method
+     * returns. Async elements show their placeholder until their loaders finish, after which only
+     * their slots are rewritten. Results of a render that was superseded meanwhile (e.g. a page flip)
+     * are dropped.
+     */
     @Override
     public final void render(@NotNull Gui gui, @NotNull RPlayer player, @NotNull RenderContext context) {
+        if (unwrap(player) == null) {
+            return;
+        }
+
+        UUID playerId = player.uuid();
+        childTransitions.end(playerId);
+        long generation = renderPipeline.begin(playerId);
+        GuiState snapshot = GuiState.copyOf(context.state());
+        renderPipeline.run(
+            playerId,
+            generation,
+            () -> prepare(GuiRenderPlan.prepare(gui, snapshot, 6)),
+            prepared -> openPrepared(gui, player, context, prepared, generation, snapshot),
+            playerExecutor(player)
+        ).exceptionally(error -> logRenderFailure(gui, error));
+    }
+
+    /**
+     * Converts a prepared plan into native item stacks. Runs off the primary thread.
+     *
+     * @param plan the prepared plan
+     * @return the plan with its item stacks
+     */
+    private @NotNull PreparedRender prepare(@NotNull GuiRenderPlan plan) {
+        SharedInventoryElementRenderer elementRenderer = elementRenderer();
+        ItemStack[] items = new ItemStack[plan.slotPlan().size()];
+        plan.slots().forEach((slot, entry) -> items[slot] = elementRenderer.render(entry.entry()));
+        return new PreparedRender(plan, items);
+    }
+
+    /**
+     * Apply phase of {@link #render}: writes the prepared items and opens the menu.
+     */
+    private void openPrepared(
+        @NotNull Gui gui,
+        @NotNull RPlayer player,
+        @NotNull RenderContext context,
+        @NotNull PreparedRender prepared,
+        long generation,
+        @NotNull GuiState snapshot
+    ) {
         ServerPlayer serverPlayer = unwrap(player);
         if (serverPlayer == null) {
             return;
         }
 
-        childTransitions.end(player.uuid());
-        GuiSlotPlan slotPlan = GuiSlotPlan.resolve(gui, 6);
-        SimpleContainer container = buildContainer(slotPlan, context);
+        GuiSlotPlan slotPlan = prepared.plan().slotPlan();
+        SimpleContainer container = new SimpleContainer(slotPlan.size());
+        prepared.plan().slots().forEach((slot, entry) -> {
+            container.setItem(slot, prepared.items()[slot]);
+            context.registerElement(slot, entry.element());
+        });
         RInventory wrappedContainer = wrapInventory(container);
         Component title = gui.title() != null ? gui.title() : Component.text("GUI");
 
@@ -128,11 +222,80 @@ public abstract class AbstractSharedInventoryRenderer implements GuiRenderer {
         }
 
         openGuis.put(player.uuid(), new OpenGuiSession(gui, context, container, slotPlan));
+        scheduleSessionSweeps();
         InventoryEventBridge.dispatchOpen(player, wrappedContainer);
+
+        GuiRenderPlan plan = prepared.plan();
+        if (plan.pending().isEmpty()) {
+            return;
+        }
+        renderPipeline.run(
+            player.uuid(),
+            generation,
+            () -> {
+                GuiRenderPlan.Loaded loaded = plan.load(snapshot);
+                return new LoadedRender(loaded, prepare(GuiRenderPlan.prepareLoaded(gui, snapshot, loaded, 6)));
+            },
+            loaded -> applyLoaded(player.uuid(), container, plan, loaded),
+            playerExecutor(player)
+        ).exceptionally(error -> logRenderFailure(gui, error));
+    }
+
+    /**
+     * Rewrites the placeholder slots once the async values are loaded, if the same menu is still open.
+     * The loaded values only feed this menu; they are not written to the GUI state, so the next render
+     * (e.g. after a page flip) loads them again.
+     */
+    private void applyLoaded(
+        @NotNull UUID playerId,
+        @NotNull SimpleContainer container,
+        @NotNull GuiRenderPlan plan,
+        @NotNull LoadedRender loaded
+    ) {
+        OpenGuiSession session = openGuis.get(playerId);
+        if (session == null || session.container != container) {
+            return;
+        }
+        loaded.values().failures().forEach((key, error) -> Rapunzel.findContext().ifPresent(context ->
+            context.logger().warn("GUI value loader '{}' failed", key, error)));
+        for (Integer slot : plan.loadingSlots().keySet()) {
+            GuiRenderPlan.Slot entry = loaded.render().plan().slots().get(slot);
+            if (entry == null || entry.loading()) {
+                continue;
+            }
+            container.setItem(slot, loaded.render().items()[slot]);
+            session.context.registerElement(slot, entry.element());
+        }
+        ServerPlayer serverPlayer = unwrap(session.context.player());
+        if (serverPlayer != null && serverPlayer.containerMenu instanceof RootMenu menu && menu.topInventory == container) {
+            menu.broadcastChanges();
+        }
+    }
+
+    /**
+     * Returns an executor that runs tasks on the thread owning the player, so menu access stays on the
+     * player's region thread on Folia. Runs inline when there is no Rapunzel context.
+     */
+    private static @NotNull Executor playerExecutor(@NotNull RPlayer player) {
+        return task -> Rapunzel.findContext().ifPresentOrElse(context -> {
+            REntity entity = player.asEntity().orElse(null);
+            if (entity != null) {
+                context.scheduler().runFor(entity, task);
+            } else {
+                context.scheduler().run(task);
+            }
+        }, task);
+    }
+
+    private @Nullable Boolean logRenderFailure(@NotNull Gui gui, @NotNull Throwable error) {
+        Rapunzel.findContext().ifPresent(context -> context.logger().error("Failed to render GUI '{}'",
+            SharedGuiComponents.plain(gui.title() != null ? gui.title() : Component.text("GUI")), error));
+        return null;
     }
 
     @Override
     public final void close(@NotNull Gui gui, @NotNull RPlayer player) {
+        renderPipeline.end(player.uuid());
         ServerPlayer serverPlayer = unwrap(player);
         if (serverPlayer != null) {
             serverPlayer.closeContainer();
@@ -141,34 +304,30 @@ public abstract class AbstractSharedInventoryRenderer implements GuiRenderer {
     }
 
     /**
-     * Unwraps an RPlayer to a native ServerPlayer.
+     * Returns the combined size and eviction counters of this renderer's open GUI, dropdown and
+     * input sessions.
      *
-     * @param player the Rapunzel player
-     * @return the native server player, or {@code null}
+     * @return the session statistics
      */
-    protected abstract @Nullable ServerPlayer unwrap(@NotNull RPlayer player);
+    public final @NotNull GuiSessionStore.Stats sessionStats() {
+        GuiSessionStore.Stats roots = openGuis.stats();
+        GuiSessionStore.Stats dropdowns = activeDropdowns.stats();
+        GuiSessionStore.Stats inputs = activeInputs.stats();
+        return new GuiSessionStore.Stats(
+            roots.sessions() + dropdowns.sessions() + inputs.sessions(),
+            roots.estimatedBytes() + dropdowns.estimatedBytes() + inputs.estimatedBytes(),
+            roots.idleEvictions() + dropdowns.idleEvictions() + inputs.idleEvictions(),
+            roots.capacityEvictions() + dropdowns.capacityEvictions() + inputs.capacityEvictions()
+        );
+    }
 
     /**
-     * Builds a SimpleContainer with rendered GUI elements according to the slot plan.
+     * Unwraps an RPlayer to a native ServerPlayer.
      *
-     * @param slotPlan the slot plan
-     * @param context  the render context
-     * @return the container with rendered elements
+     * @param player the Rapunzel player
+     * @return the native server player, or {@code null}
      */
-    private @NotNull SimpleContainer buildContainer(@NotNull GuiSlotPlan slotPlan, @NotNull RenderContext context) {
-        SharedInventoryElementRenderer elementRenderer = elementRenderer();
-        SimpleContainer container = new SimpleContainer(slotPlan.size());
-        for (Map.Entry<Integer, GuiElement> entry : slotPlan.slots().entrySet()) {
-            int slot = entry.getKey();
-            if (slot < 0 || slot >= slotPlan.size()) {
-                continue;
-            }
-            GuiElement element = entry.getValue();
-            container.setItem(slot, elementRenderer.render(element, context));
-            context.registerElement(slot, element);
-        }
-        return container;
-    }
+    protected abstract @Nullable ServerPlayer unwrap(@NotNull RPlayer player);
 
     /**
      * Handles a click on the root menu.
@@ -431,6 +590,80 @@ public abstract class AbstractSharedInventoryRenderer implements GuiRenderer {
         childTransitions.end(playerId);
     }
 
+    /**
+     * Starts the idle session sweeps once a platform scheduler is available.
+     */
+    private void scheduleSessionSweeps() {
+        Rapunzel.findContext().ifPresent(context -> {
+            openGuis.scheduleSweeps(context.scheduler());
+            activeDropdowns.scheduleSweeps(context.scheduler());
+            activeInputs.scheduleSweeps(context.scheduler());
+        });
+    }
+
+    /**
+     * Whether the player is online and has one of this renderer's menus open for the given session.
+     * Only reads the open menu reference, so it is safe to call from the session sweep.
+     *
+     * @param player   the player
+     * @param playerId the player UUID
+     * @param root     the root container to match, or {@code null} to match a dropdown or input menu
+     * @return whether the session is still in use
+     */
+    private boolean showsMenu(@NotNull RPlayer player, @NotNull UUID playerId, @Nullable SimpleContainer root) {
+        ServerPlayer serverPlayer = unwrap(player);
+        if (serverPlayer == null || serverPlayer.hasDisconnected()) {
+            return false;
+        }
+        AbstractContainerMenu menu = serverPlayer.containerMenu;
+        if (root != null) {
+            return menu instanceof RootMenu rootMenu && rootMenu.topInventory == root;
+        }
+        return (menu instanceof DropdownMenu dropdown && dropdown.playerId.equals(playerId))
+            || (menu instanceof InputMenu input && input.playerId.equals(playerId));
+    }
+
+    /**
+     * Closes a root GUI whose session was evicted from the store, including a dropdown or input menu
+     * it had open. The menu is closed on the player's own thread; the sweep runs on the global one.
+     *
+     * @param playerId the player UUID
+     * @param session  the evicted session
+     */
+    private void evictOpenGui(@NotNull UUID playerId, @NotNull OpenGuiSession session) {
+        renderPipeline.end(playerId);
+        activeDropdowns.remove(playerId);
+        activeInputs.remove(playerId);
+        childTransitions.end(playerId);
+        RPlayer player = session.context.player();
+        playerExecutor(player).execute(() -> {
+            ServerPlayer serverPlayer = unwrap(player);
+            if (serverPlayer != null && (showsMenu(player, playerId, session.container) || showsMenu(player, playerId, null))) {
+                serverPlayer.closeContainer();
+            }
+            GuiCloseHooks.close(session.gui, player, CloseReason.PLUGIN);
+        });
+    }
+
+    /**
+     * Closes a dropdown or input menu whose session was evicted, without re-opening its parent. The
+     * menu is closed on the player's own thread.
+     *
+     * @param playerId the player UUID
+     * @param parent   the parent GUI session of the evicted child
+     */
+    private void evictChildSession(@NotNull UUID playerId, @NotNull OpenGuiSession parent) {
+        childTransitions.end(playerId);
+        RPlayer player = parent.context.player();
+        playerExecutor(player).execute(() -> {
+            ServerPlayer serverPlayer = unwrap(player);
+            if (serverPlayer != null && showsMenu(player, playerId, null)) {
+                serverPlayer.closeContainer();
+            }
+            GuiCloseHooks.close(parent.gui, player, CloseReason.PLUGIN);
+        });
+    }
+
     /**
      * Root chest menu that handles element click dispatch.
      */
@@ -684,6 +917,24 @@ public abstract class AbstractSharedInventoryRenderer implements GuiRenderer {
     ) {
     }
 
+    /**
+     * Result of the prepare phase: the plan and the native item stack for every planned slot.
+     *
+     * @param plan  the prepared plan
+     * @param items item stacks indexed by slot
+     */
+    private record PreparedRender(@NotNull GuiRenderPlan plan, @NotNull ItemStack[] items) {
+    }
+
+    /**
+     * Result of loading the async values of a render.
+     *
+     * @param values the loaded values and failures
+     * @param render the render prepared with the loaded values
+     */
+    private record LoadedRender(@NotNull GuiRenderPlan.Loaded values, @NotNull PreparedRender render) {
+    }
+
     /**
      * Holds the state for an active dropdown selection session.
      */
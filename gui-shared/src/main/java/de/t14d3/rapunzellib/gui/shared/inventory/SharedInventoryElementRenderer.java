@@ -3,17 +3,11 @@ package de.t14d3.rapunzellib.gui.shared.inventory;
 import de.t14d3.rapunzellib.gui.RenderContext;
 import de.t14d3.rapunzellib.gui.core.GuiInventoryPresentation;
 import de.t14d3.rapunzellib.gui.element.GuiElement;
-import de.t14d3.rapunzellib.gui.element.ItemElement;
 import de.t14d3.rapunzellib.gui.element.Option;
 import de.t14d3.rapunzellib.nbt.item.ItemStackAdapter;
-import de.t14d3.rapunzellib.nbt.item.RItem;
-import net.kyori.adventure.text.Component;
 import net.minecraft.world.item.ItemStack;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.ArrayList;
-import java.util.List;
-
 /**
  * Renders GUI elements and dropdown options into native Minecraft {@link ItemStack}s.
  * <p>
@@ -40,9 +34,6 @@ public final class SharedInventoryElementRenderer {
      * @return the rendered ItemStack
      */
     public @NotNull ItemStack render(@NotNull GuiElement element, @NotNull RenderContext context) {
-        if (element instanceof ItemElement item) {
-            return renderItem(item);
-        }
         return renderPresentation(GuiInventoryPresentation.present(element, context));
     }
 
@@ -61,19 +52,13 @@ public final class SharedInventoryElementRenderer {
     }
 
     /**
-     * Renders an ItemElement into an ItemStack.
+     * Renders a prepared presentation entry into an ItemStack. Safe to call off the primary thread.
      *
-     * @param element the item element
-     * @return the rendered ItemStack
+     * @param entry the presentation entry
+     * @return the rendered ItemStack, or {@link ItemStack#EMPTY} if empty
      */
-    private @NotNull ItemStack renderItem(@NotNull ItemElement element) {
-        RItem item = element.item();
-        if (element.tooltip() != null) {
-            List<Component> lore = new ArrayList<>(item.lore());
-            lore.add(element.tooltip());
-            item = item.withLore(lore);
-        }
-        return itemAdapter.create(item);
+    public @NotNull ItemStack render(@NotNull GuiInventoryPresentation.Entry entry) {
+        return renderPresentation(entry);
     }
 
     /**
@@ -148,6 +148,13 @@ public class GuiBuilder {
         return element(builder.build());
     }
     
+    @NotNull
+    public GuiBuilder async(@NotNull Consumer<AsyncBuilder> config) {
+        AsyncBuilder builder = new AsyncBuilder();
+        config.accept(builder);
+        return element(builder.build());
+    }
+    
     @NotNull
     public GuiBuilder slot(int slot, @NotNull GuiElement element) {
         this.useGridLayout = true;
@@ -50,6 +50,19 @@ public interface GuiState {
     static GuiState create() {
         return new DefaultGuiState();
     }
+
+    /**
+     * Creates an independent copy of a state, e.g. to hand to an async render.
+     *
+     * @param state the state to copy
+     * @return a new state with the same values
+     */
+    @NotNull
+    static GuiState copyOf(@NotNull GuiState state) {
+        GuiState copy = new DefaultGuiState();
+        state.values().forEach(copy::set);
+        return copy;
+    }
 }
 
 class DefaultGuiState implements GuiState {
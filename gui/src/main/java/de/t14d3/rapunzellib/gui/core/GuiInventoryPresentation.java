@@ -1,12 +1,15 @@
 package de.t14d3.rapunzellib.gui.core;
 
 import de.t14d3.rapunzellib.gui.RenderContext;
+import de.t14d3.rapunzellib.gui.context.GuiState;
+import de.t14d3.rapunzellib.gui.element.AsyncElement;
 import de.t14d3.rapunzellib.gui.element.ButtonElement;
 import de.t14d3.rapunzellib.gui.element.DividerElement;
 import de.t14d3.rapunzellib.gui.element.DropdownElement;
 import de.t14d3.rapunzellib.gui.element.GuiElement;
 import de.t14d3.rapunzellib.gui.element.Icon;
 import de.t14d3.rapunzellib.gui.element.InputElement;
+import de.t14d3.rapunzellib.gui.element.ItemElement;
 import de.t14d3.rapunzellib.gui.element.Option;
 import de.t14d3.rapunzellib.gui.element.PaginationElement;
 import de.t14d3.rapunzellib.gui.element.SliderElement;
@@ -30,13 +33,27 @@ public final class GuiInventoryPresentation {
     }
 
     public static @NotNull Entry present(@NotNull GuiElement element, @NotNull RenderContext context) {
+        return present(element, context.state());
+    }
+
+    /**
+     * Presents an element against a GUI state only. Safe to call off the primary thread with a
+     * state snapshot.
+     *
+     * @param element the element
+     * @param state   the GUI state
+     * @return the presentation entry
+     */
+    public static @NotNull Entry present(@NotNull GuiElement element, @NotNull GuiState state) {
         return switch (element) {
             case ButtonElement button -> button(button);
             case TextElement text -> entry("minecraft:paper", text.text(), List.of(), false);
-            case InputElement input -> input(input, context);
-            case ToggleElement toggle -> toggle(toggle, context);
-            case SliderElement slider -> slider(slider, context);
-            case DropdownElement dropdown -> dropdown(dropdown, context);
+            case InputElement input -> input(input, state);
+            case ToggleElement toggle -> toggle(toggle, state);
+            case SliderElement slider -> slider(slider, state);
+            case DropdownElement dropdown -> dropdown(dropdown, state);
+            case ItemElement item -> item(item);
+            case AsyncElement async -> present(async.resolve(state), state);
             case PaginationElement pagination -> pagination(pagination);
             case DividerElement ignored -> entry("minecraft:gray_stained_glass_pane", Component.text(" "), List.of(), false);
             case SpacerElement ignored -> Entry.blank();
@@ -84,9 +101,9 @@ public final class GuiInventoryPresentation {
         return new Entry(displayed, false);
     }
 
-    private static @NotNull Entry input(@NotNull InputElement input, @NotNull RenderContext context) {
+    private static @NotNull Entry input(@NotNull InputElement input, @NotNull GuiState state) {
         List<Component> lore = new ArrayList<>();
-        String currentValue = GuiElementStates.inputValue(input, context.state());
+        String currentValue = GuiElementStates.inputValue(input, state);
         if (!currentValue.isEmpty()) {
             lore.add(Component.text("Current: " + currentValue));
         } else if (input.defaultValue() != null && !input.defaultValue().isEmpty()) {
@@ -99,8 +116,8 @@ public final class GuiInventoryPresentation {
         return entry("minecraft:writable_book", labelOrKey(input.key(), input.label()), lore, false);
     }
 
-    private static @NotNull Entry toggle(@NotNull ToggleElement toggle, @NotNull RenderContext context) {
-        boolean value = GuiElementStates.toggleValue(toggle, context.state());
+    private static @NotNull Entry toggle(@NotNull ToggleElement toggle, @NotNull GuiState state) {
+        boolean value = GuiElementStates.toggleValue(toggle, state);
         return entry(
             value ? "minecraft:lime_wool" : "minecraft:red_wool",
             labelOrKey(toggle.key(), toggle.label()),
@@ -109,9 +126,9 @@ public final class GuiInventoryPresentation {
         );
     }
 
-    private static @NotNull Entry slider(@NotNull SliderElement slider, @NotNull RenderContext context) {
-        float value = GuiElementStates.sliderValue(slider, context.state());
-        int percent = GuiElementStates.sliderPercent(slider, context.state());
+    private static @NotNull Entry slider(@NotNull SliderElement slider, @NotNull GuiState state) {
+        float value = GuiElementStates.sliderValue(slider, state);
+        int percent = GuiElementStates.sliderPercent(slider, state);
         int filledBars = Math.round((percent / 100.0f) * 10.0f);
         return entry(
             "minecraft:repeater",
@@ -128,8 +145,8 @@ public final class GuiInventoryPresentation {
         );
     }
 
-    private static @NotNull Entry dropdown(@NotNull DropdownElement dropdown, @NotNull RenderContext context) {
-        GuiElementStates.DropdownState state = GuiElementStates.dropdown(dropdown, context.state());
+    private static @NotNull Entry dropdown(@NotNull DropdownElement dropdown, @NotNull GuiState guiState) {
+        GuiElementStates.DropdownState state = GuiElementStates.dropdown(dropdown, guiState);
         List<Component> lore = new ArrayList<>();
         if (state.selectedOption() != null) {
             lore.add(Component.text("Selected: ").append(state.selectedOption().display()));
@@ -143,6 +160,16 @@ public final class GuiInventoryPresentation {
         return entry("minecraft:hopper", labelOrKey(dropdown.key(), dropdown.label()), lore, false);
     }
 
+    private static @NotNull Entry item(@NotNull ItemElement element) {
+        RItem item = element.item();
+        if (element.tooltip() != null) {
+            List<Component> lore = new ArrayList<>(item.lore());
+            lore.add(element.tooltip());
+            item = item.withLore(lore);
+        }
+        return new Entry(item, false);
+    }
+
     private static @NotNull Entry pagination(@NotNull PaginationElement pagination) {
         return entry(
             "minecraft:book",
@@ -0,0 +1,105 @@
+package de.t14d3.rapunzellib.gui.core;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Runs GUI renders as an off-thread prepare phase followed by an apply phase on the viewer's thread.
+ * <p>
+ * Every render for a viewer starts a new generation via {@link #begin(UUID)}. When a prepare completes
+ * after a newer render began (e.g. the viewer flipped the page mid-prepare) or after {@link #end(UUID)},
+ * its result is discarded instead of applied.
+ * </p>
+ */
+public final class GuiRenderPipeline {
+    private final Executor prepareExecutor;
+    private final ConcurrentMap<UUID, Long> generations = new ConcurrentHashMap<>();
+    private final AtomicLong nextGeneration = new AtomicLong();
+    private final AtomicLong applied = new AtomicLong();
+    private final AtomicLong discarded = new AtomicLong();
+
+    /**
+     * Creates a pipeline.
+     *
+     * @param prepareExecutor runs the prepare phase, usually an async scheduler
+     */
+    public GuiRenderPipeline(@NotNull Executor prepareExecutor) {
+        this.prepareExecutor = Objects.requireNonNull(prepareExecutor, "prepareExecutor");
+    }
+
+    /**
+     * Starts a new render generation for a viewer, making every earlier generation stale.
+     *
+     * @param viewer the viewer
+     * @return the new generation
+     */
+    public long begin(@NotNull UUID viewer) {
+        long generation = nextGeneration.incrementAndGet();
+        generations.put(Objects.requireNonNull(viewer, "viewer"), generation);
+        return generation;
+    }
+
+    /** Makes every pending render of the viewer stale, e.g. when the GUI is closed. */
+    public void end(@NotNull UUID viewer) {
+        generations.remove(viewer);
+    }
+
+    public boolean isCurrent(@NotNull UUID viewer, long generation) {
+        Long current = generations.get(viewer);
+        return current != null && current == generation;
+    }
+
+    /**
+     * Prepares on the prepare executor and applies on {@code applyExecutor}, unless the generation went
+     * stale in between. The apply executor is the viewer's thread: the primary thread, or the viewer's
+     * own region thread on Folia.
+     *
+     * @param viewer        the viewer
+     * @param generation    the generation from {@link #begin(UUID)}
+     * @param prepare       the prepare phase; must not touch platform state, {@code null} discards the render
+     * @param apply         the apply phase
+     * @param applyExecutor runs the apply phase
+     * @param <P>           the prepared result type
+     * @return {@code true} if the result was applied, {@code false} if it was discarded as stale
+     */
+    public <P> @NotNull CompletableFuture<Boolean> run(
+        @NotNull UUID viewer,
+        long generation,
+        @NotNull Supplier<? extends P> prepare,
+        @NotNull Consumer<? super P> apply,
+        @NotNull Executor applyExecutor
+    ) {
+        Objects.requireNonNull(prepare, "prepare");
+        Objects.requireNonNull(apply, "apply");
+        Objects.requireNonNull(applyExecutor, "applyExecutor");
+        return CompletableFuture.supplyAsync(() -> isCurrent(viewer, generation) ? prepare.get() : null, prepareExecutor)
+            .thenApplyAsync(prepared -> {
+                if (prepared == null || !isCurrent(viewer, generation)) {
+                    discarded.incrementAndGet();
+                    return false;
+                }
+                apply.accept(prepared);
+                applied.incrementAndGet();
+                return true;
+            }, applyExecutor);
+    }
+
+    /** Returns the number of applied results. */
+    public long applied() {
+        return applied.get();
+    }
+
+    /** Returns the number of results discarded as stale. */
+    public long discarded() {
+        return discarded.get();
+    }
+}
@@ -0,0 +1,149 @@
+package de.t14d3.rapunzellib.gui.core;
+
+import de.t14d3.rapunzellib.gui.Gui;
+import de.t14d3.rapunzellib.gui.context.GuiState;
+import de.t14d3.rapunzellib.gui.element.AsyncElement;
+import de.t14d3.rapunzellib.gui.element.GuiElement;
+import de.t14d3.rapunzellib.gui.value.GuiValue;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Immutable result of the prepare phase of an inventory render.
+ * <p>
+ * {@link #prepare} resolves the slot plan and presents every element against a state snapshot, so it
+ * can run off the primary thread. The apply phase then only writes {@link Slot#entry() entries} into
+ * slots and registers the {@link Slot#element() elements} for clicks.
+ * </p>
+ *
+ * @param slotPlan the resolved slot plan
+ * @param slots    the presented slots in slot order, keyed by slot index
+ * @param pending  async elements whose value is not loaded yet
+ */
+public record GuiRenderPlan(
+    @NotNull GuiSlotPlan slotPlan,
+    @NotNull Map<Integer, Slot> slots,
+    @NotNull List<AsyncElement> pending
+) {
+    public GuiRenderPlan {
+        slots = Collections.unmodifiableMap(new TreeMap<>(slots));
+        pending = List.copyOf(pending);
+    }
+
+    /**
+     * One presented slot.
+     *
+     * @param element the element to register for clicks; async elements are resolved to their
+     *                placeholder or content
+     * @param entry   the item snapshot to show
+     * @param loading whether the slot shows an async placeholder
+     */
+    public record Slot(@NotNull GuiElement element, @NotNull GuiInventoryPresentation.Entry entry, boolean loading) {
+    }
+
+    /**
+     * Values loaded for the pending async elements.
+     *
+     * @param values   loaded values by state key
+     * @param failures loader failures by state key
+     */
+    public record Loaded(@NotNull Map<String, GuiValue> values, @NotNull Map<String, Exception> failures) {
+        public Loaded {
+            values = Map.copyOf(values);
+            failures = Map.copyOf(failures);
+        }
+    }
+
+    /**
+     * Presents every slot of the GUI against a state snapshot. Does not touch platform state.
+     *
+     * @param gui          the GUI
+     * @param state        the state snapshot; async elements without a value show their placeholder
+     * @param fallbackRows rows to use if the GUI does not define any
+     * @return the prepared plan
+     */
+    public static @NotNull GuiRenderPlan prepare(@NotNull Gui gui, @NotNull GuiState state, int fallbackRows) {
+        GuiSlotPlan slotPlan = GuiSlotPlan.resolve(gui, fallbackRows);
+        Map<Integer, Slot> slots = new LinkedHashMap<>();
+        Map<String, AsyncElement> pending = new LinkedHashMap<>();
+        for (Map.Entry<Integer, GuiElement> entry : new TreeMap<>(slotPlan.slots()).entrySet()) {
+            int slot = entry.getKey();
+            if (slot < 0 || slot >= slotPlan.size()) {
+                continue;
+            }
+            GuiElement element = entry.getValue();
+            boolean loading = false;
+            if (element instanceof AsyncElement async) {
+                loading = state.value(async.key()) == null;
+                if (loading) {
+                    pending.putIfAbsent(async.key(), async);
+                }
+                element = async.resolve(state);
+            }
+            slots.put(slot, new Slot(element, GuiInventoryPresentation.present(element, state), loading));
+        }
+        return new GuiRenderPlan(slotPlan, slots, new ArrayList<>(pending.values()));
+    }
+
+    /**
+     * Prepares the GUI with loaded async values overlaid on a copy of the snapshot. The snapshot
+     * itself is left untouched, so loaded values never leak into the GUI's persistent state and the
+     * next render loads them again.
+     *
+     * @param gui          the GUI
+     * @param snapshot     the state snapshot the values were loaded from
+     * @param loaded       the loaded values
+     * @param fallbackRows rows to use if the GUI does not define any
+     * @return the prepared plan
+     */
+    public static @NotNull GuiRenderPlan prepareLoaded(
+        @NotNull Gui gui,
+        @NotNull GuiState snapshot,
+        @NotNull Loaded loaded,
+        int fallbackRows
+    ) {
+        GuiState overlay = GuiState.copyOf(snapshot);
+        loaded.values().forEach(overlay::set);
+        return prepare(gui, overlay, fallbackRows);
+    }
+
+    /**
+     * Runs the loaders of all pending async elements on the calling thread. A failing loader does not
+     * stop the others.
+     *
+     * @param state the state snapshot passed to the loaders
+     * @return the loaded values and failures
+     */
+    public @NotNull Loaded load(@NotNull GuiState state) {
+        Map<String, GuiValue> values = new LinkedHashMap<>();
+        Map<String, Exception> failures = new LinkedHashMap<>();
+        for (AsyncElement async : pending) {
+            try {
+                GuiValue value = async.loader().load(state);
+                if (value != null) {
+                    values.put(async.key(), value);
+                }
+            } catch (Exception e) {
+                failures.put(async.key(), e);
+            }
+        }
+        return new Loaded(values, failures);
+    }
+
+    /** Returns the slots that show async placeholders. */
+    public @NotNull Map<Integer, Slot> loadingSlots() {
+        Map<Integer, Slot> loading = new LinkedHashMap<>();
+        slots.forEach((slot, entry) -> {
+            if (entry.loading()) {
+                loading.put(slot, entry);
+            }
+        });
+        return loading;
+    }
+}
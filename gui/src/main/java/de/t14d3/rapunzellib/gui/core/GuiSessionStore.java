@@ -1,32 +1,344 @@
 package de.t14d3.rapunzellib.gui.core;
 
+import de.t14d3.rapunzellib.scheduler.ScheduledTask;
+import de.t14d3.rapunzellib.scheduler.Scheduler;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiPredicate;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
 
+/**
+ * Per-player GUI session map with idle expiry and a size cap.
+ * <p>
+ * Every {@link #put} and {@link #get} marks the session as active. Sessions idle for longer than the
+ * idle timeout are evicted by {@link #sweepIdle()}, which {@link #scheduleSweeps(Scheduler)} runs
+ * periodically, unless the {@link Builder#keepAlive keep-alive check} reports them as still in use.
+ * When the store holds more than {@code maxSessions}, the least recently active session is evicted.
+ * Evicted sessions are handed to the {@link EvictionListener} so the owner can run its close path;
+ * {@link #remove} and {@link #clear} do not notify the listener.
+ * </p>
+ * <p>
+ * A store created with {@code new GuiSessionStore<>()} never evicts anything.
+ * </p>
+ *
+ * @param <S> the session type
+ */
 public final class GuiSessionStore<S> {
-    private final ConcurrentMap<UUID, S> sessions = new ConcurrentHashMap<>();
+    /** Rough retained size of one store entry (map node, UUID and bookkeeping) without the session. */
+    public static final long ENTRY_OVERHEAD_BYTES = 112L;
+    public static final Duration DEFAULT_SWEEP_INTERVAL = Duration.ofSeconds(30);
+
+    /** Why a session was evicted. */
+    public enum EvictionCause {
+        /** The session was idle for longer than the idle timeout. */
+        IDLE,
+        /** The store exceeded its session cap and this was the least recently active session. */
+        CAPACITY
+    }
+
+    /**
+     * Called for every evicted session.
+     *
+     * @param <S> the session type
+     */
+    @FunctionalInterface
+    public interface EvictionListener<S> {
+        /**
+         * Handles an evicted session. The session is already removed from the store.
+         *
+         * @param playerId the player the session belonged to
+         * @param session  the evicted session
+         * @param cause    why the session was evicted
+         */
+        void onEvict(@NotNull UUID playerId, @NotNull S session, @NotNull EvictionCause cause);
+    }
+
+    /**
+     * Snapshot of the store.
+     *
+     * @param sessions          number of stored sessions
+     * @param estimatedBytes    rough retained size of all stored sessions
+     * @param idleEvictions     sessions evicted for being idle
+     * @param capacityEvictions sessions evicted because the store was full
+     */
+    public record Stats(int sessions, long estimatedBytes, long idleEvictions, long capacityEvictions) {
+    }
+
+    private final ConcurrentMap<UUID, Entry<S>> sessions = new ConcurrentHashMap<>();
+    private final long idleTimeoutNanos;
+    private final int maxSessions;
+    private final Duration sweepInterval;
+    private final ToLongFunction<? super S> sizeEstimator;
+    private final EvictionListener<? super S> evictionListener;
+    private final BiPredicate<UUID, ? super S> keepAlive;
+    private final LongSupplier nanoClock;
+    private final AtomicLong estimatedBytes = new AtomicLong();
+    private final AtomicLong idleEvictions = new AtomicLong();
+    private final AtomicLong capacityEvictions = new AtomicLong();
+    private @Nullable ScheduledTask sweepTask;
+
+    /** Creates a store without idle expiry or a session cap. */
+    public GuiSessionStore() {
+        this(new Builder<>());
+    }
+
+    private GuiSessionStore(Builder<S> builder) {
+        this.idleTimeoutNanos = builder.idleTimeout == null ? 0L : builder.idleTimeout.toNanos();
+        this.maxSessions = builder.maxSessions;
+        this.sweepInterval = builder.sweepInterval;
+        this.sizeEstimator = builder.sizeEstimator;
+        this.evictionListener = builder.evictionListener;
+        this.keepAlive = builder.keepAlive;
+        this.nanoClock = builder.nanoClock;
+    }
+
+    public static <S> @NotNull Builder<S> builder() {
+        return new Builder<>();
+    }
 
     public @Nullable S put(@NotNull UUID playerId, @NotNull S session) {
-        return sessions.put(playerId, session);
+        Objects.requireNonNull(playerId, "playerId");
+        Objects.requireNonNull(session, "session");
+        Entry<S> entry = new Entry<>(session, ENTRY_OVERHEAD_BYTES + Math.max(0L, sizeEstimator.applyAsLong(session)), nanoClock.getAsLong());
+        estimatedBytes.addAndGet(entry.estimatedBytes);
+        Entry<S> previous = sessions.put(playerId, entry);
+        if (previous != null) {
+            estimatedBytes.addAndGet(-previous.estimatedBytes);
+        }
+        if (maxSessions > 0 && sessions.size() > maxSessions) {
+            evictOverCapacity(playerId);
+        }
+        return previous == null ? null : previous.session;
     }
 
     public @Nullable S get(@NotNull UUID playerId) {
-        return sessions.get(playerId);
+        Entry<S> entry = sessions.get(playerId);
+        if (entry == null) {
+            return null;
+        }
+        entry.lastActiveNanos = nanoClock.getAsLong();
+        return entry.session;
+    }
+
+    /**
+     * Marks a session as active without reading it.
+     *
+     * @param playerId the player
+     * @return whether the player has a session
+     */
+    public boolean touch(@NotNull UUID playerId) {
+        return get(playerId) != null;
     }
 
     public @Nullable S remove(@NotNull UUID playerId) {
-        return sessions.remove(playerId);
+        Entry<S> entry = sessions.remove(playerId);
+        if (entry == null) {
+            return null;
+        }
+        estimatedBytes.addAndGet(-entry.estimatedBytes);
+        return entry.session;
     }
 
     public boolean contains(@NotNull UUID playerId) {
         return sessions.containsKey(playerId);
     }
 
+    public int size() {
+        return sessions.size();
+    }
+
     public void clear() {
-        sessions.clear();
+        for (UUID playerId : sessions.keySet()) {
+            remove(playerId);
+        }
+    }
+
+    /**
+     * Evicts every session that was idle for longer than the idle timeout. Idle sessions the keep-alive
+     * check reports as still in use are marked active instead.
+     *
+     * @return the number of evicted sessions
+     */
+    public int sweepIdle() {
+        if (idleTimeoutNanos <= 0L) {
+            return 0;
+        }
+        long now = nanoClock.getAsLong();
+        int evicted = 0;
+        RuntimeException failure = null;
+        for (Map.Entry<UUID, Entry<S>> candidate : sessions.entrySet()) {
+            if (now - candidate.getValue().lastActiveNanos < idleTimeoutNanos) {
+                continue;
+            }
+            try {
+                if (keepAlive.test(candidate.getKey(), candidate.getValue().session)) {
+                    candidate.getValue().lastActiveNanos = now;
+                    continue;
+                }
+                if (evict(candidate.getKey(), candidate.getValue(), EvictionCause.IDLE)) {
+                    evicted++;
+                }
+            } catch (RuntimeException e) {
+                evicted++;
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return evicted;
+    }
+
+    /**
+     * Runs {@link #sweepIdle()} on the primary thread every sweep interval. Calling this again while
+     * the previous task is still scheduled returns that task.
+     *
+     * @param scheduler the scheduler
+     * @return the sweep task, cancel it to stop sweeping
+     */
+    public synchronized @NotNull ScheduledTask scheduleSweeps(@NotNull Scheduler scheduler) {
+        Objects.requireNonNull(scheduler, "scheduler");
+        ScheduledTask current = sweepTask;
+        if (current != null && !current.isCancelled()) {
+            return current;
+        }
+        current = scheduler.runRepeating(sweepInterval, sweepInterval, Scheduler.labelled("gui-session-sweep", this::sweepIdle));
+        sweepTask = current;
+        return current;
+    }
+
+    /** Returns the rough retained size of all stored sessions in bytes. */
+    public long estimatedBytes() {
+        return estimatedBytes.get();
+    }
+
+    public @NotNull Stats stats() {
+        return new Stats(sessions.size(), estimatedBytes.get(), idleEvictions.get(), capacityEvictions.get());
+    }
+
+    private void evictOverCapacity(UUID keep) {
+        while (sessions.size() > maxSessions) {
+            UUID eldestId = null;
+            Entry<S> eldest = null;
+            for (Map.Entry<UUID, Entry<S>> candidate : sessions.entrySet()) {
+                if (candidate.getKey().equals(keep)) {
+                    continue;
+                }
+                if (eldest == null || candidate.getValue().lastActiveNanos - eldest.lastActiveNanos < 0L) {
+                    eldestId = candidate.getKey();
+                    eldest = candidate.getValue();
+                }
+            }
+            if (eldest == null) {
+                return;
+            }
+            evict(eldestId, eldest, EvictionCause.CAPACITY);
+        }
+    }
+
+    private boolean evict(UUID playerId, Entry<S> entry, EvictionCause cause) {
+        if (!sessions.remove(playerId, entry)) {
+            return false;
+        }
+        estimatedBytes.addAndGet(-entry.estimatedBytes);
+        (cause == EvictionCause.IDLE ? idleEvictions : capacityEvictions).incrementAndGet();
+        evictionListener.onEvict(playerId, entry.session, cause);
+        return true;
+    }
+
+    private static final class Entry<S> {
+        private final S session;
+        private final long estimatedBytes;
+        private volatile long lastActiveNanos;
+
+        private Entry(S session, long estimatedBytes, long lastActiveNanos) {
+            this.session = session;
+            this.estimatedBytes = estimatedBytes;
+            this.lastActiveNanos = lastActiveNanos;
+        }
+    }
+
+    public static final class Builder<S> {
+        private @Nullable Duration idleTimeout;
+        private int maxSessions;
+        private Duration sweepInterval = DEFAULT_SWEEP_INTERVAL;
+        private ToLongFunction<? super S> sizeEstimator = _session -> 0L;
+        private EvictionListener<? super S> evictionListener = (_playerId, _session, _cause) -> {
+        };
+        private BiPredicate<UUID, ? super S> keepAlive = (_playerId, _session) -> false;
+        private LongSupplier nanoClock = System::nanoTime;
+
+        private Builder() {
+        }
+
+        /** Evicts sessions idle for longer than {@code idleTimeout}; {@code null} disables idle expiry. */
+        public @NotNull Builder<S> idleTimeout(@Nullable Duration idleTimeout) {
+            if (idleTimeout != null && (idleTimeout.isNegative() || idleTimeout.isZero())) {
+                throw new IllegalArgumentException("idleTimeout must be positive");
+            }
+            this.idleTimeout = idleTimeout;
+            return this;
+        }
+
+        /** Caps the number of sessions; {@code 0} means unlimited. */
+        public @NotNull Builder<S> maxSessions(int maxSessions) {
+            if (maxSessions < 0) {
+                throw new IllegalArgumentException("maxSessions must be >= 0");
+            }
+            this.maxSessions = maxSessions;
+            return this;
+        }
+
+        public @NotNull Builder<S> sweepInterval(@NotNull Duration sweepInterval) {
+            Objects.requireNonNull(sweepInterval, "sweepInterval");
+            if (sweepInterval.isNegative() || sweepInterval.isZero()) {
+                throw new IllegalArgumentException("sweepInterval must be positive");
+            }
+            this.sweepInterval = sweepInterval;
+            return this;
+        }
+
+        /** Estimates the bytes a session retains beyond {@link #ENTRY_OVERHEAD_BYTES}. */
+        public @NotNull Builder<S> sizeEstimator(@NotNull ToLongFunction<? super S> sizeEstimator) {
+            this.sizeEstimator = Objects.requireNonNull(sizeEstimator, "sizeEstimator");
+            return this;
+        }
+
+        public @NotNull Builder<S> onEvict(@NotNull EvictionListener<? super S> evictionListener) {
+            this.evictionListener = Objects.requireNonNull(evictionListener, "evictionListener");
+            return this;
+        }
+
+        /**
+         * Checks idle sessions before they are evicted; sessions it accepts are marked active instead.
+         * Runs on the sweeping thread, so it should only read state that is safe to read from there.
+         */
+        public @NotNull Builder<S> keepAlive(@NotNull BiPredicate<UUID, ? super S> keepAlive) {
+            this.keepAlive = Objects.requireNonNull(keepAlive, "keepAlive");
+            return this;
+        }
+
+        /** Sets the monotonic nanosecond clock used for activity tracking, mainly for tests. */
+        public @NotNull Builder<S> nanoClock(@NotNull LongSupplier nanoClock) {
+            this.nanoClock = Objects.requireNonNull(nanoClock, "nanoClock");
+            return this;
+        }
+
+        public @NotNull GuiSessionStore<S> build() {
+            return new GuiSessionStore<>(this);
+        }
     }
 }
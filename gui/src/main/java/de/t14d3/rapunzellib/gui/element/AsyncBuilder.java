@@ -0,0 +1,75 @@
+package de.t14d3.rapunzellib.gui.element;
+
+import de.t14d3.rapunzellib.gui.value.GuiValue;
+import de.t14d3.rapunzellib.gui.value.GuiValueLoader;
+import net.kyori.adventure.text.Component;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Function;
+
+public class AsyncBuilder {
+    private String key;
+    private GuiValueLoader loader;
+    private GuiElement placeholder;
+    private Function<GuiValue, GuiElement> content;
+
+    @NotNull
+    public AsyncBuilder key(@NotNull String key) {
+        this.key = key;
+        return this;
+    }
+
+    @NotNull
+    public AsyncBuilder loader(@NotNull GuiValueLoader loader) {
+        this.loader = loader;
+        return this;
+    }
+
+    @NotNull
+    public AsyncBuilder placeholder(@NotNull GuiElement placeholder) {
+        this.placeholder = placeholder;
+        return this;
+    }
+
+    @NotNull
+    public AsyncBuilder content(@NotNull Function<GuiValue, GuiElement> content) {
+        this.content = content;
+        return this;
+    }
+
+    @NotNull
+    public AsyncElement build() {
+        if (key == null) {
+            throw new IllegalStateException("Key is required");
+        }
+        if (loader == null) {
+            throw new IllegalStateException("Loader is required");
+        }
+        if (content == null) {
+            throw new IllegalStateException("Content is required");
+        }
+        GuiElement placeholder = this.placeholder != null ? this.placeholder : TextElement.of(Component.text("Loading..."));
+
+        return new AsyncElement() {
+            @Override
+            public @NotNull String key() {
+                return key;
+            }
+
+            @Override
+            public @NotNull GuiValueLoader loader() {
+                return loader;
+            }
+
+            @Override
+            public @NotNull GuiElement placeholder() {
+                return placeholder;
+            }
+
+            @Override
+            public @NotNull Function<GuiValue, GuiElement> content() {
+                return content;
+            }
+        };
+    }
+}
@@ -0,0 +1,48 @@
+package de.t14d3.rapunzellib.gui.element;
+
+import de.t14d3.rapunzellib.gui.context.GuiState;
+import de.t14d3.rapunzellib.gui.value.GuiValue;
+import de.t14d3.rapunzellib.gui.value.GuiValueLoader;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Function;
+
+/**
+ * Element whose content depends on a value loaded off the primary thread.
+ * <p>
+ * While the state has no value under {@link #key()}, the {@link #placeholder()} is shown and the
+ * renderer runs the {@link #loader()} asynchronously. The loaded value is stored under the key and
+ * the slot is re-rendered with the element built by {@link #content()}.
+ * </p>
+ */
+public interface AsyncElement extends GuiElement {
+    @NotNull String key();
+
+    @NotNull GuiValueLoader loader();
+
+    @NotNull GuiElement placeholder();
+
+    @NotNull Function<GuiValue, GuiElement> content();
+
+    /**
+     * Returns the element to show for the given state: the content once the value is loaded,
+     * otherwise the placeholder.
+     *
+     * @param state the GUI state
+     * @return the element to present
+     */
+    default @NotNull GuiElement resolve(@NotNull GuiState state) {
+        GuiValue value = state.value(key());
+        return value == null ? placeholder() : content().apply(value);
+    }
+
+    @Override
+    default @NotNull ElementType type() {
+        return ElementType.ASYNC;
+    }
+
+    @NotNull
+    static AsyncBuilder builder() {
+        return new AsyncBuilder();
+    }
+}
@@ -12,5 +12,6 @@ public enum ElementType {
     ITEM,
     DIVIDER,
     SPACER,
-    PAGINATION
+    PAGINATION,
+    ASYNC
 }
@@ -0,0 +1,24 @@
+package de.t14d3.rapunzellib.gui.value;
+
+import de.t14d3.rapunzellib.gui.context.GuiState;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Loads a GUI value off the primary thread, e.g. from a database.
+ * <p>
+ * Loaders run on an async worker with a snapshot of the GUI state, so they must not touch the
+ * live state or any platform objects.
+ * </p>
+ */
+@FunctionalInterface
+public interface GuiValueLoader {
+    /**
+     * Loads the value.
+     *
+     * @param state a snapshot of the GUI state at render time
+     * @return the loaded value, or {@code null} to keep showing the placeholder
+     * @throws Exception if loading fails; the placeholder stays visible
+     */
+    @Nullable GuiValue load(@NotNull GuiState state) throws Exception;
+}
@@ -0,0 +1,171 @@
+package de.t14d3.rapunzellib.gui.core;
+
+import de.t14d3.rapunzellib.gui.Gui;
+import de.t14d3.rapunzellib.gui.context.GuiState;
+import de.t14d3.rapunzellib.gui.element.AsyncElement;
+import de.t14d3.rapunzellib.gui.element.TextElement;
+import de.t14d3.rapunzellib.gui.value.GuiValue;
+import net.kyori.adventure.text.Component;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class GuiRenderPipelineTest {
+    private static final UUID VIEWER = new UUID(0L, 1L);
+
+    @Test
+    void prepareShowsPlaceholdersUntilAsyncValuesAreLoaded() {
+        Gui gui = Gui.builder()
+            .title(Component.text("Stats"))
+            .rows(1)
+            .slot(0, TextElement.of(Component.text("Header")))
+            .async(async -> async
+                .key("kills")
+                .loader(state -> GuiValue.of(42))
+                .content(value -> TextElement.of(Component.text("Kills: " + value.numberValue().intValue()))))
+            .async(async -> async
+                .key("deaths")
+                .loader(state -> {
+                    throw new IllegalStateException("database offline");
+                })
+                .content(value -> TextElement.of(Component.text("Deaths"))))
+            .build();
+        GuiState snapshot = GuiState.create();
+
+        GuiRenderPlan plan = GuiRenderPlan.prepare(gui, snapshot, 6);
+        assertEquals(9, plan.slotPlan().size());
+        assertFalse(plan.slots().get(0).loading());
+        assertTrue(plan.slots().get(1).loading());
+        assertEquals(List.of(1, 2), new ArrayList<>(plan.loadingSlots().keySet()));
+        assertEquals(List.of("kills", "deaths"), plan.pending().stream().map(AsyncElement::key).toList());
+
+        GuiRenderPlan.Loaded loaded = plan.load(snapshot);
+        assertEquals(GuiValue.of(42), loaded.values().get("kills"));
+        assertInstanceOf(IllegalStateException.class, loaded.failures().get("deaths"));
+
+        GuiRenderPlan reloaded = GuiRenderPlan.prepareLoaded(gui, snapshot, loaded, 6);
+        assertFalse(reloaded.slots().get(1).loading());
+        assertEquals(Component.text("Kills: 42"), reloaded.slots().get(1).entry().label());
+        assertTrue(reloaded.slots().get(2).loading());
+        assertTrue(snapshot.values().isEmpty());
+    }
+
+    @Test
+    void pageFlipAfterACompletedLoadLoadsTheNewPage() {
+        Gui gui = Gui.builder()
+            .title(Component.text("Entries"))
+            .rows(1)
+            .async(async -> async
+                .key("entries")
+                .loader(state -> GuiValue.of("page-" + state.get("page", Double.class, 0.0d).intValue()))
+                .content(value -> TextElement.of(Component.text(value.stringValue("")))))
+            .build();
+        GuiState live = GuiState.create();
+        live.setNumber("page", 0);
+
+        GuiState firstSnapshot = GuiState.copyOf(live);
+        GuiRenderPlan first = GuiRenderPlan.prepare(gui, firstSnapshot, 6);
+        GuiRenderPlan firstLoaded = GuiRenderPlan.prepareLoaded(gui, firstSnapshot, first.load(firstSnapshot), 6);
+        assertEquals(Component.text("page-0"), firstLoaded.slots().get(0).entry().label());
+        assertFalse(live.has("entries"));
+
+        live.setNumber("page", 1);
+        GuiState secondSnapshot = GuiState.copyOf(live);
+        GuiRenderPlan second = GuiRenderPlan.prepare(gui, secondSnapshot, 6);
+        assertTrue(second.slots().get(0).loading());
+        assertEquals(List.of("entries"), second.pending().stream().map(AsyncElement::key).toList());
+        GuiRenderPlan secondLoaded = GuiRenderPlan.prepareLoaded(gui, secondSnapshot, second.load(secondSnapshot), 6);
+        assertEquals(Component.text("page-1"), secondLoaded.slots().get(0).entry().label());
+    }
+
+    @Test
+    void pageFlipDuringPrepareDiscardsTheStaleRender() {
+        ManualExecutor async = new ManualExecutor();
+        ManualExecutor main = new ManualExecutor();
+        GuiRenderPipeline pipeline = new GuiRenderPipeline(async);
+        List<String> applied = new ArrayList<>();
+
+        long first = pipeline.begin(VIEWER);
+        CompletableFuture<Boolean> page1 = pipeline.run(VIEWER, first, () -> "page-1", applied::add, main);
+        async.drain();
+
+        long second = pipeline.begin(VIEWER);
+        CompletableFuture<Boolean> page2 = pipeline.run(VIEWER, second, () -> "page-2", applied::add, main);
+        async.drain();
+        main.drain();
+
+        assertFalse(page1.join());
+        assertTrue(page2.join());
+        assertEquals(List.of("page-2"), applied);
+        assertEquals(1L, pipeline.applied());
+        assertEquals(1L, pipeline.discarded());
+    }
+
+    @Test
+    void endDiscardsPendingRendersWithoutPreparing() {
+        ManualExecutor async = new ManualExecutor();
+        ManualExecutor main = new ManualExecutor();
+        GuiRenderPipeline pipeline = new GuiRenderPipeline(async);
+        List<String> prepared = new ArrayList<>();
+
+        long generation = pipeline.begin(VIEWER);
+        CompletableFuture<Boolean> render = pipeline.run(VIEWER, generation, () -> {
+            prepared.add("prepared");
+            return "page";
+        }, page -> {
+            throw new AssertionError("stale render applied");
+        }, main);
+        pipeline.end(VIEWER);
+        async.drain();
+        main.drain();
+
+        assertFalse(render.join());
+        assertTrue(prepared.isEmpty());
+        assertFalse(pipeline.isCurrent(VIEWER, generation));
+        assertEquals(1L, pipeline.discarded());
+    }
+
+    @Test
+    void applyRunsOnThePerRenderExecutor() {
+        ManualExecutor async = new ManualExecutor();
+        ManualExecutor playerThread = new ManualExecutor();
+        GuiRenderPipeline pipeline = new GuiRenderPipeline(async);
+        List<String> applied = new ArrayList<>();
+
+        long generation = pipeline.begin(VIEWER);
+        CompletableFuture<Boolean> render = pipeline.run(VIEWER, generation, () -> "page", applied::add, playerThread);
+        async.drain();
+        assertTrue(applied.isEmpty());
+
+        playerThread.drain();
+        assertTrue(render.join());
+        assertEquals(List.of("page"), applied);
+    }
+
+    private static final class ManualExecutor implements Executor {
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        void drain() {
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                task.run();
+            }
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package de.t14d3.rapunzellib.gui.core;
+
+import de.t14d3.rapunzellib.scheduler.ScheduledTask;
+import de.t14d3.rapunzellib.scheduler.Scheduler;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class GuiSessionStoreTest {
+    private static final UUID ALICE = new UUID(0L, 1L);
+    private static final UUID BOB = new UUID(0L, 2L);
+    private static final UUID CAROL = new UUID(0L, 3L);
+
+    @Test
+    void idleSessionsExpireAndActiveSessionsSurvive() {
+        AtomicLong clock = new AtomicLong();
+        List<String> evicted = new ArrayList<>();
+        GuiSessionStore<String> store = GuiSessionStore.<String>builder()
+            .idleTimeout(Duration.ofMinutes(5))
+            .nanoClock(clock::get)
+            .onEvict((playerId, session, cause) -> evicted.add(session + ":" + cause))
+            .build();
+
+        store.put(ALICE, "alice");
+        store.put(BOB, "bob");
+        clock.addAndGet(Duration.ofMinutes(4).toNanos());
+        assertEquals("alice", store.get(ALICE));
+        assertEquals(0, store.sweepIdle());
+
+        clock.addAndGet(Duration.ofMinutes(2).toNanos());
+        assertEquals(1, store.sweepIdle());
+        assertEquals(List.of("bob:IDLE"), evicted);
+        assertTrue(store.contains(ALICE));
+        assertFalse(store.contains(BOB));
+
+        clock.addAndGet(Duration.ofMinutes(5).toNanos());
+        assertTrue(store.touch(ALICE));
+        assertEquals(0, store.sweepIdle());
+        assertEquals(1L, store.stats().idleEvictions());
+    }
+
+    @Test
+    void sessionsStillInUseAreKeptAndMarkedActive() {
+        AtomicLong clock = new AtomicLong();
+        List<String> evicted = new ArrayList<>();
+        List<UUID> inUse = new ArrayList<>(List.of(ALICE));
+        GuiSessionStore<String> store = GuiSessionStore.<String>builder()
+            .idleTimeout(Duration.ofMinutes(5))
+            .nanoClock(clock::get)
+            .keepAlive((playerId, session) -> inUse.contains(playerId))
+            .onEvict((playerId, session, cause) -> evicted.add(session))
+            .build();
+
+        store.put(ALICE, "alice");
+        store.put(BOB, "bob");
+        clock.addAndGet(Duration.ofMinutes(6).toNanos());
+        assertEquals(1, store.sweepIdle());
+        assertEquals(List.of("bob"), evicted);
+        assertTrue(store.contains(ALICE));
+
+        inUse.clear();
+        clock.addAndGet(Duration.ofMinutes(4).toNanos());
+        assertEquals(0, store.sweepIdle());
+        clock.addAndGet(Duration.ofMinutes(2).toNanos());
+        assertEquals(1, store.sweepIdle());
+        assertEquals(List.of("bob", "alice"), evicted);
+    }
+
+    @Test
+    void capacityEvictsTheLeastRecentlyActiveSession() {
+        AtomicLong clock = new AtomicLong();
+        List<UUID> evicted = new ArrayList<>();
+        GuiSessionStore<String> store = GuiSessionStore.<String>builder()
+            .maxSessions(2)
+            .nanoClock(clock::get)
+            .onEvict((playerId, session, cause) -> {
+                assertSame(GuiSessionStore.EvictionCause.CAPACITY, cause);
+                evicted.add(playerId);
+            })
+            .build();
+
+        store.put(ALICE, "alice");
+        clock.incrementAndGet();
+        store.put(BOB, "bob");
+        clock.incrementAndGet();
+        store.get(ALICE);
+        clock.incrementAndGet();
+        store.put(CAROL, "carol");
+
+        assertEquals(List.of(BOB), evicted);
+        assertEquals(2, store.size());
+        assertTrue(store.contains(ALICE));
+        assertTrue(store.contains(CAROL));
+        assertEquals(1L, store.stats().capacityEvictions());
+
+        assertEquals("carol", store.put(CAROL, "carol-2"));
+        assertEquals(List.of(BOB), evicted);
+    }
+
+    @Test
+    void removeAndClearDoNotInvokeTheListenerAndTrackEstimatedSize() {
+        List<String> evicted = new ArrayList<>();
+        GuiSessionStore<String> store = GuiSessionStore.<String>builder()
+            .idleTimeout(Duration.ofMinutes(1))
+            .sizeEstimator(session -> session.length() * 100L)
+            .onEvict((playerId, session, cause) -> evicted.add(session))
+            .build();
+
+        store.put(ALICE, "alice");
+        store.put(BOB, "bob");
+        assertEquals(2 * GuiSessionStore.ENTRY_OVERHEAD_BYTES + 800L, store.estimatedBytes());
+
+        store.put(BOB, "bobby");
+        assertEquals(2 * GuiSessionStore.ENTRY_OVERHEAD_BYTES + 1_000L, store.estimatedBytes());
+
+        assertEquals("alice", store.remove(ALICE));
+        assertNull(store.remove(ALICE));
+        assertEquals(GuiSessionStore.ENTRY_OVERHEAD_BYTES + 500L, store.estimatedBytes());
+
+        store.clear();
+        assertEquals(new GuiSessionStore.Stats(0, 0L, 0L, 0L), store.stats());
+        assertTrue(evicted.isEmpty());
+    }
+
+    @Test
+    void sweepEvictsEveryIdleSessionEvenIfACloseHookFails() {
+        AtomicLong clock = new AtomicLong();
+        List<String> closed = new ArrayList<>();
+        GuiSessionStore<String> store = GuiSessionStore.<String>builder()
+            .idleTimeout(Duration.ofSeconds(1))
+            .nanoClock(clock::get)
+            .onEvict((playerId, session, cause) -> {
+                closed.add(session);
+                if (playerId.equals(ALICE)) {
+                    throw new IllegalStateException("close failed");
+                }
+            })
+            .build();
+        store.put(ALICE, "alice");
+        store.put(BOB, "bob");
+        clock.addAndGet(Duration.ofSeconds(2).toNanos());
+
+        assertThrows(IllegalStateException.class, store::sweepIdle);
+        assertEquals(2, closed.size());
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    void scheduledSweepsRunOnTheSchedulerOnce() {
+        AtomicLong clock = new AtomicLong();
+        List<String> evicted = new ArrayList<>();
+        GuiSessionStore<String> store = GuiSessionStore.<String>builder()
+            .idleTimeout(Duration.ofMinutes(1))
+            .sweepInterval(Duration.ofSeconds(10))
+            .nanoClock(clock::get)
+            .onEvict((playerId, session, cause) -> evicted.add(session))
+            .build();
+        ManualScheduler scheduler = new ManualScheduler();
+
+        ScheduledTask task = store.scheduleSweeps(scheduler);
+        assertSame(task, store.scheduleSweeps(scheduler));
+        assertEquals(1, scheduler.repeating.size());
+        assertEquals(Duration.ofSeconds(10), scheduler.period);
+
+        store.put(ALICE, "alice");
+        clock.addAndGet(Duration.ofMinutes(2).toNanos());
+        scheduler.tick();
+        assertEquals(List.of("alice"), evicted);
+
+        task.cancel();
+        store.scheduleSweeps(scheduler);
+        assertEquals(2, scheduler.repeating.size());
+    }
+
+    private static final class ManualScheduler implements Scheduler {
+        private final List<Runnable> repeating = new ArrayList<>();
+        private Duration period;
+
+        void tick() {
+            repeating.forEach(Runnable::run);
+        }
+
+        @Override
+        public @NotNull ScheduledTask run(@NotNull Runnable task) {
+            task.run();
+            return new SimpleTask();
+        }
+
+        @Override
+        public @NotNull ScheduledTask runAsync(@NotNull Runnable task) {
+            task.run();
+            return new SimpleTask();
+        }
+
+        @Override
+        public @NotNull ScheduledTask runLater(@NotNull Duration delay, @NotNull Runnable task) {
+            task.run();
+            return new SimpleTask();
+        }
+
+        @Override
+        public @NotNull ScheduledTask runRepeating(@NotNull Duration initialDelay, @NotNull Duration period, @NotNull Runnable task) {
+            this.period = period;
+            repeating.add(task);
+            return new SimpleTask();
+        }
+
+        @Override
+        public @NotNull ScheduledTask runRepeatingAsync(@NotNull Duration initialDelay, @NotNull Duration period, @NotNull Runnable task) {
+            return runRepeating(initialDelay, period, task);
+        }
+    }
+
+    private static final class SimpleTask implements ScheduledTask {
+        private boolean cancelled;
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package de.t14d3.rapunzellib.nbt.fabric;
 
 import de.t14d3.rapunzellib.nbt.RNbtCodecs;
+import de.t14d3.rapunzellib.nbt.RNbtCompound;
+import de.t14d3.rapunzellib.nbt.RNbtPath;
 import de.t14d3.rapunzellib.nbt.item.NativeRItem;
 import de.t14d3.rapunzellib.nbt.item.RItem;
 import net.kyori.adventure.text.Component;
@@ -21,6 +23,7 @@ import net.minecraft.world.item.component.CustomModelData;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -110,4 +113,32 @@ final class FabricItemStackAdapterTest {
         assertEquals(12, roundTrip.repairCost().orElseThrow());
         assertTrue(roundTrip.enchantmentGlintOverride().orElseThrow());
     }
+
+    @Test
+    void lazyItemDataReadsOneKeyFromManyItemsAndCopiesOnWrite() {
+        List<ItemStack> stacks = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            CompoundTag customData = new CompoundTag();
+            customData.putInt("slot", i);
+            customData.putString("owner", "Rapunzel");
+            ItemStack stack = new ItemStack(Items.PAPER);
+            stack.set(DataComponents.CUSTOM_DATA, CustomData.of(customData));
+            stacks.add(stack);
+        }
+
+        long sum = 0L;
+        for (ItemStack stack : stacks) {
+            sum += RNbtCodecs.INT.decode(adapter.data(stack).get("custom_data").orElseThrow().asCompound().get("slot").orElseThrow());
+        }
+        assertEquals(49_995_000L, sum);
+
+        ItemStack first = stacks.getFirst();
+        RNbtCompound data = adapter.data(first);
+        RNbtPath<Integer> slot = RNbtPath.of(RNbtCodecs.INT).key("custom_data").key("slot");
+        adapter.setData(first, slot.write(data, 42));
+
+        assertEquals(0, slot.read(data).orElseThrow());
+        assertEquals(42, first.get(DataComponents.CUSTOM_DATA).copyTag().getIntOr("slot", -1));
+        assertEquals("Rapunzel", first.get(DataComponents.CUSTOM_DATA).copyTag().getStringOr("owner", ""));
+    }
 }
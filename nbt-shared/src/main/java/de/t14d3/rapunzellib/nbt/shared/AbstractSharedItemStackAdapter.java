@@ -3,12 +3,13 @@ package de.t14d3.rapunzellib.nbt.shared;
 import de.t14d3.rapunzellib.PlatformId;
 import de.t14d3.rapunzellib.objects.RKey;
 import de.t14d3.rapunzellib.nbt.RNbtCompound;
+import de.t14d3.rapunzellib.nbt.RNbtPath;
+import de.t14d3.rapunzellib.nbt.RNbtValue;
 import de.t14d3.rapunzellib.nbt.item.ItemStackAdapter;
 import de.t14d3.rapunzellib.nbt.item.NativeRItem;
 import de.t14d3.rapunzellib.nbt.item.NativeRItemAccessor;
 import de.t14d3.rapunzellib.nbt.item.NativeRItemFactory;
 import de.t14d3.rapunzellib.nbt.item.RItem;
-import de.t14d3.rapunzellib.nbt.item.RItemBuilder;
 import de.t14d3.rapunzellib.nbt.item.RItemFields;
 import de.t14d3.rapunzellib.objects.RNative;
 import de.t14d3.rapunzellib.registry.RItemType;
@@ -17,6 +18,7 @@ import de.t14d3.rapunzellib.registry.RRegistryRef;
 import net.kyori.adventure.text.Component;
 import net.minecraft.core.component.DataComponents;
 import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.nbt.CompoundTag;
 // #if VERSION >= 1.21.11
 import net.minecraft.resources.Identifier;
 import net.minecraft.core.Holder;
@@ -34,8 +36,10 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 /**
  * Abstract base for platform-specific {@link ItemStackAdapter} implementations
@@ -142,9 +146,13 @@ public abstract class AbstractSharedItemStackAdapter implements ItemStackAdapter
         handle.setCount(amount);
     }
 
+    /**
+     * Returns the item data as a lazy view: only the components that are read get converted, and
+     * custom data is converted key by key. See {@link #lazyData(ItemStack)}.
+     */
     @Override
     public @NotNull RNbtCompound data(@NotNull ItemStack handle) {
-        return toShared(handle).data();
+        return lazyData(handle);
     }
 
     @Override
@@ -304,51 +312,74 @@ public abstract class AbstractSharedItemStackAdapter implements ItemStackAdapter
      * @return the shared RItem
      */
     protected @NotNull RItem toShared(@NotNull ItemStack nativeItem) {
+        return RItem.builder()
+            .typeRef(RItemType.ref(BuiltInRegistries.ITEM.getKey(nativeItem.getItem()).toString()))
+            .amount(nativeItem.getCount())
+            .data(lazyData(nativeItem))
+            .build();
+    }
+
+    /**
+     * Builds the shared item data of a native ItemStack as a lazy {@link RNbtCompound}.
+     * <p>
+     * The component values are captured when the view is created; they are immutable, so later
+     * changes to the stack do not leak into the view. Each component is converted only when it is
+     * first read, and custom data is copied and converted key by key through
+     * {@link SharedNbtIoSupport#toLazyTree(CompoundTag)}. Modifying the view copies only the
+     * changed path.
+     *
+     * @param nativeItem the native item stack
+     * @return the lazy item data
+     */
+    protected @NotNull RNbtCompound lazyData(@NotNull ItemStack nativeItem) {
         net.minecraft.network.chat.Component customName = nativeItem.get(DataComponents.CUSTOM_NAME);
         ItemLore loreComponent = nativeItem.get(DataComponents.LORE);
         CustomData customData = nativeItem.get(DataComponents.CUSTOM_DATA);
-        CustomModelData customModelData = nativeItem.get(DataComponents.CUSTOM_MODEL_DATA);
+        Integer modelData = readCustomModelData(nativeItem.get(DataComponents.CUSTOM_MODEL_DATA));
         Integer repairCost = nativeItem.get(DataComponents.REPAIR_COST);
         Boolean enchantmentGlintOverride = nativeItem.get(DataComponents.ENCHANTMENT_GLINT_OVERRIDE);
-
-        Component name = customName != null ? SharedAdventureComponentCodec.toAdventure(customName) : null;
-        List<Component> lore = loreComponent == null || loreComponent.lines().isEmpty()
-            ? List.of()
-            : loreComponent.lines().stream().map(SharedAdventureComponentCodec::toAdventure).toList();
-        RNbtCompound sharedCustomData = customData == null ? RNbtCompound.empty() : SharedNbtIoSupport.toTree(customData.copyTag());
-        Integer modelData = readCustomModelData(customModelData);
         int damage = nativeItem.getDamageValue();
+        boolean unbreakable = nativeItem.has(DataComponents.UNBREAKABLE);
 
-        RItemBuilder builder = RItem.builder()
-            .typeRef(RItemType.ref(BuiltInRegistries.ITEM.getKey(nativeItem.getItem()).toString()))
-            .amount(nativeItem.getCount());
-
-        if (name != null) {
-            builder.set(RItemFields.NAME, name);
+        // Same key order as the eager RItem builder produced: name, lore, custom data, then the rest.
+        LinkedHashMap<String, Supplier<RNbtValue>> components = new LinkedHashMap<>();
+        if (customName != null) {
+            components.put(componentKey(RItemFields.NAME),
+                () -> RItemFields.NAME.codec().encode(SharedAdventureComponentCodec.toAdventure(customName)));
+        }
+        if (loreComponent != null && !loreComponent.lines().isEmpty()) {
+            components.put(componentKey(RItemFields.LORE), () -> RItemFields.LORE.codec().encode(
+                loreComponent.lines().stream().map(SharedAdventureComponentCodec::toAdventure).toList()
+            ));
         }
-        if (!lore.isEmpty()) {
-            builder.set(RItemFields.LORE, lore);
+        LinkedHashMap<String, Supplier<RNbtValue>> root = new LinkedHashMap<>();
+        if (!components.isEmpty()) {
+            root.put(RItemFields.COMPONENTS.key(), null);
         }
-        if (!sharedCustomData.isEmpty()) {
-            builder.set(RItemFields.CUSTOM_DATA, sharedCustomData);
+        if (customData != null && !customData.isEmpty()) {
+            root.put(RItemFields.CUSTOM_DATA.key(), () -> SharedNbtIoSupport.toLazyTree(customData.copyTag()));
         }
         if (damage > 0) {
-            builder.set(RItemFields.DAMAGE, damage);
+            components.put(componentKey(RItemFields.DAMAGE), () -> RItemFields.DAMAGE.codec().encode(damage));
         }
-        if (nativeItem.has(DataComponents.UNBREAKABLE)) {
-            builder.set(RItemFields.UNBREAKABLE, Boolean.TRUE);
+        if (unbreakable) {
+            components.put(componentKey(RItemFields.UNBREAKABLE), () -> RItemFields.UNBREAKABLE.codec().encode(Boolean.TRUE));
         }
         if (modelData != null) {
-            builder.set(RItemFields.CUSTOM_MODEL_DATA, modelData);
+            components.put(componentKey(RItemFields.CUSTOM_MODEL_DATA), () -> RItemFields.CUSTOM_MODEL_DATA.codec().encode(modelData));
         }
         if (repairCost != null && repairCost != 0) {
-            builder.set(RItemFields.REPAIR_COST, repairCost);
+            components.put(componentKey(RItemFields.REPAIR_COST), () -> RItemFields.REPAIR_COST.codec().encode(repairCost));
         }
         if (enchantmentGlintOverride != null) {
-            builder.set(RItemFields.ENCHANTMENT_GLINT_OVERRIDE, enchantmentGlintOverride);
+            components.put(componentKey(RItemFields.ENCHANTMENT_GLINT_OVERRIDE),
+                () -> RItemFields.ENCHANTMENT_GLINT_OVERRIDE.codec().encode(enchantmentGlintOverride));
         }
-
-        return builder.build();
+        if (!components.isEmpty()) {
+            RNbtCompound componentView = RNbtCompound.lazy(components.keySet(), key -> components.get(key).get());
+            root.put(RItemFields.COMPONENTS.key(), () -> componentView);
+        }
+        return RNbtCompound.lazy(root.keySet(), key -> root.get(key).get());
     }
 
     /**
@@ -497,6 +528,10 @@ public abstract class AbstractSharedItemStackAdapter implements ItemStackAdapter
         return stack;
     }
 
+    private static @NotNull String componentKey(@NotNull RNbtPath<?> path) {
+        return ((RNbtPath.KeySegment) path.segments().getLast()).key();
+    }
+
     /**
      * Reads the custom model data integer from a {@link CustomModelData} component.
      *
@@ -86,6 +86,19 @@ public final class SharedNbtIoSupport {
         return toTreeValue(nbt).asCompound();
     }
 
+    /**
+     * Creates a lazy {@link RNbtCompound} view over a Minecraft {@link CompoundTag}. Only the
+     * entries that are read get converted; nested compounds are lazy views as well. The tag must
+     * not be mutated afterwards, so pass a private copy or an otherwise immutable tag.
+     *
+     * @param nbt the native compound, owned by the view from now on
+     * @return the lazy shared compound
+     * @see RNbtCompound#lazy
+     */
+    public static @NotNull RNbtCompound toLazyTree(@NotNull CompoundTag nbt) {
+        return RNbtCompound.lazy(nbt.keySet(), key -> toLazyTreeValue(nbt.get(key)));
+    }
+
     /**
      * Converts an {@link RNbtCompound} to a Minecraft {@link CompoundTag}.
      *
@@ -137,6 +150,13 @@ public final class SharedNbtIoSupport {
         };
     }
 
+    private static @NotNull RNbtValue toLazyTreeValue(Tag tag) {
+        if (tag == null) {
+            throw new SerializationException("Native compound entry disappeared while it was viewed lazily");
+        }
+        return tag instanceof CompoundTag compound ? toLazyTree(compound) : toTreeValue(tag);
+    }
+
     private static @NotNull RNbtCompound toTreeCompound(@NotNull CompoundTag tag) {
         LinkedHashMap<String, RNbtValue> entries = new LinkedHashMap<>();
         for (String key : tag.keySet()) {
@@ -10,6 +10,7 @@ rapunzellib {
     rNbtSchema {
         packageName.set("de.t14d3.rapunzellib.nbt.generated")
         className.set("RItemNbt")
+        views.set(true)
     }
 }
 
@@ -23,6 +24,7 @@ fun registerRNbtSchemaTask(taskName: String, schemaFile: String, generatedClassN
         inputFiles.from(layout.projectDirectory.file(schemaFile))
         packageName.set("de.t14d3.rapunzellib.nbt.generated")
         className.set(generatedClassName)
+        views.set(true)
         outputDir.set(generatedSourcesDir)
     }
 
@@ -50,6 +52,22 @@ val generateSchemas = listOf(
     generateBlockStateNbtSchema,
 )
 
+// Sample schema whose generated views are round-tripped against RNbtPath in the tests.
+val generateSampleItemNbtSchema = tasks.register<GenerateRNbtSchemaTask>("rapunzellibGenerateSampleItemNbtSchema") {
+    group = "rapunzellib"
+    description = "Generates SampleItemNbt from the test RNbt schema input."
+
+    inputFiles.from(layout.projectDirectory.file("src/test/rapunzellib/sample-item-schema.yml"))
+    packageName.set("de.t14d3.rapunzellib.nbt.generated.sample")
+    className.set("SampleItemNbt")
+    views.set(true)
+    outputDir.set(layout.buildDirectory.dir("generated/sources/rnbtSample/java"))
+}
+
+sourceSets.named("test") {
+    java.srcDir(generateSampleItemNbtSchema.flatMap { it.outputDir })
+}
+
 tasks.named("rapunzellibGenerateRNbtSchema") {
     dependsOn(generateSchemas)
 }
@@ -0,0 +1,133 @@
+package de.t14d3.rapunzellib.nbt;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Read-only entry map of a lazy {@link RNbtCompound}.
+ * <p>
+ * The key set is known up front; values are produced by the loader on first access and memoized.
+ * {@link #with} and {@link #without} return copy-on-write siblings that share the loader and the
+ * memo, so modifying one key of a view never materializes the others. Iterating the entries
+ * materializes every value.</p>
+ */
+final class LazyNbtEntries extends AbstractMap<String, RNbtValue> {
+    private final Set<String> keys;
+    private final Function<String, ? extends RNbtValue> loader;
+    private final ConcurrentHashMap<String, RNbtValue> loaded;
+    private final Map<String, RNbtValue> overrides;
+
+    LazyNbtEntries(@NotNull Collection<String> keys, @NotNull Function<String, ? extends RNbtValue> loader) {
+        this(Collections.unmodifiableSet(new LinkedHashSet<>(keys)), loader, new ConcurrentHashMap<>(), Map.of());
+    }
+
+    private LazyNbtEntries(
+        Set<String> keys,
+        Function<String, ? extends RNbtValue> loader,
+        ConcurrentHashMap<String, RNbtValue> loaded,
+        Map<String, RNbtValue> overrides
+    ) {
+        this.keys = keys;
+        this.loader = loader;
+        this.loaded = loaded;
+        this.overrides = overrides;
+    }
+
+    @NotNull LazyNbtEntries with(@NotNull String key, @NotNull RNbtValue value) {
+        Set<String> copiedKeys = keys;
+        if (!keys.contains(key)) {
+            LinkedHashSet<String> extended = new LinkedHashSet<>(keys);
+            extended.add(key);
+            copiedKeys = Collections.unmodifiableSet(extended);
+        }
+        LinkedHashMap<String, RNbtValue> copiedOverrides = new LinkedHashMap<>(overrides);
+        copiedOverrides.put(key, value);
+        return new LazyNbtEntries(copiedKeys, loader, loaded, Collections.unmodifiableMap(copiedOverrides));
+    }
+
+    @NotNull LazyNbtEntries without(@NotNull String key) {
+        LinkedHashSet<String> reduced = new LinkedHashSet<>(keys);
+        reduced.remove(key);
+        Map<String, RNbtValue> copiedOverrides = overrides;
+        if (overrides.containsKey(key)) {
+            LinkedHashMap<String, RNbtValue> copy = new LinkedHashMap<>(overrides);
+            copy.remove(key);
+            copiedOverrides = Collections.unmodifiableMap(copy);
+        }
+        return new LazyNbtEntries(Collections.unmodifiableSet(reduced), loader, loaded, copiedOverrides);
+    }
+
+    @Override
+    public RNbtValue get(Object key) {
+        if (!(key instanceof String name) || !keys.contains(name)) {
+            return null;
+        }
+        RNbtValue override = overrides.get(name);
+        if (override != null) {
+            return override;
+        }
+        return loaded.computeIfAbsent(name, ignored -> Objects.requireNonNull(
+            loader.apply(name),
+            () -> "lazy NBT loader returned null for key '" + name + "'"
+        ));
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return keys.contains(key);
+    }
+
+    @Override
+    public int size() {
+        return keys.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return keys.isEmpty();
+    }
+
+    @Override
+    public @NotNull Set<String> keySet() {
+        return keys;
+    }
+
+    @Override
+    public @NotNull Set<Entry<String, RNbtValue>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public @NotNull Iterator<Entry<String, RNbtValue>> iterator() {
+                Iterator<String> names = keys.iterator();
+                return new Iterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        return names.hasNext();
+                    }
+
+                    @Override
+                    public Entry<String, RNbtValue> next() {
+                        String name = names.next();
+                        return new SimpleImmutableEntry<>(name, get(name));
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return keys.size();
+            }
+        };
+    }
+}
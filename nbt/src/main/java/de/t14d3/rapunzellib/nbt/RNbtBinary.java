@@ -0,0 +1,392 @@
+package de.t14d3.rapunzellib.nbt;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Compact binary encoding of {@link RNbtValue} trees for transport between servers.
+ * <p>
+ * The layout follows the standard NBT tag structure (a type id per value, compounds as named
+ * entries, lists with a shared element type) but uses unsigned varints for every length and
+ * zigzag varints for short, int and long payloads, so small numbers and short strings cost a
+ * byte or two. Strings are UTF-8. This is not the on-disk NBT format and is only meant to be
+ * read by {@link #decode} or {@link Input#readValue()}.</p>
+ * <p>
+ * {@link Output} and {@link Input} expose the primitives so other codecs can frame NBT values
+ * with their own varint headers.</p>
+ */
+public final class RNbtBinary {
+    /** Deepest list/compound nesting {@link Input} accepts, the same limit vanilla applies to NBT. */
+    public static final int MAX_DEPTH = 512;
+
+    private static final RNbtType[] TYPES = RNbtType.values();
+
+    private RNbtBinary() {
+    }
+
+    /**
+     * Encodes a value, including its type id.
+     *
+     * @param value the value to encode
+     * @return the encoded bytes
+     */
+    public static byte @NotNull [] encode(@NotNull RNbtValue value) {
+        Output output = new Output(64);
+        output.writeValue(value);
+        return output.toByteArray();
+    }
+
+    /**
+     * Decodes a value written by {@link #encode}.
+     *
+     * @param bytes the encoded bytes
+     * @return the decoded value
+     * @throws SerializationException if the bytes are malformed or have trailing data
+     */
+    public static @NotNull RNbtValue decode(byte @NotNull [] bytes) {
+        Input input = new Input(bytes);
+        RNbtValue value = input.readValue();
+        if (input.remaining() != 0) {
+            throw new SerializationException("Trailing " + input.remaining() + " bytes after NBT value");
+        }
+        return value;
+    }
+
+    /**
+     * Growable byte buffer writing the compact encoding.
+     */
+    public static final class Output {
+        private byte[] buffer;
+        private int size;
+
+        public Output() {
+            this(256);
+        }
+
+        public Output(int initialCapacity) {
+            this.buffer = new byte[Math.max(16, initialCapacity)];
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public byte @NotNull [] toByteArray() {
+            return Arrays.copyOf(buffer, size);
+        }
+
+        /** Writes the bytes written so far to a stream without copying them. */
+        public void writeTo(@NotNull OutputStream out) throws IOException {
+            out.write(buffer, 0, size);
+        }
+
+        /** Discards the written bytes but keeps the buffer, for reuse across frames. */
+        public void reset() {
+            size = 0;
+        }
+
+        public void writeByte(int value) {
+            ensure(1);
+            buffer[size++] = (byte) value;
+        }
+
+        public void writeBytes(byte @NotNull [] bytes) {
+            writeVarInt(bytes.length);
+            ensure(bytes.length);
+            System.arraycopy(bytes, 0, buffer, size, bytes.length);
+            size += bytes.length;
+        }
+
+        /** Writes an unsigned varint; negative values take five bytes. */
+        public void writeVarInt(int value) {
+            ensure(5);
+            while ((value & ~0x7F) != 0) {
+                buffer[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[size++] = (byte) value;
+        }
+
+        public void writeVarLong(long value) {
+            ensure(10);
+            while ((value & ~0x7FL) != 0L) {
+                buffer[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[size++] = (byte) value;
+        }
+
+        public void writeZigZagInt(int value) {
+            writeVarInt((value << 1) ^ (value >> 31));
+        }
+
+        public void writeZigZagLong(long value) {
+            writeVarLong((value << 1) ^ (value >> 63));
+        }
+
+        public void writeString(@NotNull String value) {
+            writeBytes(value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        /** Writes a value preceded by its type id. */
+        public void writeValue(@NotNull RNbtValue value) {
+            Objects.requireNonNull(value, "value");
+            writeByte(value.type().ordinal());
+            writePayload(value);
+        }
+
+        /** Writes a value without its type id; the reader must know the type. */
+        public void writePayload(@NotNull RNbtValue value) {
+            switch (value.type()) {
+                case BYTE -> writeByte(((RNbtPrimitive) value).byteValue());
+                case SHORT -> writeZigZagInt(((RNbtPrimitive) value).shortValue());
+                case INT -> writeZigZagInt(((RNbtPrimitive) value).intValue());
+                case LONG -> writeZigZagLong(((RNbtPrimitive) value).longValue());
+                case FLOAT -> writeFixedInt(Float.floatToRawIntBits(((RNbtPrimitive) value).numberValue().floatValue()));
+                case DOUBLE -> writeFixedLong(Double.doubleToRawLongBits(((RNbtPrimitive) value).numberValue().doubleValue()));
+                case STRING -> writeString(((RNbtPrimitive) value).stringValue());
+                case BYTE_ARRAY -> writeBytes(((RNbtByteArray) value).value());
+                case INT_ARRAY -> {
+                    int[] ints = ((RNbtIntArray) value).value();
+                    writeVarInt(ints.length);
+                    for (int element : ints) {
+                        writeZigZagInt(element);
+                    }
+                }
+                case LONG_ARRAY -> {
+                    long[] longs = ((RNbtLongArray) value).value();
+                    writeVarInt(longs.length);
+                    for (long element : longs) {
+                        writeZigZagLong(element);
+                    }
+                }
+                case LIST -> {
+                    RNbtList list = (RNbtList) value;
+                    writeByte(list.elementType().ordinal());
+                    writeVarInt(list.size());
+                    for (RNbtValue element : list) {
+                        writePayload(element);
+                    }
+                }
+                case COMPOUND -> {
+                    RNbtCompound compound = (RNbtCompound) value;
+                    Map<String, RNbtValue> entries = compound.asMap();
+                    writeVarInt(entries.size());
+                    for (Map.Entry<String, RNbtValue> entry : entries.entrySet()) {
+                        writeString(entry.getKey());
+                        writeValue(entry.getValue());
+                    }
+                }
+                case END -> throw new SerializationException("END is not a value type");
+            }
+        }
+
+        /** Writes four big-endian bytes. */
+        public void writeFixedInt(int value) {
+            ensure(4);
+            buffer[size++] = (byte) (value >>> 24);
+            buffer[size++] = (byte) (value >>> 16);
+            buffer[size++] = (byte) (value >>> 8);
+            buffer[size++] = (byte) value;
+        }
+
+        /** Writes eight big-endian bytes, cheaper than a varint for random values such as UUID halves. */
+        public void writeFixedLong(long value) {
+            writeFixedInt((int) (value >>> 32));
+            writeFixedInt((int) value);
+        }
+
+        private void ensure(int extra) {
+            if (size + extra > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + extra));
+            }
+        }
+    }
+
+    /**
+     * Reader over a byte array written by {@link Output}.
+     */
+    public static final class Input {
+        private final byte[] bytes;
+        private int position;
+        private int depth;
+
+        public Input(byte @NotNull [] bytes) {
+            this.bytes = Objects.requireNonNull(bytes, "bytes");
+        }
+
+        public int remaining() {
+            return bytes.length - position;
+        }
+
+        public int readByte() {
+            require(1);
+            return bytes[position++];
+        }
+
+        public byte @NotNull [] readBytes() {
+            int length = readLength();
+            byte[] result = Arrays.copyOfRange(bytes, position, position + length);
+            position += length;
+            return result;
+        }
+
+        public int readVarInt() {
+            int result = 0;
+            for (int shift = 0; shift < 35; shift += 7) {
+                int b = readByte();
+                result |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return result;
+                }
+            }
+            throw new SerializationException("VarInt is too long");
+        }
+
+        public long readVarLong() {
+            long result = 0L;
+            for (int shift = 0; shift < 70; shift += 7) {
+                int b = readByte();
+                result |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return result;
+                }
+            }
+            throw new SerializationException("VarLong is too long");
+        }
+
+        public int readZigZagInt() {
+            int raw = readVarInt();
+            return (raw >>> 1) ^ -(raw & 1);
+        }
+
+        public long readZigZagLong() {
+            long raw = readVarLong();
+            return (raw >>> 1) ^ -(raw & 1L);
+        }
+
+        public @NotNull String readString() {
+            int length = readLength();
+            String result = new String(bytes, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return result;
+        }
+
+        /** Reads a value preceded by its type id. */
+        public @NotNull RNbtValue readValue() {
+            return readPayload(readType());
+        }
+
+        /** Reads a value of a known type written by {@link Output#writePayload}. */
+        public @NotNull RNbtValue readPayload(@NotNull RNbtType type) {
+            return switch (type) {
+                case BYTE -> RNbtPrimitive.ofByte((byte) readByte());
+                case SHORT -> RNbtPrimitive.ofShort((short) readZigZagInt());
+                case INT -> RNbtPrimitive.ofInt(readZigZagInt());
+                case LONG -> RNbtPrimitive.ofLong(readZigZagLong());
+                case FLOAT -> RNbtPrimitive.ofFloat(Float.intBitsToFloat(readFixedInt()));
+                case DOUBLE -> RNbtPrimitive.ofDouble(Double.longBitsToDouble(readFixedLong()));
+                case STRING -> RNbtPrimitive.ofString(readString());
+                case BYTE_ARRAY -> new RNbtByteArray(readBytes());
+                case INT_ARRAY -> {
+                    int[] ints = new int[readLength()];
+                    for (int i = 0; i < ints.length; i++) {
+                        ints[i] = readZigZagInt();
+                    }
+                    yield new RNbtIntArray(ints);
+                }
+                case LONG_ARRAY -> {
+                    long[] longs = new long[readLength()];
+                    for (int i = 0; i < longs.length; i++) {
+                        longs[i] = readZigZagLong();
+                    }
+                    yield new RNbtLongArray(longs);
+                }
+                case LIST -> readList();
+                case COMPOUND -> readCompound();
+                case END -> throw new SerializationException("END is not a value type");
+            };
+        }
+
+        private RNbtList readList() {
+            RNbtType elementType = readType();
+            int length = readLength();
+            if (length == 0) {
+                return elementType == RNbtType.END ? RNbtList.empty() : new RNbtList(elementType, List.of());
+            }
+            enter();
+            List<RNbtValue> values = new ArrayList<>(length);
+            for (int i = 0; i < length; i++) {
+                values.add(readPayload(elementType));
+            }
+            depth--;
+            return new RNbtList(elementType, values);
+        }
+
+        private RNbtCompound readCompound() {
+            int length = readLength();
+            if (length == 0) {
+                return RNbtCompound.empty();
+            }
+            enter();
+            Map<String, RNbtValue> entries = new LinkedHashMap<>(Math.max(4, length * 4 / 3 + 1));
+            for (int i = 0; i < length; i++) {
+                String key = readString();
+                entries.put(key, readValue());
+            }
+            depth--;
+            return RNbtCompound.of(entries);
+        }
+
+        private void enter() {
+            if (++depth > MAX_DEPTH) {
+                throw new SerializationException("NBT nesting is deeper than " + MAX_DEPTH);
+            }
+        }
+
+        private RNbtType readType() {
+            int id = readByte() & 0xFF;
+            if (id >= TYPES.length) {
+                throw new SerializationException("Unknown NBT type id " + id);
+            }
+            return TYPES[id];
+        }
+
+        private int readLength() {
+            int length = readVarInt();
+            if (length < 0 || length > remaining()) {
+                throw new SerializationException("Invalid length " + length + " with " + remaining() + " bytes left");
+            }
+            return length;
+        }
+
+        public int readFixedInt() {
+            require(4);
+            int value = ((bytes[position] & 0xFF) << 24)
+                | ((bytes[position + 1] & 0xFF) << 16)
+                | ((bytes[position + 2] & 0xFF) << 8)
+                | (bytes[position + 3] & 0xFF);
+            position += 4;
+            return value;
+        }
+
+        public long readFixedLong() {
+            return ((long) readFixedInt() << 32) | (readFixedInt() & 0xFFFFFFFFL);
+        }
+
+        private void require(int count) {
+            if (remaining() < count) {
+                throw new SerializationException("Unexpected end of NBT data");
+            }
+        }
+    }
+}
@@ -0,0 +1,353 @@
+package de.t14d3.rapunzellib.nbt;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * An immutable, precompiled form of an {@link RNbtPath}, created by {@link RNbtPath#compile()}.
+ * <p>
+ * Behaves exactly like the path it was compiled from, but resolves the segments once into flat
+ * arrays and uses unrolled implementations for paths of one to three compound keys, the common
+ * shape of item data accessors. Compile a path once and keep the accessor in a constant when it
+ * is read or written on hot paths.</p>
+ *
+ * @param <T> the type of the value at this path
+ */
+public abstract class RNbtCompiledPath<T> {
+    private final RNbtPath<T> path;
+    private final RNbtCodec<T> codec;
+
+    private RNbtCompiledPath(@NotNull RNbtPath<T> path) {
+        this.path = path;
+        this.codec = path.codec();
+    }
+
+    static <T> @NotNull RNbtCompiledPath<T> compile(@NotNull RNbtPath<T> path) {
+        List<RNbtPath.Segment> segments = path.segments();
+        int size = segments.size();
+        String[] keys = new String[size];
+        int[] indices = new int[size];
+        boolean keysOnly = true;
+        for (int i = 0; i < size; i++) {
+            RNbtPath.Segment segment = segments.get(i);
+            if (segment instanceof RNbtPath.KeySegment keySegment) {
+                keys[i] = keySegment.key();
+            } else {
+                indices[i] = ((RNbtPath.IndexSegment) segment).index();
+                keysOnly = false;
+            }
+        }
+        if (keysOnly) {
+            switch (size) {
+                case 1:
+                    return new Key1<>(path, keys[0]);
+                case 2:
+                    return new Key2<>(path, keys[0], keys[1]);
+                case 3:
+                    return new Key3<>(path, keys[0], keys[1], keys[2]);
+                default:
+                    break;
+            }
+        }
+        return new Generic<>(path, keys, indices);
+    }
+
+    /**
+     * Returns the path this accessor was compiled from.
+     *
+     * @return the source path
+     */
+    public final @NotNull RNbtPath<T> path() {
+        return path;
+    }
+
+    /**
+     * Returns the codec associated with this path.
+     *
+     * @return the codec
+     */
+    public final @NotNull RNbtCodec<T> codec() {
+        return codec;
+    }
+
+    /**
+     * Reads the value at this path from the given compound.
+     *
+     * @param root the root compound
+     * @return an Optional containing the decoded value, or empty if the path does not exist
+     * @see RNbtPath#read(RNbtCompound)
+     */
+    public final @NotNull Optional<T> read(@NotNull RNbtCompound root) {
+        RNbtValue value = resolve(Objects.requireNonNull(root, "root"));
+        return value == null ? Optional.empty() : Optional.of(codec.decode(value));
+    }
+
+    /**
+     * Checks whether a value exists at this path.
+     *
+     * @param root the root compound
+     * @return true if the path resolves to a value
+     * @see RNbtPath#exists(RNbtCompound)
+     */
+    public final boolean exists(@NotNull RNbtCompound root) {
+        return resolve(Objects.requireNonNull(root, "root")) != null;
+    }
+
+    /**
+     * Writes a value at this path into the given compound, returning the new compound.
+     *
+     * @param root  the root compound
+     * @param value the value to write
+     * @return a new compound with the value written at this path
+     * @see RNbtPath#write(RNbtCompound, Object)
+     */
+    public final @NotNull RNbtCompound write(@NotNull RNbtCompound root, @NotNull T value) {
+        RNbtValue encoded = codec.encode(Objects.requireNonNull(value, "value"));
+        return writeEncoded(Objects.requireNonNull(root, "root"), encoded);
+    }
+
+    /**
+     * Removes the value at this path from the given compound, returning the new compound.
+     *
+     * @param root the root compound
+     * @return a new compound with the value at this path removed
+     * @see RNbtPath#remove(RNbtCompound)
+     */
+    public final @NotNull RNbtCompound remove(@NotNull RNbtCompound root) {
+        return removeFrom(Objects.requireNonNull(root, "root"));
+    }
+
+    abstract @Nullable RNbtValue resolve(@NotNull RNbtCompound root);
+
+    abstract @NotNull RNbtCompound writeEncoded(@NotNull RNbtCompound root, @NotNull RNbtValue encoded);
+
+    abstract @NotNull RNbtCompound removeFrom(@NotNull RNbtCompound root);
+
+    @Override
+    public String toString() {
+        return path.toString();
+    }
+
+    private static @Nullable RNbtValue child(@Nullable RNbtValue current, @NotNull String key) {
+        return current instanceof RNbtCompound compound ? compound.asMap().get(key) : null;
+    }
+
+    private static @NotNull RNbtCompound compoundOrEmpty(@Nullable RNbtValue value) {
+        return value instanceof RNbtCompound compound ? compound : RNbtCompound.empty();
+    }
+
+    /**
+     * Puts {@code updatedChild} back into {@code parent} after a removal below it, dropping the
+     * key instead if the child became an empty container - the same pruning as {@link RNbtPath}.
+     */
+    private static @NotNull RNbtCompound replaceChild(
+        @NotNull RNbtCompound parent,
+        @NotNull String key,
+        @NotNull RNbtValue child,
+        @NotNull RNbtValue updatedChild
+    ) {
+        if (updatedChild == child) {
+            return parent;
+        }
+        return isEmptyContainer(updatedChild) ? parent.remove(key) : parent.put(key, updatedChild);
+    }
+
+    private static boolean isEmptyContainer(@NotNull RNbtValue value) {
+        return value.type() == RNbtType.COMPOUND && value.asCompound().isEmpty()
+            || value.type() == RNbtType.LIST && value.asList().isEmpty();
+    }
+
+    private static final class Key1<T> extends RNbtCompiledPath<T> {
+        private final String key0;
+
+        private Key1(RNbtPath<T> path, String key0) {
+            super(path);
+            this.key0 = key0;
+        }
+
+        @Override
+        @Nullable RNbtValue resolve(@NotNull RNbtCompound root) {
+            return root.asMap().get(key0);
+        }
+
+        @Override
+        @NotNull RNbtCompound writeEncoded(@NotNull RNbtCompound root, @NotNull RNbtValue encoded) {
+            return root.put(key0, encoded);
+        }
+
+        @Override
+        @NotNull RNbtCompound removeFrom(@NotNull RNbtCompound root) {
+            return root.remove(key0);
+        }
+    }
+
+    private static final class Key2<T> extends RNbtCompiledPath<T> {
+        private final String key0;
+        private final String key1;
+
+        private Key2(RNbtPath<T> path, String key0, String key1) {
+            super(path);
+            this.key0 = key0;
+            this.key1 = key1;
+        }
+
+        @Override
+        @Nullable RNbtValue resolve(@NotNull RNbtCompound root) {
+            return child(root.asMap().get(key0), key1);
+        }
+
+        @Override
+        @NotNull RNbtCompound writeEncoded(@NotNull RNbtCompound root, @NotNull RNbtValue encoded) {
+            RNbtCompound level1 = compoundOrEmpty(root.asMap().get(key0));
+            return root.put(key0, level1.put(key1, encoded));
+        }
+
+        @Override
+        @NotNull RNbtCompound removeFrom(@NotNull RNbtCompound root) {
+            if (!(root.asMap().get(key0) instanceof RNbtCompound level1)) {
+                return root;
+            }
+            return replaceChild(root, key0, level1, level1.remove(key1));
+        }
+    }
+
+    private static final class Key3<T> extends RNbtCompiledPath<T> {
+        private final String key0;
+        private final String key1;
+        private final String key2;
+
+        private Key3(RNbtPath<T> path, String key0, String key1, String key2) {
+            super(path);
+            this.key0 = key0;
+            this.key1 = key1;
+            this.key2 = key2;
+        }
+
+        @Override
+        @Nullable RNbtValue resolve(@NotNull RNbtCompound root) {
+            return child(child(root.asMap().get(key0), key1), key2);
+        }
+
+        @Override
+        @NotNull RNbtCompound writeEncoded(@NotNull RNbtCompound root, @NotNull RNbtValue encoded) {
+            RNbtCompound level1 = compoundOrEmpty(root.asMap().get(key0));
+            RNbtCompound level2 = compoundOrEmpty(level1.asMap().get(key1));
+            return root.put(key0, level1.put(key1, level2.put(key2, encoded)));
+        }
+
+        @Override
+        @NotNull RNbtCompound removeFrom(@NotNull RNbtCompound root) {
+            if (!(root.asMap().get(key0) instanceof RNbtCompound level1)) {
+                return root;
+            }
+            if (!(level1.asMap().get(key1) instanceof RNbtCompound level2)) {
+                return root;
+            }
+            RNbtCompound updatedLevel1 = replaceChild(level1, key1, level2, level2.remove(key2));
+            return replaceChild(root, key0, level1, updatedLevel1);
+        }
+    }
+
+    /**
+     * Any other path. {@code keys[i]} holds the key of a key segment and is {@code null} for an
+     * index segment, whose index is {@code indices[i]}.
+     */
+    private static final class Generic<T> extends RNbtCompiledPath<T> {
+        private final String[] keys;
+        private final int[] indices;
+
+        private Generic(RNbtPath<T> path, String[] keys, int[] indices) {
+            super(path);
+            this.keys = keys;
+            this.indices = indices;
+        }
+
+        @Override
+        @Nullable RNbtValue resolve(@NotNull RNbtCompound root) {
+            RNbtValue current = root;
+            for (int i = 0; i < keys.length && current != null; i++) {
+                String key = keys[i];
+                if (key != null) {
+                    current = child(current, key);
+                } else if (current instanceof RNbtList list && indices[i] < list.size()) {
+                    current = list.getOrThrow(indices[i]);
+                } else {
+                    current = null;
+                }
+            }
+            return current;
+        }
+
+        @Override
+        @NotNull RNbtCompound writeEncoded(@NotNull RNbtCompound root, @NotNull RNbtValue encoded) {
+            if (keys.length == 0) {
+                if (encoded instanceof RNbtCompound compound) {
+                    return compound;
+                }
+                throw new IllegalStateException("Root path can only write compounds, got " + encoded.type());
+            }
+            return writeAt(root, 0, encoded).asCompound();
+        }
+
+        private @NotNull RNbtValue writeAt(@Nullable RNbtValue current, int depth, @NotNull RNbtValue leaf) {
+            boolean last = depth == keys.length - 1;
+            String key = keys[depth];
+            if (key != null) {
+                RNbtCompound compound = compoundOrEmpty(current);
+                return compound.put(key, last ? leaf : writeAt(compound.asMap().get(key), depth + 1, leaf));
+            }
+            int index = indices[depth];
+            RNbtList list = current instanceof RNbtList nbtList ? nbtList : RNbtList.empty();
+            if (index > list.size()) {
+                throw new IllegalArgumentException("Cannot write path " + this + ": missing list element at index " + index);
+            }
+            RNbtValue updated;
+            if (last) {
+                updated = leaf;
+            } else {
+                RNbtValue child = index < list.size()
+                    ? list.getOrThrow(index)
+                    : keys[depth + 1] != null ? RNbtCompound.empty() : RNbtList.empty();
+                updated = writeAt(child, depth + 1, leaf);
+            }
+            return index == list.size() ? list.add(updated) : list.set(index, updated);
+        }
+
+        @Override
+        @NotNull RNbtCompound removeFrom(@NotNull RNbtCompound root) {
+            return keys.length == 0 ? root : removeAt(root, 0).asCompound();
+        }
+
+        private @NotNull RNbtValue removeAt(@NotNull RNbtValue current, int depth) {
+            boolean last = depth == keys.length - 1;
+            String key = keys[depth];
+            if (key != null) {
+                if (!(current instanceof RNbtCompound compound)) {
+                    return current;
+                }
+                if (last) {
+                    return compound.remove(key);
+                }
+                RNbtValue child = compound.asMap().get(key);
+                return child == null ? current : replaceChild(compound, key, child, removeAt(child, depth + 1));
+            }
+            int index = indices[depth];
+            if (!(current instanceof RNbtList list) || index >= list.size()) {
+                return current;
+            }
+            if (last) {
+                return list.remove(index);
+            }
+            RNbtValue child = list.getOrThrow(index);
+            RNbtValue updatedChild = removeAt(child, depth + 1);
+            if (updatedChild == child) {
+                return current;
+            }
+            return isEmptyContainer(updatedChild) ? list.remove(index) : list.set(index, updatedChild);
+        }
+    }
+}
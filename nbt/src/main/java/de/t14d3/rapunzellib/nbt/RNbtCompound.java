@@ -2,12 +2,15 @@ package de.t14d3.rapunzellib.nbt;
 
 import org.jetbrains.annotations.NotNull;
 
+import java.io.Serial;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 
 /**
  * An immutable NBT compound value - a map of string keys to {@link RNbtValue} entries.
@@ -26,6 +29,10 @@ public final class RNbtCompound implements RNbtValue {
 
     private RNbtCompound(@NotNull Map<String, ? extends RNbtValue> entries, boolean trusted) {
         Objects.requireNonNull(entries, "entries");
+        if (entries instanceof LazyNbtEntries lazy) {
+            this.entries = lazy;
+            return;
+        }
         if (trusted) {
             this.entries = Collections.unmodifiableMap((Map<String, RNbtValue>) entries);
             return;
@@ -54,6 +61,39 @@ public final class RNbtCompound implements RNbtValue {
         return entries.isEmpty() ? EMPTY : new RNbtCompound(entries);
     }
 
+    /**
+     * Creates a lazy compound view. The key set is fixed up front; each value is produced by
+     * {@code loader} the first time it is read and then reused. {@link #put(String, RNbtValue)} and
+     * {@link #remove(String)} return copy-on-write views that keep the remaining values lazy, so
+     * reading or modifying one key of a large native tag only converts that key. Iterating
+     * {@link #asMap()}, {@link #equals(Object)} and {@link #hashCode()} load every value.
+     * <p>
+     * The loader must be side-effect free and return the same value for a key on every call; the
+     * data it reads from must not change while the view is in use.</p>
+     *
+     * @param keys   the keys of the compound, in iteration order
+     * @param loader produces the value for a key; must not return {@code null}
+     * @return a lazy compound, or the empty singleton if there are no keys
+     */
+    public static @NotNull RNbtCompound lazy(
+        @NotNull Collection<String> keys,
+        @NotNull Function<String, ? extends RNbtValue> loader
+    ) {
+        Objects.requireNonNull(keys, "keys");
+        Objects.requireNonNull(loader, "loader");
+        return keys.isEmpty() ? EMPTY : new RNbtCompound(new LazyNbtEntries(keys, loader), true);
+    }
+
+    /**
+     * Serializes lazy compounds as their materialized entries, since the loader is not serializable.
+     *
+     * @return the compound to serialize in place of this one
+     */
+    @Serial
+    private Object writeReplace() {
+        return entries instanceof LazyNbtEntries ? new RNbtCompound(new LinkedHashMap<>(entries), true) : this;
+    }
+
     /**
      * Creates a new {@link RNbtCompoundBuilder} for building compounds fluently.
      *
@@ -123,11 +163,36 @@ public final class RNbtCompound implements RNbtValue {
      * @return a new compound with the entry
      */
     public @NotNull RNbtCompound put(@NotNull String key, @NotNull RNbtValue value) {
+        if (entries instanceof LazyNbtEntries lazy) {
+            return new RNbtCompound(lazy.with(Objects.requireNonNull(key, "key"), Objects.requireNonNull(value, "value")), true);
+        }
         LinkedHashMap<String, RNbtValue> copy = new LinkedHashMap<>(entries);
         copy.put(Objects.requireNonNull(key, "key"), Objects.requireNonNull(value, "value"));
         return new RNbtCompound(copy, true);
     }
 
+    /**
+     * Returns a new compound with all given entries added (or replaced), copying this compound only once.
+     *
+     * @param values the entries to add
+     * @return a new compound with the entries, or this compound if {@code values} is empty
+     */
+    public @NotNull RNbtCompound putAll(@NotNull Map<String, ? extends RNbtValue> values) {
+        if (Objects.requireNonNull(values, "values").isEmpty()) {
+            return this;
+        }
+        if (entries instanceof LazyNbtEntries lazy) {
+            LazyNbtEntries updated = lazy;
+            for (Map.Entry<String, ? extends RNbtValue> entry : values.entrySet()) {
+                updated = updated.with(Objects.requireNonNull(entry.getKey(), "key"), Objects.requireNonNull(entry.getValue(), "value"));
+            }
+            return new RNbtCompound(updated, true);
+        }
+        LinkedHashMap<String, RNbtValue> copy = new LinkedHashMap<>(entries);
+        values.forEach((key, value) -> copy.put(Objects.requireNonNull(key, "key"), Objects.requireNonNull(value, "value")));
+        return new RNbtCompound(copy, true);
+    }
+
     /**
      * Returns a new compound with the given key removed (or this compound if absent).
      *
@@ -138,6 +203,10 @@ public final class RNbtCompound implements RNbtValue {
         if (!entries.containsKey(Objects.requireNonNull(key, "key"))) {
             return this;
         }
+        if (entries instanceof LazyNbtEntries lazy) {
+            LazyNbtEntries reduced = lazy.without(key);
+            return reduced.isEmpty() ? EMPTY : new RNbtCompound(reduced, true);
+        }
         LinkedHashMap<String, RNbtValue> copy = new LinkedHashMap<>(entries);
         copy.remove(key);
         return copy.isEmpty() ? EMPTY : new RNbtCompound(copy, true);
@@ -3,16 +3,22 @@ package de.t14d3.rapunzellib.nbt;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.Serializable;
-import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.TreeMap;
 
 /**
  * A typed NBT path that can navigate into nested compounds and lists to read, write, or remove values.
  * <p>
  * Paths are composed of {@link Segment segments} - either named keys (for compounds) or numeric
  * indices (for lists). Each path carries a {@link RNbtCodec} for type-safe value conversion.</p>
+ * <p>
+ * Paths walk their segments generically on every access. For paths read or written on hot paths,
+ * {@link #compile()} an accessor once; to write several paths into one compound, use
+ * {@link #writeAll(RNbtCompound, Map)}.</p>
  *
  * @param <T> the type of the value at this path
  */
@@ -73,9 +79,7 @@ public final class RNbtPath<T> implements Serializable {
      * @return a new extended path
      */
     public @NotNull RNbtPath<T> key(@NotNull String key) {
-        ArrayList<Segment> updated = new ArrayList<>(segments);
-        updated.add(new KeySegment(Objects.requireNonNull(key, "key")));
-        return new RNbtPath<>(updated, codec);
+        return append(new KeySegment(Objects.requireNonNull(key, "key")));
     }
 
     /**
@@ -89,9 +93,26 @@ public final class RNbtPath<T> implements Serializable {
         if (index < 0) {
             throw new IllegalArgumentException("Index must be >= 0");
         }
-        ArrayList<Segment> updated = new ArrayList<>(segments);
-        updated.add(new IndexSegment(index));
-        return new RNbtPath<>(updated, codec);
+        return append(new IndexSegment(index));
+    }
+
+    private @NotNull RNbtPath<T> append(@NotNull Segment segment) {
+        Segment[] updated = segments.toArray(new Segment[segments.size() + 1]);
+        updated[segments.size()] = segment;
+        // List.copyOf in the constructor keeps this immutable list as is, so the segments are copied once.
+        return new RNbtPath<>(List.of(updated), codec);
+    }
+
+    /**
+     * Compiles this path into an immutable accessor with pre-resolved segments.
+     * <p>
+     * The accessor reads, writes and removes exactly like this path, without walking the segment
+     * list on every call. Compile once and reuse the accessor.</p>
+     *
+     * @return the compiled accessor
+     */
+    public @NotNull RNbtCompiledPath<T> compile() {
+        return RNbtCompiledPath.compile(this);
     }
 
     /**
@@ -147,6 +168,48 @@ public final class RNbtPath<T> implements Serializable {
         return updated.asCompound();
     }
 
+    /**
+     * Writes several paths into the given compound at once, returning the new compound.
+     * <p>
+     * The result is the same as writing each entry with {@link #write} in the map's iteration
+     * order, but every compound or list along a shared prefix is rebuilt only once, and all keys
+     * written into the same compound are applied with a single copy. Entries that write below a
+     * path written by a later entry are overwritten by it, as with sequential writes. Index
+     * segments are applied in ascending order per list, so appending several elements to a list
+     * works regardless of map order.</p>
+     *
+     * @param root   the root compound
+     * @param values the values to write, keyed by path; each value must match its path's codec
+     * @return a new compound with all values written
+     * @throws ClassCastException if a value does not match its path's codec
+     */
+    public static @NotNull RNbtCompound writeAll(
+        @NotNull RNbtCompound root,
+        @NotNull Map<? extends RNbtPath<?>, ?> values
+    ) {
+        Objects.requireNonNull(root, "root");
+        Objects.requireNonNull(values, "values");
+        WriteNode tree = new WriteNode();
+        for (Map.Entry<? extends RNbtPath<?>, ?> entry : values.entrySet()) {
+            RNbtPath<?> path = Objects.requireNonNull(entry.getKey(), "path");
+            RNbtValue encoded = path.encodeUnchecked(Objects.requireNonNull(entry.getValue(), "value"));
+            WriteNode node = tree;
+            for (Segment segment : path.segments) {
+                node = node.child(segment);
+            }
+            node.set(encoded, path);
+        }
+        if (tree.leaf != null && !(tree.leaf instanceof RNbtCompound)) {
+            throw new IllegalStateException("Root path can only write compounds, got " + tree.leaf.type());
+        }
+        return tree.apply(root).asCompound();
+    }
+
+    @SuppressWarnings("unchecked")
+    private @NotNull RNbtValue encodeUnchecked(@NotNull Object value) {
+        return codec.encode((T) value);
+    }
+
     private @NotNull Optional<RNbtValue> resolve(@NotNull RNbtCompound root) {
         RNbtValue current = root;
         for (Segment segment : segments) {
@@ -254,6 +317,98 @@ public final class RNbtPath<T> implements Serializable {
         return segments.toString();
     }
 
+    /**
+     * One node of the prefix tree built by {@link #writeAll}: an optional value written at this
+     * node, plus the writes below it keyed by compound key or list index.
+     */
+    private static final class WriteNode {
+        private RNbtValue leaf;
+        private RNbtPath<?> leafPath;
+        private Map<String, WriteNode> keys;
+        private TreeMap<Integer, WriteNode> indices;
+        private boolean replaced;
+
+        private @NotNull WriteNode child(@NotNull Segment segment) {
+            if (segment instanceof KeySegment keySegment) {
+                if (indices != null) {
+                    replaceContainer();
+                }
+                if (keys == null) {
+                    keys = new LinkedHashMap<>();
+                }
+                return keys.computeIfAbsent(keySegment.key(), ignored -> new WriteNode());
+            }
+            if (keys != null) {
+                replaceContainer();
+            }
+            if (indices == null) {
+                indices = new TreeMap<>();
+            }
+            return indices.computeIfAbsent(((IndexSegment) segment).index(), ignored -> new WriteNode());
+        }
+
+        /**
+         * Switching between key and index writes replaces the container, as sequential writes
+         * would: the earlier writes and the original value are dropped and the new writes start
+         * from an empty compound or list.
+         */
+        private void replaceContainer() {
+            leaf = null;
+            leafPath = null;
+            keys = null;
+            indices = null;
+            replaced = true;
+        }
+
+        private void set(@NotNull RNbtValue value, @NotNull RNbtPath<?> path) {
+            // A later write replaces the value and everything written below it so far.
+            leaf = value;
+            leafPath = path;
+            keys = null;
+            indices = null;
+        }
+
+        private @NotNull RNbtValue apply(RNbtValue current) {
+            RNbtValue base = leaf != null ? leaf : replaced ? null : current;
+            if (keys != null) {
+                RNbtCompound compound = base instanceof RNbtCompound nbtCompound ? nbtCompound : RNbtCompound.empty();
+                Map<String, RNbtValue> updates = new LinkedHashMap<>(keys.size() * 2);
+                for (Map.Entry<String, WriteNode> entry : keys.entrySet()) {
+                    updates.put(entry.getKey(), entry.getValue().apply(compound.asMap().get(entry.getKey())));
+                }
+                base = compound.putAll(updates);
+            }
+            if (indices != null) {
+                RNbtList list = base instanceof RNbtList nbtList ? nbtList : RNbtList.empty();
+                for (Map.Entry<Integer, WriteNode> entry : indices.entrySet()) {
+                    int index = entry.getKey();
+                    if (index > list.size()) {
+                        throw new IllegalArgumentException("Cannot write path " + entry.getValue().anyPath()
+                            + ": missing list element at index " + index);
+                    }
+                    WriteNode node = entry.getValue();
+                    RNbtValue child = index < list.size() ? list.getOrThrow(index) : node.emptyContainer();
+                    RNbtValue updated = node.apply(child);
+                    list = index == list.size() ? list.add(updated) : list.set(index, updated);
+                }
+                base = list;
+            }
+            return base;
+        }
+
+        private @NotNull RNbtValue emptyContainer() {
+            return keys == null && indices != null ? RNbtList.empty() : RNbtCompound.empty();
+        }
+
+        private @NotNull RNbtPath<?> anyPath() {
+            if (leafPath != null) {
+                return leafPath;
+            }
+            WriteNode next = keys != null ? keys.values().iterator().next() : indices.firstEntry().getValue();
+            return next.anyPath();
+        }
+    }
+
     /**
      * A segment of an NBT path - either a {@link KeySegment} (compound key)
      * or an {@link IndexSegment} (list index).
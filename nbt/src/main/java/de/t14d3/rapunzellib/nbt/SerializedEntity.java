@@ -5,11 +5,6 @@ import de.t14d3.rapunzellib.registry.REntityType;
 import de.t14d3.rapunzellib.registry.RRegistryRef;
 import org.jetbrains.annotations.NotNull;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.time.Instant;
 import java.util.Base64;
@@ -123,25 +118,42 @@ public record SerializedEntity(
     }
 
     /**
-     * Serializes this entity snapshot to a Base64-encoded string.
+     * Encodes this entity snapshot, including its passengers, with {@link SerializedEntityCodec}.
+     *
+     * @return the encoded bytes
+     * @throws SerializationException if encoding fails
+     */
+    public byte @NotNull [] toBytes() {
+        return SerializedEntityCodec.encode(this);
+    }
+
+    /**
+     * Decodes bytes written by {@link #toBytes()}. Java serialization payloads from older versions are
+     * rejected; convert them with {@link SerializedEntityCodec#migrateLegacy}.
+     *
+     * @param data the encoded bytes
+     * @return the decoded entity
+     * @throws SerializationException if the bytes are malformed
+     */
+    public static @NotNull SerializedEntity fromBytes(byte @NotNull [] data) {
+        return SerializedEntityCodec.decode(data);
+    }
+
+    /**
+     * Serializes this entity snapshot to a Base64-encoded string of its {@link #toBytes() binary form}.
      *
      * @return the Base64 string
      * @throws SerializationException if serialization fails
      */
     public String toBase64() {
-        try {
-            ByteArrayOutputStream output = new ByteArrayOutputStream();
-            try (ObjectOutputStream objectOutput = new ObjectOutputStream(output)) {
-                objectOutput.writeObject(this);
-            }
-            return Base64.getEncoder().encodeToString(output.toByteArray());
-        } catch (IOException e) {
-            throw new SerializationException("Failed to serialize entity transport payload", e);
-        }
+        return Base64.getEncoder().encodeToString(toBytes());
     }
 
     /**
      * Deserializes a Base64-encoded string back into a {@link SerializedEntity}.
+     * <p>
+     * Strings written by older versions with Java serialization are rejected; decode them and pass the
+     * bytes to {@link SerializedEntityCodec#migrateLegacy}.</p>
      *
      * @param data the Base64 string
      * @return the deserialized entity
@@ -149,14 +161,13 @@ public record SerializedEntity(
      */
     public static @NotNull SerializedEntity fromBase64(@NotNull String data) {
         Objects.requireNonNull(data, "data");
+        byte[] bytes;
         try {
-            byte[] bytes = Base64.getDecoder().decode(data);
-            try (ObjectInputStream objectInput = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
-                return (SerializedEntity) objectInput.readObject();
-            }
-        } catch (IOException | ClassNotFoundException e) {
-            throw new SerializationException("Failed to deserialize entity transport payload", e);
+            bytes = Base64.getDecoder().decode(data);
+        } catch (IllegalArgumentException e) {
+            throw new SerializationException("Entity transport payload is not valid Base64", e);
         }
+        return fromBytes(bytes);
     }
 
     /**
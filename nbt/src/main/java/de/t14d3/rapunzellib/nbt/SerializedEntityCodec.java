@@ -0,0 +1,467 @@
+package de.t14d3.rapunzellib.nbt;
+
+import de.t14d3.rapunzellib.objects.RKey;
+import de.t14d3.rapunzellib.registry.REntityType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.OutputStream;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Binary format for {@link SerializedEntity} snapshots, replacing Java serialization for entity
+ * transfer and storage.
+ * <p>
+ * A payload starts with the magic bytes {@code 'R' 'E'}, a format version and a kind (a single
+ * entity or a stream). Each entity is written as its type, UUID, timestamp, data and metadata
+ * compounds in {@link RNbtBinary} form, then its passengers, recursively. Entity type keys go
+ * through a string table: the first use of a key writes it inline, later uses refer to it by
+ * index. In a stream the table is shared by all entities, so a vault of a thousand zombies stores
+ * {@code minecraft:zombie} once.</p>
+ * <p>
+ * Java serialization payloads written by older versions are rejected by {@link #decode}. Stored
+ * snapshots are converted once with {@link #migrateLegacy}, which only admits the exact classes of a
+ * {@link SerializedEntity} graph and bounds array sizes and stream length.</p>
+ */
+public final class SerializedEntityCodec {
+    /** Current format version. */
+    public static final int VERSION = 1;
+    /** Deepest passenger nesting that is written or read. */
+    public static final int MAX_PASSENGER_DEPTH = 64;
+    /** Largest single entity frame a {@link Reader} accepts. */
+    public static final int MAX_FRAME_BYTES = 64 * 1024 * 1024;
+
+    private static final int MAGIC_0 = 'R';
+    private static final int MAGIC_1 = 'E';
+    private static final int KIND_SINGLE = 0;
+    private static final int KIND_STREAM = 1;
+    private static final int LEGACY_MAGIC_0 = 0xAC;
+    private static final int LEGACY_MAGIC_1 = 0xED;
+    private static final String LEGACY_CLASSES = String.join(";",
+        "de.t14d3.rapunzellib.nbt.SerializedEntity",
+        "de.t14d3.rapunzellib.nbt.RNbtCompound",
+        "de.t14d3.rapunzellib.nbt.RNbtList",
+        "de.t14d3.rapunzellib.nbt.RNbtPrimitive",
+        "de.t14d3.rapunzellib.nbt.RNbtByteArray",
+        "de.t14d3.rapunzellib.nbt.RNbtIntArray",
+        "de.t14d3.rapunzellib.nbt.RNbtLongArray",
+        "de.t14d3.rapunzellib.nbt.RNbtType",
+        "de.t14d3.rapunzellib.objects.RKey",
+        "de.t14d3.rapunzellib.registry.RRegistryRef",
+        "de.t14d3.rapunzellib.registry.RRegistryKey",
+        "de.t14d3.rapunzellib.registry.REntityType",
+        "java.lang.Object",
+        "java.lang.Enum",
+        "java.lang.Number",
+        "java.lang.Byte",
+        "java.lang.Short",
+        "java.lang.Integer",
+        "java.lang.Long",
+        "java.lang.Float",
+        "java.lang.Double",
+        "java.lang.Boolean",
+        "java.time.Instant",
+        "java.time.Ser",
+        "java.util.UUID",
+        "java.util.Map$Entry",
+        "java.util.ArrayList",
+        "java.util.HashMap",
+        "java.util.LinkedHashMap",
+        "java.util.CollSer",
+        "java.util.ImmutableCollections$List12",
+        "java.util.ImmutableCollections$ListN",
+        "java.util.ImmutableCollections$Map1",
+        "java.util.ImmutableCollections$MapN",
+        "java.util.Collections$EmptyList",
+        "java.util.Collections$EmptyMap",
+        "java.util.Collections$UnmodifiableCollection",
+        "java.util.Collections$UnmodifiableList",
+        "java.util.Collections$UnmodifiableRandomAccessList",
+        "java.util.Collections$UnmodifiableMap"
+    );
+
+    private SerializedEntityCodec() {
+    }
+
+    /**
+     * Encodes one entity snapshot, including its passengers.
+     *
+     * @param entity the snapshot
+     * @return the encoded bytes
+     * @throws SerializationException if the passengers are nested deeper than {@link #MAX_PASSENGER_DEPTH}
+     */
+    public static byte @NotNull [] encode(@NotNull SerializedEntity entity) {
+        Objects.requireNonNull(entity, "entity");
+        RNbtBinary.Output output = new RNbtBinary.Output(128);
+        writeHeader(output, KIND_SINGLE);
+        writeEntity(output, entity, new HashMap<>(), 0);
+        return output.toByteArray();
+    }
+
+    /**
+     * Decodes a snapshot written by {@link #encode}.
+     *
+     * @param bytes the encoded bytes
+     * @return the snapshot
+     * @throws SerializationException if the bytes are malformed or a {@link #isLegacy legacy} payload
+     */
+    public static @NotNull SerializedEntity decode(byte @NotNull [] bytes) {
+        Objects.requireNonNull(bytes, "bytes");
+        if (isLegacy(bytes)) {
+            throw new SerializationException("Legacy Java serialization payload; convert it with SerializedEntityCodec.migrateLegacy");
+        }
+        RNbtBinary.Input input = new RNbtBinary.Input(bytes);
+        try {
+            int kind = readHeader(input);
+            if (kind != KIND_SINGLE) {
+                throw new SerializationException("Expected a single entity payload, got kind " + kind);
+            }
+            SerializedEntity entity = readEntity(input, new ArrayList<>(), 0);
+            if (input.remaining() != 0) {
+                throw new SerializationException("Trailing " + input.remaining() + " bytes after entity payload");
+            }
+            return entity;
+        } catch (SerializationException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new SerializationException("Malformed entity payload", e);
+        }
+    }
+
+    /**
+     * Whether the bytes are a Java serialization payload written by older versions.
+     *
+     * @param bytes the encoded bytes
+     * @return true for the legacy format
+     */
+    public static boolean isLegacy(byte @NotNull [] bytes) {
+        return bytes.length >= 2 && (bytes[0] & 0xFF) == LEGACY_MAGIC_0 && (bytes[1] & 0xFF) == LEGACY_MAGIC_1;
+    }
+
+    /**
+     * Reads a Java serialization payload written by older versions, for a one-off migration of stored
+     * snapshots to the {@link #encode binary format}.
+     * <p>
+     * Only the classes of a {@link SerializedEntity} graph are admitted. Arrays may not declare more
+     * elements than the payload has bytes, and payloads larger than {@link #MAX_FRAME_BYTES} are
+     * rejected.</p>
+     *
+     * @param bytes the legacy payload
+     * @return the snapshot
+     * @throws SerializationException if the bytes are not a legacy entity payload or the filter rejects them
+     */
+    public static @NotNull SerializedEntity migrateLegacy(byte @NotNull [] bytes) {
+        Objects.requireNonNull(bytes, "bytes");
+        if (!isLegacy(bytes)) {
+            throw new SerializationException("Not a legacy Java serialization payload");
+        }
+        if (bytes.length > MAX_FRAME_BYTES) {
+            throw new SerializationException("Legacy payload of " + bytes.length + " bytes exceeds " + MAX_FRAME_BYTES);
+        }
+        ObjectInputFilter filter = ObjectInputFilter.Config.createFilter(
+            "maxdepth=" + (RNbtBinary.MAX_DEPTH * 2)
+                + ";maxrefs=1000000"
+                + ";maxarray=" + bytes.length
+                + ";maxbytes=" + bytes.length
+                + ";" + LEGACY_CLASSES
+                + ";!*"
+        );
+        Object decoded;
+        try (ObjectInputStream objectInput = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            objectInput.setObjectInputFilter(filter);
+            decoded = objectInput.readObject();
+        } catch (IOException | ClassNotFoundException | RuntimeException e) {
+            throw new SerializationException("Failed to deserialize legacy entity payload", e);
+        }
+        if (!(decoded instanceof SerializedEntity entity)) {
+            throw new SerializationException("Legacy payload does not contain a serialized entity");
+        }
+        return entity;
+    }
+
+    private static void writeHeader(RNbtBinary.Output output, int kind) {
+        output.writeByte(MAGIC_0);
+        output.writeByte(MAGIC_1);
+        output.writeByte(VERSION);
+        output.writeByte(kind);
+    }
+
+    private static int readHeader(RNbtBinary.Input input) {
+        if (input.readByte() != MAGIC_0 || input.readByte() != MAGIC_1) {
+            throw new SerializationException("Not a serialized entity payload");
+        }
+        int version = input.readByte() & 0xFF;
+        if (version != VERSION) {
+            throw new SerializationException("Unsupported serialized entity format version " + version);
+        }
+        return input.readByte() & 0xFF;
+    }
+
+    private static void writeEntity(RNbtBinary.Output output, SerializedEntity entity, Map<RKey, Integer> keys, int depth) {
+        if (depth > MAX_PASSENGER_DEPTH) {
+            throw new SerializationException("Passengers are nested deeper than " + MAX_PASSENGER_DEPTH);
+        }
+        RKey type = entity.entityTypeKey();
+        Integer index = keys.get(type);
+        if (index == null) {
+            keys.put(type, keys.size());
+            output.writeVarInt(0);
+            output.writeString(type.asString());
+        } else {
+            output.writeVarInt(index + 1);
+        }
+        output.writeFixedLong(entity.originalUuid().getMostSignificantBits());
+        output.writeFixedLong(entity.originalUuid().getLeastSignificantBits());
+        output.writeZigZagLong(entity.serializedAt().getEpochSecond());
+        output.writeVarInt(entity.serializedAt().getNano());
+        output.writePayload(entity.data());
+        output.writePayload(entity.metadata());
+        output.writeVarInt(entity.passengers().size());
+        for (SerializedEntity passenger : entity.passengers()) {
+            writeEntity(output, passenger, keys, depth + 1);
+        }
+    }
+
+    private static SerializedEntity readEntity(RNbtBinary.Input input, List<RKey> keys, int depth) {
+        if (depth > MAX_PASSENGER_DEPTH) {
+            throw new SerializationException("Passengers are nested deeper than " + MAX_PASSENGER_DEPTH);
+        }
+        RKey type = readKey(input, keys);
+        UUID uuid = new UUID(input.readFixedLong(), input.readFixedLong());
+        Instant serializedAt;
+        try {
+            serializedAt = Instant.ofEpochSecond(input.readZigZagLong(), input.readVarInt());
+        } catch (DateTimeException | ArithmeticException e) {
+            throw new SerializationException("Invalid entity timestamp", e);
+        }
+        RNbtCompound data = input.readPayload(RNbtType.COMPOUND).asCompound();
+        RNbtCompound metadata = input.readPayload(RNbtType.COMPOUND).asCompound();
+        int passengerCount = input.readVarInt();
+        if (passengerCount < 0 || passengerCount > input.remaining()) {
+            throw new SerializationException("Invalid passenger count " + passengerCount);
+        }
+        List<SerializedEntity> passengers = new ArrayList<>(passengerCount);
+        for (int i = 0; i < passengerCount; i++) {
+            passengers.add(readEntity(input, keys, depth + 1));
+        }
+        return new SerializedEntity(REntityType.ref(type), data, passengers, uuid, serializedAt, metadata);
+    }
+
+    private static RKey readKey(RNbtBinary.Input input, List<RKey> keys) {
+        int ref = input.readVarInt();
+        if (ref == 0) {
+            RKey key;
+            try {
+                key = RKey.parse(input.readString());
+            } catch (IllegalArgumentException e) {
+                throw new SerializationException("Invalid entity type key", e);
+            }
+            keys.add(key);
+            return key;
+        }
+        if (ref < 0 || ref > keys.size()) {
+            throw new SerializationException("Entity type index " + ref + " out of range");
+        }
+        return keys.get(ref - 1);
+    }
+
+    /**
+     * Writes entity snapshots to a stream one by one, for bulk exports such as entity vaults.
+     * <p>
+     * Each entity is a length-prefixed frame. Closing the writer appends an end marker, so a
+     * {@link Reader} can tell a complete export from a truncated one. Not thread-safe.</p>
+     */
+    public static final class Writer implements Closeable {
+        private final OutputStream out;
+        private final Map<RKey, Integer> keys = new HashMap<>();
+        private final RNbtBinary.Output frame = new RNbtBinary.Output(4096);
+        private final RNbtBinary.Output prefix = new RNbtBinary.Output(16);
+        private int count;
+        private boolean closed;
+
+        /**
+         * Creates a writer and writes the stream header.
+         *
+         * @param out the target stream; closed together with this writer
+         * @throws SerializationException if writing the header fails
+         */
+        public Writer(@NotNull OutputStream out) {
+            this.out = Objects.requireNonNull(out, "out");
+            RNbtBinary.Output header = new RNbtBinary.Output(16);
+            writeHeader(header, KIND_STREAM);
+            write(header);
+        }
+
+        /**
+         * Appends one entity snapshot.
+         *
+         * @param entity the snapshot
+         * @throws SerializationException if writing fails
+         */
+        public void write(@NotNull SerializedEntity entity) {
+            Objects.requireNonNull(entity, "entity");
+            if (closed) {
+                throw new IllegalStateException("Writer is closed");
+            }
+            int knownKeys = keys.size();
+            frame.reset();
+            try {
+                writeEntity(frame, entity, keys, 0);
+            } catch (SerializationException e) {
+                // Keys first seen in the rejected entity were never written.
+                keys.values().removeIf(index -> index >= knownKeys);
+                throw e;
+            }
+            prefix.reset();
+            prefix.writeVarInt(frame.size());
+            write(prefix);
+            write(frame);
+            count++;
+        }
+
+        /**
+         * Returns the number of entities written so far.
+         *
+         * @return the entity count
+         */
+        public int count() {
+            return count;
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try (OutputStream target = out) {
+                target.write(0);
+                target.flush();
+            } catch (IOException e) {
+                throw new SerializationException("Failed to finish entity stream", e);
+            }
+        }
+
+        private void write(RNbtBinary.Output output) {
+            try {
+                output.writeTo(out);
+            } catch (IOException e) {
+                throw new SerializationException("Failed to write entity stream", e);
+            }
+        }
+    }
+
+    /**
+     * Reads entity snapshots written by a {@link Writer}, one at a time.
+     */
+    public static final class Reader implements Closeable {
+        private final InputStream in;
+        private final List<RKey> keys = new ArrayList<>();
+        private boolean finished;
+
+        /**
+         * Creates a reader and checks the stream header.
+         *
+         * @param in the source stream; closed together with this reader
+         * @throws SerializationException if the header is missing or unsupported
+         */
+        public Reader(@NotNull InputStream in) {
+            this.in = Objects.requireNonNull(in, "in");
+            byte[] header = readFully(4);
+            int kind = readHeader(new RNbtBinary.Input(header));
+            if (kind != KIND_STREAM) {
+                throw new SerializationException("Expected an entity stream, got kind " + kind);
+            }
+        }
+
+        /**
+         * Reads the next entity snapshot.
+         *
+         * @return the snapshot, or {@code null} at the end marker
+         * @throws SerializationException if the stream is malformed or ends without an end marker
+         */
+        public @Nullable SerializedEntity next() {
+            if (finished) {
+                return null;
+            }
+            int length = readFrameLength();
+            if (length == 0) {
+                finished = true;
+                return null;
+            }
+            RNbtBinary.Input input = new RNbtBinary.Input(readFully(length));
+            try {
+                SerializedEntity entity = readEntity(input, keys, 0);
+                if (input.remaining() != 0) {
+                    throw new SerializationException("Trailing " + input.remaining() + " bytes after entity frame");
+                }
+                return entity;
+            } catch (SerializationException e) {
+                throw e;
+            } catch (RuntimeException e) {
+                throw new SerializationException("Malformed entity frame", e);
+            }
+        }
+
+        @Override
+        public void close() {
+            try {
+                in.close();
+            } catch (IOException e) {
+                throw new SerializationException("Failed to close entity stream", e);
+            }
+        }
+
+        private int readFrameLength() {
+            int result = 0;
+            for (int shift = 0; shift < 35; shift += 7) {
+                int b = read();
+                result |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    if (result < 0 || result > MAX_FRAME_BYTES) {
+                        throw new SerializationException("Invalid entity frame length " + result);
+                    }
+                    return result;
+                }
+            }
+            throw new SerializationException("Entity frame length is too long");
+        }
+
+        private int read() {
+            try {
+                int b = in.read();
+                if (b < 0) {
+                    throw new SerializationException("Entity stream ended without an end marker");
+                }
+                return b;
+            } catch (IOException e) {
+                throw new SerializationException("Failed to read entity stream", e);
+            }
+        }
+
+        private byte[] readFully(int length) {
+            try {
+                byte[] bytes = in.readNBytes(length);
+                if (bytes.length != length) {
+                    throw new SerializationException("Entity stream ended inside a frame");
+                }
+                return bytes;
+            } catch (IOException e) {
+                throw new SerializationException("Failed to read entity stream", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package de.t14d3.rapunzellib.nbt;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class RNbtBinaryTest {
+    private static final RNbtType[] LEAF_TYPES = {
+        RNbtType.BYTE, RNbtType.SHORT, RNbtType.INT, RNbtType.LONG, RNbtType.FLOAT, RNbtType.DOUBLE,
+        RNbtType.STRING, RNbtType.BYTE_ARRAY, RNbtType.INT_ARRAY, RNbtType.LONG_ARRAY
+    };
+
+    @Test
+    void randomTreesRoundTrip() {
+        Random random = new Random(0x5EEDL);
+        for (int i = 0; i < 500; i++) {
+            RNbtValue value = randomCompound(random, 0);
+            byte[] encoded = RNbtBinary.encode(value);
+            assertEquals(value, RNbtBinary.decode(encoded));
+            assertArrayEquals(encoded, RNbtBinary.encode(RNbtBinary.decode(encoded)));
+        }
+    }
+
+    @Test
+    void varintsCoverBoundariesAndKeepSmallValuesShort() {
+        int[] ints = {0, 1, -1, 63, -64, 64, 127, 128, Integer.MAX_VALUE, Integer.MIN_VALUE};
+        long[] longs = {0L, -1L, Long.MAX_VALUE, Long.MIN_VALUE, 1L << 35};
+        RNbtBinary.Output output = new RNbtBinary.Output();
+        for (int value : ints) {
+            output.writeZigZagInt(value);
+            output.writeVarInt(value);
+        }
+        for (long value : longs) {
+            output.writeZigZagLong(value);
+        }
+
+        RNbtBinary.Input input = new RNbtBinary.Input(output.toByteArray());
+        for (int value : ints) {
+            assertEquals(value, input.readZigZagInt());
+            assertEquals(value, input.readVarInt());
+        }
+        for (long value : longs) {
+            assertEquals(value, input.readZigZagLong());
+        }
+        assertEquals(0, input.remaining());
+
+        assertEquals(2, RNbtBinary.encode(RNbtPrimitive.ofInt(-3)).length);
+        assertEquals(4, RNbtBinary.encode(RNbtPrimitive.ofString("ab")).length);
+    }
+
+    @Test
+    void malformedInputIsRejected() {
+        byte[] encoded = RNbtBinary.encode(RNbtCompound.builder().putString("id", "minecraft:stone").build());
+
+        byte[] truncated = Arrays.copyOf(encoded, encoded.length - 3);
+        assertThrows(SerializationException.class, () -> RNbtBinary.decode(truncated));
+
+        byte[] trailing = Arrays.copyOf(encoded, encoded.length + 1);
+        assertThrows(SerializationException.class, () -> RNbtBinary.decode(trailing));
+
+        assertThrows(SerializationException.class, () -> RNbtBinary.decode(new byte[]{(byte) 99}));
+        assertTrue(RNbtBinary.decode(RNbtBinary.encode(RNbtList.empty())).asList().isEmpty());
+    }
+
+    private static RNbtCompound randomCompound(Random random, int depth) {
+        int size = random.nextInt(depth == 0 ? 8 : 4);
+        Map<String, RNbtValue> entries = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            entries.put(randomString(random), randomValue(random, depth + 1));
+        }
+        return RNbtCompound.of(entries);
+    }
+
+    private static RNbtValue randomValue(Random random, int depth) {
+        int choice = random.nextInt(depth >= 3 ? LEAF_TYPES.length : LEAF_TYPES.length + 2);
+        if (choice == LEAF_TYPES.length) {
+            return randomCompound(random, depth);
+        }
+        if (choice == LEAF_TYPES.length + 1) {
+            RNbtType elementType = LEAF_TYPES[random.nextInt(LEAF_TYPES.length)];
+            int size = random.nextInt(5);
+            if (size == 0) {
+                return random.nextBoolean() ? RNbtList.empty() : new RNbtList(elementType, List.of());
+            }
+            List<RNbtValue> values = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                values.add(randomLeaf(random, elementType));
+            }
+            return new RNbtList(elementType, values);
+        }
+        return randomLeaf(random, LEAF_TYPES[choice]);
+    }
+
+    private static RNbtValue randomLeaf(Random random, RNbtType type) {
+        return switch (type) {
+            case BYTE -> RNbtPrimitive.ofByte((byte) random.nextInt());
+            case SHORT -> RNbtPrimitive.ofShort((short) random.nextInt());
+            case INT -> RNbtPrimitive.ofInt(random.nextBoolean() ? random.nextInt(100) : random.nextInt());
+            case LONG -> RNbtPrimitive.ofLong(random.nextLong());
+            case FLOAT -> RNbtPrimitive.ofFloat(random.nextFloat() * 1000f - 500f);
+            case DOUBLE -> RNbtPrimitive.ofDouble(random.nextGaussian());
+            case STRING -> RNbtPrimitive.ofString(randomString(random));
+            case BYTE_ARRAY -> {
+                byte[] bytes = new byte[random.nextInt(6)];
+                random.nextBytes(bytes);
+                yield new RNbtByteArray(bytes);
+            }
+            case INT_ARRAY -> new RNbtIntArray(random.ints(random.nextInt(6)).toArray());
+            case LONG_ARRAY -> new RNbtLongArray(random.longs(random.nextInt(6)).toArray());
+            default -> throw new IllegalArgumentException(type.name());
+        };
+    }
+
+    private static String randomString(Random random) {
+        String alphabet = "abcxyz_:ÄÖ€✓";
+        StringBuilder builder = new StringBuilder();
+        int length = random.nextInt(10);
+        for (int i = 0; i < length; i++) {
+            builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return builder.toString();
+    }
+}
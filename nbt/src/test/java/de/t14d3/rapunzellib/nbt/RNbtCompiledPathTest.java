@@ -0,0 +1,151 @@
+package de.t14d3.rapunzellib.nbt;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+final class RNbtCompiledPathTest {
+    private static final String[] KEYS = {"a", "b", "c"};
+
+    @Test
+    void compiledPathsBehaveLikeInterpretedPathsOnRandomTrees() {
+        Random random = new Random(44L);
+        int compared = 0;
+        for (int round = 0; round < 2_000; round++) {
+            RNbtCompound root = randomCompound(random, 3);
+            RNbtPath<Integer> path = randomPath(random, random.nextInt(5));
+            RNbtCompiledPath<Integer> compiled = path.compile();
+            int value = random.nextInt(100);
+
+            assertEquals(path.exists(root), compiled.exists(root), path.toString());
+            assertSameOutcome(() -> path.read(root), () -> compiled.read(root), path);
+            assertSameOutcome(() -> path.write(root, value), () -> compiled.write(root, value), path);
+            assertSameOutcome(() -> path.remove(root), () -> compiled.remove(root), path);
+            compared++;
+        }
+        assertEquals(2_000, compared);
+    }
+
+    @Test
+    void keyPathsUseFastAccessorsAndStayConsistent() {
+        RNbtPath<Integer> one = RNbtPath.of(RNbtCodecs.INT, "level");
+        RNbtPath<Integer> three = RNbtPath.of(RNbtCodecs.INT).key("components").key("data").key("level");
+
+        RNbtCompound root = three.compile().write(RNbtCompound.empty(), 7);
+        assertEquals(7, three.compile().read(root).orElseThrow());
+        assertEquals(7, three.read(root).orElseThrow());
+        assertEquals(RNbtCompound.empty(), three.compile().remove(root));
+        assertSame(root, one.compile().remove(root));
+        assertEquals(three.segments(), three.compile().path().segments());
+        assertThrows(IllegalStateException.class, () -> RNbtPath.of(RNbtCodecs.INT).compile().write(root, 1));
+    }
+
+    @Test
+    void writeAllMatchesSequentialWritesInMapOrder() {
+        Random random = new Random(4_444L);
+        for (int round = 0; round < 1_000; round++) {
+            RNbtCompound root = randomCompound(random, 3);
+            Map<RNbtPath<?>, Object> values = new LinkedHashMap<>();
+            int writes = 1 + random.nextInt(6);
+            for (int i = 0; i < writes; i++) {
+                values.put(randomPath(random, 1 + random.nextInt(3)), random.nextInt(100));
+            }
+
+            RNbtCompound sequential = root;
+            RuntimeException sequentialFailure = null;
+            try {
+                for (Map.Entry<RNbtPath<?>, Object> entry : values.entrySet()) {
+                    @SuppressWarnings("unchecked")
+                    RNbtPath<Integer> path = (RNbtPath<Integer>) entry.getKey();
+                    sequential = path.write(sequential, (Integer) entry.getValue());
+                }
+            } catch (RuntimeException e) {
+                sequentialFailure = e;
+            }
+            if (sequentialFailure != null) {
+                continue;
+            }
+            assertEquals(sequential, RNbtPath.writeAll(root, values), values.toString());
+        }
+    }
+
+    @Test
+    void writeAllRebuildsSharedPrefixesOnceAndAppendsInIndexOrder() {
+        RNbtPath<String> owner = RNbtPath.of(RNbtCodecs.STRING).key("components").key("data").key("owner");
+        RNbtPath<Integer> level = RNbtPath.of(RNbtCodecs.INT).key("components").key("data").key("level");
+        RNbtPath<Integer> second = RNbtPath.of(RNbtCodecs.INT).key("list").index(1);
+        RNbtPath<Integer> first = RNbtPath.of(RNbtCodecs.INT).key("list").index(0);
+        Map<RNbtPath<?>, Object> values = new LinkedHashMap<>();
+        values.put(owner, "t14d3");
+        values.put(level, 3);
+        values.put(second, 2);
+        values.put(first, 1);
+
+        RNbtCompound written = RNbtPath.writeAll(RNbtCompound.empty(), values);
+
+        assertEquals("t14d3", owner.read(written).orElseThrow());
+        assertEquals(3, level.read(written).orElseThrow());
+        assertEquals(List.of(RNbtPrimitive.ofInt(1), RNbtPrimitive.ofInt(2)), written.get("list").orElseThrow().asList().values());
+        assertSame(written, RNbtPath.writeAll(written, Map.of()));
+        assertThrows(IllegalArgumentException.class, () -> RNbtPath.writeAll(RNbtCompound.empty(),
+            Map.of(RNbtPath.of(RNbtCodecs.INT).key("list").index(2), 1)));
+        assertThrows(IllegalStateException.class, () -> RNbtPath.writeAll(RNbtCompound.empty(),
+            Map.of(RNbtPath.of(RNbtCodecs.INT), 1)));
+    }
+
+    private static void assertSameOutcome(Supplier<Object> interpreted, Supplier<Object> compiled, RNbtPath<?> path) {
+        Object expected;
+        try {
+            expected = interpreted.get();
+        } catch (RuntimeException e) {
+            RuntimeException actual = assertThrows(RuntimeException.class, compiled::get, path.toString());
+            assertEquals(e.getClass(), actual.getClass(), path.toString());
+            assertEquals(e.getMessage(), actual.getMessage(), path.toString());
+            return;
+        }
+        assertEquals(expected, compiled.get(), path.toString());
+    }
+
+    private static RNbtPath<Integer> randomPath(Random random, int length) {
+        RNbtPath<Integer> path = RNbtPath.of(RNbtCodecs.INT);
+        for (int i = 0; i < length; i++) {
+            path = random.nextInt(3) == 0 ? path.index(random.nextInt(3)) : path.key(KEYS[random.nextInt(KEYS.length)]);
+        }
+        return path;
+    }
+
+    private static RNbtCompound randomCompound(Random random, int depth) {
+        Map<String, RNbtValue> entries = new LinkedHashMap<>();
+        for (String key : KEYS) {
+            if (random.nextBoolean()) {
+                entries.put(key, randomValue(random, depth - 1));
+            }
+        }
+        return RNbtCompound.of(entries);
+    }
+
+    private static RNbtValue randomValue(Random random, int depth) {
+        int kind = depth <= 0 ? 0 : random.nextInt(4);
+        return switch (kind) {
+            case 1 -> randomCompound(random, depth);
+            case 2 -> {
+                List<RNbtValue> elements = new ArrayList<>();
+                int size = random.nextInt(3);
+                for (int i = 0; i < size; i++) {
+                    elements.add(randomCompound(random, depth - 1));
+                }
+                yield RNbtList.of(RNbtType.COMPOUND, elements);
+            }
+            default -> RNbtPrimitive.ofInt(random.nextInt(100));
+        };
+    }
+}
@@ -0,0 +1,119 @@
+package de.t14d3.rapunzellib.nbt;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class RNbtLazyCompoundTest {
+    private static final int KEYS_PER_ITEM = 32;
+
+    @Test
+    void readsOnlyMaterializeRequestedKeys() {
+        AtomicInteger conversions = new AtomicInteger();
+        RNbtCompound view = lazyView(fakeNativeTag(0), conversions);
+
+        assertEquals(KEYS_PER_ITEM + 1, view.keys().size());
+        assertTrue(view.contains("key7"));
+        assertEquals(0, conversions.get());
+
+        assertEquals(7, RNbtCodecs.INT.decode(view.get("key7").orElseThrow()));
+        assertEquals(7, RNbtCodecs.INT.decode(view.get("key7").orElseThrow()));
+        assertEquals(1, conversions.get());
+
+        RNbtPath<String> ownerPath = RNbtPath.of(RNbtCodecs.STRING).key("nested").key("owner");
+        assertEquals("owner-0", ownerPath.read(view).orElseThrow());
+        assertEquals(3, conversions.get());
+    }
+
+    @Test
+    void writesCopyOnWriteWithoutMaterializingOtherKeys() {
+        AtomicInteger conversions = new AtomicInteger();
+        RNbtCompound view = lazyView(fakeNativeTag(0), conversions);
+
+        RNbtCompound updated = view.put("key3", RNbtPrimitive.ofInt(99)).remove("key4");
+        RNbtCompound nested = RNbtPath.of(RNbtCodecs.STRING).key("nested").key("owner").write(updated, "changed");
+
+        assertEquals(1, conversions.get());
+        assertEquals(3, RNbtCodecs.INT.decode(view.get("key3").orElseThrow()));
+        assertTrue(view.contains("key4"));
+        assertEquals(99, RNbtCodecs.INT.decode(updated.get("key3").orElseThrow()));
+        assertFalse(updated.contains("key4"));
+        assertEquals("changed", RNbtPath.of(RNbtCodecs.STRING).key("nested").key("owner").read(nested).orElseThrow());
+        assertEquals("owner-0", RNbtPath.of(RNbtCodecs.STRING).key("nested").key("owner").read(view).orElseThrow());
+        assertSame(view.get("key5").orElseThrow(), updated.get("key5").orElseThrow());
+    }
+
+    @Test
+    void lazyViewsEqualEagerConversion() {
+        Map<String, Object> tag = fakeNativeTag(5);
+        RNbtCompound lazy = lazyView(tag, new AtomicInteger());
+        RNbtCompound eager = eagerConvert(tag, new AtomicInteger());
+
+        assertEquals(eager, lazy);
+        assertEquals(eager.hashCode(), lazy.hashCode());
+        assertEquals(List.copyOf(eager.keys()), List.copyOf(lazy.keys()));
+        assertSame(RNbtCompound.empty(), RNbtCompound.lazy(List.of(), key -> RNbtPrimitive.ofInt(0)));
+    }
+
+    @Test
+    void lazyCompoundsSurviveJavaSerialization() throws Exception {
+        RNbtCompound lazy = lazyView(fakeNativeTag(3), new AtomicInteger()).put("key1", RNbtPrimitive.ofInt(-1));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(lazy);
+        }
+        Object copy;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = in.readObject();
+        }
+
+        assertEquals(lazy, copy);
+        assertEquals(List.copyOf(lazy.keys()), List.copyOf(((RNbtCompound) copy).keys()));
+        assertEquals("owner-3", RNbtPath.of(RNbtCodecs.STRING).key("nested").key("owner").read((RNbtCompound) copy).orElseThrow());
+    }
+
+    private static Map<String, Object> fakeNativeTag(int index) {
+        LinkedHashMap<String, Object> tag = new LinkedHashMap<>();
+        for (int i = 0; i < KEYS_PER_ITEM; i++) {
+            tag.put("key" + i, i);
+        }
+        tag.put("nested", Map.of("owner", "owner-" + index));
+        return tag;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static RNbtCompound lazyView(Map<String, Object> tag, AtomicInteger conversions) {
+        return RNbtCompound.lazy(tag.keySet(), key -> {
+            conversions.incrementAndGet();
+            Object value = tag.get(key);
+            return value instanceof Map<?, ?> nested ? lazyView((Map<String, Object>) nested, conversions) : convert(value);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static RNbtCompound eagerConvert(Map<String, Object> tag, AtomicInteger conversions) {
+        LinkedHashMap<String, RNbtValue> entries = new LinkedHashMap<>();
+        tag.forEach((key, value) -> {
+            conversions.incrementAndGet();
+            entries.put(key, value instanceof Map<?, ?> nested ? eagerConvert((Map<String, Object>) nested, conversions) : convert(value));
+        });
+        return RNbtCompound.of(entries);
+    }
+
+    private static RNbtValue convert(Object value) {
+        return value instanceof Integer number ? RNbtPrimitive.ofInt(number) : RNbtPrimitive.ofString(String.valueOf(value));
+    }
+}
@@ -0,0 +1,156 @@
+package de.t14d3.rapunzellib.nbt;
+
+import de.t14d3.rapunzellib.nbt.generated.sample.SampleItemNbt;
+import de.t14d3.rapunzellib.nbt.generated.sample.SampleItemNbt.Paths;
+import de.t14d3.rapunzellib.nbt.generated.sample.SampleItemNbt.View;
+import net.kyori.adventure.text.Component;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class RNbtSchemaViewTest {
+    private static final RNbtPath<Boolean> FLAG = RNbtPath.of(RNbtCodecs.BOOLEAN).key("components").key("rapunzellib:data").key("flag");
+
+    @Test
+    void generatedViewsReadTheSameValuesAsRNbtPathsAndRoundTrip() {
+        Random random = new Random(45L);
+        for (int round = 0; round < 2_000; round++) {
+            RNbtCompound compound = randomItem(random);
+
+            View view = View.decode(compound);
+
+            assertEquals(Paths.ID.read(compound).orElseThrow(), view.id());
+            assertEquals(Paths.COUNT.read(compound).orElse(null), view.count());
+            assertEquals(Paths.TAGS.read(compound).orElse(null), view.tags());
+            assertEquals(Paths.CUSTOM_DATA.read(compound).orElse(null), view.customData());
+            View.Components components = view.components();
+            if (components == null) {
+                assertTrue(Paths.COMPONENTS.read(compound).isEmpty());
+            } else {
+                assertEquals(Paths.COMPONENTS_MINECRAFT_CUSTOM_NAME.read(compound).orElse(null), components.minecraftCustomName());
+                assertEquals(Paths.COMPONENTS_MINECRAFT_LORE.read(compound).orElse(null), components.minecraftLore());
+                View.Components.RapunzellibData data = components.rapunzellibData();
+                if (data == null) {
+                    assertTrue(Paths.COMPONENTS_RAPUNZELLIB_DATA.read(compound).isEmpty());
+                } else {
+                    assertEquals(Paths.COMPONENTS_RAPUNZELLIB_DATA_LEVEL.read(compound).orElseThrow(), data.level());
+                    assertEquals(Paths.COMPONENTS_RAPUNZELLIB_DATA_OWNER.read(compound).orElse(null), data.owner());
+                    assertEquals(Paths.COMPONENTS_RAPUNZELLIB_DATA_CHARGES.read(compound).orElse(null), data.charges());
+                    assertArrayEquals(Paths.COMPONENTS_RAPUNZELLIB_DATA_SEEDS.read(compound).orElse(null), data.seeds());
+                    assertEquals(Paths.COMPONENTS_RAPUNZELLIB_DATA_EXTRA.read(compound).orElse(null), data.extraValue());
+                    assertEquals(FLAG.read(compound).isPresent(), data.extra().contains("flag"));
+                }
+            }
+            assertEquals(compound, view.encode());
+        }
+    }
+
+    @Test
+    void encodedViewsAreReadableThroughRNbtPaths() {
+        View view = new View(
+            "minecraft:diamond_sword",
+            1,
+            new View.Components(
+                Component.text("Blade"),
+                List.of("first", "second"),
+                new View.Components.RapunzellibData(3, "t14d3", (short) 12, new long[] {1L, 2L}, (byte) 7, RNbtCompound.empty()),
+                RNbtCompound.builder().putInt("minecraft:max_damage", 250).build()
+            ),
+            null,
+            null,
+            RNbtCompound.builder().putString("unknown", "kept").build()
+        );
+
+        RNbtCompound encoded = view.encode();
+
+        assertEquals("minecraft:diamond_sword", Paths.ID.read(encoded).orElseThrow());
+        assertEquals(Component.text("Blade"), Paths.COMPONENTS_MINECRAFT_CUSTOM_NAME.read(encoded).orElseThrow());
+        assertEquals(List.of("first", "second"), Paths.COMPONENTS_MINECRAFT_LORE.read(encoded).orElseThrow());
+        assertEquals(3, Paths.COMPONENTS_RAPUNZELLIB_DATA_LEVEL.read(encoded).orElseThrow());
+        assertEquals((short) 12, Paths.COMPONENTS_RAPUNZELLIB_DATA_CHARGES.read(encoded).orElseThrow());
+        assertArrayEquals(new long[] {1L, 2L}, Paths.COMPONENTS_RAPUNZELLIB_DATA_SEEDS.read(encoded).orElseThrow());
+        assertEquals((byte) 7, Paths.COMPONENTS_RAPUNZELLIB_DATA_EXTRA.read(encoded).orElseThrow());
+        assertEquals(250, RNbtPath.of(RNbtCodecs.INT).key("components").key("minecraft:max_damage").read(encoded).orElseThrow());
+        assertEquals("kept", RNbtPath.of(RNbtCodecs.STRING, "unknown").read(encoded).orElseThrow());
+        assertTrue(Paths.TAGS.read(encoded).isEmpty());
+        assertEquals(encoded, View.decode(encoded).encode());
+    }
+
+    @Test
+    void decodingValidatesRequiredEntriesAndTypes() {
+        RNbtCompound valid = Paths.ID.write(RNbtCompound.empty(), "minecraft:stick");
+        assertNull(View.decode(valid).components());
+
+        SerializationException missing = assertThrows(SerializationException.class, () -> View.decode(RNbtCompound.empty()));
+        assertTrue(missing.getMessage().contains("'id'"), missing.getMessage());
+
+        RNbtCompound missingLevel = Paths.COMPONENTS_RAPUNZELLIB_DATA_OWNER.write(valid, "t14d3");
+        SerializationException nested = assertThrows(SerializationException.class, () -> View.decode(missingLevel));
+        assertTrue(nested.getMessage().contains("'components.rapunzellib:data.level'"), nested.getMessage());
+
+        RNbtCompound wrongType = valid.put("count", RNbtPrimitive.ofString("one"));
+        SerializationException invalid = assertThrows(SerializationException.class, () -> View.decode(wrongType));
+        assertTrue(invalid.getMessage().contains("'count'"), invalid.getMessage());
+        assertTrue(invalid.getMessage().contains(SampleItemNbt.NAME), invalid.getMessage());
+
+        RNbtCompound notACompound = valid.put("components", RNbtPrimitive.ofInt(1));
+        assertThrows(SerializationException.class, () -> View.decode(notACompound));
+
+        assertThrows(NullPointerException.class, () -> new View(null, null, null, null, null, RNbtCompound.empty()));
+        assertThrows(IllegalArgumentException.class, () -> new View("minecraft:stick", null, null, null, null, valid));
+    }
+
+    private static RNbtCompound randomItem(Random random) {
+        RNbtCompound compound = Paths.ID.write(RNbtCompound.empty(), "minecraft:item_" + random.nextInt(10));
+        if (random.nextBoolean()) {
+            compound = Paths.COUNT.write(compound, random.nextInt(64));
+        }
+        if (random.nextBoolean()) {
+            compound = Paths.TAGS.write(compound, List.of("tag" + random.nextInt(3), "tag" + random.nextInt(3)));
+        }
+        if (random.nextBoolean()) {
+            compound = Paths.CUSTOM_DATA.write(compound, RNbtCompound.builder().putInt("plugin", random.nextInt()).build());
+        }
+        if (random.nextBoolean()) {
+            compound = compound.put("unknown_" + random.nextInt(3), RNbtPrimitive.ofLong(random.nextLong()));
+        }
+        if (random.nextBoolean()) {
+            compound = Paths.COMPONENTS.write(compound, RNbtCompound.empty());
+            if (random.nextBoolean()) {
+                compound = Paths.COMPONENTS_MINECRAFT_CUSTOM_NAME.write(compound, Component.text("name" + random.nextInt(5)));
+            }
+            if (random.nextBoolean()) {
+                compound = Paths.COMPONENTS_MINECRAFT_LORE.write(compound, List.of("lore" + random.nextInt(5)));
+            }
+            if (random.nextBoolean()) {
+                compound = RNbtPath.of(RNbtCodecs.INT).key("components").key("minecraft:max_damage").write(compound, random.nextInt(500));
+            }
+            if (random.nextBoolean()) {
+                compound = Paths.COMPONENTS_RAPUNZELLIB_DATA_LEVEL.write(compound, random.nextInt(100));
+                if (random.nextBoolean()) {
+                    compound = Paths.COMPONENTS_RAPUNZELLIB_DATA_OWNER.write(compound, "owner" + random.nextInt(5));
+                }
+                if (random.nextBoolean()) {
+                    compound = Paths.COMPONENTS_RAPUNZELLIB_DATA_CHARGES.write(compound, (short) random.nextInt(100));
+                }
+                if (random.nextBoolean()) {
+                    compound = Paths.COMPONENTS_RAPUNZELLIB_DATA_SEEDS.write(compound, new long[] {random.nextLong(), random.nextLong()});
+                }
+                if (random.nextBoolean()) {
+                    compound = Paths.COMPONENTS_RAPUNZELLIB_DATA_EXTRA.write(compound, (byte) random.nextInt(100));
+                }
+                if (random.nextBoolean()) {
+                    compound = FLAG.write(compound, random.nextBoolean());
+                }
+            }
+        }
+        return compound;
+    }
+}
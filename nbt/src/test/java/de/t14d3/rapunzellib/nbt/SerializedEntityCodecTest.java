@@ -0,0 +1,327 @@
+package de.t14d3.rapunzellib.nbt;
+
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+final class SerializedEntityCodecTest {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SerializedEntityCodecTest.class);
+    private static final String[] TYPES = {"minecraft:zombie", "minecraft:chicken", "minecraft:horse", "minecraft:armor_stand"};
+
+    @Test
+    void roundTripKeepsPassengersTimestampsAndMetadata() {
+        Random random = new Random(46L);
+        for (int i = 0; i < 500; i++) {
+            SerializedEntity entity = randomEntity(random, 0);
+
+            byte[] encoded = SerializedEntityCodec.encode(entity);
+
+            assertEquals(entity, SerializedEntityCodec.decode(encoded));
+            assertEquals(entity, SerializedEntity.fromBase64(entity.toBase64()));
+        }
+
+        SerializedEntity jockey = entity("minecraft:zombie", 1, List.of(
+            entity("minecraft:zombie", 2, List.of(entity("minecraft:zombie", 3, List.of())))
+        ));
+        String encoded = new String(jockey.toBytes(), StandardCharsets.ISO_8859_1);
+        assertEquals(encoded.indexOf("minecraft:zombie"), encoded.lastIndexOf("minecraft:zombie"));
+        assertEquals(jockey, SerializedEntity.fromBytes(jockey.toBytes()));
+    }
+
+    @Test
+    void streamWriterSharesTheKeyTableAcrossEntities() {
+        Random random = new Random(4_646L);
+        List<SerializedEntity> entities = new ArrayList<>();
+        int singleBytes = 0;
+        for (int i = 0; i < 1_000; i++) {
+            SerializedEntity entity = randomEntity(random, 1);
+            entities.add(entity);
+            singleBytes += SerializedEntityCodec.encode(entity).length;
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (SerializedEntityCodec.Writer writer = new SerializedEntityCodec.Writer(out)) {
+            for (SerializedEntity entity : entities) {
+                writer.write(entity);
+            }
+            assertEquals(entities.size(), writer.count());
+        }
+        byte[] stream = out.toByteArray();
+
+        List<SerializedEntity> read = new ArrayList<>();
+        try (SerializedEntityCodec.Reader reader = new SerializedEntityCodec.Reader(new ByteArrayInputStream(stream))) {
+            for (SerializedEntity entity = reader.next(); entity != null; entity = reader.next()) {
+                read.add(entity);
+            }
+            assertNull(reader.next());
+        }
+        assertEquals(entities, read);
+        assertTrue(stream.length < singleBytes, stream.length + " >= " + singleBytes);
+
+        byte[] truncated = Arrays.copyOf(stream, stream.length - 1);
+        assertThrows(SerializationException.class, () -> readAll(truncated));
+        assertThrows(SerializationException.class, () -> new SerializedEntityCodec.Reader(
+            new ByteArrayInputStream(SerializedEntityCodec.encode(entities.getFirst()))));
+    }
+
+    @Test
+    void passengersNestedTooDeepAreRejectedWithoutCorruptingTheStream() {
+        SerializedEntity tower = entity("minecraft:armor_stand", 0, List.of());
+        for (int i = 0; i <= SerializedEntityCodec.MAX_PASSENGER_DEPTH; i++) {
+            tower = entity(i == SerializedEntityCodec.MAX_PASSENGER_DEPTH ? "minecraft:horse" : "minecraft:armor_stand", i, List.of(tower));
+        }
+        SerializedEntity tooDeep = tower;
+        assertThrows(SerializationException.class, () -> SerializedEntityCodec.encode(tooDeep));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        SerializedEntity horse = entity("minecraft:horse", 1, List.of());
+        try (SerializedEntityCodec.Writer writer = new SerializedEntityCodec.Writer(out)) {
+            assertThrows(SerializationException.class, () -> writer.write(tooDeep));
+            writer.write(horse);
+            writer.write(horse);
+        }
+        assertEquals(List.of(horse, horse), readAll(out.toByteArray()));
+    }
+
+    @Test
+    void legacyJavaSerializationIsOnlyReadThroughTheMigration() throws IOException {
+        SerializedEntity entity = randomEntity(new Random(460L), 2);
+        byte[] legacy = javaSerialize(entity);
+
+        assertTrue(SerializedEntityCodec.isLegacy(legacy));
+        assertFalse(SerializedEntityCodec.isLegacy(entity.toBytes()));
+        assertEquals(entity, SerializedEntityCodec.migrateLegacy(legacy));
+        assertEquals(entity, SerializedEntityCodec.decode(SerializedEntityCodec.encode(SerializedEntityCodec.migrateLegacy(legacy))));
+
+        SerializationException rejected = assertThrows(SerializationException.class, () -> SerializedEntityCodec.decode(legacy));
+        assertTrue(rejected.getMessage().contains("migrateLegacy"), rejected.getMessage());
+        assertThrows(SerializationException.class, () -> SerializedEntity.fromBase64(Base64.getEncoder().encodeToString(legacy)));
+        assertThrows(SerializationException.class, () -> SerializedEntityCodec.migrateLegacy(entity.toBytes()));
+        assertThrows(SerializationException.class, () -> SerializedEntity.fromBase64("not base64!"));
+    }
+
+    @Test
+    void legacyMigrationOnlyAdmitsEntityClassesAndBoundedArrays() throws IOException {
+        SerializationException notAnEntity = assertThrows(SerializationException.class,
+            () -> SerializedEntityCodec.migrateLegacy(javaSerialize("minecraft:zombie")));
+        assertTrue(notAnEntity.getMessage().contains("does not contain"), notAnEntity.getMessage());
+        assertThrows(SerializationException.class,
+            () -> SerializedEntityCodec.migrateLegacy(javaSerialize(new AssertionFailedError("outside the allowed classes"))));
+        assertThrows(SerializationException.class,
+            () -> SerializedEntityCodec.migrateLegacy(javaSerialize(new TreeMap<>(Map.of("a", 1)))));
+
+        byte[] array = javaSerialize(new Object[] {"a", "b"});
+        int length = indexOf(array, new byte[] {0, 0, 0, 2});
+        array[length] = 0x7F;
+        byte[] hugeArray = array;
+        SerializationException huge = assertThrows(SerializationException.class, () -> SerializedEntityCodec.migrateLegacy(hugeArray));
+        assertTrue(huge.getCause() instanceof InvalidClassException, String.valueOf(huge.getCause()));
+    }
+
+    @Test
+    void fuzzedPayloadsOnlyFailWithSerializationException() {
+        Random random = new Random(0xF022L);
+        List<byte[]> seeds = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            seeds.add(SerializedEntityCodec.encode(randomEntity(random, 0)));
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (SerializedEntityCodec.Writer writer = new SerializedEntityCodec.Writer(out)) {
+            for (int i = 0; i < 5; i++) {
+                writer.write(randomEntity(random, 1));
+            }
+        }
+        byte[] streamSeed = out.toByteArray();
+
+        int rejected = 0;
+        int cases = 20_000;
+        for (int i = 0; i < cases; i++) {
+            byte[] single = mutate(random, seeds.get(random.nextInt(seeds.size())));
+            rejected += decodes(() -> SerializedEntityCodec.decode(single), single);
+            byte[] stream = mutate(random, streamSeed);
+            rejected += decodes(() -> readAll(stream), stream);
+        }
+        byte[] garbage = new byte[64];
+        for (int i = 0; i < 2_000; i++) {
+            random.nextBytes(garbage);
+            rejected += decodes(() -> SerializedEntityCodec.decode(garbage), garbage);
+        }
+        LOGGER.info("{} fuzzed payloads, {} rejected", cases * 2 + 2_000, rejected);
+
+        assertTrue(rejected > cases);
+    }
+
+    @Test
+    void deeplyNestedCompoundsAreRejected() {
+        RNbtBinary.Output output = new RNbtBinary.Output();
+        output.writeByte('R');
+        output.writeByte('E');
+        output.writeByte(SerializedEntityCodec.VERSION);
+        output.writeByte(0);
+        output.writeVarInt(0);
+        output.writeString("minecraft:zombie");
+        output.writeFixedLong(0L);
+        output.writeFixedLong(1L);
+        output.writeZigZagLong(0L);
+        output.writeVarInt(0);
+        for (int i = 0; i < 100_000; i++) {
+            output.writeVarInt(1);
+            output.writeString("a");
+            output.writeByte(RNbtType.COMPOUND.ordinal());
+        }
+        output.writeVarInt(0);
+
+        SerializationException failure = assertThrows(SerializationException.class,
+            () -> SerializedEntityCodec.decode(output.toByteArray()));
+        assertTrue(failure.getMessage().contains("nesting"), failure.getMessage());
+    }
+
+    @Test
+    void binaryFormatIsSmallerThanJavaSerialization() throws IOException {
+        Random random = new Random(46_000L);
+        long legacyBytes = 0;
+        long binaryBytes = 0;
+        for (int i = 0; i < 200; i++) {
+            SerializedEntity entity = randomEntity(random, 1);
+            legacyBytes += javaSerialize(entity).length;
+            binaryBytes += entity.toBytes().length;
+        }
+
+        assertTrue(binaryBytes * 2 < legacyBytes, binaryBytes + " vs " + legacyBytes);
+    }
+
+    private static int decodes(Runnable decode, byte[] input) {
+        try {
+            decode.run();
+            return 0;
+        } catch (SerializationException e) {
+            return 1;
+        } catch (Throwable t) {
+            fail("Unexpected " + t + " for " + Base64.getEncoder().encodeToString(input), t);
+            return 0;
+        }
+    }
+
+    private static byte[] mutate(Random random, byte[] seed) {
+        byte[] bytes = seed.clone();
+        switch (random.nextInt(4)) {
+            case 0 -> {
+                for (int flips = 1 + random.nextInt(4); flips > 0; flips--) {
+                    bytes[4 + random.nextInt(bytes.length - 4)] ^= (byte) (1 << random.nextInt(8));
+                }
+            }
+            case 1 -> bytes = Arrays.copyOf(bytes, random.nextInt(bytes.length));
+            case 2 -> bytes[4 + random.nextInt(bytes.length - 4)] = (byte) random.nextInt(256);
+            default -> {
+                int at = 4 + random.nextInt(bytes.length - 4);
+                byte[] inserted = new byte[bytes.length + 1];
+                System.arraycopy(bytes, 0, inserted, 0, at);
+                inserted[at] = (byte) random.nextInt(256);
+                System.arraycopy(bytes, at, inserted, at + 1, bytes.length - at);
+                bytes = inserted;
+            }
+        }
+        return bytes;
+    }
+
+    private static List<SerializedEntity> readAll(byte[] stream) {
+        List<SerializedEntity> entities = new ArrayList<>();
+        try (SerializedEntityCodec.Reader reader = new SerializedEntityCodec.Reader(new ByteArrayInputStream(stream))) {
+            for (SerializedEntity entity = reader.next(); entity != null; entity = reader.next()) {
+                entities.add(entity);
+            }
+        }
+        return entities;
+    }
+
+    private static int indexOf(byte[] bytes, byte[] pattern) {
+        for (int i = 0; i <= bytes.length - pattern.length; i++) {
+            if (Arrays.equals(bytes, i, i + pattern.length, pattern, 0, pattern.length)) {
+                return i;
+            }
+        }
+        throw new AssertionError("pattern not found");
+    }
+
+    private static byte[] javaSerialize(Object value) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOutput = new ObjectOutputStream(output)) {
+            objectOutput.writeObject(value);
+        }
+        return output.toByteArray();
+    }
+
+    private static SerializedEntity entity(String type, long id, List<SerializedEntity> passengers) {
+        return new SerializedEntity(
+            type,
+            RNbtCompound.builder().putFloat("Health", 20f).build(),
+            passengers,
+            new UUID(0L, id),
+            Instant.parse("2026-03-09T12:00:00Z"),
+            RNbtCompound.empty()
+        );
+    }
+
+    private static SerializedEntity randomEntity(Random random, int depth) {
+        String type = TYPES[random.nextInt(TYPES.length)];
+        RNbtCompoundBuilder data = RNbtCompound.builder()
+            .putString("id", type)
+            .put("Pos", RNbtList.of(List.of(
+                RNbtPrimitive.ofDouble(random.nextDouble() * 1000),
+                RNbtPrimitive.ofDouble(64 + random.nextInt(64)),
+                RNbtPrimitive.ofDouble(random.nextDouble() * 1000)
+            )))
+            .put("Rotation", RNbtList.of(List.of(RNbtPrimitive.ofFloat(random.nextFloat() * 360), RNbtPrimitive.ofFloat(0f))))
+            .put("Health", RNbtPrimitive.ofFloat(1 + random.nextInt(20)))
+            .put("Air", RNbtPrimitive.ofShort((short) 300))
+            .put("UUID", new RNbtIntArray(new int[] {random.nextInt(), random.nextInt(), random.nextInt(), random.nextInt()}))
+            .put("Attributes", RNbtList.of(List.of(RNbtCompound.builder()
+                .putString("id", "minecraft:max_health")
+                .put("base", RNbtPrimitive.ofDouble(20))
+                .build())));
+        if (random.nextBoolean()) {
+            data.putString("CustomName", "{\"text\":\"mob " + random.nextInt(100) + "\"}");
+        }
+        RNbtCompound metadata = random.nextBoolean()
+            ? RNbtCompound.builder().putString("source", "vault").putLong("storedAt", random.nextLong()).build()
+            : RNbtCompound.empty();
+        List<SerializedEntity> passengers = new ArrayList<>();
+        if (depth < 2 && random.nextInt(3) == 0) {
+            for (int i = random.nextInt(3); i >= 0; i--) {
+                passengers.add(randomEntity(random, depth + 1));
+            }
+        }
+        return new SerializedEntity(
+            type,
+            data.build(),
+            passengers,
+            new UUID(random.nextLong(), random.nextLong()),
+            Instant.ofEpochSecond(1_700_000_000L + random.nextInt(100_000_000), random.nextInt(1_000_000_000)),
+            metadata
+        );
+    }
+}
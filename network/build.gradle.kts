@@ -3,5 +3,6 @@ plugins {
 }
 
 dependencies {
+    api(project(":nbt"))
     implementation(libs.adventure.serializer.gson)
 }
@@ -7,18 +7,24 @@ import de.t14d3.rapunzellib.network.json.JsonCodecs;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ForkJoinPool;
-import java.util.stream.Collectors;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Bus for distributing network events across servers.
  * Supports both synchronous and asynchronous event dispatch for improved performance.
+ * <p>
+ * Each incoming message is decoded at most once per payload class and the same instance is
+ * handed to every listener of that class, so payloads must be treated as read-only. Synchronous
+ * listeners run in registration order on the delivering thread; asynchronous listeners of one
+ * message run in registration order within a single dispatcher task.
  */
 public final class NetworkEventBus {
     private static final Logger logger = LoggerFactory.getLogger(NetworkEventBus.class);
@@ -57,7 +63,6 @@ public final class NetworkEventBus {
 
     private final Map<String, CopyOnWriteArrayList<TypedRegistration<?>>> typedListeners = new ConcurrentHashMap<>();
     private final Map<String, MessageListener> rawBridgeListeners = new ConcurrentHashMap<>();
-    private final Map<String, Boolean> asyncChannels = new ConcurrentHashMap<>();
 
     public NetworkEventBus(Messenger messenger) {
         this(messenger, JsonCodecs.codec(), ForkJoinPool.commonPool());
@@ -95,11 +100,9 @@ public final class NetworkEventBus {
      */
     public <T> Subscription register(String channel, Class<T> payloadType, TypedListener<T> listener, boolean async) {
         CopyOnWriteArrayList<TypedRegistration<?>> list = typedListeners.computeIfAbsent(channel, k -> new CopyOnWriteArrayList<>());
-        TypedRegistration<T> reg = new TypedRegistration<>(payloadType, listener);
+        TypedRegistration<T> reg = new TypedRegistration<>(payloadType, listener, async);
         list.add(reg);
 
-        asyncChannels.put(channel, async);
-
         rawBridgeListeners.computeIfAbsent(channel, ch -> {
             MessageListener raw = this::dispatchTyped;
             messenger.registerListener(ch, raw);
@@ -112,7 +115,6 @@ public final class NetworkEventBus {
                 current.remove(reg);
                 if (current.isEmpty()) {
                     typedListeners.remove(channel);
-                    asyncChannels.remove(channel);
                 }
             }
 
@@ -174,36 +176,88 @@ public final class NetworkEventBus {
         List<TypedRegistration<?>> regs = typedListeners.get(channel);
         if (regs == null || regs.isEmpty()) return;
 
-        boolean asyncDispatch = asyncChannels.getOrDefault(channel, false);
-
-        if (asyncDispatch) {
-            // Dispatch in parallel using ExecutorService
-            regs.forEach(reg -> CompletableFuture.runAsync(() -> {
-                        try {
-                            reg.dispatch(json, data, serverName);
-                        } catch (Exception e) {
-                            logger.error("Async listener dispatch failed for channel {} from server {}",
-                                    channel, serverName, e);
-                        }
-                    }, dispatcher));
-        } else {
-            // Synchronous dispatch (existing behavior)
-            for (TypedRegistration<?> reg : regs) {
-                try {
-                    reg.dispatch(json, data, serverName);
-                } catch (Exception e) {
-                    logger.error("Synchronous listener dispatch failed for channel {} from server {}",
-                                 channel, serverName, e);
+        DecodedPayloads payloads = new DecodedPayloads(channel, data, serverName);
+        List<TypedRegistration<?>> asyncRegs = null;
+        for (TypedRegistration<?> reg : regs) {
+            if (reg.async()) {
+                if (asyncRegs == null) asyncRegs = new ArrayList<>();
+                asyncRegs.add(reg);
+                continue;
+            }
+            try {
+                reg.dispatch(payloads, serverName);
+            } catch (Exception e) {
+                logger.error("Synchronous listener dispatch failed for channel {} from server {}",
+                             channel, serverName, e);
+            }
+        }
+        if (asyncRegs == null) return;
+
+        // All async listeners of one message share a single task (and the payloads decoded above).
+        List<TypedRegistration<?>> batch = asyncRegs;
+        try {
+            dispatcher.execute(() -> {
+                for (TypedRegistration<?> reg : batch) {
+                    try {
+                        reg.dispatch(payloads, serverName);
+                    } catch (Exception e) {
+                        logger.error("Async listener dispatch failed for channel {} from server {}",
+                                channel, serverName, e);
+                    }
                 }
+            });
+        } catch (RejectedExecutionException e) {
+            logger.error("Async dispatch rejected for channel {} from server {}", channel, serverName, e);
+        }
+    }
+
+    /**
+     * Payloads of one message, decoded at most once per target class. Listeners of the same
+     * payload class receive the same instance and must treat it as read-only.
+     */
+    private final class DecodedPayloads {
+        private final String channel;
+        private final String data;
+        private final String serverName;
+        private final Map<Class<?>, Object> decoded = new HashMap<>(4);
+
+        private DecodedPayloads(String channel, String data, String serverName) {
+            this.channel = channel;
+            this.data = data;
+            this.serverName = serverName;
+        }
+
+        /**
+         * Returns the payload decoded as {@code type}, or {@link #FAILED} if decoding failed
+         * (logged once per class).
+         */
+        private Object get(Class<?> type) {
+            Object payload = decoded.get(type);
+            if (payload != null || decoded.containsKey(type)) {
+                return payload;
+            }
+            try {
+                payload = json.fromJson(data, type);
+            } catch (Exception e) {
+                logger.error("Failed to decode {} payload for channel {} from server {}",
+                             type.getName(), channel, serverName, e);
+                payload = FAILED;
             }
+            decoded.put(type, payload);
+            return payload;
         }
     }
 
-    private record TypedRegistration<T>(Class<T> type, TypedListener<T> listener) {
+    private static final Object FAILED = new Object();
+
+    private record TypedRegistration<T>(Class<T> type, TypedListener<T> listener, boolean async) {
 
-        private void dispatch(JsonCodec json, String data, String serverName) {
-            T payload = json.fromJson(data, type);
-            listener.onEvent(payload, serverName);
+        private void dispatch(DecodedPayloads payloads, String serverName) {
+            Object payload = payloads.get(type);
+            if (payload == FAILED) return;
+            @SuppressWarnings("unchecked")
+            T typed = (T) payload;
+            listener.onEvent(typed, serverName);
         }
     }
 
@@ -0,0 +1,50 @@
+package de.t14d3.rapunzellib.network.cache;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Coalesced cache invalidations for one entity class, published by {@link DistributedCacheManager}.
+ * <p>
+ * Either carries the invalidated ids with their latest operation, or - when more keys were
+ * invalidated within one coalescing window than the sender's threshold - asks receivers to clear
+ * every cached entry of the class. {@code version} is monotonic per sender instance (identified by
+ * {@code senderId}), so receivers can drop batches they have already applied or that arrive out of
+ * order.
+ *
+ * @param entityClassName the fully qualified class name of the entity
+ * @param entries         invalidated ids mapped to their latest operation (empty if {@code clearAll})
+ * @param clearAll        whether all cached entries of the class must be invalidated
+ * @param serverName      the server that published the batch
+ * @param senderId        identifies the publishing manager instance
+ * @param version         per-sender monotonic version
+ * @param timestamp       when the batch was published
+ */
+public record CacheInvalidationBatch(
+    @NotNull String entityClassName,
+    @NotNull Map<String, InvalidationOperation> entries,
+    boolean clearAll,
+    @NotNull String serverName,
+    @NotNull String senderId,
+    long version,
+    long timestamp
+) {
+
+    public CacheInvalidationBatch {
+        if (entityClassName == null || entityClassName.isBlank()) {
+            throw new IllegalArgumentException("entityClassName cannot be null or blank");
+        }
+        if (serverName == null || serverName.isBlank()) {
+            throw new IllegalArgumentException("serverName cannot be null or blank");
+        }
+        if (senderId == null || senderId.isBlank()) {
+            throw new IllegalArgumentException("senderId cannot be null or blank");
+        }
+        entries = entries == null || clearAll
+            ? Map.of()
+            : Collections.unmodifiableMap(new LinkedHashMap<>(entries));
+    }
+}
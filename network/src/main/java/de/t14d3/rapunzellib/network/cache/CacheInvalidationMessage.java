@@ -12,7 +12,12 @@ public record CacheInvalidationMessage(
     @NotNull String serverName,
     long timestamp
 ) {
-    
+
+    /**
+     * Id used by {@link InvalidationOperation#CLEAR} messages.
+     */
+    public static final String ALL_IDS = "*";
+
     public CacheInvalidationMessage {
         if (entityClassName == null || entityClassName.isBlank()) {
             throw new IllegalArgumentException("entityClassName cannot be null or blank");
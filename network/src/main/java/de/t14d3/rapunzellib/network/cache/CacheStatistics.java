@@ -10,6 +10,11 @@ public class CacheStatistics {
     private final AtomicLong misses = new AtomicLong(0);
     private final AtomicLong invalidationsSent = new AtomicLong(0);
     private final AtomicLong invalidationsReceived = new AtomicLong(0);
+    private final AtomicLong batchesSent = new AtomicLong(0);
+    private final AtomicLong batchesReceived = new AtomicLong(0);
+    private final AtomicLong invalidationsMerged = new AtomicLong(0);
+    private final AtomicLong clearAllEscalations = new AtomicLong(0);
+    private final AtomicLong staleBatchesDropped = new AtomicLong(0);
 
     /**
      * Increments the hit counter.
@@ -39,6 +44,41 @@ public class CacheStatistics {
         invalidationsReceived.incrementAndGet();
     }
 
+    /**
+     * Increments the batches sent counter.
+     */
+    public void incrementBatchesSent() {
+        batchesSent.incrementAndGet();
+    }
+
+    /**
+     * Increments the batches received counter.
+     */
+    public void incrementBatchesReceived() {
+        batchesReceived.incrementAndGet();
+    }
+
+    /**
+     * Increments the merged invalidations counter.
+     */
+    public void incrementInvalidationsMerged() {
+        invalidationsMerged.incrementAndGet();
+    }
+
+    /**
+     * Increments the clear-all escalations counter.
+     */
+    public void incrementClearAllEscalations() {
+        clearAllEscalations.incrementAndGet();
+    }
+
+    /**
+     * Increments the stale batches dropped counter.
+     */
+    public void incrementStaleBatchesDropped() {
+        staleBatchesDropped.incrementAndGet();
+    }
+
     /**
      * Gets the current hit count.
      *
@@ -74,4 +114,51 @@ public class CacheStatistics {
     public long getInvalidationsReceived() {
         return invalidationsReceived.get();
     }
+
+    /**
+     * Gets the number of invalidation batches published.
+     *
+     * @return the batches sent count
+     */
+    public long getBatchesSent() {
+        return batchesSent.get();
+    }
+
+    /**
+     * Gets the number of invalidation batches applied.
+     *
+     * @return the batches received count
+     */
+    public long getBatchesReceived() {
+        return batchesReceived.get();
+    }
+
+    /**
+     * Gets the number of invalidations that were folded into an already pending key or
+     * clear-all within one coalescing window.
+     *
+     * @return the merged invalidations count
+     */
+    public long getInvalidationsMerged() {
+        return invalidationsMerged.get();
+    }
+
+    /**
+     * Gets the number of batches published as clear-all, either requested or escalated because
+     * too many keys were invalidated.
+     *
+     * @return the clear-all escalations count
+     */
+    public long getClearAllEscalations() {
+        return clearAllEscalations.get();
+    }
+
+    /**
+     * Gets the number of received batches dropped as stale or duplicate.
+     *
+     * @return the stale batches dropped count
+     */
+    public long getStaleBatchesDropped() {
+        return staleBatchesDropped.get();
+    }
 }
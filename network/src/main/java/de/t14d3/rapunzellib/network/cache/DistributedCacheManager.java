@@ -8,8 +8,19 @@ import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
@@ -26,7 +37,18 @@ import java.util.function.Consumer;
  * <strong>Passive Invalidation:</strong> The manager listens for invalidation events from
  * other servers and notifies local cache consumers to invalidate their entries.
  * <p>
- * <strong>Cache Statistics:</strong> Tracks hits, misses, and invalidations for monitoring.
+ * <strong>Coalescing:</strong> Invalidations are collected for a short window and published as
+ * one {@link CacheInvalidationBatch} per entity class. Repeated invalidations of the same key are
+ * merged, and a window that invalidates more keys than the clear-all threshold escalates to a single
+ * {@link InvalidationOperation#CLEAR}. Batches carry a per-sender monotonic version; receivers drop
+ * stale and duplicate batches.
+ * <p>
+ * <strong>Mixed versions:</strong> Nodes that predate batching only listen on
+ * {@link #CACHE_INVALIDATION_CHANNEL}, so every batched key is also published there as a single
+ * {@link CacheInvalidationMessage} until {@link #setLegacyInvalidationsEnabled(boolean)} turns it
+ * off. Receivers ignore legacy messages from servers they have already received batches from.
+ * <p>
+ * <strong>Cache Statistics:</strong> Tracks hits, misses, invalidations and batching for monitoring.
  *
  */
 public class DistributedCacheManager implements AutoCloseable {
@@ -39,6 +61,25 @@ public class DistributedCacheManager implements AutoCloseable {
     public static final NetworkTopic<CacheInvalidationMessage> INVALIDATION_TOPIC =
         NetworkTopic.of(CACHE_INVALIDATION_CHANNEL, CacheInvalidationMessage.class);
 
+    /**
+     * Channel name for coalesced cache invalidation batches.
+     */
+    public static final String CACHE_INVALIDATION_BATCH_CHANNEL = "rapunzellib:cache:invalidate-batch";
+
+    public static final NetworkTopic<CacheInvalidationBatch> INVALIDATION_BATCH_TOPIC =
+        NetworkTopic.of(CACHE_INVALIDATION_BATCH_CHANNEL, CacheInvalidationBatch.class);
+
+    /**
+     * Default window during which invalidations are coalesced before being published.
+     */
+    public static final Duration DEFAULT_COALESCE_WINDOW = Duration.ofMillis(50);
+
+    /**
+     * Default number of distinct keys per entity class and window above which a batch escalates
+     * to clear-all.
+     */
+    public static final int DEFAULT_CLEAR_ALL_THRESHOLD = 1024;
+
     private final NetworkRuntimeGateway gateway;
     private final Logger logger;
 
@@ -49,6 +90,27 @@ public class DistributedCacheManager implements AutoCloseable {
     private final CacheStatistics statistics;
 
     private final NetworkRuntimeGateway.Subscription invalidationSubscription;
+    private final NetworkRuntimeGateway.Subscription batchSubscription;
+
+    private final Duration coalesceWindow;
+    private final int clearAllThreshold;
+    private final String senderId = UUID.randomUUID().toString();
+    private final AtomicLong nextVersion = new AtomicLong();
+
+    // Pending invalidations per entity class, guarded by itself
+    private final Map<String, PendingBatch> pending = new LinkedHashMap<>();
+    private boolean flushScheduled;
+    // Serializes flushes so versions are published in the order they are assigned
+    private final Object flushLock = new Object();
+    private ScheduledExecutorService flushExecutor;
+
+    // Last applied batch version per sender and entity class
+    private final ConcurrentHashMap<String, Long> appliedVersions = new ConcurrentHashMap<>();
+
+    // Servers known to publish batches; their legacy copies are ignored
+    private final Set<String> batchSources = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean legacyInvalidations = true;
 
     // Flag to track if this manager is active
     private volatile boolean active;
@@ -88,13 +150,52 @@ public class DistributedCacheManager implements AutoCloseable {
      * @param logger  the logger
      */
     public DistributedCacheManager(@NotNull NetworkRuntimeGateway gateway, @NotNull Logger logger) {
+        this(gateway, logger, DEFAULT_COALESCE_WINDOW, DEFAULT_CLEAR_ALL_THRESHOLD);
+    }
+
+    /**
+     * Creates a new DistributedCacheManager with custom coalescing settings.
+     *
+     * @param messenger         the messenger to use for pub/sub communication
+     * @param logger            the logger to use for logging
+     * @param coalesceWindow    how long invalidations are collected before publishing; zero publishes
+     *                          every invalidation immediately
+     * @param clearAllThreshold distinct keys per entity class and window above which the batch
+     *                          escalates to clear-all
+     */
+    public DistributedCacheManager(@NotNull Messenger messenger, @NotNull Logger logger,
+            @NotNull Duration coalesceWindow, int clearAllThreshold) {
+        this(DefaultNetworkRuntimeGateway.compatibility(messenger), logger, coalesceWindow, clearAllThreshold);
+    }
+
+    /**
+     * Creates a new DistributedCacheManager with custom coalescing settings.
+     *
+     * @param gateway           the network runtime gateway
+     * @param logger            the logger
+     * @param coalesceWindow    how long invalidations are collected before publishing; zero publishes
+     *                          every invalidation immediately
+     * @param clearAllThreshold distinct keys per entity class and window above which the batch
+     *                          escalates to clear-all
+     */
+    public DistributedCacheManager(@NotNull NetworkRuntimeGateway gateway, @NotNull Logger logger,
+            @NotNull Duration coalesceWindow, int clearAllThreshold) {
         this.gateway = Objects.requireNonNull(gateway, "gateway");
         this.logger = Objects.requireNonNull(logger, "logger");
+        this.coalesceWindow = Objects.requireNonNull(coalesceWindow, "coalesceWindow");
+        if (coalesceWindow.isNegative()) {
+            throw new IllegalArgumentException("coalesceWindow cannot be negative");
+        }
+        if (clearAllThreshold < 1) {
+            throw new IllegalArgumentException("clearAllThreshold must be positive");
+        }
+        this.clearAllThreshold = clearAllThreshold;
         this.invalidationListeners = new ConcurrentHashMap<>();
         this.statistics = new CacheStatistics();
         this.active = true;
 
         this.invalidationSubscription = gateway.subscribe(INVALIDATION_TOPIC, this::handleInvalidation);
+        this.batchSubscription = gateway.subscribe(INVALIDATION_BATCH_TOPIC, this::handleBatch);
 
         logger.debug("DistributedCacheManager initialized on server '{}'", gateway.runtime().localName());
     }
@@ -103,11 +204,12 @@ public class DistributedCacheManager implements AutoCloseable {
      * Broadcasts a cache invalidation event to all other servers.
      * <p>
      * This is the "active invalidation" side - when local cache is modified,
-     * we tell other servers to invalidate their copies.
+     * we tell other servers to invalidate their copies. The invalidation is published with the
+     * next batch for its entity class at the end of the coalescing window, or by {@link #flush()}.
      *
      * @param entityClassName the fully qualified class name of the entity
      * @param id              the entity ID
-     * @param operation       the operation type (UPSERT or DELETE)
+     * @param operation       the operation type (UPSERT, DELETE, or CLEAR to invalidate the whole class)
      */
     public void broadcastInvalidation(@NotNull String entityClassName, @NotNull String id,
             @NotNull InvalidationOperation operation) {
@@ -119,21 +221,25 @@ public class DistributedCacheManager implements AutoCloseable {
         Objects.requireNonNull(entityClassName, "entityClassName");
         Objects.requireNonNull(id, "id");
         Objects.requireNonNull(operation, "operation");
+        if (entityClassName.isBlank() || id.isBlank()) {
+            throw new IllegalArgumentException("entityClassName and id cannot be blank");
+        }
 
-        CacheInvalidationMessage message = new CacheInvalidationMessage(
-                entityClassName,
-                id,
-                operation,
-                gateway.runtime().localName(),
-                System.currentTimeMillis()
-        );
-
-        try {
-            gateway.publishToAll(INVALIDATION_TOPIC, message);
-            statistics.incrementInvalidationsSent();
-            logger.debug("Broadcast cache invalidation: {}#{} ({})", entityClassName, id, operation);
-        } catch (Exception e) {
-            logger.warn("Failed to broadcast cache invalidation for {}#{}", entityClassName, id, e);
+        boolean flushNow;
+        synchronized (pending) {
+            PendingBatch batch = pending.computeIfAbsent(entityClassName, ignored -> new PendingBatch());
+            if (!batch.add(id, operation, clearAllThreshold, legacyInvalidations)) {
+                statistics.incrementInvalidationsMerged();
+            }
+            flushNow = coalesceWindow.isZero();
+            if (!flushNow && !flushScheduled) {
+                flushScheduled = scheduleFlush();
+                flushNow = !flushScheduled;
+            }
+        }
+        statistics.incrementInvalidationsSent();
+        if (flushNow) {
+            flush();
         }
     }
 
@@ -175,6 +281,100 @@ public class DistributedCacheManager implements AutoCloseable {
         logger.debug("Unregistered invalidation listener for entity: {}", entityClassName);
     }
 
+    /**
+     * Sets whether batched invalidations are also published per key on
+     * {@link #CACHE_INVALIDATION_CHANNEL} for nodes that predate batching. Enabled by default; turn
+     * it off once every node in the network receives batches.
+     *
+     * @param enabled whether to publish legacy invalidations
+     */
+    public void setLegacyInvalidationsEnabled(boolean enabled) {
+        this.legacyInvalidations = enabled;
+    }
+
+    /**
+     * Publishes all pending invalidations immediately, one batch per entity class.
+     * <p>
+     * Concurrent flushes are serialized: a flush assigns its versions and publishes its batches before
+     * the next flush drains, so receivers never see a newer version of a sender before an older one.
+     */
+    public void flush() {
+        synchronized (flushLock) {
+            List<Map.Entry<String, PendingBatch>> batches;
+            synchronized (pending) {
+                flushScheduled = false;
+                if (pending.isEmpty()) {
+                    return;
+                }
+                batches = new ArrayList<>(pending.entrySet());
+                pending.clear();
+            }
+            publish(batches);
+        }
+    }
+
+    /** Publishes drained batches. Caller holds {@code flushLock}. */
+    private void publish(List<Map.Entry<String, PendingBatch>> batches) {
+        for (Map.Entry<String, PendingBatch> entry : batches) {
+            String entityClassName = entry.getKey();
+            PendingBatch batch = entry.getValue();
+            if (batch.clearAll) {
+                statistics.incrementClearAllEscalations();
+            }
+            CacheInvalidationBatch message = new CacheInvalidationBatch(
+                entityClassName,
+                batch.clearAll ? Map.of() : batch.entries,
+                batch.clearAll,
+                gateway.runtime().localName(),
+                senderId,
+                nextVersion.incrementAndGet(),
+                System.currentTimeMillis()
+            );
+            try {
+                gateway.publishToAll(INVALIDATION_BATCH_TOPIC, message);
+                statistics.incrementBatchesSent();
+                logger.debug("Broadcast cache invalidation batch: {} ({} keys, clearAll={})",
+                    entityClassName, message.entries().size(), message.clearAll());
+            } catch (Exception e) {
+                logger.warn("Failed to broadcast cache invalidation batch for {}", entityClassName, e);
+            }
+            if (legacyInvalidations) {
+                publishLegacy(message, batch.entries);
+            }
+        }
+    }
+
+    /**
+     * Publishes the keys of a batch one by one for nodes that only know
+     * {@link #CACHE_INVALIDATION_CHANNEL}. Those nodes cannot decode {@link InvalidationOperation#CLEAR},
+     * so only the keys collected before an escalation are sent.
+     */
+    private void publishLegacy(CacheInvalidationBatch batch, Map<String, InvalidationOperation> entries) {
+        for (Map.Entry<String, InvalidationOperation> entry : entries.entrySet()) {
+            try {
+                gateway.publishToAll(INVALIDATION_TOPIC, new CacheInvalidationMessage(
+                    batch.entityClassName(),
+                    entry.getKey(),
+                    entry.getValue(),
+                    batch.serverName(),
+                    batch.timestamp()
+                ));
+            } catch (Exception e) {
+                logger.warn("Failed to broadcast legacy cache invalidation for {}", batch.entityClassName(), e);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Gets the statistics of this manager.
+     *
+     * @return the cache statistics
+     */
+    public @NotNull CacheStatistics getStatistics() {
+        return statistics;
+    }
+
     /**
      * Records a local cache hit.
      */
@@ -202,8 +402,16 @@ public class DistributedCacheManager implements AutoCloseable {
     @Override
     public void close() {
         if (active) {
-            this.invalidationSubscription.close();
+            flush();
             this.active = false;
+            synchronized (pending) {
+                if (flushExecutor != null) {
+                    flushExecutor.shutdownNow();
+                    flushExecutor = null;
+                }
+            }
+            this.invalidationSubscription.close();
+            this.batchSubscription.close();
             logger.debug("DistributedCacheManager closed");
         }
     }
@@ -218,10 +426,79 @@ public class DistributedCacheManager implements AutoCloseable {
     }
 
     private void handleInvalidation(CacheInvalidationMessage invalidationMessage, String sourceServer) {
-        if (invalidationMessage == null) {
+        if (invalidationMessage == null || batchSources.contains(sourceServer)) {
             return;
         }
 
+        notifyListeners(invalidationMessage);
+
+        statistics.incrementInvalidationsReceived();
+        logger.debug(
+            "Received cache invalidation from server {}: {}#{} ({})",
+            sourceServer,
+            invalidationMessage.entityClassName(),
+            invalidationMessage.id(),
+            invalidationMessage.operation()
+        );
+    }
+
+    private void handleBatch(CacheInvalidationBatch batch, String sourceServer) {
+        if (batch == null) {
+            return;
+        }
+        batchSources.add(sourceServer);
+        if (!acceptVersion(batch)) {
+            statistics.incrementStaleBatchesDropped();
+            logger.debug("Dropped stale cache invalidation batch {} v{} from server {}",
+                batch.entityClassName(), batch.version(), sourceServer);
+            return;
+        }
+        statistics.incrementBatchesReceived();
+
+        if (batch.clearAll()) {
+            notifyListeners(new CacheInvalidationMessage(
+                batch.entityClassName(),
+                CacheInvalidationMessage.ALL_IDS,
+                InvalidationOperation.CLEAR,
+                batch.serverName(),
+                batch.timestamp()
+            ));
+            statistics.incrementInvalidationsReceived();
+        } else {
+            for (Map.Entry<String, InvalidationOperation> entry : batch.entries().entrySet()) {
+                notifyListeners(new CacheInvalidationMessage(
+                    batch.entityClassName(),
+                    entry.getKey(),
+                    entry.getValue(),
+                    batch.serverName(),
+                    batch.timestamp()
+                ));
+                statistics.incrementInvalidationsReceived();
+            }
+        }
+        logger.debug("Received cache invalidation batch from server {}: {} ({} keys, clearAll={})",
+            sourceServer, batch.entityClassName(), batch.entries().size(), batch.clearAll());
+    }
+
+    /**
+     * Records the batch version for its sender and entity class.
+     *
+     * @return {@code false} if an equal or newer version was already applied
+     */
+    private boolean acceptVersion(CacheInvalidationBatch batch) {
+        String source = batch.senderId() + '|' + batch.entityClassName();
+        boolean[] accepted = new boolean[1];
+        appliedVersions.compute(source, (ignored, applied) -> {
+            if (applied != null && applied >= batch.version()) {
+                return applied;
+            }
+            accepted[0] = true;
+            return batch.version();
+        });
+        return accepted[0];
+    }
+
+    private void notifyListeners(CacheInvalidationMessage invalidationMessage) {
         invalidationListeners.forEach((entityClassName, listener) -> {
             if (entityClassName.equals("*") || entityClassName.equals(invalidationMessage.entityClassName())) {
                 try {
@@ -231,14 +508,68 @@ public class DistributedCacheManager implements AutoCloseable {
                 }
             }
         });
+    }
 
-        statistics.incrementInvalidationsReceived();
-        logger.debug(
-            "Received cache invalidation from server {}: {}#{} ({})",
-            sourceServer,
-            invalidationMessage.entityClassName(),
-            invalidationMessage.id(),
-            invalidationMessage.operation()
-        );
+    /**
+     * Schedules a flush at the end of the coalescing window. Caller holds {@code pending}.
+     *
+     * @return {@code false} if the flush could not be scheduled
+     */
+    private boolean scheduleFlush() {
+        try {
+            if (flushExecutor == null) {
+                flushExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+                    Thread t = new Thread(r, "RapunzelLib-Cache-Invalidation");
+                    t.setDaemon(true);
+                    return t;
+                });
+            }
+            flushExecutor.schedule(this::flushSafely, coalesceWindow.toNanos(), TimeUnit.NANOSECONDS);
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (Exception e) {
+            logger.warn("Failed to flush cache invalidations", e);
+        }
+    }
+
+    private static final class PendingBatch {
+        private final Map<String, InvalidationOperation> entries = new LinkedHashMap<>();
+        private boolean clearAll;
+
+        /**
+         * @param retainKeys keep collecting keys after escalating, for the legacy channel
+         * @return {@code false} if the invalidation was merged into a pending key or clear-all
+         */
+        private boolean add(String id, InvalidationOperation operation, int clearAllThreshold, boolean retainKeys) {
+            if (operation == InvalidationOperation.CLEAR) {
+                boolean merged = clearAll;
+                clearAll = true;
+                if (!retainKeys) {
+                    entries.clear();
+                }
+                return !merged;
+            }
+            if (clearAll && !retainKeys) {
+                return false;
+            }
+            boolean added = entries.put(id, operation) == null;
+            if (clearAll) {
+                return false;
+            }
+            if (entries.size() > clearAllThreshold) {
+                clearAll = true;
+                if (!retainKeys) {
+                    entries.clear();
+                }
+            }
+            return added;
+        }
     }
 }
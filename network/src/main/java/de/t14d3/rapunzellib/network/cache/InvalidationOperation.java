@@ -12,5 +12,11 @@ public enum InvalidationOperation {
     /**
      * Entity was deleted.
      */
-    DELETE
+    DELETE,
+
+    /**
+     * Every cached entry of the entity class was invalidated; the message id is
+     * {@link CacheInvalidationMessage#ALL_IDS}.
+     */
+    CLEAR
 }
@@ -0,0 +1,77 @@
+package de.t14d3.rapunzellib.network.remote;
+
+import de.t14d3.rapunzellib.nbt.item.RItem;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Local copy of a remote player's inventory, kept current by
+ * {@link InventorySyncHelper#fetchDelta}. Each fetch sends the replica's {@link #version()} so
+ * the backend can answer with only the slots changed since then.
+ */
+public final class InventoryReplica {
+    private final Map<Integer, RItem> items = new TreeMap<>();
+    private long version;
+    private int size;
+    private String inventoryType = "unknown";
+
+    /** Version of the applied contents, or {@code 0} before the first fetch. */
+    public synchronized long version() {
+        return version;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public synchronized @NotNull String inventoryType() {
+        return inventoryType;
+    }
+
+    public synchronized @NotNull Optional<RItem> item(int slot) {
+        return Optional.ofNullable(items.get(slot));
+    }
+
+    /** Snapshot of the occupied slots, keyed by slot index. */
+    public synchronized @NotNull Map<Integer, RItem> items() {
+        return Collections.unmodifiableMap(new TreeMap<>(items));
+    }
+
+    /** Forgets the contents so that the next fetch asks for a full frame. */
+    public synchronized void reset() {
+        items.clear();
+        version = 0L;
+        size = 0;
+    }
+
+    /**
+     * Applies a decoded frame. A delta whose base is not this replica's version cannot be
+     * applied; the replica is reset instead and {@code false} is returned.
+     */
+    public synchronized boolean apply(@NotNull InventorySlotCodec.Decoded frame, @NotNull String inventoryType) {
+        Objects.requireNonNull(frame, "frame");
+        if (frame.delta()) {
+            if (frame.baseVersion() != version) {
+                reset();
+                return false;
+            }
+            for (int slot : frame.cleared()) {
+                items.remove(slot);
+            }
+        } else {
+            items.clear();
+        }
+        for (InventorySlotCodec.Slot slot : frame.slots()) {
+            items.put(slot.slot(), slot.toItem());
+        }
+        version = frame.version();
+        size = frame.size();
+        this.inventoryType = Objects.requireNonNull(inventoryType, "inventoryType");
+        return true;
+    }
+}
@@ -0,0 +1,210 @@
+package de.t14d3.rapunzellib.network.remote;
+
+import de.t14d3.rapunzellib.nbt.RNbtBinary;
+import de.t14d3.rapunzellib.nbt.RNbtCompound;
+import de.t14d3.rapunzellib.nbt.RNbtType;
+import de.t14d3.rapunzellib.nbt.SerializationException;
+import de.t14d3.rapunzellib.nbt.item.RItem;
+import de.t14d3.rapunzellib.objects.RKey;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Binary wire format for inventory contents, used by
+ * {@link de.t14d3.rapunzellib.network.remote.rpc.PlayerServiceMethods#GET_INVENTORY_BINARY}.
+ * <p>
+ * A frame starts with a format byte, a kind (full or delta), the inventory size and the version
+ * it describes; deltas also carry the version they apply on top of. Item type keys are written
+ * once into a table and slots refer to them by index. Each slot is its index, type index and
+ * amount as varints followed by the item data in {@link RNbtBinary} form. Deltas list only the
+ * slots that changed plus the indices of slots that were emptied.
+ * </p>
+ */
+public final class InventorySlotCodec {
+    private static final int FORMAT = 1;
+    private static final int KIND_FULL = 0;
+    private static final int KIND_DELTA = 1;
+    private static final byte[] NO_DATA = new byte[0];
+    private static final int[] NO_SLOTS = new int[0];
+
+    private InventorySlotCodec() {
+    }
+
+    public static byte @NotNull [] encodeFull(int size, long version, @NotNull Collection<Slot> slots) {
+        Objects.requireNonNull(slots, "slots");
+        RNbtBinary.Output output = header(KIND_FULL, size, version, slots.size());
+        writeSlots(output, slots);
+        return output.toByteArray();
+    }
+
+    public static byte @NotNull [] encodeDelta(int size, long baseVersion, long version,
+                                               @NotNull Collection<Slot> changed, int @NotNull [] cleared) {
+        Objects.requireNonNull(changed, "changed");
+        Objects.requireNonNull(cleared, "cleared");
+        RNbtBinary.Output output = header(KIND_DELTA, size, version, changed.size());
+        output.writeVarLong(baseVersion);
+        writeSlots(output, changed);
+        output.writeVarInt(cleared.length);
+        for (int slot : cleared) {
+            output.writeVarInt(slot);
+        }
+        return output.toByteArray();
+    }
+
+    /**
+     * Decodes a frame written by {@link #encodeFull} or {@link #encodeDelta}.
+     *
+     * @throws SerializationException if the frame is malformed
+     */
+    public static @NotNull Decoded decode(byte @NotNull [] bytes) {
+        RNbtBinary.Input input = new RNbtBinary.Input(bytes);
+        int format = input.readByte();
+        if (format != FORMAT) {
+            throw new SerializationException("Unsupported inventory frame format " + format);
+        }
+        boolean delta = switch (input.readByte()) {
+            case KIND_FULL -> false;
+            case KIND_DELTA -> true;
+            default -> throw new SerializationException("Unknown inventory frame kind");
+        };
+        int size = input.readVarInt();
+        long version = input.readVarLong();
+        long baseVersion = delta ? input.readVarLong() : 0L;
+
+        RKey[] types = new RKey[input.readVarInt()];
+        for (int i = 0; i < types.length; i++) {
+            try {
+                types[i] = RKey.parse(input.readString());
+            } catch (IllegalArgumentException e) {
+                throw new SerializationException("Invalid item type in inventory frame", e);
+            }
+        }
+        int count = input.readVarInt();
+        List<Slot> slots = new ArrayList<>(Math.min(count, Math.max(size, 0)));
+        for (int i = 0; i < count; i++) {
+            int slot = input.readVarInt();
+            int typeIndex = input.readVarInt();
+            if (typeIndex < 0 || typeIndex >= types.length) {
+                throw new SerializationException("Item type index " + typeIndex + " out of range");
+            }
+            int amount = input.readVarInt();
+            slots.add(new Slot(slot, types[typeIndex], amount, input.readBytes()));
+        }
+        int[] cleared = NO_SLOTS;
+        if (delta) {
+            cleared = new int[input.readVarInt()];
+            for (int i = 0; i < cleared.length; i++) {
+                cleared[i] = input.readVarInt();
+            }
+        }
+        if (input.remaining() != 0) {
+            throw new SerializationException("Trailing bytes after inventory frame");
+        }
+        return new Decoded(delta, size, baseVersion, version, List.copyOf(slots), cleared);
+    }
+
+    private static RNbtBinary.Output header(int kind, int size, long version, int slotCount) {
+        RNbtBinary.Output output = new RNbtBinary.Output(16 + slotCount * 24);
+        output.writeByte(FORMAT);
+        output.writeByte(kind);
+        output.writeVarInt(size);
+        output.writeVarLong(version);
+        return output;
+    }
+
+    private static void writeSlots(RNbtBinary.Output output, Collection<Slot> slots) {
+        Map<RKey, Integer> typeIndex = new LinkedHashMap<>();
+        for (Slot slot : slots) {
+            typeIndex.putIfAbsent(slot.typeKey(), typeIndex.size());
+        }
+        output.writeVarInt(typeIndex.size());
+        for (RKey key : typeIndex.keySet()) {
+            output.writeString(key.asString());
+        }
+        output.writeVarInt(slots.size());
+        for (Slot slot : slots) {
+            output.writeVarInt(slot.slot());
+            output.writeVarInt(typeIndex.get(slot.typeKey()));
+            output.writeVarInt(slot.amount());
+            output.writeBytes(slot.data);
+        }
+    }
+
+    /**
+     * One occupied slot. The item data is kept in its encoded form so that trackers can compare
+     * slots byte-wise without walking NBT trees.
+     */
+    public static final class Slot {
+        private final int slot;
+        private final RKey typeKey;
+        private final int amount;
+        private final byte[] data;
+
+        private Slot(int slot, RKey typeKey, int amount, byte[] data) {
+            this.slot = slot;
+            this.typeKey = typeKey;
+            this.amount = amount;
+            this.data = data;
+        }
+
+        public static @NotNull Slot of(int slot, @NotNull RItem item) {
+            Objects.requireNonNull(item, "item");
+            RNbtCompound data = item.data();
+            byte[] encoded = NO_DATA;
+            if (!data.isEmpty()) {
+                RNbtBinary.Output output = new RNbtBinary.Output(64);
+                output.writePayload(data);
+                encoded = output.toByteArray();
+            }
+            return new Slot(slot, item.typeKey(), item.amount(), encoded);
+        }
+
+        public int slot() {
+            return slot;
+        }
+
+        public @NotNull RKey typeKey() {
+            return typeKey;
+        }
+
+        public int amount() {
+            return amount;
+        }
+
+        /** Whether both slots hold the same item, ignoring the slot index. */
+        public boolean sameItem(@NotNull Slot other) {
+            return amount == other.amount && typeKey.equals(other.typeKey) && Arrays.equals(data, other.data);
+        }
+
+        public @NotNull RItem toItem() {
+            RNbtCompound compound = data.length == 0
+                ? RNbtCompound.empty()
+                : decodeData(data);
+            return RItem.builder().typeKey(typeKey).amount(amount).data(compound).build();
+        }
+
+        private static RNbtCompound decodeData(byte[] data) {
+            RNbtBinary.Input input = new RNbtBinary.Input(data);
+            RNbtCompound compound = input.readPayload(RNbtType.COMPOUND).asCompound();
+            if (input.remaining() != 0) {
+                throw new SerializationException("Trailing bytes after item data");
+            }
+            return compound;
+        }
+    }
+
+    /**
+     * A decoded frame. For full frames {@code slots} is the complete contents and
+     * {@code baseVersion} is {@code 0}; for deltas {@code slots} holds the changed slots and
+     * {@code cleared} the slots that became empty since {@code baseVersion}.
+     */
+    public record Decoded(boolean delta, int size, long baseVersion, long version,
+                          @NotNull List<Slot> slots, int @NotNull [] cleared) {}
+}
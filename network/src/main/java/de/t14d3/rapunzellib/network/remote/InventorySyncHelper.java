@@ -6,6 +6,7 @@ import de.t14d3.rapunzellib.objects.RServerPlayer;
 import de.t14d3.rapunzellib.objects.snapshot.InventorySnapshot;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Base64;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -29,6 +30,29 @@ public final class InventorySyncHelper {
         return CompletableFuture.completedFuture(Optional.empty());
     }
 
+    /**
+     * Brings {@code replica} up to date with {@code player}'s inventory using the binary format.
+     * Only the slots changed since the replica's version are transferred when the backend still
+     * knows that version; otherwise the full contents are sent.
+     *
+     * @return completes with {@code true} if the replica was updated
+     */
+    public static @NotNull CompletableFuture<Boolean> fetchDelta(@NotNull RServerPlayer player,
+                                                                 @NotNull InventoryReplica replica) {
+        Objects.requireNonNull(player, "player");
+        Objects.requireNonNull(replica, "replica");
+        if (player instanceof RemotePlayer remote) {
+            return remote.fetchInventoryBinaryAsync(replica.version())
+                .thenApply(result -> {
+                    if (result == null || !result.found() || result.data() == null) return false;
+                    InventorySlotCodec.Decoded frame =
+                        InventorySlotCodec.decode(Base64.getDecoder().decode(result.data()));
+                    return replica.apply(frame, result.inventoryType());
+                });
+        }
+        return CompletableFuture.completedFuture(false);
+    }
+
     public static @NotNull CompletableFuture<Boolean> applyRemote(
         @NotNull RServerPlayer player, @NotNull InventorySnapshot snapshot) {
         Objects.requireNonNull(player, "player");
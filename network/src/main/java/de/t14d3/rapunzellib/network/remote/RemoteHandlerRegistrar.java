@@ -4,6 +4,8 @@ import de.t14d3.rapunzellib.context.RapunzelContext;
 import de.t14d3.rapunzellib.network.info.NetworkInfoService;
 import de.t14d3.rapunzellib.network.remote.handler.EntityRpcHandler;
 import de.t14d3.rapunzellib.network.remote.handler.PlayerRpcHandler;
+import de.t14d3.rapunzellib.network.remote.handler.RemoteStatePublisher;
+import de.t14d3.rapunzellib.network.remote.proxy.RemoteStateReplicator;
 import de.t14d3.rapunzellib.network.remote.resolution.NetworkedEntities;
 import de.t14d3.rapunzellib.network.remote.resolution.NetworkedPlayers;
 import de.t14d3.rapunzellib.network.remote.rpc.ProxyServiceMethods;
@@ -35,6 +37,17 @@ public final class RemoteHandlerRegistrar {
         playerHandler.register(gateway);
         entityHandler.register(gateway);
 
+        // State replication is opt-in per entity: the publisher only ticks while some server
+        // subscribed, and the replicator only attaches replicas on subscribeState calls.
+        // Both are bound to this gateway, so they are closed with it through shutdown below
+        // instead of relying on whichever instance won the service registration.
+        RemoteStatePublisher statePublisher = new RemoteStatePublisher(context.scheduler());
+        statePublisher.register(gateway);
+        context.services().registerIfAbsent(RemoteStatePublisher.class, statePublisher);
+        RemoteStateReplicator stateReplicator = new RemoteStateReplicator(gateway);
+        context.services().registerIfAbsent(RemoteStateReplicator.class, stateReplicator);
+        context.registerCloseable(() -> shutdown(statePublisher, stateReplicator));
+
         // Default connector on backends: forward the FULL request (including the
         // destination location) to the proxy, which stores the deferred teleport
         // and performs the actual connect. Works with zero consumer code; the
@@ -53,18 +66,30 @@ public final class RemoteHandlerRegistrar {
 
             Players localPlayers = context.players();
             NetworkedPlayers networkedPlayers = new NetworkedPlayers(
-                localPlayers, gateway, Optional.ofNullable(networkInfo));
+                localPlayers, gateway, Optional.ofNullable(networkInfo), stateReplicator);
             context.registerIfAbsent(Players.class, networkedPlayers);
             logger.info("[Remote] Replaced Players with NetworkedPlayers (local={}, gateway={})",
                 localPlayers.getClass().getSimpleName(), gateway.runtime().localName());
 
             Entities localEntities = context.entities();
             NetworkedEntities networkedEntities = new NetworkedEntities(
-                localEntities, gateway, Optional.ofNullable(networkInfo));
+                localEntities, gateway, Optional.ofNullable(networkInfo), stateReplicator);
             context.registerIfAbsent(Entities.class, networkedEntities);
             logger.info("[Remote] Replaced Entities with NetworkedEntities");
         }
 
         logger.info("[Remote] Cross-server RPC handlers installed");
     }
+
+    /**
+     * Stops state replication: the replicator detaches its replicas and stops listening first, then
+     * the publisher drops its subscriptions and cancels its tick task.
+     */
+    static void shutdown(@NotNull RemoteStatePublisher statePublisher, @NotNull RemoteStateReplicator stateReplicator) {
+        try {
+            stateReplicator.close();
+        } finally {
+            statePublisher.close();
+        }
+    }
 }
@@ -0,0 +1,171 @@
+package de.t14d3.rapunzellib.network.remote.handler;
+
+import de.t14d3.rapunzellib.nbt.item.RItem;
+import de.t14d3.rapunzellib.network.remote.InventorySlotCodec;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+import java.util.function.LongSupplier;
+
+/**
+ * Backend-side bookkeeping for delta inventory sync.
+ * <p>
+ * For every (player, requesting server) pair the tracker remembers the slots it last sent and
+ * the version it stamped them with. A request that names that version gets a delta with only
+ * the changed and emptied slots; any other version (first request, lost reply, restart) gets a
+ * full frame. Versions only advance when the contents change.
+ * </p>
+ * <p>
+ * Every new pair starts at its own version base: the high bits hold a generation that is seeded
+ * randomly per tracker and advances for every pair created. A requester still holding a version
+ * from before an expiry or a backend restart therefore cannot match the new versions by accident
+ * and get a delta against slots it never received.
+ * </p>
+ * <p>
+ * State that was not used for the idle timeout is dropped, so players who left without a
+ * {@link #forget} call and requesters that went away do not accumulate. Expiry runs at most once
+ * per idle timeout from {@link #encode}; an expired pair simply gets a full frame next time.
+ * </p>
+ */
+public final class InventoryDeltaTracker {
+    public static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(10);
+    private static final int GENERATION_SHIFT = 32;
+    private static final long MAX_GENERATION = 0x7FFF_FFFFL;
+
+    private final Map<Key, Sent> sent = new ConcurrentHashMap<>();
+    private final AtomicLong generations = new AtomicLong(ThreadLocalRandom.current().nextLong(MAX_GENERATION));
+    private final long idleTimeoutNanos;
+    private final LongSupplier nanoClock;
+    private volatile long nextExpiryNanos;
+
+    public InventoryDeltaTracker() {
+        this(DEFAULT_IDLE_TIMEOUT, System::nanoTime);
+    }
+
+    /**
+     * @param idleTimeout how long unused state is kept
+     * @param nanoClock   monotonic nanosecond clock, mainly for tests
+     */
+    public InventoryDeltaTracker(@NotNull Duration idleTimeout, @NotNull LongSupplier nanoClock) {
+        Objects.requireNonNull(idleTimeout, "idleTimeout");
+        if (idleTimeout.isNegative() || idleTimeout.isZero()) {
+            throw new IllegalArgumentException("idleTimeout must be positive");
+        }
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        this.nanoClock = Objects.requireNonNull(nanoClock, "nanoClock");
+        this.nextExpiryNanos = nanoClock.getAsLong() + idleTimeoutNanos;
+    }
+
+    /**
+     * Captures the current contents and encodes them for {@code requester}.
+     *
+     * @param knownVersion the version the requester last applied, or {@code 0}
+     * @param items        slot lookup over {@code [0, size)}
+     */
+    public byte @NotNull [] encode(@NotNull UUID player, @NotNull String requester, long knownVersion,
+                                   int size, @NotNull IntFunction<Optional<RItem>> items) {
+        Objects.requireNonNull(items, "items");
+        Map<Integer, InventorySlotCodec.Slot> current = new TreeMap<>();
+        for (int slot = 0; slot < size; slot++) {
+            Optional<RItem> item = items.apply(slot);
+            if (item.isPresent() && item.get().amount() > 0) {
+                current.put(slot, InventorySlotCodec.Slot.of(slot, item.get()));
+            }
+        }
+
+        long now = nanoClock.getAsLong();
+        if (now - nextExpiryNanos >= 0L) {
+            nextExpiryNanos = now + idleTimeoutNanos;
+            expireIdle(now);
+        }
+        Sent previous = sent.computeIfAbsent(
+            new Key(Objects.requireNonNull(player, "player"), Objects.requireNonNull(requester, "requester")),
+            ignored -> new Sent(now, nextVersionBase()));
+        synchronized (previous) {
+            previous.lastUsedNanos = now;
+            if (knownVersion > 0L && knownVersion == previous.version && size == previous.size) {
+                List<InventorySlotCodec.Slot> changed = new ArrayList<>();
+                for (InventorySlotCodec.Slot slot : current.values()) {
+                    InventorySlotCodec.Slot before = previous.slots.get(slot.slot());
+                    if (before == null || !before.sameItem(slot)) {
+                        changed.add(slot);
+                    }
+                }
+                int[] cleared = previous.slots.keySet().stream()
+                    .filter(slot -> !current.containsKey(slot))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+                long version = changed.isEmpty() && cleared.length == 0 ? previous.version : previous.version + 1L;
+                previous.update(version, size, current);
+                return InventorySlotCodec.encodeDelta(size, knownVersion, version, changed, cleared);
+            }
+            long version = previous.version + 1L;
+            previous.update(version, size, current);
+            return InventorySlotCodec.encodeFull(size, version, current.values());
+        }
+    }
+
+    /** Drops all state for {@code player}, e.g. once they leave this server. */
+    public void forget(@NotNull UUID player) {
+        Objects.requireNonNull(player, "player");
+        sent.keySet().removeIf(key -> key.player.equals(player));
+    }
+
+    /**
+     * Drops the state of every pair that was not encoded for the idle timeout.
+     *
+     * @return the number of dropped pairs
+     */
+    public int expireIdle() {
+        return expireIdle(nanoClock.getAsLong());
+    }
+
+    private int expireIdle(long now) {
+        int expired = 0;
+        for (Map.Entry<Key, Sent> entry : sent.entrySet()) {
+            if (now - entry.getValue().lastUsedNanos >= idleTimeoutNanos && sent.remove(entry.getKey(), entry.getValue())) {
+                expired++;
+            }
+        }
+        return expired;
+    }
+
+    public int trackedCount() {
+        return sent.size();
+    }
+
+    private long nextVersionBase() {
+        return (Math.floorMod(generations.getAndIncrement(), MAX_GENERATION) + 1L) << GENERATION_SHIFT;
+    }
+
+    private record Key(UUID player, String requester) {}
+
+    private static final class Sent {
+        private long version;
+        private int size = -1;
+        private Map<Integer, InventorySlotCodec.Slot> slots = Map.of();
+        private volatile long lastUsedNanos;
+
+        private Sent(long lastUsedNanos, long versionBase) {
+            this.lastUsedNanos = lastUsedNanos;
+            this.version = versionBase;
+        }
+
+        private void update(long version, int size, Map<Integer, InventorySlotCodec.Slot> slots) {
+            this.version = version;
+            this.size = size;
+            this.slots = slots;
+        }
+    }
+}
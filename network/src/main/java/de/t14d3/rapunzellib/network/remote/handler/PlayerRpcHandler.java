@@ -1,6 +1,7 @@
 package de.t14d3.rapunzellib.network.remote.handler;
 
 import de.t14d3.rapunzellib.Rapunzel;
+import de.t14d3.rapunzellib.nbt.item.RItem;
 import de.t14d3.rapunzellib.network.remote.rpc.PlayerServiceMethods;
 import de.t14d3.rapunzellib.network.remote.rpc.Requests;
 import de.t14d3.rapunzellib.network.runtime.NetworkRuntimeGateway;
@@ -12,7 +13,9 @@ import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -21,6 +24,7 @@ import java.util.concurrent.CompletableFuture;
 public final class PlayerRpcHandler {
     private static final Logger logger = LoggerFactory.getLogger(PlayerRpcHandler.class);
     private final GsonComponentSerializer componentSerializer = GsonComponentSerializer.gson();
+    private final InventoryDeltaTracker inventoryTracker = new InventoryDeltaTracker();
     private volatile ServerConnector serverConnector;
 
     /**
@@ -46,6 +50,11 @@ public final class PlayerRpcHandler {
                 new Requests.AirResult(player.remainingAir(), player.maxAir()))
         );
 
+        gateway.register(PlayerServiceMethods.GET_GAME_MODE, (req, source) ->
+            withPlayer(req.uuid(), player ->
+                new Requests.GameModeResult(player.gameMode()))
+        );
+
         gateway.register(PlayerServiceMethods.IS_ALIVE, (req, source) ->
             withPlayer(req.uuid(), player ->
                 new Requests.AliveResult(player.isAlive()))
@@ -157,6 +166,21 @@ public final class PlayerRpcHandler {
             })
         );
 
+        gateway.register(PlayerServiceMethods.GET_INVENTORY_BINARY, (req, source) -> {
+            Optional<RServerPlayer> player = Rapunzel.players().get(req.uuid()).flatMap(RPlayer::asServerPlayer);
+            if (player.isEmpty()) {
+                inventoryTracker.forget(req.uuid());
+                return CompletableFuture.completedFuture(new Requests.InventoryBinaryResult(false, "unknown", null));
+            }
+            try {
+                return CompletableFuture.completedFuture(
+                    captureInventoryBinary(player.get(), source == null ? "" : source, req.knownVersion()));
+            } catch (Exception e) {
+                logger.warn("Failed to capture inventory for {}: {}", req.uuid(), e.getMessage());
+                return CompletableFuture.completedFuture(new Requests.InventoryBinaryResult(false, "unknown", null));
+            }
+        });
+
         // Server-authoritative presence: who is online on THIS server right now.
         // Lets cross-server tests prove a player really joined/left a backend.
         gateway.register(PlayerServiceMethods.QUERY_SERVER_PLAYERS, (req, source) -> {
@@ -198,6 +222,26 @@ public final class PlayerRpcHandler {
         return withPlayer(uuid, action);
     }
 
+    private Requests.InventoryBinaryResult captureInventoryBinary(RServerPlayer player, String requester,
+                                                                  long knownVersion) throws ReflectiveOperationException {
+        Object inv = player.getClass().getMethod("inventory").invoke(player);
+        if (inv == null) {
+            return new Requests.InventoryBinaryResult(false, "unknown", null);
+        }
+        int size = (int) inv.getClass().getMethod("size").invoke(inv);
+        Method itemAt = inv.getClass().getMethod("item", int.class);
+        byte[] frame = inventoryTracker.encode(player.uuid(), requester, knownVersion, size, slot -> {
+            try {
+                return itemAt.invoke(inv, slot) instanceof Optional<?> opt && opt.orElse(null) instanceof RItem item
+                    ? Optional.of(item)
+                    : Optional.empty();
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Failed to read slot " + slot, e);
+            }
+        });
+        return new Requests.InventoryBinaryResult(true, "inventory", Base64.getEncoder().encodeToString(frame));
+    }
+
     private static Optional<?> createItem(String nbt) {
         try {
             Class<?> itemClass = Class.forName("de.t14d3.rapunzellib.nbt.item.RItem");
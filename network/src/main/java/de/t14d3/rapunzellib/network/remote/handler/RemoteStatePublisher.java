@@ -0,0 +1,335 @@
+package de.t14d3.rapunzellib.network.remote.handler;
+
+import de.t14d3.rapunzellib.Rapunzel;
+import de.t14d3.rapunzellib.network.remote.rpc.EntityServiceMethods;
+import de.t14d3.rapunzellib.network.remote.rpc.Requests;
+import de.t14d3.rapunzellib.network.runtime.NetworkRuntimeGateway;
+import de.t14d3.rapunzellib.objects.*;
+import de.t14d3.rapunzellib.scheduler.ScheduledTask;
+import de.t14d3.rapunzellib.scheduler.Scheduler;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Backend side of remote state replication.
+ * <p>
+ * Servers subscribe to an entity through {@link EntityServiceMethods#SUBSCRIBE_STATE}; from then
+ * on a single tick task captures the hot fields of every subscribed entity (location, health,
+ * max health, game mode) and pushes a {@link Requests.StateDelta} with only the changed fields to
+ * each subscriber over {@link EntityServiceMethods#STATE_DELTA}, at most once per requested
+ * interval. Unchanged entities send an empty heartbeat every {@value #HEARTBEAT_TICKS} ticks so
+ * replicas stay fresh. When the entity disappears a final {@code removed} delta is sent and the
+ * subscription ends. The tick task only runs while at least one subscription exists.
+ * </p>
+ * <p>
+ * Every subscriber holds a lease of at least {@value #LEASE_TICKS} ticks (three push periods for
+ * slower intervals). Subscribing again renews it; subscribers that stop renewing, for example
+ * because they crashed before unsubscribing, are dropped when their lease runs out. The push
+ * interval of an entity is the shortest interval among its live subscribers.
+ * </p>
+ */
+public final class RemoteStatePublisher implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(RemoteStatePublisher.class);
+    private static final Duration TICK = Duration.ofMillis(50L);
+    private static final int HEARTBEAT_TICKS = 20;
+    private static final int LEASE_TICKS = 600;
+
+    private final Scheduler scheduler;
+    private final Function<UUID, Optional<? extends REntity>> resolver;
+    private final Map<UUID, EntitySubscription> subscriptions = new ConcurrentHashMap<>();
+    private final Object taskLock = new Object();
+    private volatile NetworkRuntimeGateway gateway;
+    private ScheduledTask task;
+    private long tick;
+
+    public RemoteStatePublisher(@NotNull Scheduler scheduler) {
+        this(scheduler, RemoteStatePublisher::resolveDefault);
+    }
+
+    public RemoteStatePublisher(@NotNull Scheduler scheduler,
+                                @NotNull Function<UUID, Optional<? extends REntity>> resolver) {
+        this.scheduler = Objects.requireNonNull(scheduler, "scheduler");
+        this.resolver = Objects.requireNonNull(resolver, "resolver");
+    }
+
+    public void register(@NotNull NetworkRuntimeGateway gateway) {
+        this.gateway = Objects.requireNonNull(gateway, "gateway");
+
+        gateway.register(EntityServiceMethods.SUBSCRIBE_STATE, (req, source) -> {
+            if (req == null || req.uuid() == null || source == null) {
+                return CompletableFuture.completedFuture(new Requests.StateSubscribeResult(false, null));
+            }
+            return CompletableFuture.completedFuture(subscribe(req.uuid(), source, req.intervalMillis()));
+        });
+
+        gateway.register(EntityServiceMethods.UNSUBSCRIBE_STATE, (req, source) -> {
+            if (req != null && req.uuid() != null && source != null) {
+                unsubscribe(req.uuid(), source);
+            }
+            return CompletableFuture.completedFuture(new Requests.VoidResult());
+        });
+
+        logger.info("[Remote] Registered state replication handlers");
+    }
+
+    /** Number of entities with at least one subscriber. */
+    public int subscriptionCount() {
+        return subscriptions.size();
+    }
+
+    /** Current push interval of {@code uuid} in ticks, or empty if nobody subscribed to it. */
+    public @NotNull Optional<Integer> intervalTicks(@NotNull UUID uuid) {
+        EntitySubscription subscription = subscriptions.get(Objects.requireNonNull(uuid, "uuid"));
+        if (subscription == null) {
+            return Optional.empty();
+        }
+        synchronized (subscription) {
+            return subscription.leases.isEmpty() ? Optional.empty() : Optional.of(subscription.intervalTicks);
+        }
+    }
+
+    /**
+     * Runs one replication pass. Called by the repeating tick task; exposed for tests and for
+     * platforms that drive replication from their own tick hook.
+     */
+    public void tick() {
+        NetworkRuntimeGateway target = gateway;
+        long now;
+        synchronized (taskLock) {
+            now = ++tick;
+        }
+        for (Map.Entry<UUID, EntitySubscription> entry : subscriptions.entrySet()) {
+            EntitySubscription subscription = entry.getValue();
+            Requests.StateDelta delta;
+            List<String> subscribers;
+            synchronized (subscription) {
+                if (subscription.expireLeases(now)) {
+                    subscription.end(subscriptions, entry.getKey());
+                    logger.debug("State subscription for {} expired", entry.getKey());
+                    continue;
+                }
+                if (now - subscription.lastCheckedTick < subscription.intervalTicks) {
+                    continue;
+                }
+                subscription.lastCheckedTick = now;
+                subscribers = List.copyOf(subscription.leases.keySet());
+
+                Optional<? extends REntity> entity = resolve(entry.getKey());
+                if (entity.isEmpty()) {
+                    subscription.end(subscriptions, entry.getKey());
+                    delta = new Requests.StateDelta(entry.getKey(), ++subscription.sequence,
+                        System.currentTimeMillis(), null, null, null, null, true);
+                } else {
+                    Snapshot current = Snapshot.capture(entity.get());
+                    delta = current.diff(entry.getKey(), subscription.last, subscription.sequence + 1);
+                    if (delta == null && now - subscription.lastSentTick < Math.max(HEARTBEAT_TICKS, subscription.intervalTicks)) {
+                        continue;
+                    }
+                    if (delta == null) {
+                        delta = new Requests.StateDelta(entry.getKey(), subscription.sequence + 1,
+                            System.currentTimeMillis(), null, null, null, null, false);
+                    }
+                    subscription.sequence = delta.sequence();
+                    subscription.last = current;
+                    subscription.lastSentTick = now;
+                }
+            }
+            if (target != null) {
+                for (String server : subscribers) {
+                    try {
+                        target.publishToServer(EntityServiceMethods.STATE_DELTA, server, delta);
+                    } catch (RuntimeException e) {
+                        logger.debug("Failed to push state of {} to {}: {}", entry.getKey(), server, e.getMessage());
+                    }
+                }
+            }
+        }
+        if (subscriptions.isEmpty()) {
+            stopIfIdle();
+        }
+    }
+
+    @Override
+    public void close() {
+        subscriptions.clear();
+        synchronized (taskLock) {
+            if (task != null) {
+                task.cancel();
+                task = null;
+            }
+        }
+    }
+
+    private Requests.StateSubscribeResult subscribe(UUID uuid, String source, long intervalMillis) {
+        Optional<? extends REntity> entity = resolve(uuid);
+        if (entity.isEmpty()) {
+            return new Requests.StateSubscribeResult(false, null);
+        }
+        int intervalTicks = (int) Math.max(1L, Math.min(Integer.MAX_VALUE, intervalMillis / TICK.toMillis()));
+        long expiresAt = currentTick() + Math.max(LEASE_TICKS, 3L * Math.max(HEARTBEAT_TICKS, intervalTicks));
+        Snapshot current = Snapshot.capture(entity.get());
+        Requests.StateDelta snapshot;
+        while (true) {
+            EntitySubscription subscription = subscriptions.computeIfAbsent(uuid, ignored -> new EntitySubscription());
+            synchronized (subscription) {
+                if (subscription.ended) {
+                    continue;
+                }
+                subscription.leases.put(source, new Lease(intervalTicks, expiresAt));
+                subscription.recomputeInterval();
+                if (subscription.last == null) {
+                    subscription.last = current;
+                }
+                // The snapshot reuses the last published sequence: the next delta (diffed against
+                // the last published state) then always supersedes it on the subscriber.
+                snapshot = current.diff(uuid, null, subscription.sequence);
+            }
+            break;
+        }
+        ensureRunning();
+        return new Requests.StateSubscribeResult(true, snapshot);
+    }
+
+    private void unsubscribe(UUID uuid, String source) {
+        EntitySubscription subscription = subscriptions.get(uuid);
+        if (subscription == null) {
+            return;
+        }
+        synchronized (subscription) {
+            if (subscription.leases.remove(source) == null) {
+                return;
+            }
+            if (subscription.leases.isEmpty()) {
+                subscription.end(subscriptions, uuid);
+            } else {
+                subscription.recomputeInterval();
+            }
+        }
+    }
+
+    private long currentTick() {
+        synchronized (taskLock) {
+            return tick;
+        }
+    }
+
+    private Optional<? extends REntity> resolve(UUID uuid) {
+        try {
+            return resolver.apply(uuid);
+        } catch (RuntimeException e) {
+            logger.debug("Failed to resolve {} for state replication: {}", uuid, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void ensureRunning() {
+        synchronized (taskLock) {
+            if (task == null || task.isCancelled()) {
+                task = scheduler.runRepeating(TICK, TICK, this::tick);
+            }
+        }
+    }
+
+    private void stopIfIdle() {
+        synchronized (taskLock) {
+            if (task != null && subscriptions.isEmpty()) {
+                task.cancel();
+                task = null;
+            }
+        }
+    }
+
+    private static Optional<? extends REntity> resolveDefault(UUID uuid) {
+        Optional<RServerPlayer> player = Rapunzel.players().get(uuid).flatMap(RPlayer::asServerPlayer);
+        if (player.isPresent()) {
+            return player;
+        }
+        return Rapunzel.entities().get(uuid);
+    }
+
+    /** Guarded by the owning {@link EntitySubscription}. */
+    private static final class EntitySubscription {
+        private final Map<String, Lease> leases = new HashMap<>();
+        private int intervalTicks = 1;
+        private long sequence;
+        private long lastCheckedTick;
+        private long lastSentTick;
+        private Snapshot last;
+        private boolean ended;
+
+        /** Drops leases that ran out before {@code now}; returns whether none are left. */
+        boolean expireLeases(long now) {
+            if (leases.values().removeIf(lease -> lease.expiresAt < now)) {
+                recomputeInterval();
+            }
+            return leases.isEmpty();
+        }
+
+        void recomputeInterval() {
+            int shortest = Integer.MAX_VALUE;
+            for (Lease lease : leases.values()) {
+                shortest = Math.min(shortest, lease.intervalTicks);
+            }
+            intervalTicks = leases.isEmpty() ? 1 : shortest;
+        }
+
+        void end(Map<UUID, EntitySubscription> subscriptions, UUID uuid) {
+            ended = true;
+            subscriptions.remove(uuid, this);
+        }
+    }
+
+    private record Lease(int intervalTicks, long expiresAt) {}
+
+    private record Snapshot(@Nullable RLocation location, @Nullable Double health,
+                            @Nullable Double maxHealth, @Nullable RGameMode gameMode) {
+        static Snapshot capture(REntity entity) {
+            RLocation location = entity.location().orElse(null);
+            Double health = null;
+            Double maxHealth = null;
+            if (entity instanceof RLivingEntity living) {
+                health = living.health();
+                maxHealth = living.maxHealth();
+            }
+            RGameMode gameMode = null;
+            if (entity instanceof RServerPlayer player) {
+                try {
+                    gameMode = player.gameMode();
+                } catch (UnsupportedOperationException ignored) {
+                    // platform does not expose game modes; replicas fall back to RPC
+                }
+            }
+            return new Snapshot(location, health, maxHealth, gameMode);
+        }
+
+        /**
+         * Returns a delta with the fields that differ from {@code previous} (all fields when
+         * {@code previous} is null), or null if nothing changed.
+         */
+        @Nullable Requests.StateDelta diff(UUID uuid, @Nullable Snapshot previous, long sequence) {
+            RLocation changedLocation = previous == null || !Objects.equals(location, previous.location) ? location : null;
+            Double changedHealth = previous == null || !Objects.equals(health, previous.health) ? health : null;
+            Double changedMaxHealth = previous == null || !Objects.equals(maxHealth, previous.maxHealth) ? maxHealth : null;
+            RGameMode changedGameMode = previous == null || gameMode != previous.gameMode ? gameMode : null;
+            if (previous != null && changedLocation == null && changedHealth == null
+                && changedMaxHealth == null && changedGameMode == null) {
+                return null;
+            }
+            return new Requests.StateDelta(uuid, sequence, System.currentTimeMillis(),
+                changedLocation, changedHealth, changedMaxHealth, changedGameMode, false);
+        }
+    }
+}
@@ -12,6 +12,7 @@ import de.t14d3.rapunzellib.registry.RRegistryRef;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.serializer.gson.GsonComponentSerializer;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -33,6 +34,7 @@ public class RemoteEntity extends RNativeBase implements REntity {
     private final RRegistryRef<REntityType> typeRef;
     private final boolean isLiving;
     private final GsonComponentSerializer componentSerializer = GsonComponentSerializer.gson();
+    private volatile @Nullable RemoteStateReplica stateReplica;
 
     public RemoteEntity(@NotNull UUID uuid, @NotNull String serverName,
                          @NotNull NetworkRuntimeGateway gateway,
@@ -83,6 +85,30 @@ public class RemoteEntity extends RNativeBase implements REntity {
         }
     }
 
+    /**
+     * Returns the replica attached by {@link RemoteStateReplicator#subscribe}, or the empty
+     * optional if this entity's state is not replicated.
+     */
+    public @NotNull Optional<RemoteStateReplica> stateReplica() {
+        return Optional.ofNullable(stateReplica);
+    }
+
+    void attachStateReplica(@NotNull RemoteStateReplica replica) {
+        this.stateReplica = Objects.requireNonNull(replica, "replica");
+    }
+
+    void detachStateReplica(@NotNull RemoteStateReplica replica) {
+        if (stateReplica == replica) {
+            stateReplica = null;
+        }
+    }
+
+    /** The attached replica if it is fresh enough to serve reads, otherwise null. */
+    protected final @Nullable RemoteStateReplica freshReplica() {
+        RemoteStateReplica replica = stateReplica;
+        return replica != null && replica.isFresh() ? replica : null;
+    }
+
     public @NotNull String serverName() {
         return serverName;
     }
@@ -108,6 +134,14 @@ public class RemoteEntity extends RNativeBase implements REntity {
 
     @Override
     public @NotNull Optional<RWorld> world() {
+        RemoteStateReplica replica = freshReplica();
+        if (replica != null && replica.removed()) {
+            return Optional.empty();
+        }
+        RLocation replicated = replica != null ? replica.location() : null;
+        if (replicated != null) {
+            return Rapunzel.findContext().flatMap(ctx -> ctx.worlds().get(replicated.world().key()));
+        }
         Requests.WorldRefResult result = awaitRpc("world",
             () -> gateway.callServer(serverName, EntityServiceMethods.GET_WORLD,
                 new Requests.EntityRef(uuid), DEFAULT_TIMEOUT));
@@ -119,6 +153,14 @@ public class RemoteEntity extends RNativeBase implements REntity {
 
     @Override
     public @NotNull Optional<RLocation> location() {
+        RemoteStateReplica replica = freshReplica();
+        if (replica != null && replica.removed()) {
+            return Optional.empty();
+        }
+        RLocation replicated = replica != null ? replica.location() : null;
+        if (replicated != null) {
+            return Optional.of(replicated);
+        }
         Requests.LocationResult result = awaitRpc("location",
             () -> gateway.callServer(serverName, EntityServiceMethods.GET_LOCATION,
                 new Requests.EntityRef(uuid), DEFAULT_TIMEOUT));
@@ -188,7 +230,8 @@ public class RemoteEntity extends RNativeBase implements REntity {
 
     @Override
     public boolean isRemoved() {
-        return false;
+        RemoteStateReplica replica = stateReplica;
+        return replica != null && replica.removed();
     }
 
     @Override
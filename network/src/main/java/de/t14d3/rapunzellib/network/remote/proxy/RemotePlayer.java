@@ -5,6 +5,7 @@ import de.t14d3.rapunzellib.network.remote.rpc.EntityServiceMethods;
 import de.t14d3.rapunzellib.network.remote.rpc.PlayerServiceMethods;
 import de.t14d3.rapunzellib.network.remote.rpc.Requests;
 import de.t14d3.rapunzellib.network.runtime.NetworkRuntimeGateway;
+import de.t14d3.rapunzellib.objects.RGameMode;
 import de.t14d3.rapunzellib.objects.RLocation;
 import de.t14d3.rapunzellib.objects.RServerPlayer;
 import de.t14d3.rapunzellib.registry.REntityType;
@@ -70,6 +71,11 @@ public class RemotePlayer extends RemoteEntity implements RServerPlayer {
 
     @Override
     public double health() {
+        RemoteStateReplica replica = freshReplica();
+        Double replicated = replica != null ? replica.health() : null;
+        if (replicated != null) {
+            return replicated;
+        }
         Requests.HealthResult result = awaitRpc("health",
             () -> gateway().callServer(serverName(), PlayerServiceMethods.GET_HEALTH,
                 new Requests.PlayerRef(uuid()), DEFAULT_TIMEOUT));
@@ -78,12 +84,30 @@ public class RemotePlayer extends RemoteEntity implements RServerPlayer {
 
     @Override
     public double maxHealth() {
+        RemoteStateReplica replica = freshReplica();
+        Double replicated = replica != null ? replica.maxHealth() : null;
+        if (replicated != null) {
+            return replicated;
+        }
         Requests.HealthResult result = awaitRpc("maxHealth",
             () -> gateway().callServer(serverName(), PlayerServiceMethods.GET_HEALTH,
                 new Requests.PlayerRef(uuid()), DEFAULT_TIMEOUT));
         return result != null ? result.maxHealth() : 20.0;
     }
 
+    @Override
+    public @NotNull RGameMode gameMode() {
+        RemoteStateReplica replica = freshReplica();
+        RGameMode replicated = replica != null ? replica.gameMode() : null;
+        if (replicated != null) {
+            return replicated;
+        }
+        Requests.GameModeResult result = awaitRpc("gameMode",
+            () -> gateway().callServer(serverName(), PlayerServiceMethods.GET_GAME_MODE,
+                new Requests.PlayerRef(uuid()), DEFAULT_TIMEOUT));
+        return result != null && result.gameMode() != null ? result.gameMode() : RGameMode.SURVIVAL;
+    }
+
     @Override
     public int remainingAir() {
         Requests.AirResult result = awaitRpc("remainingAir",
@@ -196,6 +220,15 @@ public class RemotePlayer extends RemoteEntity implements RServerPlayer {
             new Requests.InventorySnapshotRequest(uuid()), DEFAULT_TIMEOUT);
     }
 
+    /**
+     * Fetches the inventory in the binary format, as a delta when {@code knownVersion} is the
+     * version this server last received for the player.
+     */
+    public @NotNull CompletableFuture<Requests.InventoryBinaryResult> fetchInventoryBinaryAsync(long knownVersion) {
+        return gateway().callServer(serverName(), PlayerServiceMethods.GET_INVENTORY_BINARY,
+            new Requests.InventoryBinaryRequest(uuid(), knownVersion), DEFAULT_TIMEOUT);
+    }
+
     public @NotNull CompletableFuture<Boolean> setInventoryAsync(@NotNull List<Requests.SlotEntry> slots,
                                                                     @NotNull String inventoryType) {
         return gateway().callServer(serverName(), PlayerServiceMethods.SET_INVENTORY,
@@ -0,0 +1,121 @@
+package de.t14d3.rapunzellib.network.remote.proxy;
+
+import de.t14d3.rapunzellib.network.remote.rpc.Requests;
+import de.t14d3.rapunzellib.objects.RGameMode;
+import de.t14d3.rapunzellib.objects.RLocation;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Locally held copy of a remote entity's hot state, kept current by the
+ * {@link Requests.StateDelta}s its owning backend pushes.
+ * <p>
+ * Deltas are merged by sequence: newer deltas overwrite the fields they carry, older ones only
+ * fill fields that are still unknown. The replica counts as {@linkplain #isFresh() fresh} while
+ * the last delta (heartbeats included) arrived within {@link #maxStaleness()}; stale replicas are
+ * ignored by {@link RemoteEntity} getters, which then fall back to RPC.
+ * </p>
+ */
+public final class RemoteStateReplica {
+    private static final Duration MIN_STALENESS = Duration.ofSeconds(3);
+    private static final Duration NEVER_UPDATED = Duration.ofMillis(Long.MAX_VALUE);
+
+    private final String serverName;
+    private final Duration maxStaleness;
+
+    private volatile @Nullable RLocation location;
+    private volatile @Nullable Double health;
+    private volatile @Nullable Double maxHealth;
+    private volatile @Nullable RGameMode gameMode;
+    private volatile boolean removed;
+    private volatile long sequence = -1L;
+    private volatile long capturedAt;
+    private volatile long updatedAt;
+
+    public RemoteStateReplica(@NotNull String serverName, @NotNull Duration interval) {
+        this.serverName = Objects.requireNonNull(serverName, "serverName");
+        Duration pushInterval = Objects.requireNonNull(interval, "interval");
+        Duration threeIntervals = pushInterval.multipliedBy(3L);
+        this.maxStaleness = threeIntervals.compareTo(MIN_STALENESS) > 0 ? threeIntervals : MIN_STALENESS;
+    }
+
+    synchronized void apply(@NotNull Requests.StateDelta delta) {
+        boolean newer = delta.sequence() > sequence
+            || (delta.sequence() == sequence && delta.capturedAt() >= capturedAt);
+        if (newer) {
+            if (delta.location() != null) location = delta.location();
+            if (delta.health() != null) health = delta.health();
+            if (delta.maxHealth() != null) maxHealth = delta.maxHealth();
+            if (delta.gameMode() != null) gameMode = delta.gameMode();
+            sequence = delta.sequence();
+            capturedAt = delta.capturedAt();
+            updatedAt = System.currentTimeMillis();
+        } else {
+            if (location == null) location = delta.location();
+            if (health == null) health = delta.health();
+            if (maxHealth == null) maxHealth = delta.maxHealth();
+            if (gameMode == null) gameMode = delta.gameMode();
+        }
+        if (delta.removed()) {
+            removed = true;
+        }
+    }
+
+    public @NotNull String serverName() {
+        return serverName;
+    }
+
+    public @Nullable RLocation location() {
+        return location;
+    }
+
+    public @Nullable Double health() {
+        return health;
+    }
+
+    public @Nullable Double maxHealth() {
+        return maxHealth;
+    }
+
+    public @Nullable RGameMode gameMode() {
+        return gameMode;
+    }
+
+    /** Whether the owning backend reported that the entity is gone. */
+    public boolean removed() {
+        return removed;
+    }
+
+    /** Sequence of the newest applied delta, or {@code -1} before the first one. */
+    public long sequence() {
+        return sequence;
+    }
+
+    /** Backend wall-clock time at which the newest applied delta was captured. */
+    public long capturedAt() {
+        return capturedAt;
+    }
+
+    /** Local wall-clock time at which the newest delta arrived, or {@code 0} before the first one. */
+    public long updatedAt() {
+        return updatedAt;
+    }
+
+    public @NotNull Duration maxStaleness() {
+        return maxStaleness;
+    }
+
+    /** Time since the newest delta arrived. */
+    public @NotNull Duration staleness() {
+        long received = updatedAt;
+        return received == 0L ? NEVER_UPDATED : Duration.ofMillis(Math.max(0L, System.currentTimeMillis() - received));
+    }
+
+    public boolean isFresh() {
+        long received = updatedAt;
+        return received != 0L && System.currentTimeMillis() - received <= maxStaleness.toMillis();
+    }
+}
@@ -0,0 +1,174 @@
+package de.t14d3.rapunzellib.network.remote.proxy;
+
+import de.t14d3.rapunzellib.network.remote.rpc.EntityServiceMethods;
+import de.t14d3.rapunzellib.network.remote.rpc.Requests;
+import de.t14d3.rapunzellib.network.runtime.NetworkRuntimeGateway;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Subscriber side of remote state replication.
+ * <p>
+ * {@link #subscribe} asks the backend owning a {@link RemoteEntity} to push its hot state and
+ * attaches a {@link RemoteStateReplica} to the entity, after which location, world, health and
+ * game mode reads are served locally. One topic subscription routes all incoming deltas to their
+ * replica; deltas from any server other than the entity's owner are ignored.
+ * </p>
+ * <p>
+ * The owning backend only keeps a subscription while its lease is renewed. Renewals piggyback on
+ * incoming deltas and heartbeats: once ten seconds have passed since the last one, the
+ * next delta triggers a fresh subscribe call, so no separate timer is needed.
+ * </p>
+ */
+public final class RemoteStateReplicator implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(RemoteStateReplicator.class);
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(5);
+    /** How often a subscription is renewed; well below the backend's lease. */
+    static final Duration RENEW_INTERVAL = Duration.ofSeconds(10);
+
+    private final NetworkRuntimeGateway gateway;
+    private final LongSupplier nanoClock;
+    private final Map<UUID, Replication> replications = new ConcurrentHashMap<>();
+    private final NetworkRuntimeGateway.Subscription subscription;
+
+    public RemoteStateReplicator(@NotNull NetworkRuntimeGateway gateway) {
+        this(gateway, System::nanoTime);
+    }
+
+    /** Creates a replicator with an explicit clock, mainly for tests. */
+    RemoteStateReplicator(@NotNull NetworkRuntimeGateway gateway, @NotNull LongSupplier nanoClock) {
+        this.gateway = Objects.requireNonNull(gateway, "gateway");
+        this.nanoClock = Objects.requireNonNull(nanoClock, "nanoClock");
+        this.subscription = gateway.subscribe(EntityServiceMethods.STATE_DELTA, this::onDelta);
+    }
+
+    /**
+     * Subscribes to pushed state for {@code entity}, replacing any earlier subscription for it.
+     *
+     * @return completes with {@code true} once the initial snapshot is applied, or {@code false}
+     *     if the owning backend does not know the entity or the call failed
+     */
+    public @NotNull CompletableFuture<Boolean> subscribe(@NotNull RemoteEntity entity, @NotNull Duration interval) {
+        Objects.requireNonNull(entity, "entity");
+        Objects.requireNonNull(interval, "interval");
+        RemoteStateReplica replica = new RemoteStateReplica(entity.serverName(), interval);
+        Replication replication = new Replication(entity, replica, interval, nanoClock.getAsLong());
+        Replication previous = replications.put(entity.uuid(), replication);
+        if (previous != null) {
+            previous.entity.detachStateReplica(previous.replica);
+        }
+
+        return gateway.callServer(entity.serverName(), EntityServiceMethods.SUBSCRIBE_STATE,
+                new Requests.StateSubscribeRequest(entity.uuid(), interval.toMillis()), DEFAULT_TIMEOUT)
+            .handle((result, error) -> {
+                if (error != null || result == null || !result.found() || result.snapshot() == null) {
+                    if (error != null) {
+                        logger.debug("State subscription for {} on {} failed: {}",
+                            entity.uuid(), entity.serverName(), error.getMessage());
+                    }
+                    replications.remove(entity.uuid(), replication);
+                    return false;
+                }
+                replica.apply(result.snapshot());
+                if (replications.get(entity.uuid()) != replication) {
+                    return false;
+                }
+                entity.attachStateReplica(replica);
+                return true;
+            });
+    }
+
+    /** Stops replication for {@code uuid}; getters of its entity fall back to RPC. */
+    public @NotNull CompletableFuture<Void> unsubscribe(@NotNull UUID uuid) {
+        Objects.requireNonNull(uuid, "uuid");
+        Replication replication = replications.remove(uuid);
+        if (replication == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        replication.entity.detachStateReplica(replication.replica);
+        return gateway.callServer(replication.entity.serverName(), EntityServiceMethods.UNSUBSCRIBE_STATE,
+                new Requests.StateUnsubscribeRequest(uuid), DEFAULT_TIMEOUT)
+            .handle((ignored, error) -> null);
+    }
+
+    public boolean isSubscribed(@NotNull UUID uuid) {
+        return replications.containsKey(Objects.requireNonNull(uuid, "uuid"));
+    }
+
+    public @NotNull Optional<RemoteStateReplica> replica(@NotNull UUID uuid) {
+        Replication replication = replications.get(Objects.requireNonNull(uuid, "uuid"));
+        return replication == null ? Optional.empty() : Optional.of(replication.replica);
+    }
+
+    @Override
+    public void close() {
+        subscription.close();
+        for (Replication replication : replications.values()) {
+            replication.entity.detachStateReplica(replication.replica);
+        }
+        replications.clear();
+    }
+
+    private void onDelta(Requests.StateDelta delta, String sourceServer) {
+        if (delta == null || delta.uuid() == null) {
+            return;
+        }
+        Replication replication = replications.get(delta.uuid());
+        if (replication == null || !replication.replica.serverName().equalsIgnoreCase(sourceServer)) {
+            return;
+        }
+        replication.replica.apply(delta);
+        if (delta.removed()) {
+            replications.remove(delta.uuid(), replication);
+        } else {
+            renewIfDue(delta.uuid(), replication);
+        }
+    }
+
+    private void renewIfDue(UUID uuid, Replication replication) {
+        long now = nanoClock.getAsLong();
+        synchronized (replication) {
+            if (now - replication.renewedAt < RENEW_INTERVAL.toNanos()) {
+                return;
+            }
+            replication.renewedAt = now;
+        }
+        gateway.callServer(replication.entity.serverName(), EntityServiceMethods.SUBSCRIBE_STATE,
+                new Requests.StateSubscribeRequest(uuid, replication.interval.toMillis()), DEFAULT_TIMEOUT)
+            .whenComplete((result, error) -> {
+                if (error != null) {
+                    logger.debug("State lease renewal for {} on {} failed: {}",
+                        uuid, replication.entity.serverName(), error.getMessage());
+                    return;
+                }
+                if (result != null && result.found() && result.snapshot() != null
+                    && replications.get(uuid) == replication) {
+                    replication.replica.apply(result.snapshot());
+                }
+            });
+    }
+
+    private static final class Replication {
+        private final RemoteEntity entity;
+        private final RemoteStateReplica replica;
+        private final Duration interval;
+        private long renewedAt;
+
+        private Replication(RemoteEntity entity, RemoteStateReplica replica, Duration interval, long renewedAt) {
+            this.entity = entity;
+            this.replica = replica;
+            this.interval = interval;
+            this.renewedAt = renewedAt;
+        }
+    }
+}
@@ -2,16 +2,20 @@ package de.t14d3.rapunzellib.network.remote.resolution;
 
 import de.t14d3.rapunzellib.network.info.NetworkInfoService;
 import de.t14d3.rapunzellib.network.remote.proxy.RemoteEntity;
+import de.t14d3.rapunzellib.network.remote.proxy.RemoteStateReplicator;
 import de.t14d3.rapunzellib.network.runtime.NetworkRuntimeGateway;
 import de.t14d3.rapunzellib.objects.Entities;
 import de.t14d3.rapunzellib.objects.REntity;
 import de.t14d3.rapunzellib.registry.REntityType;
 import de.t14d3.rapunzellib.registry.RRegistryRef;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -26,13 +30,24 @@ public class NetworkedEntities implements Entities {
     private final Optional<NetworkInfoService> networkInfo;
     private final Map<UUID, RemoteEntity> remoteCache = new ConcurrentHashMap<>();
     private final String localServerName;
+    private final @Nullable RemoteStateReplicator replicator;
 
     public NetworkedEntities(@NotNull Entities local, @NotNull NetworkRuntimeGateway gateway,
                               @NotNull Optional<NetworkInfoService> networkInfo) {
+        this(local, gateway, networkInfo, null);
+    }
+
+    /**
+     * @param replicator enables {@link #subscribeState}; null disables push replication
+     */
+    public NetworkedEntities(@NotNull Entities local, @NotNull NetworkRuntimeGateway gateway,
+                              @NotNull Optional<NetworkInfoService> networkInfo,
+                              @Nullable RemoteStateReplicator replicator) {
         this.local = Objects.requireNonNull(local, "local");
         this.gateway = Objects.requireNonNull(gateway, "gateway");
         this.networkInfo = Objects.requireNonNull(networkInfo, "networkInfo");
         this.localServerName = gateway.runtime().localName();
+        this.replicator = replicator;
     }
 
     public @NotNull Entities local() {
@@ -56,6 +71,25 @@ public class NetworkedEntities implements Entities {
         return resolveRemotely(uuid);
     }
 
+    /**
+     * Subscribes to pushed hot state (location, health, game mode) of a remote entity, so those
+     * getters are served from a local replica instead of RPC. Completes with {@code false} if
+     * replication is disabled or the entity is local or cannot be resolved.
+     */
+    public @NotNull CompletableFuture<Boolean> subscribeState(@NotNull UUID uuid, @NotNull Duration interval) {
+        Objects.requireNonNull(uuid, "uuid");
+        Objects.requireNonNull(interval, "interval");
+        if (replicator == null || !(get(uuid).orElse(null) instanceof RemoteEntity remote)) {
+            return CompletableFuture.completedFuture(false);
+        }
+        return replicator.subscribe(remote, interval);
+    }
+
+    public @NotNull CompletableFuture<Void> unsubscribeState(@NotNull UUID uuid) {
+        Objects.requireNonNull(uuid, "uuid");
+        return replicator == null ? CompletableFuture.completedFuture(null) : replicator.unsubscribe(uuid);
+    }
+
     @Override
     public @NotNull Optional<REntity> wrap(@NotNull Object nativeEntity) {
         return local.wrap(nativeEntity);
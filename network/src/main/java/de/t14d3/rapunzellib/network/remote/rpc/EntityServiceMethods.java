@@ -1,5 +1,6 @@
 package de.t14d3.rapunzellib.network.remote.rpc;
 
+import de.t14d3.rapunzellib.network.runtime.NetworkTopic;
 import de.t14d3.rapunzellib.network.runtime.RpcMethod;
 
 public final class EntityServiceMethods {
@@ -31,4 +32,14 @@ public final class EntityServiceMethods {
 
     public static final RpcMethod<Requests.EntityPresenceRequest, Requests.EntityPresenceResult> QUERY_ENTITY_PRESENCE =
         RpcMethod.of("entity", "queryEntityPresence", Requests.EntityPresenceRequest.class, Requests.EntityPresenceResult.class);
+
+    public static final RpcMethod<Requests.StateSubscribeRequest, Requests.StateSubscribeResult> SUBSCRIBE_STATE =
+        RpcMethod.of("entity", "subscribeState", Requests.StateSubscribeRequest.class, Requests.StateSubscribeResult.class);
+
+    public static final RpcMethod<Requests.StateUnsubscribeRequest, Requests.VoidResult> UNSUBSCRIBE_STATE =
+        RpcMethod.of("entity", "unsubscribeState", Requests.StateUnsubscribeRequest.class, Requests.VoidResult.class);
+
+    /** Topic on which backends push {@link Requests.StateDelta}s to subscribed servers. */
+    public static final NetworkTopic<Requests.StateDelta> STATE_DELTA =
+        NetworkTopic.of("rapunzellib:remote:state", Requests.StateDelta.class);
 }
@@ -38,6 +38,12 @@ public final class PlayerServiceMethods {
     public static final RpcMethod<Requests.SetInventoryRequest, Requests.BooleanResult> SET_INVENTORY =
         RpcMethod.of("player", "setInventory", Requests.SetInventoryRequest.class, Requests.BooleanResult.class);
 
+    public static final RpcMethod<Requests.InventoryBinaryRequest, Requests.InventoryBinaryResult> GET_INVENTORY_BINARY =
+        RpcMethod.of("player", "getInventoryBinary", Requests.InventoryBinaryRequest.class, Requests.InventoryBinaryResult.class);
+
     public static final RpcMethod<Requests.ServerPlayersRequest, Requests.ServerPlayersResult> QUERY_SERVER_PLAYERS =
         RpcMethod.of("player", "queryServerPlayers", Requests.ServerPlayersRequest.class, Requests.ServerPlayersResult.class);
-}
\ No newline at end of file
+
+    public static final RpcMethod<Requests.PlayerRef, Requests.GameModeResult> GET_GAME_MODE =
+        RpcMethod.of("player", "getGameMode", Requests.PlayerRef.class, Requests.GameModeResult.class);
+}
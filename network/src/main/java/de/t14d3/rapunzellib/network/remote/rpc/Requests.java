@@ -2,6 +2,7 @@ package de.t14d3.rapunzellib.network.remote.rpc;
 
 import com.google.gson.JsonElement;
 import de.t14d3.rapunzellib.network.runtime.RpcMethod;
+import de.t14d3.rapunzellib.objects.RGameMode;
 import de.t14d3.rapunzellib.objects.RKey;
 import de.t14d3.rapunzellib.objects.RLocation;
 import de.t14d3.rapunzellib.objects.RWorldRef;
@@ -87,6 +88,20 @@ public final class Requests {
                                        @NotNull String inventoryType,
                                        @NotNull List<SlotEntry> slots) {}
 
+    /**
+     * Binary inventory fetch. {@code knownVersion} is the version the caller last applied
+     * (0 for none); when it matches what the backend last sent to this caller the reply is a
+     * delta against it.
+     */
+    public record InventoryBinaryRequest(@NotNull UUID uuid, long knownVersion) {}
+
+    /**
+     * Reply to {@link InventoryBinaryRequest}: {@code data} is a base64
+     * {@link de.t14d3.rapunzellib.network.remote.InventorySlotCodec} frame, or null when the
+     * player was not found.
+     */
+    public record InventoryBinaryResult(boolean found, @NotNull String inventoryType, @Nullable String data) {}
+
     /**
      * Presence query: asks the target backend which players are online there.
      * The {@code serverName} mirrors the routing target (used for logging /
@@ -110,4 +125,33 @@ public final class Requests {
      * and {@code world} are populated for identification/logging.
      */
     public record EntityPresenceResult(boolean present, @Nullable String entityType, @Nullable String world) {}
+
+    public record GameModeResult(@Nullable RGameMode gameMode) {}
+
+    /**
+     * Opt-in push replication of an entity's hot state (location, health, game mode). The
+     * owning backend pushes {@link StateDelta}s to the caller at roughly {@code intervalMillis}
+     * until it unsubscribes or the entity is gone.
+     */
+    public record StateSubscribeRequest(@NotNull UUID uuid, long intervalMillis) {}
+
+    public record StateUnsubscribeRequest(@NotNull UUID uuid) {}
+
+    /**
+     * Reply to {@link StateSubscribeRequest}: {@code snapshot} carries every hot field so the
+     * subscriber's replica is usable immediately; null when the entity was not found.
+     */
+    public record StateSubscribeResult(boolean found, @Nullable StateDelta snapshot) {}
+
+    /**
+     * Hot state update pushed by the owning backend. Only fields that changed since the
+     * previous delta are set (null otherwise); a delta without fields is a heartbeat.
+     * {@code sequence} is monotonic per entity, and {@code removed} reports that the entity
+     * left the server, which also ends the subscription.
+     */
+    public record StateDelta(@NotNull UUID uuid, long sequence, long capturedAt,
+                             @Nullable RLocation location,
+                             @Nullable Double health, @Nullable Double maxHealth,
+                             @Nullable RGameMode gameMode,
+                             boolean removed) {}
 }
@@ -0,0 +1,30 @@
+package de.t14d3.rapunzellib.network.rpc;
+
+import java.util.List;
+
+/**
+ * Several {@link RpcRequest}s to the same target packed into one envelope.
+ * <p>
+ * Each request keeps its own id and is handled independently: the receiver answers with an
+ * {@link RpcBatchResponse} for every request that completes while the batch is dispatched and
+ * with plain {@link RpcResponse}s for requests that complete later.
+ *
+ * @param batchId   identifier of this batch (diagnostics only)
+ * @param requests  the packed requests
+ * @param createdAt timestamp when this batch was created
+ */
+public record RpcBatchRequest(
+    String batchId,
+    List<RpcRequest> requests,
+    long createdAt
+) {
+    /**
+     * Compact canonical constructor that validates required fields.
+     */
+    public RpcBatchRequest {
+        if (batchId == null || batchId.isBlank()) {
+            throw new IllegalArgumentException("batchId cannot be null/blank");
+        }
+        requests = requests == null ? List.of() : List.copyOf(requests);
+    }
+}
@@ -0,0 +1,28 @@
+package de.t14d3.rapunzellib.network.rpc;
+
+import java.util.List;
+
+/**
+ * Responses to several requests of an {@link RpcBatchRequest} packed into one envelope.
+ * Every response completes its own request; failed calls carry their error like a plain
+ * {@link RpcResponse} and do not affect the other responses.
+ *
+ * @param batchId   the batch these responses belong to
+ * @param responses the packed responses
+ * @param createdAt timestamp when this response was created
+ */
+public record RpcBatchResponse(
+    String batchId,
+    List<RpcResponse> responses,
+    long createdAt
+) {
+    /**
+     * Compact canonical constructor that validates and normalizes fields.
+     */
+    public RpcBatchResponse {
+        if (batchId == null || batchId.isBlank()) {
+            throw new IllegalArgumentException("batchId cannot be null/blank");
+        }
+        responses = responses == null ? List.of() : List.copyOf(responses);
+    }
+}
@@ -15,9 +15,17 @@ public final class RpcChannels {
     public static final String REQUEST = "rapunzellib:rpc:req";
     /** Channel name for RPC responses. */
     public static final String RESPONSE = "rapunzellib:rpc:res";
+    /** Channel name for batched RPC requests. */
+    public static final String BATCH_REQUEST = "rapunzellib:rpc:batch_req";
+    /** Channel name for batched RPC responses. */
+    public static final String BATCH_RESPONSE = "rapunzellib:rpc:batch_res";
 
     /** Typed topic for RPC requests. */
     public static final NetworkTopic<RpcRequest> REQUEST_TOPIC = NetworkTopic.of(REQUEST, RpcRequest.class);
     /** Typed topic for RPC responses. */
     public static final NetworkTopic<RpcResponse> RESPONSE_TOPIC = NetworkTopic.of(RESPONSE, RpcResponse.class);
+    /** Typed topic for batched RPC requests. */
+    public static final NetworkTopic<RpcBatchRequest> BATCH_REQUEST_TOPIC = NetworkTopic.of(BATCH_REQUEST, RpcBatchRequest.class);
+    /** Typed topic for batched RPC responses. */
+    public static final NetworkTopic<RpcBatchResponse> BATCH_RESPONSE_TOPIC = NetworkTopic.of(BATCH_RESPONSE, RpcBatchResponse.class);
 }
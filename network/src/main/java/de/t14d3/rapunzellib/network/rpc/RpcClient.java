@@ -10,33 +10,55 @@ import de.t14d3.rapunzellib.network.runtime.NetworkRuntimeGateway;
 import de.t14d3.rapunzellib.network.runtime.RpcMethod;
 import de.t14d3.rapunzellib.scheduler.ScheduledTask;
 import de.t14d3.rapunzellib.scheduler.Scheduler;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 
 import java.lang.reflect.Type;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Simple RPC client for cross-server communication.
  * Underlying transport is determined by the {@link Messenger} instance.
- */
-/**
- * Client for making RPC calls to remote services.
+ * <p>
+ * Calls are sent one envelope each by default. {@link #batch()} packs explicitly grouped calls
+ * into one {@link RpcBatchRequest} per target, and {@link #setAutoBatching} packs calls made
+ * within a short window automatically. Batched calls still complete independently: every call
+ * keeps its own timeout and a failing handler only fails its own future.
+ * </p>
  */
 public final class RpcClient implements AutoCloseable {
+    /** Upper bound of requests packed into one envelope; larger batches are split. */
+    public static final int MAX_BATCH_SIZE = 64;
+
     private final NetworkRuntimeGateway gateway;
     private final Scheduler scheduler;
     private final Logger logger;
     private final Duration defaultTimeout;
     private final Gson gson;
     private final NetworkRuntimeGateway.Subscription responseSubscription;
+    private final NetworkRuntimeGateway.Subscription batchResponseSubscription;
 
     private final Map<String, PendingRequest<?>> pending = new ConcurrentHashMap<>();
+    private final String idPrefix = Long.toString(UUID.randomUUID().getMostSignificantBits() & Long.MAX_VALUE, 36) + "-";
+    private final AtomicLong nextId = new AtomicLong();
+    private final AtomicLong nextBatchId = new AtomicLong();
+    private final Object autoBatchLock = new Object();
+    private AutoBatcher autoBatcher;
+    private ScheduledExecutorService autoBatchExecutor;
     private volatile boolean closed;
 
     /**
@@ -89,6 +111,54 @@ public final class RpcClient implements AutoCloseable {
         this.gson = Objects.requireNonNull(gson, "gson");
 
         this.responseSubscription = gateway.subscribe(RpcChannels.RESPONSE_TOPIC, this::handleResponse);
+        this.batchResponseSubscription = gateway.subscribe(RpcChannels.BATCH_RESPONSE_TOPIC, this::handleBatchResponse);
+    }
+
+    /**
+     * Starts an explicit batch. Calls added to it are registered (and their timeouts started)
+     * immediately but only sent by {@link Batch#send()}, as one envelope per target.
+     *
+     * @return a new, empty batch
+     */
+    public @NotNull Batch batch() {
+        return new Batch();
+    }
+
+    /**
+     * Enables or disables automatic micro-batching of calls made through this client.
+     * <p>
+     * While enabled, calls are queued per target and sent when {@code maxCalls} calls are
+     * queued for a target or {@code maxDelay} after the first queued call, whichever comes first.
+     * </p>
+     *
+     * @param maxCalls flush threshold per target (capped at {@link #MAX_BATCH_SIZE}); values
+     *     below 2 disable auto-batching and flush any queued calls
+     * @param maxDelay longest time a call may wait in the queue
+     */
+    public void setAutoBatching(int maxCalls, @NotNull Duration maxDelay) {
+        Objects.requireNonNull(maxDelay, "maxDelay");
+        if (maxDelay.isNegative()) {
+            throw new IllegalArgumentException("maxDelay cannot be negative");
+        }
+        AutoBatcher previous;
+        synchronized (autoBatchLock) {
+            previous = autoBatcher;
+            autoBatcher = maxCalls < 2 ? null : new AutoBatcher(Math.min(maxCalls, MAX_BATCH_SIZE), maxDelay);
+        }
+        if (previous != null) {
+            previous.flush();
+        }
+    }
+
+    /** Sends all calls queued by auto-batching now. */
+    public void flush() {
+        AutoBatcher batcher;
+        synchronized (autoBatchLock) {
+            batcher = autoBatcher;
+        }
+        if (batcher != null) {
+            batcher.flush();
+        }
     }
 
     public <Req, Res> CompletableFuture<Res> callProxy(RpcMethod<Req, Res> method, Req payload) {
@@ -141,6 +211,39 @@ public final class RpcClient implements AutoCloseable {
         Object payload,
         Type resultType,
         Duration timeout
+    ) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        RpcRequest request = prepare(target, targetServerName, service, method, payload, resultType, timeout, future);
+        if (request == null) {
+            return future;
+        }
+        Destination destination = new Destination(target, targetServerName);
+        AutoBatcher batcher;
+        synchronized (autoBatchLock) {
+            batcher = autoBatcher;
+        }
+        if (batcher != null) {
+            batcher.enqueue(destination, request);
+        } else {
+            send(destination, List.of(request));
+        }
+        return future;
+    }
+
+    /**
+     * Validates a call, registers it as pending and starts its timeout.
+     *
+     * @return the request to send, or null if {@code future} was already failed
+     */
+    private <T> RpcRequest prepare(
+        Target target,
+        String targetServerName,
+        String service,
+        String method,
+        Object payload,
+        Type resultType,
+        Duration timeout,
+        CompletableFuture<T> future
     ) {
         Objects.requireNonNull(target, "target");
         if (target == Target.SERVER && (targetServerName == null || targetServerName.isBlank())) {
@@ -155,20 +258,22 @@ public final class RpcClient implements AutoCloseable {
         Objects.requireNonNull(resultType, "resultType");
 
         if (closed) {
-            return CompletableFuture.failedFuture(new IllegalStateException("RpcClient is closed"));
+            future.completeExceptionally(new IllegalStateException("RpcClient is closed"));
+            return null;
         }
 
         if (!gateway.isConnected()) {
-            return CompletableFuture.failedFuture(new IllegalStateException(
+            future.completeExceptionally(new IllegalStateException(
                 "Network messenger is not connected ("
                     + gateway.runtime().canonicalMessenger().getClass().getSimpleName()
                     + ")"
             ));
+            return null;
         }
 
         Duration effectiveTimeout = effectiveTimeout(timeout);
-        String requestId = UUID.randomUUID().toString();
-        CompletableFuture<T> future = new CompletableFuture<>();
+        // Unique per client (random prefix) and per call (counter); cheaper than a random UUID per call.
+        String requestId = idPrefix + Long.toString(nextId.incrementAndGet(), 36);
 
         ScheduledTask timeoutTask = scheduler.runLater(effectiveTimeout, () -> {
             PendingRequest<?> removed = pending.remove(requestId);
@@ -189,33 +294,52 @@ public final class RpcClient implements AutoCloseable {
             }
         });
 
-        RpcRequest request = new RpcRequest(
+        return new RpcRequest(
             requestId,
             service,
             method,
             gson.toJsonTree(payload),
             System.currentTimeMillis()
         );
+    }
 
-        try {
-            if (target == Target.PROXY) {
-                gateway.publish(RpcChannels.REQUEST_TOPIC, NetworkPath.proxy(), request);
-            } else {
-                gateway.publish(RpcChannels.REQUEST_TOPIC, NetworkPath.server(targetServerName), request);
-            }
-        } catch (Exception e) {
-            PendingRequest<?> removed = pending.remove(requestId);
-            if (removed != null) {
-                try {
-                    removed.timeoutTask.cancel();
-                } catch (Exception cancelError) {
-                    logger.debug("Failed to cancel RPC timeout task after send failure for {}#{} (requestId={})", removed.service, removed.method, requestId, cancelError);
+    /**
+     * Sends requests to one destination: a single request as a plain envelope, more as
+     * {@link RpcBatchRequest}s of at most {@link #MAX_BATCH_SIZE}. A failed publish fails the
+     * affected calls only.
+     */
+    private void send(Destination destination, List<RpcRequest> requests) {
+        for (int from = 0; from < requests.size(); from += MAX_BATCH_SIZE) {
+            List<RpcRequest> chunk = requests.subList(from, Math.min(requests.size(), from + MAX_BATCH_SIZE));
+            try {
+                if (chunk.size() == 1) {
+                    gateway.publish(RpcChannels.REQUEST_TOPIC, destination.path(), chunk.get(0));
+                } else {
+                    gateway.publish(RpcChannels.BATCH_REQUEST_TOPIC, destination.path(), new RpcBatchRequest(
+                        idPrefix + "b" + Long.toString(nextBatchId.incrementAndGet(), 36),
+                        chunk,
+                        System.currentTimeMillis()
+                    ));
+                }
+            } catch (Exception e) {
+                for (RpcRequest request : chunk) {
+                    failPending(request.requestId(), e);
                 }
             }
-            future.completeExceptionally(e);
         }
+    }
 
-        return future;
+    private void failPending(String requestId, Throwable error) {
+        PendingRequest<?> removed = pending.remove(requestId);
+        if (removed == null) {
+            return;
+        }
+        try {
+            removed.timeoutTask.cancel();
+        } catch (Exception cancelError) {
+            logger.debug("Failed to cancel RPC timeout task after send failure for {}#{} (requestId={})", removed.service, removed.method, requestId, cancelError);
+        }
+        removed.future.completeExceptionally(error);
     }
 
     private Duration effectiveTimeout(Duration requested) {
@@ -258,11 +382,26 @@ public final class RpcClient implements AutoCloseable {
         }
     }
 
+    private void handleBatchResponse(RpcBatchResponse batch, String sourceServer) {
+        if (batch == null) return;
+        for (RpcResponse response : batch.responses()) {
+            handleResponse(response, sourceServer);
+        }
+    }
+
     @Override
     public void close() {
         closed = true;
+        synchronized (autoBatchLock) {
+            autoBatcher = null;
+            if (autoBatchExecutor != null) {
+                autoBatchExecutor.shutdownNow();
+                autoBatchExecutor = null;
+            }
+        }
         try {
             responseSubscription.close();
+            batchResponseSubscription.close();
         } catch (Exception e) {
             logger.debug("Failed to close RPC response subscription", e);
         }
@@ -278,6 +417,164 @@ public final class RpcClient implements AutoCloseable {
         pending.clear();
     }
 
+    private ScheduledExecutorService autoBatchExecutor() {
+        synchronized (autoBatchLock) {
+            if (autoBatchExecutor == null) {
+                autoBatchExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+                    Thread t = new Thread(r, "RapunzelLib-RpcBatcher");
+                    t.setDaemon(true);
+                    return t;
+                });
+            }
+            return autoBatchExecutor;
+        }
+    }
+
+    /**
+     * Calls collected by {@link RpcClient#batch()}. Futures returned by the {@code call*} methods
+     * complete independently once the batch is sent and answered.
+     */
+    public final class Batch {
+        private final Map<Destination, List<RpcRequest>> queued = new LinkedHashMap<>();
+
+        private Batch() {
+        }
+
+        public <Req, Res> @NotNull CompletableFuture<Res> callProxy(@NotNull RpcMethod<Req, Res> method, Req payload) {
+            return callProxy(method, payload, null);
+        }
+
+        public <Req, Res> @NotNull CompletableFuture<Res> callProxy(
+            @NotNull RpcMethod<Req, Res> method,
+            Req payload,
+            @Nullable Duration timeout
+        ) {
+            Objects.requireNonNull(method, "method");
+            return add(Target.PROXY, null, method.service(), method.method(), payload, method.responseType(), timeout);
+        }
+
+        public <Req, Res> @NotNull CompletableFuture<Res> callServer(
+            @NotNull String serverName,
+            @NotNull RpcMethod<Req, Res> method,
+            Req payload
+        ) {
+            return callServer(serverName, method, payload, null);
+        }
+
+        public <Req, Res> @NotNull CompletableFuture<Res> callServer(
+            @NotNull String serverName,
+            @NotNull RpcMethod<Req, Res> method,
+            Req payload,
+            @Nullable Duration timeout
+        ) {
+            Objects.requireNonNull(method, "method");
+            return add(Target.SERVER, serverName, method.service(), method.method(), payload, method.responseType(), timeout);
+        }
+
+        /** Number of calls waiting to be sent. */
+        public synchronized int size() {
+            int size = 0;
+            for (List<RpcRequest> requests : queued.values()) {
+                size += requests.size();
+            }
+            return size;
+        }
+
+        /** Sends the queued calls, one envelope per target, and empties this batch. */
+        public void send() {
+            Map<Destination, List<RpcRequest>> toSend;
+            synchronized (this) {
+                toSend = new LinkedHashMap<>(queued);
+                queued.clear();
+            }
+            toSend.forEach(RpcClient.this::send);
+        }
+
+        private <T> CompletableFuture<T> add(
+            Target target,
+            String targetServerName,
+            String service,
+            String method,
+            Object payload,
+            Type resultType,
+            Duration timeout
+        ) {
+            CompletableFuture<T> future = new CompletableFuture<>();
+            RpcRequest request = prepare(target, targetServerName, service, method, payload, resultType, timeout, future);
+            if (request != null) {
+                synchronized (this) {
+                    queued.computeIfAbsent(new Destination(target, targetServerName), ignored -> new ArrayList<>()).add(request);
+                }
+            }
+            return future;
+        }
+    }
+
+    private final class AutoBatcher {
+        private final int maxCalls;
+        private final Duration maxDelay;
+        private final Map<Destination, List<RpcRequest>> queued = new LinkedHashMap<>();
+        private boolean flushScheduled;
+
+        private AutoBatcher(int maxCalls, Duration maxDelay) {
+            this.maxCalls = maxCalls;
+            this.maxDelay = maxDelay;
+        }
+
+        private void enqueue(Destination destination, RpcRequest request) {
+            List<RpcRequest> full = null;
+            boolean schedule = false;
+            synchronized (this) {
+                List<RpcRequest> requests = queued.computeIfAbsent(destination, ignored -> new ArrayList<>());
+                requests.add(request);
+                if (requests.size() >= maxCalls) {
+                    full = queued.remove(destination);
+                } else if (!flushScheduled) {
+                    flushScheduled = true;
+                    schedule = true;
+                }
+            }
+            if (full != null) {
+                send(destination, full);
+            }
+            if (schedule) {
+                try {
+                    autoBatchExecutor().schedule(this::flushSafely, maxDelay.toNanos(), TimeUnit.NANOSECONDS);
+                } catch (Exception e) {
+                    // Closed concurrently: send what is queued instead of leaving it to time out.
+                    flush();
+                }
+            }
+        }
+
+        private void flushSafely() {
+            try {
+                flush();
+            } catch (Exception e) {
+                logger.warn("Failed to flush batched RPC calls", e);
+            }
+        }
+
+        private void flush() {
+            Map<Destination, List<RpcRequest>> toSend;
+            synchronized (this) {
+                flushScheduled = false;
+                if (queued.isEmpty()) {
+                    return;
+                }
+                toSend = new LinkedHashMap<>(queued);
+                queued.clear();
+            }
+            toSend.forEach(RpcClient.this::send);
+        }
+    }
+
+    private record Destination(Target target, String serverName) {
+        private NetworkPath path() {
+            return target == Target.PROXY ? NetworkPath.proxy() : NetworkPath.server(serverName);
+        }
+    }
+
     private enum Target {
         PROXY,
         SERVER
@@ -4,6 +4,8 @@ import com.google.gson.Gson;
 import de.t14d3.rapunzellib.network.Messenger;
 import de.t14d3.rapunzellib.network.NetworkEventBus;
 import de.t14d3.rapunzellib.network.json.JsonCodecs;
+import de.t14d3.rapunzellib.network.rpc.RpcBatchRequest;
+import de.t14d3.rapunzellib.network.rpc.RpcBatchResponse;
 import de.t14d3.rapunzellib.network.rpc.RpcChannels;
 import de.t14d3.rapunzellib.network.rpc.RpcClient;
 import de.t14d3.rapunzellib.network.rpc.RpcRequest;
@@ -13,6 +15,9 @@ import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -27,6 +32,9 @@ public final class DefaultNetworkRuntimeGateway implements NetworkRuntimeGateway
     private final RpcClient rpcClient;
     private final Set<ManagedSubscription> subscriptions = ConcurrentHashMap.newKeySet();
     private final Set<String> inFlightRequestIds = ConcurrentHashMap.newKeySet();
+    private final Map<String, Map<String, RpcRegistration<?, ?>>> rpcHandlers = new ConcurrentHashMap<>();
+    private Subscription requestSubscription;
+    private Subscription batchRequestSubscription;
     private volatile boolean closed;
 
     /**
@@ -124,6 +132,14 @@ public final class DefaultNetworkRuntimeGateway implements NetworkRuntimeGateway
         return runtime.canonicalMessenger().isConnected();
     }
 
+    /**
+     * Returns the RPC client backing {@link #call}, for batching several calls into one envelope
+     * (see {@link RpcClient#batch()}); empty when the gateway was created without a scheduler.
+     */
+    public @NotNull Optional<RpcClient> rpcClient() {
+        return Optional.ofNullable(rpcClient);
+    }
+
     @Override
     public <T> void publish(@NotNull NetworkTopic<T> topic, @NotNull NetworkPath path, T payload) {
         Objects.requireNonNull(topic, "topic");
@@ -172,6 +188,18 @@ public final class DefaultNetworkRuntimeGateway implements NetworkRuntimeGateway
         };
     }
 
+    /**
+     * Registers an RPC handler.
+     * <p>
+     * All handlers of a gateway share one {@link RpcChannels#REQUEST_TOPIC} subscription: each
+     * request envelope is decoded once and dispatched by service and method name. Requests for a
+     * registered service but an unknown method are answered with an error response right away;
+     * requests for services this gateway does not serve are ignored, since another gateway on the
+     * same messenger may handle them. {@link RpcBatchRequest}s are dispatched entry by entry with
+     * the same rules and answered with one {@link RpcBatchResponse}.
+     *
+     * @throws IllegalStateException if a handler is already registered for the method
+     */
     @Override
     public <Req, Res> @NotNull Subscription register(
         @NotNull RpcMethod<Req, Res> method,
@@ -181,60 +209,108 @@ public final class DefaultNetworkRuntimeGateway implements NetworkRuntimeGateway
         Objects.requireNonNull(handler, "handler");
         ensureOpen();
 
-        return subscribe(RpcChannels.REQUEST_TOPIC, (request, sourceServer) -> {
-            if (request == null || request.requestId() == null) {
-                return;
+        RpcRegistration<Req, Res> registration = new RpcRegistration<>(method, handler);
+        synchronized (rpcHandlers) {
+            Map<String, RpcRegistration<?, ?>> methods =
+                rpcHandlers.computeIfAbsent(method.service(), ignored -> new ConcurrentHashMap<>());
+            if (methods.putIfAbsent(method.method(), registration) != null) {
+                throw new IllegalStateException("RPC method " + method.serviceMethod() + " is already registered");
             }
-            if (!method.service().equals(request.service()) || !method.method().equals(request.method())) {
-                return;
-            }
-            if (sourceServer == null || sourceServer.isBlank()) {
-                return;
+            if (requestSubscription == null) {
+                requestSubscription = subscribe(RpcChannels.REQUEST_TOPIC, this::dispatchRequest);
+                batchRequestSubscription = subscribe(RpcChannels.BATCH_REQUEST_TOPIC, this::dispatchBatch);
             }
-            // The transport may deliver the same request envelope more than
-            // once; handle each request id exactly once.
-            if (!inFlightRequestIds.add(request.requestId())) {
-                return;
+        }
+        return () -> {
+            synchronized (rpcHandlers) {
+                Map<String, RpcRegistration<?, ?>> methods = rpcHandlers.get(method.service());
+                if (methods != null && methods.remove(method.method(), registration) && methods.isEmpty()) {
+                    rpcHandlers.remove(method.service());
+                }
             }
+        };
+    }
 
-            Req decoded;
-            try {
-                @SuppressWarnings("unchecked")
-                Req parsed = (Req) gson.fromJson(request.payload(), method.requestType());
-                decoded = parsed;
-            } catch (Exception e) {
-                inFlightRequestIds.remove(request.requestId());
-                sendRpcError(request.requestId(), sourceServer, e.getMessage());
-                return;
-            }
+    private void dispatchRequest(RpcRequest request, String sourceServer) {
+        if (sourceServer == null || sourceServer.isBlank()) {
+            return;
+        }
+        CompletableFuture<RpcResponse> response = invoke(request, sourceServer);
+        if (response != null) {
+            response.thenAccept(result -> publishResponse(sourceServer, result));
+        }
+    }
 
-            CompletableFuture<Res> responseFuture;
-            try {
-                responseFuture = Objects.requireNonNull(handler.handle(decoded, sourceServer), "handler returned null future");
-            } catch (Exception e) {
-                inFlightRequestIds.remove(request.requestId());
-                sendRpcError(request.requestId(), sourceServer, e.getMessage());
-                return;
+    /**
+     * Answers every entry that completes during dispatch with a single batch response, so a
+     * batch of synchronous handlers costs one envelope each way. Entries whose handler completes
+     * later are answered individually, so a slow handler never holds back the others.
+     */
+    private void dispatchBatch(RpcBatchRequest batch, String sourceServer) {
+        if (batch == null || sourceServer == null || sourceServer.isBlank()) {
+            return;
+        }
+        List<RpcResponse> completed = new ArrayList<>(batch.requests().size());
+        for (RpcRequest request : batch.requests()) {
+            CompletableFuture<RpcResponse> response = invoke(request, sourceServer);
+            if (response == null) {
+                continue;
+            }
+            if (response.isDone()) {
+                completed.add(response.join());
+            } else {
+                response.thenAccept(result -> publishResponse(sourceServer, result));
             }
+        }
+        if (completed.isEmpty()) {
+            return;
+        }
+        try {
+            publishToServer(
+                RpcChannels.BATCH_RESPONSE_TOPIC,
+                sourceServer,
+                new RpcBatchResponse(batch.batchId(), completed, System.currentTimeMillis())
+            );
+        } catch (Exception e) {
+            logger.debug("Failed to send RPC batch response {}", batch.batchId(), e);
+        }
+    }
 
-            responseFuture.whenComplete((result, error) -> {
-                inFlightRequestIds.remove(request.requestId());
-                if (error != null) {
-                    sendRpcError(request.requestId(), sourceServer, error.getMessage());
-                    return;
-                }
-                publishToServer(
-                    RpcChannels.RESPONSE_TOPIC,
-                    sourceServer,
-                    new RpcResponse(request.requestId(), true, gson.toJsonTree(result), null, System.currentTimeMillis())
-                );
-            });
-        });
+    /**
+     * Runs the handler for one request. The returned future always completes normally, with an
+     * error response if decoding or the handler failed; null means the request is not for this
+     * gateway or is a duplicate delivery.
+     */
+    private CompletableFuture<RpcResponse> invoke(RpcRequest request, String sourceServer) {
+        if (request == null || request.requestId() == null) {
+            return null;
+        }
+        Map<String, RpcRegistration<?, ?>> methods = rpcHandlers.get(request.service());
+        if (methods == null) {
+            return null;
+        }
+        RpcRegistration<?, ?> registration = methods.get(request.method());
+        if (registration == null) {
+            return CompletableFuture.completedFuture(errorResponse(
+                request.requestId(), "Unknown RPC method: " + request.service() + "#" + request.method()));
+        }
+        // The transport may deliver the same request envelope more than
+        // once; handle each request id exactly once.
+        if (!inFlightRequestIds.add(request.requestId())) {
+            return null;
+        }
+        return registration.handle(request, sourceServer)
+            .whenComplete((response, error) -> inFlightRequestIds.remove(request.requestId()));
     }
 
     @Override
     public void close() {
         closed = true;
+        synchronized (rpcHandlers) {
+            rpcHandlers.clear();
+            requestSubscription = null;
+            batchRequestSubscription = null;
+        }
         for (ManagedSubscription subscription : Set.copyOf(subscriptions)) {
             subscription.close();
         }
@@ -243,30 +319,69 @@ public final class DefaultNetworkRuntimeGateway implements NetworkRuntimeGateway
         }
     }
 
-    private void sendRpcError(String requestId, String sourceServer, String message) {
+    private void publishResponse(String sourceServer, RpcResponse response) {
         try {
-            publishToServer(
-                RpcChannels.RESPONSE_TOPIC,
-                sourceServer,
-                new RpcResponse(
-                    requestId,
-                    false,
-                    null,
-                    (message == null || message.isBlank()) ? "Remote returned an error" : message,
-                    System.currentTimeMillis()
-                )
-            );
+            publishToServer(RpcChannels.RESPONSE_TOPIC, sourceServer, response);
         } catch (Exception e) {
-            logger.debug("Failed to send RPC error response for request {}", requestId, e);
+            logger.debug("Failed to send RPC response for request {}", response.requestId(), e);
         }
     }
 
+    private static RpcResponse errorResponse(String requestId, String message) {
+        return new RpcResponse(
+            requestId,
+            false,
+            null,
+            (message == null || message.isBlank()) ? "Remote returned an error" : message,
+            System.currentTimeMillis()
+        );
+    }
+
     private void ensureOpen() {
         if (closed) {
             throw new IllegalStateException("NetworkRuntimeGateway is closed");
         }
     }
 
+    private final class RpcRegistration<Req, Res> {
+        private final RpcMethod<Req, Res> method;
+        private final RpcHandler<Req, Res> handler;
+
+        private RpcRegistration(RpcMethod<Req, Res> method, RpcHandler<Req, Res> handler) {
+            this.method = method;
+            this.handler = handler;
+        }
+
+        private CompletableFuture<RpcResponse> handle(RpcRequest request, String sourceServer) {
+            Req decoded;
+            try {
+                @SuppressWarnings("unchecked")
+                Req parsed = (Req) gson.fromJson(request.payload(), method.requestType());
+                decoded = parsed;
+            } catch (Exception e) {
+                return CompletableFuture.completedFuture(errorResponse(request.requestId(), e.getMessage()));
+            }
+
+            CompletableFuture<Res> responseFuture;
+            try {
+                responseFuture = Objects.requireNonNull(handler.handle(decoded, sourceServer), "handler returned null future");
+            } catch (Exception e) {
+                return CompletableFuture.completedFuture(errorResponse(request.requestId(), e.getMessage()));
+            }
+
+            return responseFuture.handle((result, error) -> {
+                if (error != null) {
+                    return errorResponse(request.requestId(), error.getMessage());
+                }
+                try {
+                    return new RpcResponse(request.requestId(), true, gson.toJsonTree(result), null, System.currentTimeMillis());
+                } catch (Exception e) {
+                    return errorResponse(request.requestId(), e.getMessage());
+                }
+            });
+        }
+    }
+
     private final class ManagedSubscription implements Subscription {
         private final NetworkEventBus.Subscription delegate;
         private volatile boolean closed;
@@ -1,15 +1,28 @@
 package de.t14d3.rapunzellib.network;
 
+import de.t14d3.rapunzellib.network.json.JsonCodec;
+import de.t14d3.rapunzellib.network.json.JsonCodecs;
+import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
 
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 final class NetworkEventBusTest {
     private record Payload(int x) {
     }
 
+    private record OtherPayload(int x) {
+    }
+
     @Test
     void typedListenersReceiveMessagesAndUnsubscribe() {
         InMemoryMessenger messenger = new InMemoryMessenger("a", "velocity");
@@ -25,5 +38,134 @@ final class NetworkEventBusTest {
         bus.sendToAll("ch", new Payload(2));
         assertEquals(1, called.get());
     }
-}
 
+    @Test
+    void listenersOfTheSameTypeShareOneDecodedInstance() {
+        InMemoryMessenger messenger = new InMemoryMessenger("a", "velocity");
+        CountingCodec codec = new CountingCodec();
+        NetworkEventBus bus = new NetworkEventBus(messenger, codec);
+
+        List<Payload> payloads = new ArrayList<>();
+        List<OtherPayload> others = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            bus.register("ch", Payload.class, (payload, _src) -> payloads.add(payload));
+            bus.register("ch", OtherPayload.class, (payload, _src) -> others.add(payload));
+        }
+
+        bus.sendToAll("ch", new Payload(7));
+
+        assertEquals(2, codec.decodes.get());
+        assertEquals(3, payloads.size());
+        assertEquals(new Payload(7), payloads.getFirst());
+        assertSame(payloads.get(0), payloads.get(1));
+        assertSame(payloads.get(0), payloads.get(2));
+        assertEquals(new OtherPayload(7), others.getFirst());
+        assertSame(others.get(0), others.get(2));
+    }
+
+    @Test
+    void synchronousListenersRunInRegistrationOrder() {
+        InMemoryMessenger messenger = new InMemoryMessenger("a", "velocity");
+        NetworkEventBus bus = new NetworkEventBus(messenger);
+
+        List<String> order = new ArrayList<>();
+        bus.register("ch", Payload.class, (_p, _src) -> order.add("payload-1"));
+        bus.register("ch", OtherPayload.class, (_p, _src) -> order.add("other-1"));
+        bus.register("ch", Payload.class, (_p, _src) -> order.add("payload-2"));
+        bus.register("ch", Payload.class, (_p, _src) -> {
+            throw new IllegalStateException("listener failure");
+        });
+        bus.register("ch", OtherPayload.class, (_p, _src) -> order.add("other-2"));
+
+        bus.sendToAll("ch", new Payload(1));
+
+        assertEquals(List.of("payload-1", "other-1", "payload-2", "other-2"), order);
+    }
+
+    @Test
+    void asynchronousListenersOfOneMessageShareOneTask() {
+        InMemoryMessenger messenger = new InMemoryMessenger("a", "velocity");
+        CountingCodec codec = new CountingCodec();
+        CountingExecutor executor = new CountingExecutor();
+        NetworkEventBus bus = NetworkEventBus.builder().messenger(messenger).json(codec).dispatcher(executor).build();
+
+        List<String> order = new CopyOnWriteArrayList<>();
+        List<Payload> payloads = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            int index = i;
+            bus.register("ch", Payload.class, (payload, _src) -> {
+                order.add("async-" + index);
+                payloads.add(payload);
+            }, true);
+        }
+        bus.register("ch", Payload.class, (payload, _src) -> {
+            order.add("sync");
+            payloads.add(payload);
+        });
+
+        bus.sendToAll("ch", new Payload(3));
+
+        assertEquals(1, executor.tasks.get());
+        assertEquals(1, codec.decodes.get());
+        assertEquals(List.of("sync", "async-0", "async-1", "async-2", "async-3"), order);
+        for (Payload payload : payloads) {
+            assertSame(payloads.getFirst(), payload);
+        }
+    }
+
+    private static final class CountingCodec implements JsonCodec {
+        private final JsonCodec delegate = JsonCodecs.codec();
+        private final AtomicInteger decodes = new AtomicInteger();
+
+        @Override
+        public String toJson(Object value) {
+            return delegate.toJson(value);
+        }
+
+        @Override
+        public <T> T fromJson(String json, Class<T> type) {
+            decodes.incrementAndGet();
+            return delegate.fromJson(json, type);
+        }
+
+        @Override
+        public <T> T fromJson(String json, Type type) {
+            decodes.incrementAndGet();
+            return delegate.fromJson(json, type);
+        }
+    }
+
+    private static final class CountingExecutor extends AbstractExecutorService {
+        private final AtomicInteger tasks = new AtomicInteger();
+
+        @Override
+        public void execute(@NotNull Runnable command) {
+            tasks.incrementAndGet();
+            command.run();
+        }
+
+        @Override
+        public void shutdown() {
+        }
+
+        @Override
+        public @NotNull List<Runnable> shutdownNow() {
+            return List.of();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return false;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return false;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, @NotNull TimeUnit unit) {
+            return true;
+        }
+    }
+}
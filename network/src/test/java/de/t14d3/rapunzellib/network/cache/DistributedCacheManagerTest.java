@@ -1,14 +1,28 @@
 package de.t14d3.rapunzellib.network.cache;
 
+import de.t14d3.rapunzellib.network.InMemoryMessenger;
+import de.t14d3.rapunzellib.network.MessageListener;
+import de.t14d3.rapunzellib.network.Messenger;
 import de.t14d3.rapunzellib.network.runtime.DefaultNetworkRuntimeGateway;
 import de.t14d3.rapunzellib.network.testutil.TestNetworkSupport.TestNetwork;
 import de.t14d3.rapunzellib.network.testutil.TestNetworkSupport.TestScheduler;
+import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 final class DistributedCacheManagerTest {
     @Test
@@ -26,6 +40,7 @@ final class DistributedCacheManagerTest {
             beta.registerInvalidationListener("*", received::set);
 
             alpha.broadcastInvalidation("example.Entity", "42", InvalidationOperation.DELETE);
+            alpha.flush();
 
             CacheInvalidationMessage message = received.get();
             assertNotNull(message);
@@ -35,4 +50,295 @@ final class DistributedCacheManagerTest {
             assertEquals("alpha", message.serverName());
         }
     }
+
+    @Test
+    void burstOfInvalidationsIsPublishedAsOneBatchPerEntityClass() {
+        CountingMessenger messenger = new CountingMessenger(new InMemoryMessenger("alpha", "proxy"));
+        List<CacheInvalidationMessage> received = new CopyOnWriteArrayList<>();
+
+        try (
+            DistributedCacheManager sender = new DistributedCacheManager(
+                messenger, LoggerFactory.getLogger("cache-sender"), Duration.ofHours(1), 1_000);
+            DistributedCacheManager receiver = new DistributedCacheManager(
+                messenger, LoggerFactory.getLogger("cache-receiver"), Duration.ofHours(1), 1_000)
+        ) {
+            receiver.registerInvalidationListener("*", received::add);
+
+            for (int i = 0; i < 10_000; i++) {
+                sender.broadcastInvalidation("example.Hot", String.valueOf(i % 500),
+                    i % 2 == 0 ? InvalidationOperation.UPSERT : InvalidationOperation.DELETE);
+            }
+            assertEquals(0, messenger.publishes(DistributedCacheManager.CACHE_INVALIDATION_BATCH_CHANNEL));
+            sender.flush();
+
+            assertEquals(1, messenger.publishes(DistributedCacheManager.CACHE_INVALIDATION_BATCH_CHANNEL));
+            assertEquals(500, messenger.publishes(DistributedCacheManager.CACHE_INVALIDATION_CHANNEL));
+            assertEquals(500, received.size());
+            assertEquals("1", received.get(1).id());
+            assertEquals(InvalidationOperation.DELETE, received.get(1).operation());
+
+            CacheStatistics stats = sender.getStatistics();
+            assertEquals(10_000, stats.getInvalidationsSent());
+            assertEquals(9_500, stats.getInvalidationsMerged());
+            assertEquals(1, stats.getBatchesSent());
+            assertEquals(1, receiver.getStatistics().getBatchesReceived());
+            assertEquals(500, receiver.getStatistics().getInvalidationsReceived());
+
+            received.clear();
+            for (int i = 0; i < 10_000; i++) {
+                sender.broadcastInvalidation("example.Bulk", String.valueOf(i), InvalidationOperation.UPSERT);
+            }
+            sender.flush();
+
+            assertEquals(2, messenger.publishes(DistributedCacheManager.CACHE_INVALIDATION_BATCH_CHANNEL));
+            assertEquals(1, received.size());
+            assertEquals(InvalidationOperation.CLEAR, received.getFirst().operation());
+            assertEquals(CacheInvalidationMessage.ALL_IDS, received.getFirst().id());
+            assertEquals(1, stats.getClearAllEscalations());
+            assertEquals(9_500 + 10_000 - 1_001, stats.getInvalidationsMerged());
+        }
+    }
+
+    @Test
+    void legacyNodesStillReceiveEveryBatchedKey() {
+        CountingMessenger messenger = new CountingMessenger(new InMemoryMessenger("alpha", "proxy"));
+        List<String> legacy = new CopyOnWriteArrayList<>();
+        List<CacheInvalidationMessage> received = new CopyOnWriteArrayList<>();
+
+        try (
+            DefaultNetworkRuntimeGateway legacyGateway = DefaultNetworkRuntimeGateway.compatibility(messenger);
+            DistributedCacheManager sender = new DistributedCacheManager(
+                messenger, LoggerFactory.getLogger("cache-sender"), Duration.ofHours(1), 2);
+            DistributedCacheManager receiver = new DistributedCacheManager(
+                messenger, LoggerFactory.getLogger("cache-receiver"), Duration.ofHours(1), 2)
+        ) {
+            legacyGateway.subscribe(DistributedCacheManager.INVALIDATION_TOPIC,
+                (message, source) -> legacy.add(message.id()));
+            receiver.registerInvalidationListener("*", received::add);
+
+            for (String id : List.of("1", "2", "3", "2")) {
+                sender.broadcastInvalidation("example.Entity", id, InvalidationOperation.UPSERT);
+            }
+            sender.flush();
+
+            assertEquals(List.of("1", "2", "3"), legacy);
+            assertEquals(1, received.size());
+            assertEquals(InvalidationOperation.CLEAR, received.getFirst().operation());
+
+            legacy.clear();
+            sender.setLegacyInvalidationsEnabled(false);
+            sender.broadcastInvalidation("example.Entity", "4", InvalidationOperation.DELETE);
+            sender.flush();
+
+            assertEquals(List.of(), legacy);
+            assertEquals(3, messenger.publishes(DistributedCacheManager.CACHE_INVALIDATION_CHANNEL));
+        }
+    }
+
+    @Test
+    void dropsStaleAndDuplicateBatches() {
+        InMemoryMessenger messenger = new InMemoryMessenger("alpha", "proxy");
+        List<CacheInvalidationMessage> received = new CopyOnWriteArrayList<>();
+
+        try (
+            DefaultNetworkRuntimeGateway gateway = DefaultNetworkRuntimeGateway.compatibility(messenger);
+            DistributedCacheManager receiver = new DistributedCacheManager(gateway)
+        ) {
+            receiver.registerInvalidationListener("*", received::add);
+
+            gateway.publishToAll(DistributedCacheManager.INVALIDATION_BATCH_TOPIC, batch("example.A", "1", 2));
+            gateway.publishToAll(DistributedCacheManager.INVALIDATION_BATCH_TOPIC, batch("example.A", "2", 2));
+            gateway.publishToAll(DistributedCacheManager.INVALIDATION_BATCH_TOPIC, batch("example.A", "3", 1));
+            gateway.publishToAll(DistributedCacheManager.INVALIDATION_BATCH_TOPIC, batch("example.B", "4", 1));
+            gateway.publishToAll(DistributedCacheManager.INVALIDATION_BATCH_TOPIC, batch("example.A", "5", 3));
+
+            assertEquals(List.of("1", "4", "5"), received.stream().map(CacheInvalidationMessage::id).toList());
+            assertEquals(2, receiver.getStatistics().getStaleBatchesDropped());
+            assertEquals(3, receiver.getStatistics().getBatchesReceived());
+        }
+    }
+
+    @Test
+    void coalescingWindowPublishesPendingInvalidations() throws InterruptedException {
+        InMemoryMessenger messenger = new InMemoryMessenger("alpha", "proxy");
+        CountDownLatch delivered = new CountDownLatch(3);
+
+        try (DistributedCacheManager manager = new DistributedCacheManager(
+            messenger, LoggerFactory.getLogger("cache-window"), Duration.ofMillis(10), 100)) {
+            manager.registerInvalidationListener("example.Entity", message -> delivered.countDown());
+
+            manager.broadcastInvalidation("example.Entity", "1", InvalidationOperation.UPSERT);
+            manager.broadcastInvalidation("example.Entity", "2", InvalidationOperation.UPSERT);
+            manager.broadcastInvalidation("example.Entity", "3", InvalidationOperation.DELETE);
+
+            assertTrue(delivered.await(5, TimeUnit.SECONDS));
+            assertEquals(1, manager.getStatistics().getBatchesReceived());
+        }
+    }
+
+    @Test
+    void concurrentFlushesPublishVersionsInOrder() throws Exception {
+        BlockingMessenger messenger = new BlockingMessenger(new InMemoryMessenger("alpha", "proxy"));
+        List<CacheInvalidationMessage> received = new CopyOnWriteArrayList<>();
+
+        try (
+            DistributedCacheManager sender = new DistributedCacheManager(
+                messenger, LoggerFactory.getLogger("cache-sender"), Duration.ofHours(1), 100);
+            DistributedCacheManager receiver = new DistributedCacheManager(
+                messenger, LoggerFactory.getLogger("cache-receiver"), Duration.ofHours(1), 100)
+        ) {
+            receiver.registerInvalidationListener("*", received::add);
+
+            sender.broadcastInvalidation("example.Entity", "1", InvalidationOperation.UPSERT);
+            Thread first = new Thread(sender::flush, "cache-flush-1");
+            first.start();
+            assertTrue(messenger.publishing.await(5, TimeUnit.SECONDS));
+
+            sender.broadcastInvalidation("example.Entity", "2", InvalidationOperation.UPSERT);
+            Thread second = new Thread(sender::flush, "cache-flush-2");
+            second.start();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (second.getState() != Thread.State.BLOCKED && second.isAlive() && System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+            assertEquals(1, messenger.publishes.get());
+
+            messenger.release.countDown();
+            first.join(5_000L);
+            second.join(5_000L);
+
+            assertEquals(List.of("1", "2"), received.stream().map(CacheInvalidationMessage::id).toList());
+            assertEquals(0, receiver.getStatistics().getStaleBatchesDropped());
+            assertEquals(2, receiver.getStatistics().getBatchesReceived());
+        }
+    }
+
+    private static CacheInvalidationBatch batch(String entityClassName, String id, long version) {
+        return new CacheInvalidationBatch(
+            entityClassName,
+            Map.of(id, InvalidationOperation.UPSERT),
+            false,
+            "remote",
+            "remote-sender",
+            version,
+            System.currentTimeMillis()
+        );
+    }
+
+    /** Holds the first batch publish until {@link #release} opens. */
+    private static final class BlockingMessenger implements Messenger {
+        private final Messenger delegate;
+        private final CountDownLatch publishing = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final AtomicInteger publishes = new AtomicInteger();
+
+        private BlockingMessenger(Messenger delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void sendToAll(@NotNull String channel, @NotNull String data) {
+            if (channel.equals(DistributedCacheManager.CACHE_INVALIDATION_BATCH_CHANNEL) && publishes.incrementAndGet() == 1) {
+                publishing.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            delegate.sendToAll(channel, data);
+        }
+
+        @Override
+        public void sendToServer(@NotNull String channel, @NotNull String serverName, @NotNull String data) {
+            delegate.sendToServer(channel, serverName, data);
+        }
+
+        @Override
+        public void sendToProxy(@NotNull String channel, @NotNull String data) {
+            delegate.sendToProxy(channel, data);
+        }
+
+        @Override
+        public void registerListener(@NotNull String channel, @NotNull MessageListener listener) {
+            delegate.registerListener(channel, listener);
+        }
+
+        @Override
+        public void unregisterListener(@NotNull String channel, @NotNull MessageListener listener) {
+            delegate.unregisterListener(channel, listener);
+        }
+
+        @Override
+        public boolean isConnected() {
+            return delegate.isConnected();
+        }
+
+        @Override
+        public @NotNull String getServerName() {
+            return delegate.getServerName();
+        }
+
+        @Override
+        public @NotNull String getProxyServerName() {
+            return delegate.getProxyServerName();
+        }
+    }
+
+    private static final class CountingMessenger implements Messenger {
+        private final Messenger delegate;
+        private final Map<String, AtomicInteger> publishes = new ConcurrentHashMap<>();
+
+        private CountingMessenger(Messenger delegate) {
+            this.delegate = delegate;
+        }
+
+        int publishes(String channel) {
+            AtomicInteger count = publishes.get(channel);
+            return count == null ? 0 : count.get();
+        }
+
+        @Override
+        public void sendToAll(@NotNull String channel, @NotNull String data) {
+            publishes.computeIfAbsent(channel, ignored -> new AtomicInteger()).incrementAndGet();
+            delegate.sendToAll(channel, data);
+        }
+
+        @Override
+        public void sendToServer(@NotNull String channel, @NotNull String serverName, @NotNull String data) {
+            publishes.computeIfAbsent(channel, ignored -> new AtomicInteger()).incrementAndGet();
+            delegate.sendToServer(channel, serverName, data);
+        }
+
+        @Override
+        public void sendToProxy(@NotNull String channel, @NotNull String data) {
+            publishes.computeIfAbsent(channel, ignored -> new AtomicInteger()).incrementAndGet();
+            delegate.sendToProxy(channel, data);
+        }
+
+        @Override
+        public void registerListener(@NotNull String channel, @NotNull MessageListener listener) {
+            delegate.registerListener(channel, listener);
+        }
+
+        @Override
+        public void unregisterListener(@NotNull String channel, @NotNull MessageListener listener) {
+            delegate.unregisterListener(channel, listener);
+        }
+
+        @Override
+        public boolean isConnected() {
+            return delegate.isConnected();
+        }
+
+        @Override
+        public @NotNull String getServerName() {
+            return delegate.getServerName();
+        }
+
+        @Override
+        public @NotNull String getProxyServerName() {
+            return delegate.getProxyServerName();
+        }
+    }
 }
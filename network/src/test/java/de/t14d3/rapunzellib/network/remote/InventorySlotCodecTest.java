@@ -0,0 +1,270 @@
+package de.t14d3.rapunzellib.network.remote;
+
+import com.google.gson.Gson;
+import de.t14d3.rapunzellib.nbt.RNbtCompound;
+import de.t14d3.rapunzellib.nbt.RNbtList;
+import de.t14d3.rapunzellib.nbt.RNbtPrimitive;
+import de.t14d3.rapunzellib.nbt.RNbtType;
+import de.t14d3.rapunzellib.nbt.RNbtValue;
+import de.t14d3.rapunzellib.nbt.item.RItem;
+import de.t14d3.rapunzellib.network.remote.handler.InventoryDeltaTracker;
+import de.t14d3.rapunzellib.network.remote.proxy.RemotePlayer;
+import de.t14d3.rapunzellib.network.remote.rpc.PlayerServiceMethods;
+import de.t14d3.rapunzellib.network.remote.rpc.Requests;
+import de.t14d3.rapunzellib.network.runtime.DefaultNetworkRuntimeGateway;
+import de.t14d3.rapunzellib.network.runtime.NetworkRuntimeGateway;
+import de.t14d3.rapunzellib.network.testutil.TestNetworkSupport.TestNetwork;
+import de.t14d3.rapunzellib.network.testutil.TestNetworkSupport.TestScheduler;
+import de.t14d3.rapunzellib.objects.RKey;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class InventorySlotCodecTest {
+    private static final int SIZE = 41;
+    private static final List<RKey> TYPES = List.of(
+        RKey.of("minecraft", "stone"), RKey.of("minecraft", "oak_planks"), RKey.of("minecraft", "diamond_sword"),
+        RKey.of("minecraft", "bread"), RKey.of("minecraft", "torch"), RKey.of("minecraft", "iron_pickaxe"));
+
+    @Test
+    void randomInventoriesRoundTripThroughFullAndDeltaFrames() {
+        Random random = new Random(42L);
+        InventoryDeltaTracker tracker = new InventoryDeltaTracker();
+        InventoryReplica replica = new InventoryReplica();
+        UUID player = UUID.randomUUID();
+        Map<Integer, RItem> inventory = randomInventory(random);
+
+        for (int round = 0; round < 200; round++) {
+            Map<Integer, RItem> contents = inventory;
+            byte[] frame = tracker.encode(player, "velocity", replica.version(), SIZE,
+                slot -> Optional.ofNullable(contents.get(slot)));
+            InventorySlotCodec.Decoded decoded = InventorySlotCodec.decode(frame);
+            assertEquals(round > 0, decoded.delta());
+            assertTrue(replica.apply(decoded, "inventory"));
+            assertEquals(inventory, replica.items());
+            assertEquals(SIZE, replica.size());
+
+            inventory = mutate(random, inventory);
+        }
+    }
+
+    @Test
+    void deltaSyncOverRpcSendsOnlyChangedSlots() {
+        TestNetwork network = new TestNetwork();
+        TestScheduler scheduler = new TestScheduler();
+        InventoryDeltaTracker tracker = new InventoryDeltaTracker();
+        UUID uuid = UUID.randomUUID();
+        Map<Integer, RItem> inventory = new TreeMap<>(randomInventory(new Random(7L)));
+        List<InventorySlotCodec.Decoded> sent = new ArrayList<>();
+
+        try (
+            DefaultNetworkRuntimeGateway proxy = network.createGateway("velocity", "velocity", scheduler);
+            DefaultNetworkRuntimeGateway backend = network.createGateway("lobby", "velocity", scheduler)
+        ) {
+            backend.register(PlayerServiceMethods.GET_INVENTORY_BINARY, NetworkRuntimeGateway.RpcHandler.sync(
+                (request, sourceServer) -> {
+                    byte[] frame = tracker.encode(request.uuid(), sourceServer, request.knownVersion(), SIZE,
+                        slot -> Optional.ofNullable(inventory.get(slot)));
+                    sent.add(InventorySlotCodec.decode(frame));
+                    return new Requests.InventoryBinaryResult(true, "inventory",
+                        Base64.getEncoder().encodeToString(frame));
+                }));
+            RemotePlayer remote = new RemotePlayer(uuid, "Alex", "lobby", proxy);
+            InventoryReplica replica = new InventoryReplica();
+
+            assertTrue(InventorySyncHelper.fetchDelta(remote, replica).join());
+            assertFalse(sent.get(0).delta());
+            assertEquals(inventory, replica.items());
+
+            inventory.put(3, item(TYPES.get(0), 5, RNbtCompound.empty()));
+            inventory.remove(inventory.keySet().stream().filter(slot -> slot != 3).findFirst().orElseThrow());
+            assertTrue(InventorySyncHelper.fetchDelta(remote, replica).join());
+            InventorySlotCodec.Decoded delta = sent.get(1);
+            assertTrue(delta.delta());
+            assertEquals(1, delta.slots().size());
+            assertEquals(1, delta.cleared().length);
+            assertEquals(inventory, replica.items());
+
+            long version = replica.version();
+            assertTrue(InventorySyncHelper.fetchDelta(remote, replica).join());
+            assertTrue(sent.get(2).slots().isEmpty());
+            assertEquals(version, replica.version());
+
+            // A replica that lost its state falls back to a full frame.
+            replica.reset();
+            assertTrue(InventorySyncHelper.fetchDelta(remote, replica).join());
+            assertFalse(sent.get(3).delta());
+            assertEquals(inventory, replica.items());
+        }
+    }
+
+    @Test
+    void idleTrackerStateExpires() {
+        AtomicLong clock = new AtomicLong();
+        InventoryDeltaTracker tracker = new InventoryDeltaTracker(Duration.ofMinutes(10), clock::get);
+        UUID left = UUID.randomUUID();
+        UUID stays = UUID.randomUUID();
+        Map<Integer, RItem> inventory = randomInventory(new Random(9L));
+
+        byte[] first = tracker.encode(left, "velocity", 0L, SIZE, slot -> Optional.ofNullable(inventory.get(slot)));
+        tracker.encode(stays, "velocity", 0L, SIZE, slot -> Optional.ofNullable(inventory.get(slot)));
+        assertEquals(2, tracker.trackedCount());
+
+        clock.addAndGet(Duration.ofMinutes(6).toNanos());
+        tracker.encode(stays, "velocity", 0L, SIZE, slot -> Optional.ofNullable(inventory.get(slot)));
+        clock.addAndGet(Duration.ofMinutes(5).toNanos());
+        tracker.encode(stays, "velocity", 0L, SIZE, slot -> Optional.ofNullable(inventory.get(slot)));
+        assertEquals(1, tracker.trackedCount());
+
+        long version = InventorySlotCodec.decode(first).version();
+        byte[] again = tracker.encode(left, "velocity", version, SIZE, slot -> Optional.ofNullable(inventory.get(slot)));
+        assertFalse(InventorySlotCodec.decode(again).delta());
+
+        clock.addAndGet(Duration.ofMinutes(10).toNanos());
+        assertEquals(2, tracker.expireIdle());
+        assertEquals(0, tracker.trackedCount());
+    }
+
+    @Test
+    void staleVersionsFromBeforeAnExpiryOrRestartGetFullFrames() {
+        AtomicLong clock = new AtomicLong();
+        UUID player = UUID.randomUUID();
+        Map<Integer, RItem> inventory = randomInventory(new Random(11L));
+        InventoryDeltaTracker before = new InventoryDeltaTracker(Duration.ofMinutes(10), clock::get);
+        long stale = InventorySlotCodec.decode(
+            before.encode(player, "velocity", 0L, SIZE, slot -> Optional.ofNullable(inventory.get(slot)))).version();
+
+        // The full-frame reply after the expiry or restart is lost, then the requester retries.
+        clock.addAndGet(Duration.ofMinutes(11).toNanos());
+        before.expireIdle();
+        InventoryDeltaTracker restarted = new InventoryDeltaTracker(Duration.ofMinutes(10), clock::get);
+        for (InventoryDeltaTracker tracker : List.of(before, restarted)) {
+            tracker.encode(player, "velocity", stale, SIZE, slot -> Optional.ofNullable(inventory.get(slot)));
+            byte[] retry = tracker.encode(player, "velocity", stale, SIZE, slot -> Optional.ofNullable(inventory.get(slot)));
+            assertFalse(InventorySlotCodec.decode(retry).delta());
+        }
+    }
+
+    @Test
+    void binaryFramesAreSmallerThanSnbtStrings() {
+        Random random = new Random(1234L);
+        Gson gson = new Gson();
+        Map<Integer, RItem> inventory = new TreeMap<>();
+        for (int slot = 0; slot < 36; slot++) {
+            inventory.put(slot, randomItem(random, true));
+        }
+
+        List<InventorySlotCodec.Slot> slots = new ArrayList<>();
+        inventory.forEach((slot, item) -> slots.add(InventorySlotCodec.Slot.of(slot, item)));
+        String binary = Base64.getEncoder().encodeToString(InventorySlotCodec.encodeFull(SIZE, 1L, slots));
+        String snbt = gson.toJson(snbtResult(inventory));
+
+        assertTrue(binary.length() < snbt.length(), binary.length() + " vs " + snbt.length());
+    }
+
+    private static Requests.InventorySnapshotResult snbtResult(Map<Integer, RItem> inventory) {
+        List<Requests.SlotEntry> entries = new ArrayList<>(inventory.size());
+        inventory.forEach((slot, item) -> entries.add(new Requests.SlotEntry(slot, snbt(item))));
+        return new Requests.InventorySnapshotResult("inventory", SIZE, entries, true);
+    }
+
+    private static String snbt(RItem item) {
+        StringBuilder builder = new StringBuilder("{id:\"").append(item.typeKey().asString())
+            .append("\",count:").append(item.amount());
+        if (!item.data().isEmpty()) {
+            builder.append(",components:");
+            appendSnbt(builder, item.data());
+        }
+        return builder.append('}').toString();
+    }
+
+    private static void appendSnbt(StringBuilder builder, RNbtValue value) {
+        switch (value.type()) {
+            case COMPOUND -> {
+                builder.append('{');
+                boolean first = true;
+                for (Map.Entry<String, RNbtValue> entry : value.asCompound().asMap().entrySet()) {
+                    if (!first) builder.append(',');
+                    first = false;
+                    builder.append('"').append(entry.getKey()).append("\":");
+                    appendSnbt(builder, entry.getValue());
+                }
+                builder.append('}');
+            }
+            case LIST -> {
+                builder.append('[');
+                boolean first = true;
+                for (RNbtValue element : value.asList()) {
+                    if (!first) builder.append(',');
+                    first = false;
+                    appendSnbt(builder, element);
+                }
+                builder.append(']');
+            }
+            case STRING -> builder.append('"').append(((RNbtPrimitive) value).stringValue()).append('"');
+            case SHORT -> builder.append(((RNbtPrimitive) value).shortValue()).append('s');
+            default -> builder.append(((RNbtPrimitive) value).value());
+        }
+    }
+
+    private static Map<Integer, RItem> randomInventory(Random random) {
+        Map<Integer, RItem> inventory = new TreeMap<>();
+        for (int slot = 0; slot < SIZE; slot++) {
+            if (random.nextInt(3) != 0) {
+                inventory.put(slot, randomItem(random, random.nextBoolean()));
+            }
+        }
+        return inventory;
+    }
+
+    private static Map<Integer, RItem> mutate(Random random, Map<Integer, RItem> inventory) {
+        Map<Integer, RItem> next = new TreeMap<>(inventory);
+        int changes = random.nextInt(4);
+        for (int i = 0; i < changes; i++) {
+            int slot = random.nextInt(SIZE);
+            if (random.nextInt(3) == 0) {
+                next.remove(slot);
+            } else {
+                next.put(slot, randomItem(random, random.nextBoolean()));
+            }
+        }
+        return next;
+    }
+
+    private static RItem randomItem(Random random, boolean withData) {
+        RKey type = TYPES.get(random.nextInt(TYPES.size()));
+        RNbtCompound data = RNbtCompound.empty();
+        if (withData) {
+            List<RNbtValue> enchantments = new ArrayList<>();
+            int count = 1 + random.nextInt(3);
+            for (int i = 0; i < count; i++) {
+                enchantments.add(RNbtCompound.builder()
+                    .putString("id", "minecraft:" + List.of("sharpness", "unbreaking", "mending").get(i))
+                    .put("lvl", RNbtPrimitive.ofShort((short) (1 + random.nextInt(5))))
+                    .build());
+            }
+            data = RNbtCompound.builder()
+                .put("Damage", RNbtPrimitive.ofInt(random.nextInt(250)))
+                .put("Enchantments", new RNbtList(RNbtType.COMPOUND, enchantments))
+                .build();
+        }
+        return item(type, 1 + random.nextInt(64), data);
+    }
+
+    private static RItem item(RKey type, int amount, RNbtCompound data) {
+        return RItem.builder().typeKey(type).amount(amount).data(data).build();
+    }
+}
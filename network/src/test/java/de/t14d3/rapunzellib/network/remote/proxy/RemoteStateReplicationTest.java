@@ -0,0 +1,308 @@
+package de.t14d3.rapunzellib.network.remote.proxy;
+
+import de.t14d3.rapunzellib.PlatformId;
+import de.t14d3.rapunzellib.network.remote.handler.RemoteStatePublisher;
+import de.t14d3.rapunzellib.network.remote.rpc.EntityServiceMethods;
+import de.t14d3.rapunzellib.network.remote.rpc.PlayerServiceMethods;
+import de.t14d3.rapunzellib.network.remote.rpc.Requests;
+import de.t14d3.rapunzellib.network.rpc.RpcChannels;
+import de.t14d3.rapunzellib.network.runtime.DefaultNetworkRuntimeGateway;
+import de.t14d3.rapunzellib.network.runtime.NetworkRuntimeGateway;
+import de.t14d3.rapunzellib.network.testutil.TestNetworkSupport.TestNetwork;
+import de.t14d3.rapunzellib.network.testutil.TestNetworkSupport.TestScheduler;
+import de.t14d3.rapunzellib.objects.RGameMode;
+import de.t14d3.rapunzellib.objects.RKey;
+import de.t14d3.rapunzellib.objects.RLocation;
+import de.t14d3.rapunzellib.objects.RNativeHandle;
+import de.t14d3.rapunzellib.objects.RServerPlayer;
+import de.t14d3.rapunzellib.objects.RWorld;
+import de.t14d3.rapunzellib.objects.RWorldRef;
+import net.kyori.adventure.audience.Audience;
+import net.kyori.adventure.text.Component;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class RemoteStateReplicationTest {
+    private static final RWorldRef WORLD = RWorldRef.of("lobby", RKey.of("minecraft", "world"));
+
+    @Test
+    void hotFieldReadsAfterSubscribingNeedNoRpc() {
+        TestNetwork network = new TestNetwork();
+        TestScheduler scheduler = new TestScheduler();
+        FakePlayer player = new FakePlayer();
+        AtomicInteger rpcs = countRequests(network, "lobby");
+
+        try (
+            DefaultNetworkRuntimeGateway proxy = network.createGateway("velocity", "velocity", scheduler);
+            DefaultNetworkRuntimeGateway backend = network.createGateway("lobby", "velocity", scheduler);
+            RemoteStatePublisher publisher = new RemoteStatePublisher(scheduler, player::resolve);
+            RemoteStateReplicator replicator = new RemoteStateReplicator(proxy)
+        ) {
+            publisher.register(backend);
+            backend.register(PlayerServiceMethods.GET_AIR, NetworkRuntimeGateway.RpcHandler.sync(
+                (request, sourceServer) -> new Requests.AirResult(player.air, 300)));
+            RemotePlayer remote = new RemotePlayer(player.uuid(), "Alex", "lobby", proxy);
+
+            assertTrue(replicator.subscribe(remote, Duration.ofMillis(50L)).join());
+            assertEquals(1, rpcs.get());
+            rpcs.set(0);
+
+            assertEquals(player.location, remote.location().orElseThrow());
+            assertEquals(20.0, remote.health());
+            assertEquals(20.0, remote.maxHealth());
+            assertEquals(RGameMode.SURVIVAL, remote.gameMode());
+            assertEquals(0, rpcs.get());
+
+            player.location = RLocation.of(WORLD, 12.5, 70.0, -3.0, 45f, 10f);
+            player.health = 7.5;
+            player.gameMode = RGameMode.CREATIVE;
+            scheduler.tickRepeating();
+
+            assertEquals(player.location, remote.location().orElseThrow());
+            assertEquals(7.5, remote.health());
+            assertEquals(RGameMode.CREATIVE, remote.gameMode());
+            assertTrue(remote.stateReplica().orElseThrow().isFresh());
+            assertEquals(0, rpcs.get());
+
+            player.air = 120;
+            assertEquals(120, remote.remainingAir());
+            assertEquals(1, rpcs.get());
+        }
+    }
+
+    @Test
+    void deltasCarryOnlyChangedFieldsAndEndWithRemoval() {
+        TestNetwork network = new TestNetwork();
+        TestScheduler scheduler = new TestScheduler();
+        FakePlayer player = new FakePlayer();
+        AtomicInteger rpcs = countRequests(network, "lobby");
+        List<Requests.StateDelta> deltas = new CopyOnWriteArrayList<>();
+
+        try (
+            DefaultNetworkRuntimeGateway proxy = network.createGateway("velocity", "velocity", scheduler);
+            DefaultNetworkRuntimeGateway backend = network.createGateway("lobby", "velocity", scheduler);
+            RemoteStatePublisher publisher = new RemoteStatePublisher(scheduler, player::resolve);
+            RemoteStateReplicator replicator = new RemoteStateReplicator(proxy)
+        ) {
+            publisher.register(backend);
+            proxy.subscribe(EntityServiceMethods.STATE_DELTA, (delta, sourceServer) -> deltas.add(delta));
+            RemotePlayer remote = new RemotePlayer(player.uuid(), "Alex", "lobby", proxy);
+            assertTrue(replicator.subscribe(remote, Duration.ofMillis(100L)).join());
+            rpcs.set(0);
+
+            // Unchanged state within the heartbeat window sends nothing.
+            scheduler.tickRepeating();
+            scheduler.tickRepeating();
+            assertTrue(deltas.isEmpty());
+
+            player.health = 4.0;
+            scheduler.tickRepeating();
+            scheduler.tickRepeating();
+            assertEquals(1, deltas.size());
+            Requests.StateDelta healthOnly = deltas.get(0);
+            assertEquals(4.0, healthOnly.health());
+            assertNull(healthOnly.location());
+            assertNull(healthOnly.maxHealth());
+            assertNull(healthOnly.gameMode());
+            assertEquals(4.0, remote.health());
+
+            player.online = false;
+            scheduler.tickRepeating();
+            scheduler.tickRepeating();
+            assertTrue(deltas.get(deltas.size() - 1).removed());
+            assertTrue(remote.isRemoved());
+            assertTrue(remote.location().isEmpty());
+            assertEquals(0, publisher.subscriptionCount());
+            assertFalse(replicator.isSubscribed(player.uuid()));
+            assertEquals(0, rpcs.get());
+        }
+    }
+
+    @Test
+    void abandonedSubscriptionsExpireWhileRenewedOnesStay() {
+        TestNetwork network = new TestNetwork();
+        TestScheduler scheduler = new TestScheduler();
+        FakePlayer renewed = new FakePlayer();
+        FakePlayer abandoned = new FakePlayer();
+        AtomicLong nanos = new AtomicLong();
+
+        try (
+            DefaultNetworkRuntimeGateway proxy = network.createGateway("velocity", "velocity", scheduler);
+            DefaultNetworkRuntimeGateway hub = network.createGateway("hub", "velocity", scheduler);
+            DefaultNetworkRuntimeGateway backend = network.createGateway("lobby", "velocity", scheduler);
+            RemoteStatePublisher publisher = new RemoteStatePublisher(scheduler,
+                uuid -> renewed.resolve(uuid).or(() -> abandoned.resolve(uuid)));
+            RemoteStateReplicator replicator = new RemoteStateReplicator(proxy, nanos::get)
+        ) {
+            publisher.register(backend);
+            RemotePlayer remote = new RemotePlayer(renewed.uuid(), "Alex", "lobby", proxy);
+            assertTrue(replicator.subscribe(remote, Duration.ofMillis(50L)).join());
+            // The hub subscribes once and then disappears without unsubscribing.
+            assertTrue(hub.callServer("lobby", EntityServiceMethods.SUBSCRIBE_STATE,
+                new Requests.StateSubscribeRequest(abandoned.uuid(), 50L)).join().found());
+            assertEquals(2, publisher.subscriptionCount());
+
+            for (int tick = 0; tick < 1200; tick++) {
+                nanos.addAndGet(Duration.ofMillis(50L).toNanos());
+                scheduler.tickRepeating();
+            }
+
+            assertEquals(1, publisher.subscriptionCount());
+            assertTrue(publisher.intervalTicks(renewed.uuid()).isPresent());
+            assertTrue(publisher.intervalTicks(abandoned.uuid()).isEmpty());
+            assertTrue(replicator.isSubscribed(renewed.uuid()));
+        }
+    }
+
+    @Test
+    void unsubscribingTheFastestSubscriberRestoresTheSlowerInterval() {
+        TestNetwork network = new TestNetwork();
+        TestScheduler scheduler = new TestScheduler();
+        FakePlayer player = new FakePlayer();
+
+        try (
+            DefaultNetworkRuntimeGateway proxy = network.createGateway("velocity", "velocity", scheduler);
+            DefaultNetworkRuntimeGateway hub = network.createGateway("hub", "velocity", scheduler);
+            DefaultNetworkRuntimeGateway backend = network.createGateway("lobby", "velocity", scheduler);
+            RemoteStatePublisher publisher = new RemoteStatePublisher(scheduler, player::resolve);
+            RemoteStateReplicator replicator = new RemoteStateReplicator(proxy)
+        ) {
+            publisher.register(backend);
+            assertTrue(hub.callServer("lobby", EntityServiceMethods.SUBSCRIBE_STATE,
+                new Requests.StateSubscribeRequest(player.uuid(), 1000L)).join().found());
+            RemotePlayer remote = new RemotePlayer(player.uuid(), "Alex", "lobby", proxy);
+            assertTrue(replicator.subscribe(remote, Duration.ofMillis(50L)).join());
+            assertEquals(Optional.of(1), publisher.intervalTicks(player.uuid()));
+
+            replicator.unsubscribe(player.uuid()).join();
+
+            assertEquals(Optional.of(20), publisher.intervalTicks(player.uuid()));
+            assertEquals(1, publisher.subscriptionCount());
+        }
+    }
+
+    private static AtomicInteger countRequests(TestNetwork network, String serverName) {
+        AtomicInteger requests = new AtomicInteger();
+        network.createMessenger(serverName, "velocity")
+            .registerListener(RpcChannels.REQUEST, (channel, data, sourceServer) -> requests.incrementAndGet());
+        return requests;
+    }
+
+    private static final class FakePlayer extends RNativeHandle<Object> implements RServerPlayer {
+        private final UUID uuid = UUID.randomUUID();
+        private volatile RLocation location = RLocation.of(WORLD, 0.5, 64.0, 0.5, 0f, 0f);
+        private volatile double health = 20.0;
+        private volatile RGameMode gameMode = RGameMode.SURVIVAL;
+        private volatile int air = 300;
+        private volatile boolean online = true;
+
+        private FakePlayer() {
+            super(PlatformId.PAPER, new Object());
+        }
+
+        private Optional<FakePlayer> resolve(UUID requested) {
+            return online && uuid.equals(requested) ? Optional.of(this) : Optional.empty();
+        }
+
+        @Override
+        public @NotNull Audience audience() {
+            return Audience.empty();
+        }
+
+        @Override
+        public @NotNull UUID uuid() {
+            return uuid;
+        }
+
+        @Override
+        public @NotNull String name() {
+            return "Alex";
+        }
+
+        @Override
+        public boolean hasPermission(@NotNull String permission) {
+            return false;
+        }
+
+        @Override
+        public @NotNull Optional<RWorld> world() {
+            return Optional.empty();
+        }
+
+        @Override
+        public @NotNull Optional<RLocation> location() {
+            return Optional.of(location);
+        }
+
+        @Override
+        public @NotNull RGameMode gameMode() {
+            return gameMode;
+        }
+
+        @Override
+        public double health() {
+            return health;
+        }
+
+        @Override
+        public double maxHealth() {
+            return 20.0;
+        }
+
+        @Override
+        public int remainingAir() {
+            return air;
+        }
+
+        @Override
+        public int maxAir() {
+            return 300;
+        }
+
+        @Override
+        public boolean isAlive() {
+            return health > 0.0;
+        }
+
+        @Override
+        public @NotNull Optional<String> getName() {
+            return Optional.empty();
+        }
+
+        @Override
+        public void setName(@NotNull String name) {
+        }
+
+        @Override
+        public @NotNull Optional<Component> getDisplayName() {
+            return Optional.empty();
+        }
+
+        @Override
+        public void setDisplayName(@NotNull Component displayName) {
+        }
+
+        @Override
+        public boolean remove() {
+            return false;
+        }
+
+        @Override
+        public boolean isRemoved() {
+            return false;
+        }
+    }
+}
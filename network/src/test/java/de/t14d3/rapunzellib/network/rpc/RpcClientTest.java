@@ -4,6 +4,9 @@ import de.t14d3.rapunzellib.network.MessageListener;
 import de.t14d3.rapunzellib.network.Messenger;
 import de.t14d3.rapunzellib.network.NetworkEventBus;
 import de.t14d3.rapunzellib.network.json.JsonCodecs;
+import de.t14d3.rapunzellib.network.runtime.DefaultNetworkRuntimeGateway;
+import de.t14d3.rapunzellib.network.runtime.NetworkRuntimeGateway;
+import de.t14d3.rapunzellib.network.runtime.RpcMethod;
 import de.t14d3.rapunzellib.scheduler.ScheduledTask;
 import de.t14d3.rapunzellib.scheduler.Scheduler;
 import org.jetbrains.annotations.NotNull;
@@ -11,13 +14,16 @@ import org.junit.jupiter.api.Test;
 import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -66,6 +72,133 @@ final class RpcClientTest {
         assertNotNull(ex.getCause().getMessage());
     }
 
+    private static final RpcMethod<String, String> ECHO = RpcMethod.of("svc", "echo", String.class, String.class);
+    private static final RpcMethod<String, String> FAIL = RpcMethod.of("svc", "fail", String.class, String.class);
+    private static final RpcMethod<String, String> NEVER = RpcMethod.of("svc", "never", String.class, String.class);
+
+    @Test
+    void batchSendsOneEnvelopeEachWayAndIsolatesFailures() {
+        TestNetwork network = new TestNetwork();
+        TestScheduler scheduler = new TestScheduler();
+        Map<String, AtomicInteger> envelopes = countEnvelopes(network);
+
+        try (
+            DefaultNetworkRuntimeGateway server = serverGateway(network);
+            RpcClient client = new RpcClient(network.create("client", "proxy"), scheduler, LoggerFactory.getLogger("rpc-client"), Duration.ofSeconds(1))
+        ) {
+            RpcClient.Batch batch = client.batch();
+            List<CompletableFuture<String>> futures = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                futures.add(i % 3 == 0
+                    ? batch.callServer("server", FAIL, "call-" + i)
+                    : batch.callServer("server", ECHO, "call-" + i));
+            }
+            assertEquals(10, batch.size());
+            assertEquals(0, envelopes.get(RpcChannels.BATCH_REQUEST).get());
+
+            batch.send();
+
+            assertEquals(0, batch.size());
+            assertEquals(1, envelopes.get(RpcChannels.BATCH_REQUEST).get());
+            assertEquals(1, envelopes.get(RpcChannels.BATCH_RESPONSE).get());
+            assertEquals(0, envelopes.get(RpcChannels.REQUEST).get());
+            assertEquals(0, envelopes.get(RpcChannels.RESPONSE).get());
+            for (int i = 0; i < futures.size(); i++) {
+                if (i % 3 == 0) {
+                    CompletionException ex = assertThrows(CompletionException.class, futures.get(i)::join);
+                    RpcException rpc = assertInstanceOf(RpcException.class, ex.getCause());
+                    assertTrue(rpc.getMessage().contains("failed call-" + i));
+                } else {
+                    assertEquals("echo:call-" + i, futures.get(i).join());
+                }
+            }
+            assertTrue(scheduler.scheduled.stream().allMatch(ScheduledTask::isCancelled));
+        }
+    }
+
+    @Test
+    void slowBatchEntryTimesOutWithoutHoldingBackTheOthers() {
+        TestNetwork network = new TestNetwork();
+        TestScheduler scheduler = new TestScheduler();
+        Map<String, AtomicInteger> envelopes = countEnvelopes(network);
+
+        try (
+            DefaultNetworkRuntimeGateway server = serverGateway(network);
+            RpcClient client = new RpcClient(network.create("client", "proxy"), scheduler, LoggerFactory.getLogger("rpc-client"), Duration.ofSeconds(1))
+        ) {
+            RpcClient.Batch batch = client.batch();
+            CompletableFuture<String> first = batch.callServer("server", ECHO, "a");
+            CompletableFuture<String> slow = batch.callServer("server", NEVER, "b");
+            CompletableFuture<String> missing = batch.callServer("elsewhere", ECHO, "c");
+            CompletableFuture<String> last = batch.callServer("server", ECHO, "d");
+            batch.send();
+
+            assertEquals("echo:a", first.join());
+            assertEquals("echo:d", last.join());
+            assertFalse(slow.isDone());
+            assertFalse(missing.isDone());
+            assertEquals(1, envelopes.get(RpcChannels.BATCH_RESPONSE).get());
+
+            scheduler.triggerAll();
+            assertInstanceOf(TimeoutException.class, assertThrows(CompletionException.class, slow::join).getCause());
+            assertInstanceOf(TimeoutException.class, assertThrows(CompletionException.class, missing::join).getCause());
+            assertEquals("echo:a", first.join());
+        }
+    }
+
+    @Test
+    void autoBatchingFlushesBySizeAndByDelay() throws Exception {
+        TestNetwork network = new TestNetwork();
+        TestScheduler scheduler = new TestScheduler();
+        Map<String, AtomicInteger> envelopes = countEnvelopes(network);
+
+        try (
+            DefaultNetworkRuntimeGateway server = serverGateway(network);
+            RpcClient client = new RpcClient(network.create("client", "proxy"), scheduler, LoggerFactory.getLogger("rpc-client"), Duration.ofSeconds(1))
+        ) {
+            client.setAutoBatching(4, Duration.ofMillis(20));
+            List<CompletableFuture<String>> futures = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                futures.add(client.callServer("server", ECHO, String.valueOf(i)));
+            }
+
+            // Two full batches went out immediately; the last two calls wait for the delay.
+            assertTrue(futures.subList(0, 8).stream().allMatch(CompletableFuture::isDone));
+            for (int i = 0; i < futures.size(); i++) {
+                assertEquals("echo:" + i, futures.get(i).get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(3, envelopes.get(RpcChannels.BATCH_REQUEST).get());
+            assertEquals(0, envelopes.get(RpcChannels.REQUEST).get());
+
+            client.setAutoBatching(0, Duration.ZERO);
+            assertEquals("echo:x", client.callServer("server", ECHO, "x").join());
+            assertEquals(1, envelopes.get(RpcChannels.REQUEST).get());
+        }
+    }
+
+    private static DefaultNetworkRuntimeGateway serverGateway(TestNetwork network) {
+        DefaultNetworkRuntimeGateway server = DefaultNetworkRuntimeGateway.compatibility(network.create("server", "proxy"));
+        server.register(ECHO, NetworkRuntimeGateway.RpcHandler.sync((request, source) -> "echo:" + request));
+        server.register(FAIL, (request, source) -> CompletableFuture.failedFuture(new IllegalStateException("failed " + request)));
+        server.register(NEVER, (request, source) -> new CompletableFuture<>());
+        return server;
+    }
+
+    private static Map<String, AtomicInteger> countEnvelopes(TestNetwork network) {
+        Map<String, AtomicInteger> counts = new ConcurrentHashMap<>();
+        Messenger server = network.create("server", "proxy");
+        Messenger client = network.create("client", "proxy");
+        for (String channel : List.of(RpcChannels.REQUEST, RpcChannels.BATCH_REQUEST)) {
+            counts.put(channel, new AtomicInteger());
+            server.registerListener(channel, (c, data, source) -> counts.get(channel).incrementAndGet());
+        }
+        for (String channel : List.of(RpcChannels.RESPONSE, RpcChannels.BATCH_RESPONSE)) {
+            counts.put(channel, new AtomicInteger());
+            client.registerListener(channel, (c, data, source) -> counts.get(channel).incrementAndGet());
+        }
+        return counts;
+    }
+
     private static final class TestScheduler implements Scheduler {
         private final List<TestTask> scheduled = new CopyOnWriteArrayList<>();
 
@@ -1,14 +1,38 @@
 package de.t14d3.rapunzellib.network.runtime;
 
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import de.t14d3.rapunzellib.network.Messenger;
+import de.t14d3.rapunzellib.network.json.JsonCodecs;
+import de.t14d3.rapunzellib.network.rpc.RpcChannels;
+import de.t14d3.rapunzellib.network.rpc.RpcException;
+import de.t14d3.rapunzellib.network.rpc.RpcRequest;
+import de.t14d3.rapunzellib.network.rpc.RpcResponse;
 import de.t14d3.rapunzellib.network.testutil.TestNetworkSupport.TestNetwork;
 import de.t14d3.rapunzellib.network.testutil.TestNetworkSupport.TestScheduler;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 final class DefaultNetworkRuntimeGatewayTest {
+    private static final int HANDLERS = 200;
+
     @Test
     void publishesTopicsAndServesRpcCalls() {
         TestNetwork network = new TestNetwork();
@@ -33,6 +57,150 @@ final class DefaultNetworkRuntimeGatewayTest {
         }
     }
 
+    @Test
+    void decodesEachRequestOnceRegardlessOfHandlerCount() {
+        TestNetwork network = new TestNetwork();
+        TestScheduler scheduler = new TestScheduler();
+        AtomicInteger decodes = new AtomicInteger();
+
+        try (
+            DefaultNetworkRuntimeGateway server = network.createGateway("server", "proxy", scheduler, countingGson(decodes));
+            DefaultNetworkRuntimeGateway client = network.createGateway("client", "proxy", scheduler)
+        ) {
+            List<RpcMethod<String, String>> methods = registerHandlers(server);
+
+            for (int i = 0; i < 10; i++) {
+                RpcMethod<String, String> method = methods.get(i * 17);
+                assertEquals(method.method() + ":" + i, client.callServer("server", method, String.valueOf(i)).join());
+            }
+            assertEquals(10, decodes.get());
+        }
+    }
+
+    @Test
+    void rejectsUnknownMethodsOfServedServices() {
+        TestNetwork network = new TestNetwork();
+        TestScheduler scheduler = new TestScheduler();
+        RpcMethod<String, String> ping = RpcMethod.of("test", "ping", String.class, String.class);
+        RpcMethod<String, String> missing = RpcMethod.of("test", "missing", String.class, String.class);
+        RpcMethod<String, String> otherService = RpcMethod.of("other", "ping", String.class, String.class);
+
+        try (
+            DefaultNetworkRuntimeGateway server = network.createGateway("server", "proxy", scheduler);
+            DefaultNetworkRuntimeGateway client = network.createGateway("client", "proxy", scheduler)
+        ) {
+            NetworkRuntimeGateway.Subscription registration =
+                server.register(ping, NetworkRuntimeGateway.RpcHandler.sync((request, sourceServer) -> request));
+            assertThrows(IllegalStateException.class, () -> server.register(
+                ping,
+                NetworkRuntimeGateway.RpcHandler.sync((request, sourceServer) -> request)
+            ));
+
+            CompletionException unknown = assertThrows(
+                CompletionException.class,
+                () -> client.callServer("server", missing, "x").join()
+            );
+            assertInstanceOf(RpcException.class, unknown.getCause());
+            assertTrue(unknown.getCause().getMessage().contains("Unknown RPC method: test#missing"));
+
+            // Services this gateway does not serve may belong to another gateway on the same messenger.
+            CompletableFuture<String> unserved = client.callServer("server", otherService, "x");
+            assertFalse(unserved.isDone());
+
+            registration.close();
+            CompletableFuture<String> closed = client.callServer("server", ping, "x");
+            assertFalse(closed.isDone());
+        }
+    }
+
+    /**
+     * Compares the previous dispatch (one request listener per handler, each decoding the envelope
+     * and matching the method) with the shared dispatch table, which decodes each request once.
+     */
+    @Test
+    void dispatchTableDecodesEachRequestOnce() {
+        int requests = 1_000;
+        AtomicInteger perHandlerDecodes = new AtomicInteger();
+        AtomicInteger tableDecodes = new AtomicInteger();
+
+        TestNetwork network = new TestNetwork();
+        TestScheduler scheduler = new TestScheduler();
+        Messenger perHandlerServer = network.createMessenger("per-handler", "proxy");
+        Gson perHandlerGson = countingGson(perHandlerDecodes);
+        for (int i = 0; i < HANDLERS; i++) {
+            String name = "m" + i;
+            perHandlerServer.registerListener(RpcChannels.REQUEST, (channel, data, sourceServer) -> {
+                RpcRequest request = perHandlerGson.fromJson(data, RpcRequest.class);
+                if (!"bench".equals(request.service()) || !name.equals(request.method())) {
+                    return;
+                }
+                perHandlerServer.sendToServer(RpcChannels.RESPONSE, sourceServer, perHandlerGson.toJson(
+                    new RpcResponse(request.requestId(), true, request.payload(), null, System.currentTimeMillis())
+                ));
+            });
+        }
+        try (
+            DefaultNetworkRuntimeGateway tableServer =
+                network.createGateway("table", "proxy", scheduler, countingGson(tableDecodes));
+            DefaultNetworkRuntimeGateway client = network.createGateway("client", "proxy", scheduler)
+        ) {
+            registerHandlers(tableServer);
+
+            sendRequests(client, "per-handler", requests);
+            sendRequests(client, "table", requests);
+        }
+
+        assertEquals(requests * HANDLERS, perHandlerDecodes.get());
+        assertEquals(requests, tableDecodes.get());
+    }
+
+    private static List<RpcMethod<String, String>> registerHandlers(NetworkRuntimeGateway server) {
+        List<RpcMethod<String, String>> methods = new ArrayList<>(HANDLERS);
+        for (int i = 0; i < HANDLERS; i++) {
+            RpcMethod<String, String> method = RpcMethod.of("bench", "m" + i, String.class, String.class);
+            server.register(method, NetworkRuntimeGateway.RpcHandler.sync((request, sourceServer) -> method.method() + ":" + request));
+            methods.add(method);
+        }
+        return methods;
+    }
+
+    private static void sendRequests(NetworkRuntimeGateway client, String serverName, int requests) {
+        Gson gson = JsonCodecs.gson();
+        for (int i = 0; i < requests; i++) {
+            client.publishToServer(
+                RpcChannels.REQUEST_TOPIC,
+                serverName,
+                new RpcRequest(serverName + "-" + i, "bench", "m" + (i % HANDLERS), gson.toJsonTree(i), System.currentTimeMillis())
+            );
+        }
+    }
+
+    private static Gson countingGson(AtomicInteger decodes) {
+        return JsonCodecs.gson().newBuilder()
+            .registerTypeAdapterFactory(new TypeAdapterFactory() {
+                @Override
+                public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+                    if (type.getRawType() != RpcRequest.class) {
+                        return null;
+                    }
+                    TypeAdapter<T> delegate = gson.getDelegateAdapter(this, type);
+                    return new TypeAdapter<>() {
+                        @Override
+                        public void write(JsonWriter out, T value) throws IOException {
+                            delegate.write(out, value);
+                        }
+
+                        @Override
+                        public T read(JsonReader in) throws IOException {
+                            decodes.incrementAndGet();
+                            return delegate.read(in);
+                        }
+                    };
+                }
+            })
+            .create();
+    }
+
     private record TestPayload(String value) {
     }
 }
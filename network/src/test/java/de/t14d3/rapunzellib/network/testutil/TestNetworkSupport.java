@@ -1,7 +1,9 @@
 package de.t14d3.rapunzellib.network.testutil;
 
+import com.google.gson.Gson;
 import de.t14d3.rapunzellib.network.MessageListener;
 import de.t14d3.rapunzellib.network.Messenger;
+import de.t14d3.rapunzellib.network.json.JsonCodecs;
 import de.t14d3.rapunzellib.network.runtime.DefaultNetworkRuntime;
 import de.t14d3.rapunzellib.network.runtime.DefaultNetworkRuntimeGateway;
 import de.t14d3.rapunzellib.network.runtime.NetworkLink;
@@ -26,6 +28,7 @@ public final class TestNetworkSupport {
 
     public static final class TestScheduler implements Scheduler {
         private final List<TestTask> scheduled = new CopyOnWriteArrayList<>();
+        private final List<TestTask> repeating = new CopyOnWriteArrayList<>();
 
         @Override
         public @NotNull ScheduledTask run(@NotNull Runnable task) {
@@ -48,7 +51,9 @@ public final class TestNetworkSupport {
 
         @Override
         public @NotNull ScheduledTask runRepeating(@NotNull Duration initialDelay, @NotNull Duration period, @NotNull Runnable task) {
-            return new TestTask(null);
+            TestTask testTask = new TestTask(task);
+            repeating.add(testTask);
+            return testTask;
         }
 
         @Override
@@ -68,6 +73,17 @@ public final class TestNetworkSupport {
             }
         }
 
+        /** Runs one period of every non-cancelled synchronous repeating task. */
+        public void tickRepeating() {
+            for (TestTask task : List.copyOf(repeating)) {
+                if (task.isCancelled()) {
+                    repeating.remove(task);
+                } else {
+                    task.runnable.run();
+                }
+            }
+        }
+
         public List<TestTask> scheduledTasks() {
             return scheduled;
         }
@@ -149,6 +165,15 @@ public final class TestNetworkSupport {
         }
 
         public DefaultNetworkRuntimeGateway createGateway(String serverName, String proxyServerName, Scheduler scheduler) {
+            return createGateway(serverName, proxyServerName, scheduler, JsonCodecs.gson());
+        }
+
+        public DefaultNetworkRuntimeGateway createGateway(
+            String serverName,
+            String proxyServerName,
+            Scheduler scheduler,
+            Gson gson
+        ) {
             Messenger messenger = createMessenger(serverName, proxyServerName);
             NetworkRuntime runtime = new DefaultNetworkRuntime(
                 serverName.equalsIgnoreCase(proxyServerName) ? NetworkNodeRole.PROXY : NetworkNodeRole.BACKEND,
@@ -158,7 +183,7 @@ public final class TestNetworkSupport {
                 Optional.empty(),
                 messenger
             );
-            return new DefaultNetworkRuntimeGateway(runtime, scheduler, LoggerFactory.getLogger(serverName + "-gateway"));
+            return new DefaultNetworkRuntimeGateway(runtime, scheduler, LoggerFactory.getLogger(serverName + "-gateway"), gson);
         }
 
         private static final class Node {
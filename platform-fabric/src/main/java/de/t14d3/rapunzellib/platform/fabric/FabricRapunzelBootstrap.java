@@ -105,7 +105,7 @@ public final class FabricRapunzelBootstrap {
                     );
                     SharedAttachmentService attachmentService = ctx.sharedRuntime().getOrCreate(
                         SharedAttachmentService.class,
-                        () -> new SharedAttachmentService(attachmentStore)
+                        () -> new SharedAttachmentService(attachmentStore, scheduler)
                     );
                     ctx.services().register(SharedPersistentAttachmentsStore.class, attachmentStore);
                     ctx.services().register(SharedAttachmentService.class, attachmentService);
@@ -116,7 +116,7 @@ public final class NeoForgeRapunzelBootstrap {
                     );
                     SharedAttachmentService attachmentService = ctx.sharedRuntime().getOrCreate(
                         SharedAttachmentService.class,
-                        () -> new SharedAttachmentService(attachmentStore)
+                        () -> new SharedAttachmentService(attachmentStore, scheduler)
                     );
                     ctx.services().register(SharedPersistentAttachmentsStore.class, attachmentStore);
                     ctx.services().register(SharedAttachmentService.class, attachmentService);
@@ -107,7 +107,11 @@ public final class PaperRapunzelBootstrap {
         Path dataDir = plugin.getDataFolder().toPath();
         ResourceProvider resources = path -> Optional.ofNullable(openResource(plugin, path));
         MinecraftServer server = PaperHandleBridge.server(plugin);
-        Scheduler scheduler = new PaperScheduler(server);
+        boolean folia = PaperScheduler.isFoliaRuntime();
+        if (folia) {
+            logger.info("Folia detected; region-aware scheduling enabled");
+        }
+        Scheduler scheduler = new PaperScheduler(plugin, server, folia);
         PlatformRuntime runtime = BootstrapServices.serverRuntime(
             PlatformId.PAPER,
             EngineFamily.MOJANG_SERVER,
@@ -21,10 +21,12 @@ import org.jetbrains.annotations.Nullable;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Supplier;
 
 final class PaperPersistentAttachments extends DefaultAttachmentContainer {
     private static final NamespacedKey ROOT_KEY = NamespacedKey.fromString("rapunzellib:attachments");
+    private static final NamespacedKey REVISION_KEY = NamespacedKey.fromString("rapunzellib:attachments_revision");
 
     private final Supplier<@Nullable PersistentAttachmentSession> sessionSupplier;
 
@@ -63,6 +65,11 @@ final class PaperPersistentAttachments extends DefaultAttachmentContainer {
         });
     }
 
+    /**
+     * Block states are snapshots, so every session reads a fresh {@link TileState}. The container lives
+     * on the block wrapper, which {@link PaperBlocks} caches per world and position, and its decoded
+     * cache is only reloaded when the stored root revision changes.
+     */
     static @NotNull PaperPersistentAttachments forBlock(@NotNull UUID worldUid, int x, int y, int z) {
         Objects.requireNonNull(worldUid, "worldUid");
         return new PaperPersistentAttachments(AttachmentStorageSupport.TRANSIENT_AND_OPTIONAL_PERSISTENT, () -> {
@@ -87,7 +94,7 @@ final class PaperPersistentAttachments extends DefaultAttachmentContainer {
         private PdcSession {
             Objects.requireNonNull(pdc, "pdc");
             Objects.requireNonNull(commit, "commit");
-            if (ROOT_KEY == null) {
+            if (ROOT_KEY == null || REVISION_KEY == null) {
                 throw new IllegalStateException("Invalid Paper attachment root key");
             }
         }
@@ -108,9 +115,20 @@ final class PaperPersistentAttachments extends DefaultAttachmentContainer {
             return out;
         }
 
+        /**
+         * Returns the revision written next to the root by the last {@link #save}. It is a single
+         * long lookup, survives fresh block state snapshots, and changes whenever any container
+         * saves the root, including ones of other plugins sharing this library.
+         */
+        @Override
+        public @Nullable Object stamp() {
+            return pdc.get(REVISION_KEY, PersistentDataType.LONG);
+        }
+
         @Override
         public void save(@NotNull RNbtCompound root) {
             Objects.requireNonNull(root, "root");
+            pdc.set(REVISION_KEY, PersistentDataType.LONG, ThreadLocalRandom.current().nextLong());
             if (root.isEmpty()) {
                 pdc.remove(ROOT_KEY);
                 commit.run();
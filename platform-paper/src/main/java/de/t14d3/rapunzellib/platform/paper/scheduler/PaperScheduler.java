@@ -1,18 +1,213 @@
 package de.t14d3.rapunzellib.platform.paper.scheduler;
 
+import de.t14d3.rapunzellib.objects.REntity;
+import de.t14d3.rapunzellib.objects.RKey;
+import de.t14d3.rapunzellib.objects.RWorldRef;
 import de.t14d3.rapunzellib.platform.shared.scheduler.SharedSchedulerCore;
 import de.t14d3.rapunzellib.platform.paper.PaperHandleBridge;
+import de.t14d3.rapunzellib.scheduler.ScheduledTask;
 import net.minecraft.server.MinecraftServer;
+import org.bukkit.Bukkit;
+import org.bukkit.NamespacedKey;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
 import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.time.Duration;
 import java.util.Objects;
 
+/**
+ * Paper scheduler.
+ *
+ * <p>On Paper every task runs on the main thread, including the region overloads
+ * ({@link #runAt}, {@link #runFor}, {@link #runGlobal}). On Folia, detected once via
+ * {@link #isFoliaRuntime()}, the region overloads map to the region, entity and global region
+ * schedulers, and main-thread tasks and the tick pump behind {@link #workQueue()} run on the global
+ * region. On Paper the tick pump is a Bukkit task timer, since the shared server tick mixin is not
+ * applied there.</p>
+ */
 public final class PaperScheduler extends SharedSchedulerCore {
+    private static final String FOLIA_MARKER_CLASS = "io.papermc.paper.threadedregions.RegionizedServer";
+
+    private final Plugin plugin;
+    private final boolean folia;
+
     public PaperScheduler(Plugin plugin) {
-        this(PaperHandleBridge.server(Objects.requireNonNull(plugin, "plugin")));
+        this(plugin, PaperHandleBridge.server(Objects.requireNonNull(plugin, "plugin")), isFoliaRuntime());
     }
 
+    /** Creates a scheduler without a plugin, which cannot run tick-based tasks. */
     public PaperScheduler(MinecraftServer server) {
         super(server, "RapunzelLib-PaperScheduler");
+        this.plugin = null;
+        this.folia = false;
+    }
+
+    /**
+     * @param plugin the plugin owning region-scheduled tasks
+     * @param server the server
+     * @param folia  whether to map tasks onto Folia's region schedulers, see {@link #isFoliaRuntime()}
+     */
+    public PaperScheduler(@NotNull Plugin plugin, @NotNull MinecraftServer server, boolean folia) {
+        super(server, "RapunzelLib-PaperScheduler");
+        this.plugin = Objects.requireNonNull(plugin, "plugin");
+        this.folia = folia;
+    }
+
+    /** Returns whether the server runs Folia's region threading. */
+    public static boolean isFoliaRuntime() {
+        try {
+            Class.forName(FOLIA_MARKER_CLASS, false, PaperScheduler.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    /** Returns whether this scheduler maps tasks onto Folia's region schedulers. */
+    public boolean folia() {
+        return folia;
+    }
+
+    @Override
+    public @NotNull ScheduledTask run(@NotNull Runnable task) {
+        if (!folia) return super.run(task);
+        Objects.requireNonNull(task, "task");
+        return new FoliaTaskHandle(Bukkit.getGlobalRegionScheduler().run(plugin, ignored -> task.run()));
+    }
+
+    @Override
+    public @NotNull ScheduledTask runLater(@NotNull Duration delay, @NotNull Runnable task) {
+        if (!folia) return super.runLater(delay, task);
+        Objects.requireNonNull(task, "task");
+        long ticks = toTicks(delay, 0L);
+        if (ticks <= 0L) return run(task);
+        return new FoliaTaskHandle(Bukkit.getGlobalRegionScheduler().runDelayed(plugin, ignored -> task.run(), ticks));
+    }
+
+    @Override
+    public @NotNull ScheduledTask runRepeating(@NotNull Duration initialDelay, @NotNull Duration period, @NotNull Runnable task) {
+        if (!folia) return super.runRepeating(initialDelay, period, task);
+        return runEveryTicks(toTicks(initialDelay, 0L), toTicks(period, 1L), task);
+    }
+
+    @Override
+    public @NotNull ScheduledTask runNextTick(@NotNull Runnable task) {
+        if (!folia) return super.runNextTick(task);
+        Objects.requireNonNull(task, "task");
+        return new FoliaTaskHandle(Bukkit.getGlobalRegionScheduler().runDelayed(plugin, ignored -> task.run(), 1L));
+    }
+
+    @Override
+    public @NotNull ScheduledTask runEveryTicks(long initialDelayTicks, long periodTicks, @NotNull Runnable task) {
+        if (!folia) return super.runEveryTicks(initialDelayTicks, periodTicks, task);
+        Objects.requireNonNull(task, "task");
+        // Folia rejects a zero initial delay for fixed-rate tasks.
+        return new FoliaTaskHandle(Bukkit.getGlobalRegionScheduler().runAtFixedRate(
+            plugin, ignored -> task.run(), Math.max(1L, initialDelayTicks), Math.max(1L, periodTicks)));
+    }
+
+    @Override
+    protected @NotNull ScheduledTask startTickPump(@NotNull Runnable pump) {
+        if (plugin == null) {
+            throw new IllegalStateException("Tick-based scheduling needs the plugin constructor");
+        }
+        if (!folia) {
+            // The shared server tick mixin is not applied on Paper; Bukkit runs its tasks once per tick.
+            return new BukkitTaskHandle(Bukkit.getScheduler().runTaskTimer(plugin, pump, 1L, 1L));
+        }
+        // Folia has no server thread for server.execute; the global region ticks once per server tick.
+        return new FoliaTaskHandle(Bukkit.getGlobalRegionScheduler().runAtFixedRate(
+            plugin, ignored -> pump.run(), 1L, 1L));
+    }
+
+    @Override
+    public @NotNull ScheduledTask runAt(@NotNull RWorldRef world, int chunkX, int chunkZ, @NotNull Runnable task) {
+        Objects.requireNonNull(world, "world");
+        if (!folia) return super.run(task);
+        Objects.requireNonNull(task, "task");
+        return new FoliaTaskHandle(Bukkit.getRegionScheduler().run(
+            plugin, resolveWorld(world), chunkX, chunkZ, ignored -> task.run()));
+    }
+
+    @Override
+    public @NotNull ScheduledTask runFor(@NotNull REntity entity, @NotNull Runnable task) {
+        Objects.requireNonNull(entity, "entity");
+        if (!folia) return super.run(task);
+        Objects.requireNonNull(task, "task");
+        Entity bukkitEntity = entity.tryHandle(Entity.class)
+            .or(() -> entity.tryHandle(net.minecraft.world.entity.Entity.class).map(PaperHandleBridge::toBukkit))
+            .orElseThrow(() -> new IllegalArgumentException("No Bukkit entity for " + entity.uuid()));
+        // Null when the entity was already removed; the task is dropped like a retired one.
+        return new FoliaTaskHandle(bukkitEntity.getScheduler().run(plugin, ignored -> task.run(), null));
+    }
+
+    @Override
+    public @NotNull ScheduledTask runGlobal(@NotNull Runnable task) {
+        return run(task);
+    }
+
+    private static @NotNull World resolveWorld(@NotNull RWorldRef ref) {
+        World world = null;
+        RKey key = ref.key();
+        if (key != null) {
+            NamespacedKey namespaced = NamespacedKey.fromString(key.asString());
+            if (namespaced != null) {
+                world = Bukkit.getWorld(namespaced);
+            }
+        }
+        if (world == null && ref.name() != null) {
+            world = Bukkit.getWorld(ref.name());
+        }
+        if (world == null) {
+            throw new IllegalArgumentException("Unknown world: " + ref.identifier());
+        }
+        return world;
+    }
+
+    private static long toTicks(@Nullable Duration duration, long min) {
+        long ms = duration != null ? duration.toMillis() : 0L;
+        return Math.max(min, (ms + TICK.toMillis() - 1L) / TICK.toMillis());
+    }
+
+    private static final class BukkitTaskHandle implements ScheduledTask {
+        private final BukkitTask task;
+
+        private BukkitTaskHandle(@NotNull BukkitTask task) {
+            this.task = task;
+        }
+
+        @Override
+        public void cancel() {
+            task.cancel();
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return task.isCancelled();
+        }
+    }
+
+    private static final class FoliaTaskHandle implements ScheduledTask {
+        private final io.papermc.paper.threadedregions.scheduler.ScheduledTask task;
+
+        private FoliaTaskHandle(@Nullable io.papermc.paper.threadedregions.scheduler.ScheduledTask task) {
+            this.task = task;
+        }
+
+        @Override
+        public void cancel() {
+            if (task != null) {
+                task.cancel();
+            }
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return task == null || task.isCancelled();
+        }
     }
 }
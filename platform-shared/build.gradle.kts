@@ -6,6 +6,8 @@ plugins {
 dependencies {
     api(project(":api"))
     implementation(project(":common"))
+    // SharedServerTickHooks drives the tick pump from the server tick.
+    implementation(project(":events-shared"))
     compileOnly(libs.annotations)
     implementation(project(":nbt-shared"))
     implementation(libs.adventure.serializer.plain)
@@ -1,15 +1,19 @@
 package de.t14d3.rapunzellib.platform.shared.attachments;
 
+import de.t14d3.rapunzellib.attachments.AttachmentStorageSupport;
 import de.t14d3.rapunzellib.attachments.RAttachmentContainer;
 import de.t14d3.rapunzellib.common.attachments.StoredPersistentAttachmentContainer;
+import de.t14d3.rapunzellib.scheduler.Scheduler;
 import net.minecraft.core.BlockPos;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.Entity;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
 /**
  * Shared attachment service providing per-player, per-entity, per-world, and
@@ -19,12 +23,26 @@ import java.util.concurrent.ConcurrentHashMap;
  * The dimension key extraction uses a version-conditional to handle the API
  * rename from {@code location()} to {@code identifier()} in Minecraft 26+.</p>
  */
-public class SharedAttachmentService {
+public class SharedAttachmentService implements AutoCloseable {
     private final SharedPersistentAttachmentsStore store;
-    private final ConcurrentHashMap<String, RAttachmentContainer> containers = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, StoredPersistentAttachmentContainer> containers = new ConcurrentHashMap<>();
+    private final @Nullable Executor flushExecutor;
 
     public SharedAttachmentService(@NotNull SharedPersistentAttachmentsStore store) {
+        this(store, null);
+    }
+
+    /**
+     * Creates a service whose containers batch persistent writes into one store save per holder
+     * at the end of the tick.
+     *
+     * @param store     the backing store
+     * @param scheduler the scheduler used to flush at the next tick, or {@code null} to save on
+     *                  every write
+     */
+    public SharedAttachmentService(@NotNull SharedPersistentAttachmentsStore store, @Nullable Scheduler scheduler) {
         this.store = Objects.requireNonNull(store, "store");
+        this.flushExecutor = scheduler == null ? null : scheduler::runNextTick;
     }
 
     public @NotNull RAttachmentContainer forPlayer(@NotNull ServerPlayer player) {
@@ -44,12 +62,24 @@ public class SharedAttachmentService {
         return container("block:" + id, "blocks", id);
     }
 
+    /** Saves all pending attachment writes. */
+    public void flush() {
+        containers.values().forEach(StoredPersistentAttachmentContainer::flush);
+    }
+
+    @Override
+    public void close() {
+        flush();
+    }
+
     private @NotNull RAttachmentContainer container(@NotNull String cacheKey, @NotNull String category, @NotNull String id) {
         return containers.computeIfAbsent(
             cacheKey,
             ignored -> new StoredPersistentAttachmentContainer(
+                AttachmentStorageSupport.TRANSIENT_AND_PERSISTENT,
                 () -> store.get(category, id),
-                root -> store.put(category, id, root)
+                root -> store.put(category, id, root),
+                flushExecutor
             )
         );
     }
@@ -1,21 +1,46 @@
 package de.t14d3.rapunzellib.platform.shared.scheduler;
 
+import de.t14d3.rapunzellib.events.shared.SharedServerTickHooks;
 import de.t14d3.rapunzellib.scheduler.ScheduledTask;
 import de.t14d3.rapunzellib.scheduler.Scheduler;
+import de.t14d3.rapunzellib.scheduler.TickWorkQueue;
 import net.minecraft.server.MinecraftServer;
 import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
+import java.util.Comparator;
 import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
-/** Abstract {@link Scheduler} that schedules tasks on the Minecraft server thread. */
+/**
+ * Abstract {@link Scheduler} that schedules tasks on the Minecraft server thread.
+ *
+ * <p>Tick-based scheduling ({@link #runNextTick}, {@link #runEveryTicks} and the
+ * {@link #workQueue() work queue}) is driven by a pump that runs on the server thread at the end of
+ * every server tick, keyed on {@link MinecraftServer#getTickCount()} rather than wall-clock time.
+ * The pump is only started once tick-based scheduling is first used, through {@link #startTickPump},
+ * which platforms without the shared server tick mixin override.</p>
+ */
 public abstract class SharedSchedulerCore implements Scheduler, AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SharedSchedulerCore.class);
+    private static final Comparator<TickTask> TICK_ORDER =
+        Comparator.comparingLong((TickTask task) -> task.dueTick).thenComparingLong(task -> task.sequence);
+
     private final MinecraftServer server;
     private final ScheduledExecutorService timer;
+    private final TickWorkQueue workQueue = new TickWorkQueue(TickWorkQueue.DEFAULT_BUDGET, LOGGER);
+    private final ConcurrentLinkedQueue<TickTask> submittedTickTasks = new ConcurrentLinkedQueue<>();
+    // Server thread only.
+    private final PriorityQueue<TickTask> tickTasks = new PriorityQueue<>(TICK_ORDER);
+    private long tickSequence;
+    private volatile ScheduledTask tickPump;
 
     protected SharedSchedulerCore(MinecraftServer server, String threadName) {
         this.server = Objects.requireNonNull(server, "server");
@@ -72,15 +97,138 @@ public abstract class SharedSchedulerCore implements Scheduler, AutoCloseable {
         return createTaskHandle(timer.scheduleAtFixedRate(task, initialMs, periodMs, TimeUnit.MILLISECONDS));
     }
 
+    @Override
+    public @NotNull ScheduledTask runNextTick(@NotNull Runnable task) {
+        return scheduleTicks(1L, 0L, task);
+    }
+
+    @Override
+    public @NotNull ScheduledTask runEveryTicks(long initialDelayTicks, long periodTicks, @NotNull Runnable task) {
+        return scheduleTicks(Math.max(0L, initialDelayTicks), Math.max(1L, periodTicks), task);
+    }
+
+    @Override
+    public @NotNull TickWorkQueue workQueue() {
+        ensureTickPump();
+        return workQueue;
+    }
+
     @Override
     public void close() {
+        ScheduledTask pump = tickPump;
+        if (pump != null) {
+            pump.cancel();
+        }
         timer.shutdownNow();
+        submittedTickTasks.clear();
+        workQueue.clear();
+    }
+
+    private ScheduledTask scheduleTicks(long delayTicks, long periodTicks, Runnable task) {
+        Objects.requireNonNull(task, "task");
+        TickTask tickTask = new TickTask(server.getTickCount() + delayTicks, periodTicks, task);
+        submittedTickTasks.add(tickTask);
+        ensureTickPump();
+        return tickTask;
+    }
+
+    private void ensureTickPump() {
+        if (tickPump != null) return;
+        synchronized (this) {
+            if (tickPump != null || timer.isShutdown()) return;
+            tickPump = startTickPump(this::pumpTick);
+        }
+    }
+
+    /**
+     * Starts the task that runs {@code pump} once per server tick on the server thread. The default
+     * registers it with {@link SharedServerTickHooks}, which the shared server tick mixin runs at the
+     * end of every tick, so the pump neither skips nor repeats ticks when the server lags.
+     *
+     * @param pump runs due tick tasks and drains the work queue
+     * @return the pump task, cancelled on {@link #close()}
+     */
+    protected @NotNull ScheduledTask startTickPump(@NotNull Runnable pump) {
+        return new TickHookHandle(pump);
+    }
+
+    /**
+     * Runs due tick tasks and drains the work queue.
+     */
+    private void pumpTick() {
+        int tick = server.getTickCount();
+
+        TickTask submitted;
+        while ((submitted = submittedTickTasks.poll()) != null) {
+            submitted.sequence = tickSequence++;
+            tickTasks.add(submitted);
+        }
+        while (!tickTasks.isEmpty() && tickTasks.peek().dueTick <= tick) {
+            TickTask due = tickTasks.poll();
+            if (due.cancelled) continue;
+            try {
+                due.task.run();
+            } catch (Exception e) {
+                LOGGER.warn("Unhandled exception in tick task", e);
+            }
+            if (due.periodTicks > 0L && !due.cancelled) {
+                due.dueTick = tick + due.periodTicks;
+                due.sequence = tickSequence++;
+                tickTasks.add(due);
+            }
+        }
+        workQueue.drainTick();
     }
 
     protected @NotNull ScheduledTask createTaskHandle(Future<?> future) {
         return new SharedTaskHandle(future);
     }
 
+    private static final class TickHookHandle implements ScheduledTask {
+        private final Runnable pump;
+        private volatile boolean cancelled;
+
+        private TickHookHandle(Runnable pump) {
+            this.pump = pump;
+            SharedServerTickHooks.addTickEndListener(pump);
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            SharedServerTickHooks.removeTickEndListener(pump);
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+
+    private static final class TickTask implements ScheduledTask {
+        private final long periodTicks;
+        private final Runnable task;
+        private long dueTick;
+        private long sequence;
+        private volatile boolean cancelled;
+
+        private TickTask(long dueTick, long periodTicks, Runnable task) {
+            this.dueTick = dueTick;
+            this.periodTicks = periodTicks;
+            this.task = task;
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+
     private static final class CompletedTask implements ScheduledTask {
         private static final CompletedTask INSTANCE = new CompletedTask();
 
@@ -122,7 +122,7 @@ public final class SpongeRapunzelBootstrap {
                     );
                     SpongeAttachmentService attachmentService = ctx.sharedRuntime().getOrCreate(
                         SpongeAttachmentService.class,
-                        () -> new SpongeAttachmentService(attachmentStore)
+                        () -> new SpongeAttachmentService(attachmentStore, scheduler)
                     );
                     ctx.services().register(SpongePersistentAttachmentsStore.class, attachmentStore);
                     ctx.services().register(SpongeAttachmentService.class, attachmentService);
@@ -1,8 +1,11 @@
 package de.t14d3.rapunzellib.platform.sponge.attachments;
 
+import de.t14d3.rapunzellib.attachments.AttachmentStorageSupport;
 import de.t14d3.rapunzellib.attachments.RAttachmentContainer;
 import de.t14d3.rapunzellib.common.attachments.StoredPersistentAttachmentContainer;
+import de.t14d3.rapunzellib.scheduler.Scheduler;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.spongepowered.api.entity.Entity;
 import org.spongepowered.api.entity.living.player.server.ServerPlayer;
 import org.spongepowered.api.world.server.ServerWorld;
@@ -10,13 +13,28 @@ import org.spongepowered.math.vector.Vector3i;
 
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
-public final class SpongeAttachmentService {
+public final class SpongeAttachmentService implements AutoCloseable {
     private final SpongePersistentAttachmentsStore store;
-    private final ConcurrentHashMap<String, RAttachmentContainer> containers = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, StoredPersistentAttachmentContainer> containers = new ConcurrentHashMap<>();
+    private final @Nullable Executor flushExecutor;
 
     public SpongeAttachmentService(@NotNull SpongePersistentAttachmentsStore store) {
+        this(store, null);
+    }
+
+    /**
+     * Creates a service whose containers batch persistent writes into one store save per holder
+     * at the end of the tick.
+     *
+     * @param store     the backing store
+     * @param scheduler the scheduler used to flush at the next tick, or {@code null} to save on
+     *                  every write
+     */
+    public SpongeAttachmentService(@NotNull SpongePersistentAttachmentsStore store, @Nullable Scheduler scheduler) {
         this.store = Objects.requireNonNull(store, "store");
+        this.flushExecutor = scheduler == null ? null : scheduler::runNextTick;
     }
 
     public @NotNull RAttachmentContainer forPlayer(@NotNull ServerPlayer player) {
@@ -36,10 +54,25 @@ public final class SpongeAttachmentService {
         return container("block:" + id, "blocks", id);
     }
 
+    /** Saves all pending attachment writes. */
+    public void flush() {
+        containers.values().forEach(StoredPersistentAttachmentContainer::flush);
+    }
+
+    @Override
+    public void close() {
+        flush();
+    }
+
     private @NotNull RAttachmentContainer container(@NotNull String cacheKey, @NotNull String category, @NotNull String id) {
         return containers.computeIfAbsent(
             cacheKey,
-            ignored -> new StoredPersistentAttachmentContainer(() -> store.get(category, id), root -> store.put(category, id, root))
+            ignored -> new StoredPersistentAttachmentContainer(
+                AttachmentStorageSupport.TRANSIENT_AND_PERSISTENT,
+                () -> store.get(category, id),
+                root -> store.put(category, id, root),
+                flushExecutor
+            )
         );
     }
 }
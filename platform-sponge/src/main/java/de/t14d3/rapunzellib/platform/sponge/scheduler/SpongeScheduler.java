@@ -2,8 +2,12 @@ package de.t14d3.rapunzellib.platform.sponge.scheduler;
 
 import de.t14d3.rapunzellib.scheduler.ScheduledTask;
 import de.t14d3.rapunzellib.scheduler.Scheduler;
+import de.t14d3.rapunzellib.scheduler.TickWorkQueue;
 import org.jetbrains.annotations.NotNull;
+import org.slf4j.LoggerFactory;
 import org.spongepowered.api.Server;
+import org.spongepowered.api.scheduler.Task;
+import org.spongepowered.api.util.Ticks;
 import org.spongepowered.plugin.PluginContainer;
 
 import java.time.Duration;
@@ -15,6 +19,9 @@ public final class SpongeScheduler implements Scheduler, AutoCloseable {
     private final PluginContainer plugin;
     private final org.spongepowered.api.scheduler.Scheduler spongeScheduler;
     private final org.spongepowered.api.scheduler.Scheduler asyncSpongeScheduler;
+    private final TickWorkQueue workQueue =
+        new TickWorkQueue(TickWorkQueue.DEFAULT_BUDGET, LoggerFactory.getLogger(SpongeScheduler.class));
+    private volatile ScheduledTask workQueuePump;
 
     public SpongeScheduler(Server server, PluginContainer plugin) {
         Objects.requireNonNull(server, "server");
@@ -67,9 +74,56 @@ public final class SpongeScheduler implements Scheduler, AutoCloseable {
         return new FutureTaskHandle(asyncSpongeScheduler.executor(plugin).scheduleAtFixedRate(task, initialMs, periodMs, TimeUnit.MILLISECONDS));
     }
 
+    @Override
+    public @NotNull ScheduledTask runNextTick(@NotNull Runnable task) {
+        Objects.requireNonNull(task, "task");
+        return new SpongeTaskHandle(spongeScheduler.submit(Task.builder()
+            .plugin(plugin)
+            .execute(task)
+            .delay(Ticks.of(1L))
+            .build()));
+    }
+
+    @Override
+    public @NotNull ScheduledTask runEveryTicks(long initialDelayTicks, long periodTicks, @NotNull Runnable task) {
+        Objects.requireNonNull(task, "task");
+        return new SpongeTaskHandle(spongeScheduler.submit(Task.builder()
+            .plugin(plugin)
+            .execute(task)
+            .delay(Ticks.of(Math.max(0L, initialDelayTicks)))
+            .interval(Ticks.of(Math.max(1L, periodTicks)))
+            .build()));
+    }
+
+    @Override
+    public @NotNull TickWorkQueue workQueue() {
+        if (workQueuePump == null) {
+            synchronized (this) {
+                if (workQueuePump == null) {
+                    workQueuePump = runEveryTicks(0L, 1L, workQueue::drainTick);
+                }
+            }
+        }
+        return workQueue;
+    }
+
     @Override
     public void close() {
-        // no-op
+        ScheduledTask pump = workQueuePump;
+        if (pump != null) pump.cancel();
+        workQueue.clear();
+    }
+
+    private record SpongeTaskHandle(org.spongepowered.api.scheduler.ScheduledTask task) implements ScheduledTask {
+        @Override
+        public void cancel() {
+            task.cancel();
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return task.isCancelled();
+        }
     }
 
     private record FutureTaskHandle(Future<?> future) implements ScheduledTask {
@@ -91,6 +91,7 @@ rootProject.name = "RapunzelLib"
 
 include(
     "api",
+    "benchmarks",
     "bom",
     "common",
     "livetest",
@@ -4,13 +4,17 @@ import de.t14d3.rapunzellib.objects.RBlockPos;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 /**
  * Utility for computing block positions in a beacon pyramid and glass column shape.
  * <p>
  * Used by {@link SharedNmsBeaconBeamVisual} to determine which blocks to
- * render as part of a beacon beam visual.
+ * render as part of a beacon beam visual, and for grouping those blocks by
+ * chunk section so they can be sent as section block updates.
  */
 public final class BeaconGeometry {
     private BeaconGeometry() {
@@ -52,4 +56,73 @@ public final class BeaconGeometry {
         }
         return positions;
     }
+
+    /**
+     * Groups block positions by the 16x16x16 chunk section they fall into.
+     * <p>
+     * Each batch lists its blocks as section-relative positions packed the way the
+     * section block update packet expects them ({@code x << 8 | z << 4 | y}), together
+     * with the index of each block in {@code positions} so callers can look up the
+     * state to send. When a position occurs more than once, the last occurrence wins.
+     *
+     * @param positions the block positions
+     * @return one batch per touched section, in order of first occurrence
+     */
+    public static @NotNull List<SectionBatch> sections(@NotNull List<RBlockPos> positions) {
+        Objects.requireNonNull(positions, "positions");
+        Map<Long, Map<Short, Integer>> bySection = new LinkedHashMap<>();
+        for (int i = 0; i < positions.size(); i++) {
+            RBlockPos pos = positions.get(i);
+            long key = sectionKey(pos.x() >> 4, pos.y() >> 4, pos.z() >> 4);
+            bySection.computeIfAbsent(key, ignored -> new LinkedHashMap<>()).put(packRelative(pos), i);
+        }
+
+        List<SectionBatch> batches = new ArrayList<>(bySection.size());
+        for (Map.Entry<Long, Map<Short, Integer>> entry : bySection.entrySet()) {
+            Map<Short, Integer> blocks = entry.getValue();
+            short[] packed = new short[blocks.size()];
+            int[] indices = new int[blocks.size()];
+            int n = 0;
+            for (Map.Entry<Short, Integer> block : blocks.entrySet()) {
+                packed[n] = block.getKey();
+                indices[n] = block.getValue();
+                n++;
+            }
+            RBlockPos first = positions.get(indices[0]);
+            batches.add(new SectionBatch(first.x() >> 4, first.y() >> 4, first.z() >> 4, packed, indices));
+        }
+        return batches;
+    }
+
+    /**
+     * Packs a block position relative to its chunk section as {@code x << 8 | z << 4 | y}.
+     *
+     * @param pos the block position
+     * @return the packed section-relative position
+     */
+    public static short packRelative(@NotNull RBlockPos pos) {
+        return (short) ((pos.x() & 15) << 8 | (pos.z() & 15) << 4 | (pos.y() & 15));
+    }
+
+    private static long sectionKey(int sectionX, int sectionY, int sectionZ) {
+        return ((long) sectionX & 0x3FFFFFL) << 42 | ((long) sectionZ & 0x3FFFFFL) << 20 | ((long) sectionY & 0xFFFFFL);
+    }
+
+    /**
+     * The blocks of one chunk section.
+     * <p>
+     * The arrays are owned by the batch and must not be modified.
+     *
+     * @param sectionX  section x coordinate (block x {@code >> 4})
+     * @param sectionY  section y coordinate (block y {@code >> 4})
+     * @param sectionZ  section z coordinate (block z {@code >> 4})
+     * @param positions section-relative packed positions, see {@link #packRelative(RBlockPos)}
+     * @param indices   for each packed position, its index in the list passed to {@link #sections(List)}
+     */
+    public record SectionBatch(int sectionX, int sectionY, int sectionZ, short @NotNull [] positions, int @NotNull [] indices) {
+        /** Returns the number of blocks in this section. */
+        public int size() {
+            return positions.length;
+        }
+    }
 }
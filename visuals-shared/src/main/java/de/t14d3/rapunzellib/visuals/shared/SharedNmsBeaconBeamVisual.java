@@ -9,17 +9,24 @@ import de.t14d3.rapunzellib.visuals.BeaconColorRenderer;
 import de.t14d3.rapunzellib.visuals.VisualAudience;
 import de.t14d3.rapunzellib.visuals.VisualId;
 import de.t14d3.rapunzellib.visuals.VisualManager;
+import io.netty.buffer.Unpooled;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.minecraft.core.BlockPos;
-import net.minecraft.network.protocol.game.ClientboundBlockUpdatePacket;
+import net.minecraft.core.SectionPos;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.protocol.game.ClientboundSectionBlocksUpdatePacket;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.item.DyeColor;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.state.BlockState;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -27,11 +34,15 @@ import java.util.UUID;
 /**
  * Shared NMS implementation of a beacon beam visual.
  * <p>
- * Sends block update packets to render a beacon block, an iron pyramid,
- * and an optional stained-glass column extending to the sky.
+ * Sends block updates to render a beacon block, an iron pyramid,
+ * and an optional stained-glass column extending to the sky. The fake blocks
+ * are grouped by chunk section ({@link BeaconGeometry#sections(List)}) and sent as
+ * section block update packets, which are built once and shared by all viewers
+ * until the visual changes or is {@linkplain #refresh() refreshed}.
  */
 public final class SharedNmsBeaconBeamVisual extends SharedNmsVisual<BeaconBeamConfig> implements BeaconBeamVisual {
-    private final Map<UUID, List<BlockPos>> sentBlocksByViewer = new HashMap<>();
+    private final Map<UUID, FakeBlocks> sentBlocksByViewer = new HashMap<>();
+    private @Nullable FakeBlocks fakeBlocks;
     private int currentPyramidLevels;
     private boolean currentExtendToSky;
 
@@ -65,80 +76,154 @@ public final class SharedNmsBeaconBeamVisual extends SharedNmsVisual<BeaconBeamC
 
     @Override
     protected void spawnFor(@NotNull ServerPlayer player) {
-        List<BlockPos> sentBlocks = new ArrayList<>();
+        FakeBlocks blocks = fakeBlocks;
+        if (blocks == null) {
+            blocks = buildFakeBlocks(player.level());
+            fakeBlocks = blocks;
+        }
+        for (ClientboundSectionBlocksUpdatePacket packet : blocks.packets()) {
+            send(player, packet);
+        }
+        sentBlocksByViewer.put(player.getUUID(), blocks);
+    }
+
+    @Override
+    protected void destroyFor(@NotNull ServerPlayer player) {
+        FakeBlocks sent = sentBlocksByViewer.remove(player.getUUID());
+        if (sent == null) return;
+        for (ClientboundSectionBlocksUpdatePacket packet : restorePackets(player.level(), sent)) {
+            send(player, packet);
+        }
+    }
+
+    /**
+     * Refreshes the visual for all current viewers by re-sending all blocks.
+     * <p>
+     * The restore and fake block packets are built once and sent to every viewer.
+     */
+    public void refresh() {
+        if (!shown) return;
+        fakeBlocks = null;
+        Map<FakeBlocks, List<ClientboundSectionBlocksUpdatePacket>> restoreBySnapshot = new IdentityHashMap<>();
+        for (UUID uuid : currentViewerIds()) {
+            RPlayer player = RPlayer.get(uuid).orElse(null);
+            if (player == null) continue;
+            ServerPlayer serverPlayer = tryUnwrap(player);
+            if (serverPlayer == null) continue;
+            FakeBlocks sent = sentBlocksByViewer.remove(uuid);
+            if (sent != null) {
+                List<ClientboundSectionBlocksUpdatePacket> restore = restoreBySnapshot.computeIfAbsent(
+                    sent, snapshot -> restorePackets(serverPlayer.level(), snapshot)
+                );
+                for (ClientboundSectionBlocksUpdatePacket packet : restore) {
+                    send(serverPlayer, packet);
+                }
+            }
+            spawnFor(serverPlayer);
+        }
+    }
+
+    private void reshowIfNeeded() {
+        fakeBlocks = null;
+        if (shown) {
+            hide();
+            show();
+        }
+    }
+
+    private @NotNull FakeBlocks buildFakeBlocks(@NotNull Level level) {
+        List<RBlockPos> positions = new ArrayList<>();
+        List<BlockState> states = new ArrayList<>();
         RBlockPos beacon = new RBlockPos(
             (int) Math.floor(config.location().x()),
             (int) Math.floor(config.location().y()),
             (int) Math.floor(config.location().z())
         );
-        BlockPos beaconPos = toBlockPos(beacon);
 
-        sendBlock(player, sentBlocks, beaconPos, Blocks.BEACON.defaultBlockState());
+        positions.add(beacon);
+        states.add(Blocks.BEACON.defaultBlockState());
 
         if (currentPyramidLevels > 0) {
             BlockState ironState = Blocks.IRON_BLOCK.defaultBlockState();
             for (RBlockPos pos : BeaconGeometry.pyramid(beacon, currentPyramidLevels)) {
-                sendBlock(player, sentBlocks, toBlockPos(pos), ironState);
+                positions.add(pos);
+                states.add(ironState);
             }
         }
 
         if (currentExtendToSky) {
             NamedTextColor baseColor = config.color() instanceof NamedTextColor named ? named : NamedTextColor.WHITE;
             BlockState glassState = getStainedGlassState(toDyeColor(baseColor));
-            int height = Math.max(0, player.level().getHeight() - beaconPos.getY());
+            int height = Math.max(0, level.getHeight() - beacon.y());
             List<RBlockPos> column = BeaconGeometry.glassColumn(beacon, height);
             BeaconColorRenderer renderer = config.colorRenderer();
             for (int i = 0; i < column.size(); i++) {
                 RBlockPos pos = column.get(i);
-                BlockState state = renderer != null
+                positions.add(pos);
+                states.add(renderer != null
                     ? getStainedGlassState(toDyeColor(renderer.render(pos, i, column.size())))
-                    : glassState;
-                sendBlock(player, sentBlocks, toBlockPos(pos), state);
+                    : glassState);
             }
         }
 
-        sentBlocksByViewer.put(player.getUUID(), sentBlocks);
+        List<BeaconGeometry.SectionBatch> sections = BeaconGeometry.sections(positions);
+        List<ClientboundSectionBlocksUpdatePacket> packets = new ArrayList<>(sections.size());
+        for (BeaconGeometry.SectionBatch section : sections) {
+            packets.add(sectionPacket(section, index -> states.get(index)));
+        }
+        return new FakeBlocks(List.copyOf(positions), sections, List.copyOf(packets));
     }
 
-    @Override
-    protected void destroyFor(@NotNull ServerPlayer player) {
-        List<BlockPos> sentBlocks = sentBlocksByViewer.remove(player.getUUID());
-        if (sentBlocks == null) return;
-        for (BlockPos pos : sentBlocks) {
-            player.connection.send(new ClientboundBlockUpdatePacket(pos, player.level().getBlockState(pos)));
+    private static @NotNull List<ClientboundSectionBlocksUpdatePacket> restorePackets(
+        @NotNull Level level,
+        @NotNull FakeBlocks sent
+    ) {
+        List<ClientboundSectionBlocksUpdatePacket> packets = new ArrayList<>(sent.sections().size());
+        for (BeaconGeometry.SectionBatch section : sent.sections()) {
+            packets.add(sectionPacket(section, index -> level.getBlockState(toBlockPos(sent.positions().get(index)))));
         }
+        return packets;
     }
 
     /**
-     * Refreshes the visual for all current viewers by re-sending all blocks.
+     * Builds a section block update packet through its network codec, so the states do
+     * not have to be placed into a real chunk section first.
      */
-    public void refresh() {
-        if (!shown) return;
-        for (UUID uuid : currentViewerIds()) {
-            RPlayer player = RPlayer.get(uuid).orElse(null);
-            if (player == null) continue;
-            ServerPlayer serverPlayer = tryUnwrap(player);
-            if (serverPlayer == null) continue;
-            destroyFor(serverPlayer);
-            spawnFor(serverPlayer);
+    private static @NotNull ClientboundSectionBlocksUpdatePacket sectionPacket(
+        @NotNull BeaconGeometry.SectionBatch section,
+        @NotNull StateLookup states
+    ) {
+        FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
+        try {
+            buf.writeLong(SectionPos.asLong(section.sectionX(), section.sectionY(), section.sectionZ()));
+            buf.writeVarInt(section.size());
+            for (int i = 0; i < section.size(); i++) {
+                long stateId = Block.getId(states.state(section.indices()[i]));
+                buf.writeVarLong(stateId << 12 | section.positions()[i]);
+            }
+            return ClientboundSectionBlocksUpdatePacket.STREAM_CODEC.decode(buf);
+        } finally {
+            buf.release();
         }
     }
 
-    private void reshowIfNeeded() {
-        if (shown) {
-            hide();
-            show();
-        }
+    @FunctionalInterface
+    private interface StateLookup {
+        @NotNull BlockState state(int index);
     }
 
-    private void sendBlock(
-        @NotNull ServerPlayer player,
-        @NotNull List<BlockPos> sentBlocks,
-        @NotNull BlockPos pos,
-        @NotNull BlockState state
+    /**
+     * The fake blocks sent to viewers, kept so they can be restored to the real world state.
+     *
+     * @param positions every fake block, indexed by {@link BeaconGeometry.SectionBatch#indices()}
+     * @param sections  the blocks grouped by chunk section
+     * @param packets   one section block update per section, shared by all viewers
+     */
+    private record FakeBlocks(
+        @NotNull List<RBlockPos> positions,
+        @NotNull List<BeaconGeometry.SectionBatch> sections,
+        @NotNull List<ClientboundSectionBlocksUpdatePacket> packets
     ) {
-        player.connection.send(new ClientboundBlockUpdatePacket(pos, state));
-        sentBlocks.add(pos);
     }
 
     private static BlockPos toBlockPos(RBlockPos pos) {
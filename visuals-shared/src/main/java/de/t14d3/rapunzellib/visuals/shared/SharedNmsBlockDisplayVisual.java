@@ -104,7 +104,7 @@ public final class SharedNmsBlockDisplayVisual extends SharedNmsVisual<BlockDisp
 
     @Override
     protected void spawnFor(@NotNull ServerPlayer player) {
-        player.connection.send(new ClientboundAddEntityPacket(
+        send(player, new ClientboundAddEntityPacket(
             entityId,
             entityUuid,
             location.x(), location.y(), location.z(),
@@ -127,12 +127,12 @@ public final class SharedNmsBlockDisplayVisual extends SharedNmsVisual<BlockDisp
         ));
         data.add(BlockDisplayMetadata.sharedFlagsData(config.glow()));
         data.add(BlockDisplayMetadata.glowColorData(config.color().value()));
-        player.connection.send(new ClientboundSetEntityDataPacket(entityId, data));
+        send(player, new ClientboundSetEntityDataPacket(entityId, data));
     }
 
     @Override
     protected void destroyFor(@NotNull ServerPlayer player) {
-        player.connection.send(new ClientboundRemoveEntitiesPacket(entityId));
+        send(player, new ClientboundRemoveEntitiesPacket(entityId));
     }
 
     private void sendData(@NotNull List<SynchedEntityData.DataValue<?>> data) {
@@ -141,7 +141,7 @@ public final class SharedNmsBlockDisplayVisual extends SharedNmsVisual<BlockDisp
             if (player == null) continue;
             ServerPlayer serverPlayer = tryUnwrap(player);
             if (serverPlayer == null) continue;
-            serverPlayer.connection.send(new ClientboundSetEntityDataPacket(entityId, data));
+            send(serverPlayer, new ClientboundSetEntityDataPacket(entityId, data));
         }
     }
 
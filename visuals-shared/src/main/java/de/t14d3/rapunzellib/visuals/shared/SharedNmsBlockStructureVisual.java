@@ -103,7 +103,7 @@ public final class SharedNmsBlockStructureVisual extends SharedNmsVisual<BlockSt
         BlockState state = resolveBlockState(currentBlock);
         for (FaceEntity face : faces) {
             RLocation center = face.face.center();
-            player.connection.send(new ClientboundAddEntityPacket(
+            send(player, new ClientboundAddEntityPacket(
                 face.entityId, face.uuid,
                 center.x(), center.y(), center.z(),
                 0, 0,
@@ -128,7 +128,7 @@ public final class SharedNmsBlockStructureVisual extends SharedNmsVisual<BlockSt
             ));
             data.add(BlockDisplayMetadata.sharedFlagsData(config.glow()));
             data.add(BlockDisplayMetadata.glowColorData(config.color().value()));
-            player.connection.send(new ClientboundSetEntityDataPacket(face.entityId, data));
+            send(player, new ClientboundSetEntityDataPacket(face.entityId, data));
         }
     }
 
@@ -136,7 +136,7 @@ public final class SharedNmsBlockStructureVisual extends SharedNmsVisual<BlockSt
     protected void destroyFor(@NotNull ServerPlayer player) {
         int[] ids = faces.stream().mapToInt(f -> f.entityId).toArray();
         if (ids.length > 0) {
-            player.connection.send(new ClientboundRemoveEntitiesPacket(ids));
+            send(player, new ClientboundRemoveEntitiesPacket(ids));
         }
     }
 
@@ -147,7 +147,7 @@ public final class SharedNmsBlockStructureVisual extends SharedNmsVisual<BlockSt
             ServerPlayer serverPlayer = tryUnwrap(player);
             if (serverPlayer == null) continue;
             for (FaceEntity face : faces) {
-                serverPlayer.connection.send(new ClientboundSetEntityDataPacket(face.entityId, data));
+                send(serverPlayer, new ClientboundSetEntityDataPacket(face.entityId, data));
             }
         }
     }
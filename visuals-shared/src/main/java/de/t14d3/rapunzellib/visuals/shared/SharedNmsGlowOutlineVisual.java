@@ -1,9 +1,10 @@
 package de.t14d3.rapunzellib.visuals.shared;
 
 import de.t14d3.rapunzellib.objects.EntityIdAccessor;
-import de.t14d3.rapunzellib.objects.RBlockPos;
 import de.t14d3.rapunzellib.registry.RBlockType;
+import de.t14d3.rapunzellib.visuals.DisplayTransform;
 import de.t14d3.rapunzellib.visuals.GlowOutlineConfig;
+import de.t14d3.rapunzellib.visuals.GlowOutlineMesher;
 import de.t14d3.rapunzellib.visuals.GlowOutlineVisual;
 import de.t14d3.rapunzellib.visuals.VisualAudience;
 import de.t14d3.rapunzellib.visuals.VisualId;
@@ -29,9 +30,8 @@ import org.jetbrains.annotations.NotNull;
 import org.joml.Quaternionf;
 import org.joml.Vector3f;
 
-import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -39,12 +39,15 @@ import java.util.UUID;
  * <p>
  * Renders a glowing outline around a set of block positions using
  * {@code minecraft:block_display} entities with a slight scale increase
- * and negative translation to create an outline effect.
+ * and negative translation to create an outline effect. Blocks are merged
+ * into cuboids first ({@link GlowOutlineConfig#cuboids()}), so a straight
+ * border or a solid region costs one entity instead of one per block. The
+ * cuboids, entity ids and metadata are computed once and shared by all viewers.
  */
 public final class SharedNmsGlowOutlineVisual extends SharedNmsVisual<GlowOutlineConfig> implements GlowOutlineVisual {
 
-    private final Map<RBlockPos, Integer> entityIds = new HashMap<>();
-    private final Map<RBlockPos, UUID> entityUuids = new HashMap<>();
+    private final List<OutlineEntity> outlineEntities;
+    private final int[] entityIds;
 
     public SharedNmsGlowOutlineVisual(
         @NotNull VisualId id,
@@ -53,17 +56,39 @@ public final class SharedNmsGlowOutlineVisual extends SharedNmsVisual<GlowOutlin
         @NotNull VisualManager manager
     ) {
         super(id, config, audience, manager);
+        SynchedEntityData.DataValue<?> blockState = BlockDisplayMetadata.blockStateData(resolveBlockState(config.outlineBlock()));
+        SynchedEntityData.DataValue<?> flags = BlockDisplayMetadata.sharedFlagsData(true);
+        SynchedEntityData.DataValue<?> glowColor = BlockDisplayMetadata.glowColorData(config.color().value());
+        List<OutlineEntity> entities = new ArrayList<>();
+        for (GlowOutlineMesher.Cuboid cuboid : config.cuboids()) {
+            DisplayTransform transform = cuboid.outlineTransform();
+            List<SynchedEntityData.DataValue<?>> data = new ArrayList<>(7);
+            data.add(blockState);
+            data.addAll(BlockDisplayMetadata.transformData(
+                toNms(transform.translation()),
+                toNms(transform.scale()),
+                new Quaternionf(),
+                new Quaternionf()
+            ));
+            data.add(flags);
+            data.add(glowColor);
+            entities.add(new OutlineEntity(
+                EntityIdAccessor.nextEntityId(),
+                UUID.randomUUID(),
+                new Vec3(cuboid.centerX(), cuboid.centerY(), cuboid.centerZ()),
+                List.copyOf(data)
+            ));
+        }
+        this.outlineEntities = List.copyOf(entities);
+        this.entityIds = entities.stream().mapToInt(OutlineEntity::id).toArray();
     }
 
     @Override
     protected void spawnFor(@NotNull ServerPlayer player) {
-        for (RBlockPos pos : config.blocks()) {
-            int entityId = entityIds.computeIfAbsent(pos, ignored -> EntityIdAccessor.nextEntityId());
-            UUID entityUuid = entityUuids.computeIfAbsent(pos, ignored -> UUID.randomUUID());
-            Vec3 center = new Vec3(pos.x() + 0.5, pos.y() + 0.5, pos.z() + 0.5);
-            player.connection.send(new ClientboundAddEntityPacket(
-                entityId, entityUuid,
-                center.x, center.y, center.z,
+        for (OutlineEntity entity : outlineEntities) {
+            send(player, new ClientboundAddEntityPacket(
+                entity.id, entity.uuid,
+                entity.center.x, entity.center.y, entity.center.z,
                 0, 0,
                 // #if VERSION >= 26.2
                 net.minecraft.world.entity.EntityTypes.BLOCK_DISPLAY,
@@ -74,30 +99,21 @@ public final class SharedNmsGlowOutlineVisual extends SharedNmsVisual<GlowOutlin
                 Vec3.ZERO,
                 0
             ));
-
-            BlockState state = resolveBlockState(config.outlineBlock());
-            List<SynchedEntityData.DataValue<?>> data = new java.util.ArrayList<>();
-            data.add(BlockDisplayMetadata.blockStateData(state));
-            data.addAll(BlockDisplayMetadata.transformData(
-                new Vector3f(-0.49F, -0.49F, -0.49F),
-                new Vector3f(1.02F, 1.02F, 1.02F),
-                new Quaternionf(),
-                new Quaternionf()
-            ));
-            data.add(BlockDisplayMetadata.sharedFlagsData(true));
-            data.add(BlockDisplayMetadata.glowColorData(config.color().value()));
-            player.connection.send(new ClientboundSetEntityDataPacket(entityId, data));
+            send(player, new ClientboundSetEntityDataPacket(entity.id, entity.data));
         }
     }
 
     @Override
     protected void destroyFor(@NotNull ServerPlayer player) {
-        int[] ids = entityIds.values().stream().mapToInt(Integer::intValue).toArray();
-        if (ids.length > 0) {
-            player.connection.send(new ClientboundRemoveEntitiesPacket(ids));
+        if (entityIds.length > 0) {
+            send(player, new ClientboundRemoveEntitiesPacket(entityIds));
         }
     }
 
+    private static Vector3f toNms(de.t14d3.rapunzellib.visuals.Vector3f vector) {
+        return new Vector3f(vector.x(), vector.y(), vector.z());
+    }
+
     private static BlockState resolveBlockState(@NotNull RBlockType blockType) {
         // #if VERSION >= 1.21.11
         Identifier id = Identifier.fromNamespaceAndPath(blockType.key().namespace(), blockType.key().path());
@@ -107,4 +123,7 @@ public final class SharedNmsGlowOutlineVisual extends SharedNmsVisual<GlowOutlin
         Block block = BuiltInRegistries.BLOCK.getValue(id);
         return block != null ? block.defaultBlockState() : Blocks.GLASS.defaultBlockState();
     }
+
+    private record OutlineEntity(int id, UUID uuid, Vec3 center, List<SynchedEntityData.DataValue<?>> data) {
+    }
 }
@@ -66,7 +66,7 @@ public final class SharedNmsParticleVisual extends SharedNmsVisual<ParticleConfi
             if (serverPlayer == null) continue;
             for (RLocation location : points) {
                 if (!canSeeLocation(player, location, config.viewDistance())) continue;
-                serverPlayer.connection.send(new ClientboundLevelParticlesPacket(
+                send(serverPlayer, new ClientboundLevelParticlesPacket(
                     particleOptions,
                     false,
                     false,
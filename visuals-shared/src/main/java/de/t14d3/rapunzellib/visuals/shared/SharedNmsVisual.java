@@ -10,6 +10,7 @@ import de.t14d3.rapunzellib.visuals.VisualConfig;
 import de.t14d3.rapunzellib.visuals.VisualId;
 import de.t14d3.rapunzellib.visuals.VisualManager;
 import net.minecraft.network.protocol.Packet;
+import net.minecraft.network.protocol.game.ClientGamePacketListener;
 import net.minecraft.server.level.ServerPlayer;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -236,13 +237,19 @@ public abstract class SharedNmsVisual<C extends VisualConfig> implements Visual<
     protected abstract void destroyFor(@NotNull ServerPlayer player);
 
     /**
-     * Sends a packet to a player.
+     * Sends a packet to a player. When the visual belongs to a {@link SharedNmsVisualManager}, the
+     * packet is queued and sent with the viewer's other visual packets as one bundle at the end of
+     * the visual tick.
      *
      * @param player the server player
      * @param packet the packet to send
      */
-    protected final void send(@NotNull ServerPlayer player, @NotNull Packet<?> packet) {
-        player.connection.send(packet);
+    protected final void send(@NotNull ServerPlayer player, @NotNull Packet<? super ClientGamePacketListener> packet) {
+        if (manager instanceof SharedNmsVisualManager nmsManager) {
+            nmsManager.queuePacket(player, packet);
+        } else {
+            player.connection.send(packet);
+        }
     }
 
     /**
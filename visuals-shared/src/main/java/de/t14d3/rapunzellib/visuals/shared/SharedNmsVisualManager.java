@@ -5,23 +5,68 @@ import de.t14d3.rapunzellib.objects.RPlayer;
 import de.t14d3.rapunzellib.scheduler.ScheduledTask;
 import de.t14d3.rapunzellib.visuals.AbstractVisualManager;
 import de.t14d3.rapunzellib.visuals.Visual;
+import de.t14d3.rapunzellib.visuals.VisualId;
+import de.t14d3.rapunzellib.visuals.VisualPacketCollector;
+import de.t14d3.rapunzellib.visuals.VisualTickScheduler;
+import net.minecraft.network.protocol.BundlerInfo;
+import net.minecraft.network.protocol.Packet;
+import net.minecraft.network.protocol.game.ClientGamePacketListener;
+import net.minecraft.network.protocol.game.ClientboundBundlePacket;
+import net.minecraft.server.level.ServerPlayer;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
 
 import java.time.Duration;
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Abstract base for shared visual managers that tick visuals at 20 TPS.
  * <p>
- * Handles viewer refresh, particle emission ticks, and periodic beacon
- * beam refresh (every 600 ticks / 30 seconds).
+ * Particle visuals emit every tick. Audience and viewer refreshes run every
+ * {@link #DEFAULT_UPDATE_INTERVAL_TICKS} ticks per visual (see
+ * {@link #updateInterval(Visual, int)}), and beacon beams are re-sent every
+ * {@link #BEACON_REFRESH_INTERVAL_TICKS} ticks. Both are staggered across ticks by
+ * visual id and capped by a per-tick time budget through a {@link VisualTickScheduler};
+ * work that does not fit is carried over to the next tick.
+ * <p>
+ * Packets sent by the visuals are collected per viewer and flushed at the end of each tick as a
+ * {@link ClientboundBundlePacket}, so a viewer gets one channel write per tick and multi-entity
+ * visuals appear in the same client frame.
  */
 public abstract class SharedNmsVisualManager extends AbstractVisualManager {
+    /** Default audience refresh interval of a visual, in ticks. */
+    public static final int DEFAULT_UPDATE_INTERVAL_TICKS = 5;
+    /** Interval at which beacon beam blocks are re-sent to their viewers, in ticks. */
+    public static final int BEACON_REFRESH_INTERVAL_TICKS = 600;
+
+    private final VisualTickScheduler scheduler;
+    private final VisualPacketCollector<ServerPlayer, Packet<? super ClientGamePacketListener>> packets =
+        new VisualPacketCollector<>(BundlerInfo.BUNDLE_SIZE_LIMIT);
+    private final Logger logger;
+    private final Map<VisualId, VisualTasks> tasksByVisual = new ConcurrentHashMap<>();
+    private final Set<SharedNmsParticleVisual> particleVisuals = ConcurrentHashMap.newKeySet();
     private final ScheduledTask tickTask;
-    private int beaconTickCounter = 0;
 
     protected SharedNmsVisualManager(@NotNull RapunzelContext context) {
+        this(context, VisualTickScheduler.DEFAULT_BUDGET);
+    }
+
+    /**
+     * Creates a manager with an explicit per-tick budget for audience refreshes.
+     *
+     * @param context    the Rapunzel context
+     * @param tickBudget time per tick spent on audience and beacon refreshes before the rest is
+     *                   carried over to the next tick
+     */
+    protected SharedNmsVisualManager(@NotNull RapunzelContext context, @NotNull Duration tickBudget) {
+        this.logger = context.logger();
+        this.scheduler = new VisualTickScheduler(tickBudget, logger);
         this.tickTask = context.scheduler().runRepeating(
             Duration.ZERO,
             Duration.ofMillis(50),
@@ -29,6 +74,74 @@ public abstract class SharedNmsVisualManager extends AbstractVisualManager {
         );
     }
 
+    @Override
+    public void register(@NotNull Visual<?> visual) {
+        super.register(visual);
+        if (!(visual instanceof SharedNmsVisual<?> nmsVisual)) return;
+
+        VisualTickScheduler.Task update = scheduler.schedule(
+            visual.id(),
+            DEFAULT_UPDATE_INTERVAL_TICKS,
+            () -> updateVisual(nmsVisual)
+        );
+        VisualTickScheduler.Task beaconRefresh = nmsVisual instanceof SharedNmsBeaconBeamVisual beaconVisual
+            ? scheduler.schedule(visual.id(), BEACON_REFRESH_INTERVAL_TICKS, beaconVisual::refresh)
+            : null;
+        VisualTasks previous = tasksByVisual.put(visual.id(), new VisualTasks(update, beaconRefresh));
+        if (previous != null) {
+            previous.cancel();
+        }
+        if (nmsVisual instanceof SharedNmsParticleVisual particleVisual) {
+            particleVisuals.add(particleVisual);
+        }
+    }
+
+    @Override
+    public void unregister(@NotNull Visual<?> visual) {
+        super.unregister(visual);
+        VisualTasks tasks = tasksByVisual.remove(visual.id());
+        if (tasks != null) {
+            tasks.cancel();
+        }
+        if (visual instanceof SharedNmsParticleVisual particleVisual) {
+            particleVisuals.remove(particleVisual);
+        }
+    }
+
+    @Override
+    public void updateInterval(@NotNull Visual<?> visual, int intervalTicks) {
+        super.updateInterval(visual, intervalTicks);
+        VisualTasks tasks = tasksByVisual.get(visual.id());
+        if (tasks == null) {
+            throw new IllegalArgumentException("Visual is not registered with this manager: " + visual.id());
+        }
+        tasks.update().intervalTicks(intervalTicks);
+    }
+
+    /**
+     * Returns the cost of the last tick's audience and beacon refreshes.
+     *
+     * @return the scheduler stats
+     */
+    public @NotNull VisualTickScheduler.Stats tickStats() {
+        return scheduler.stats();
+    }
+
+    /**
+     * Returns the counters of the per-viewer packet bundling.
+     *
+     * @return the collector stats
+     */
+    public @NotNull VisualPacketCollector.Stats packetStats() {
+        return packets.stats();
+    }
+
+    @Override
+    public void removeAll() {
+        super.removeAll();
+        flushPackets();
+    }
+
     /**
      * Cleans up viewer state for a disconnected player across all visuals.
      *
@@ -44,36 +157,67 @@ public abstract class SharedNmsVisualManager extends AbstractVisualManager {
     }
 
     private void tick() {
-        beaconTickCounter++;
-        boolean beaconRefresh = beaconTickCounter >= 600;
-        if (beaconRefresh) {
-            beaconTickCounter = 0;
+        for (SharedNmsParticleVisual particleVisual : particleVisuals) {
+            if (particleVisual.isShown() && particleVisual.hasCurrentViewers()) {
+                particleVisual.emitTick();
+            }
         }
+        scheduler.tick();
+        flushPackets();
+    }
 
-        for (Visual<?> visual : all()) {
-            if (visual instanceof SharedNmsVisual<?> nmsVisual) {
-                tickVisual(nmsVisual, beaconRefresh);
-            }
+    /**
+     * Queues a packet for the end-of-tick bundle of a viewer.
+     *
+     * @param player the viewer
+     * @param packet the packet
+     */
+    void queuePacket(@NotNull ServerPlayer player, @NotNull Packet<? super ClientGamePacketListener> packet) {
+        packets.add(player, packet);
+    }
+
+    private void flushPackets() {
+        try {
+            packets.flush(SharedNmsVisualManager::sendBundle);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to send visual packets", e);
+        }
+    }
+
+    private static void sendBundle(
+        @NotNull ServerPlayer player,
+        @NotNull List<Packet<? super ClientGamePacketListener>> bundle
+    ) {
+        if (player.hasDisconnected()) return;
+        if (bundle.size() == 1) {
+            player.connection.send(bundle.getFirst());
+        } else {
+            player.connection.send(new ClientboundBundlePacket(List.copyOf(bundle)));
         }
     }
 
-    private void tickVisual(@NotNull SharedNmsVisual<?> visual, boolean beaconRefresh) {
+    private void updateVisual(@NotNull SharedNmsVisual<?> visual) {
         Collection<RPlayer> audience = visual.audience().resolve();
 
         if (visual.isShown()) {
             visual.refreshViewers(audience);
             if (!visual.hasCurrentViewers()) {
                 visual.hide();
-                return;
-            }
-            if (visual instanceof SharedNmsParticleVisual particleVisual) {
-                particleVisual.emitTick();
-            }
-            if (beaconRefresh && visual instanceof SharedNmsBeaconBeamVisual beaconVisual) {
-                beaconVisual.refresh();
             }
         } else if (visual.hasEligibleViewers(audience)) {
             visual.show();
         }
     }
+
+    private record VisualTasks(
+        @NotNull VisualTickScheduler.Task update,
+        @Nullable VisualTickScheduler.Task beaconRefresh
+    ) {
+        private void cancel() {
+            update.cancel();
+            if (beaconRefresh != null) {
+                beaconRefresh.cancel();
+            }
+        }
+    }
 }
@@ -0,0 +1,108 @@
+package de.t14d3.rapunzellib.visuals.shared;
+
+import de.t14d3.rapunzellib.objects.RBlockPos;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class BeaconGeometryTest {
+    @Test
+    void packsSectionRelativePositionsLikeTheProtocol() {
+        assertEquals((short) 0x000, BeaconGeometry.packRelative(new RBlockPos(0, 0, 0)));
+        assertEquals((short) 0xF0F, BeaconGeometry.packRelative(new RBlockPos(15, 15, 0)));
+        assertEquals((short) 0x3A5, BeaconGeometry.packRelative(new RBlockPos(19, -59, 10)));
+        assertEquals((short) 0xFFF, BeaconGeometry.packRelative(new RBlockPos(-1, -1, -1)));
+    }
+
+    @Test
+    void sectionsCoverEveryBlockOnceAndMapBackToTheirIndex() {
+        List<RBlockPos> blocks = beaconBlocks(new RBlockPos(0, 64, 0), 4, 255);
+        List<BeaconGeometry.SectionBatch> sections = BeaconGeometry.sections(blocks);
+
+        Set<RBlockPos> seen = new HashSet<>();
+        for (BeaconGeometry.SectionBatch section : sections) {
+            for (int i = 0; i < section.size(); i++) {
+                RBlockPos pos = blocks.get(section.indices()[i]);
+                assertEquals(section.sectionX(), pos.x() >> 4);
+                assertEquals(section.sectionY(), pos.y() >> 4);
+                assertEquals(section.sectionZ(), pos.z() >> 4);
+                assertEquals(BeaconGeometry.packRelative(pos), section.positions()[i]);
+                assertTrue(seen.add(pos), "block listed twice: " + pos);
+            }
+        }
+        assertEquals(new HashSet<>(blocks), seen);
+    }
+
+    @Test
+    void duplicatePositionsKeepTheLastIndex() {
+        RBlockPos pos = new RBlockPos(3, 70, -2);
+        List<BeaconGeometry.SectionBatch> sections = BeaconGeometry.sections(List.of(pos, new RBlockPos(4, 70, -2), pos));
+
+        assertEquals(1, sections.size());
+        assertArrayEquals(new int[]{2, 1}, sections.get(0).indices());
+        assertEquals(List.of(), BeaconGeometry.sections(List.of()));
+    }
+
+    @Test
+    void levelFourPyramidPacketCountAndSize() {
+        record Case(String name, RBlockPos beacon, int expectedSections) {
+        }
+        List<Case> cases = List.of(
+            new Case("section-aligned beacon", new RBlockPos(8, 64, 8), 17),
+            new Case("beacon on a chunk corner", new RBlockPos(0, 64, 0), 20)
+        );
+        for (Case testCase : cases) {
+            List<RBlockPos> blocks = beaconBlocks(testCase.beacon(), 4, 255);
+            List<BeaconGeometry.SectionBatch> sections = BeaconGeometry.sections(blocks);
+
+            long singleBytes = 0;
+            for (int i = 0; i < blocks.size(); i++) {
+                singleBytes += blockUpdateBytes();
+            }
+            long sectionBytes = 0;
+            for (BeaconGeometry.SectionBatch section : sections) {
+                sectionBytes += sectionUpdateBytes(section);
+            }
+            assertEquals(1 + 81 + 49 + 25 + 9 + 255, blocks.size());
+            assertEquals(testCase.expectedSections(), sections.size(), testCase.name());
+            assertTrue(sectionBytes * 2 < singleBytes, testCase.name() + ": " + sectionBytes + " vs " + singleBytes);
+        }
+    }
+
+    private static List<RBlockPos> beaconBlocks(RBlockPos beacon, int levels, int columnHeight) {
+        List<RBlockPos> blocks = new ArrayList<>();
+        blocks.add(beacon);
+        blocks.addAll(BeaconGeometry.pyramid(beacon, levels));
+        blocks.addAll(BeaconGeometry.glassColumn(beacon, columnHeight));
+        return blocks;
+    }
+
+    // Payload sizes as written by the vanilla codecs, with a typical 2-byte state id.
+    private static long blockUpdateBytes() {
+        return 1 + Long.BYTES + 2;
+    }
+
+    private static long sectionUpdateBytes(BeaconGeometry.SectionBatch section) {
+        long bytes = 1 + Long.BYTES + varIntBytes(section.size());
+        for (short position : section.positions()) {
+            bytes += varIntBytes(1_000L << 12 | position);
+        }
+        return bytes;
+    }
+
+    private static int varIntBytes(long value) {
+        int bytes = 1;
+        while ((value & ~0x7FL) != 0) {
+            value >>>= 7;
+            bytes++;
+        }
+        return bytes;
+    }
+}
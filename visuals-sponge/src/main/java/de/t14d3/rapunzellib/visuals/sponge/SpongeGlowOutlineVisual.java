@@ -1,16 +1,13 @@
 package de.t14d3.rapunzellib.visuals.sponge;
 
-import de.t14d3.rapunzellib.objects.RBlockPos;
 import de.t14d3.rapunzellib.objects.RLocation;
 import de.t14d3.rapunzellib.objects.RPlayer;
-import de.t14d3.rapunzellib.visuals.DisplayTransform;
 import de.t14d3.rapunzellib.visuals.GlowOutlineConfig;
+import de.t14d3.rapunzellib.visuals.GlowOutlineMesher;
 import de.t14d3.rapunzellib.visuals.GlowOutlineVisual;
-import de.t14d3.rapunzellib.visuals.Quaternionf;
 import de.t14d3.rapunzellib.visuals.VisualAudience;
 import de.t14d3.rapunzellib.visuals.VisualId;
 import de.t14d3.rapunzellib.visuals.VisualManager;
-import de.t14d3.rapunzellib.visuals.Vector3f;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.spongepowered.api.entity.display.BlockDisplay;
@@ -18,13 +15,15 @@ import org.spongepowered.api.world.server.ServerWorld;
 import org.spongepowered.math.vector.Vector3d;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
  * Sponge API implementation of a glow outline visual.
  * <p>
  * Renders a glowing outline around a set of block positions using real
- * {@code minecraft:block_display} entities, one per block, with a slight
+ * {@code minecraft:block_display} entities, one per merged cuboid
+ * ({@link GlowOutlineConfig#cuboids()}), with a slight
  * scale increase and negative translation to create the outline effect
  * (mirroring the shared NMS implementation).
  * <p>
@@ -33,7 +32,8 @@ import java.util.Map;
  */
 public final class SpongeGlowOutlineVisual extends SpongeVisual<GlowOutlineConfig> implements GlowOutlineVisual {
 
-    private final Map<RBlockPos, BlockDisplay> entities = new HashMap<>();
+    private final List<GlowOutlineMesher.Cuboid> cuboids;
+    private final Map<GlowOutlineMesher.Cuboid, BlockDisplay> entities = new HashMap<>();
 
     public SpongeGlowOutlineVisual(
         @NotNull VisualId id,
@@ -42,6 +42,7 @@ public final class SpongeGlowOutlineVisual extends SpongeVisual<GlowOutlineConfi
         @NotNull VisualManager manager
     ) {
         super(id, config, audience, manager);
+        this.cuboids = config.cuboids();
     }
 
     @Override
@@ -49,13 +50,12 @@ public final class SpongeGlowOutlineVisual extends SpongeVisual<GlowOutlineConfi
         ServerWorld world = audienceWorld();
         if (world == null) return;
 
-        DisplayTransform outlineTransform = outlineTransform();
-        for (RBlockPos pos : config.blocks()) {
-            BlockDisplay existing = entities.get(pos);
+        for (GlowOutlineMesher.Cuboid cuboid : cuboids) {
+            BlockDisplay existing = entities.get(cuboid);
             if (existing != null && !existing.isRemoved()) continue;
-            Vector3d center = new Vector3d(pos.x() + 0.5, pos.y() + 0.5, pos.z() + 0.5);
-            BlockDisplay display = spawnBlockDisplay(world, center, config.outlineBlock(), outlineTransform, true);
-            entities.put(pos, display);
+            Vector3d center = new Vector3d(cuboid.centerX(), cuboid.centerY(), cuboid.centerZ());
+            BlockDisplay display = spawnBlockDisplay(world, center, config.outlineBlock(), cuboid.outlineTransform(), true);
+            entities.put(cuboid, display);
         }
     }
 
@@ -85,19 +85,4 @@ public final class SpongeGlowOutlineVisual extends SpongeVisual<GlowOutlineConfi
         }
         return null;
     }
-
-    /**
-     * Builds the outline transform: a slight scale increase with a negative
-     * translation so the outline block wraps the target block.
-     *
-     * @return the outline display transform
-     */
-    private static DisplayTransform outlineTransform() {
-        return new DisplayTransform(
-            new Vector3f(-0.49F, -0.49F, -0.49F),
-            new Vector3f(1.02F, 1.02F, 1.02F),
-            new Quaternionf(),
-            new Quaternionf()
-        );
-    }
 }
@@ -5,6 +5,7 @@ import de.t14d3.rapunzellib.registry.RBlockType;
 import net.kyori.adventure.text.format.TextColor;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -14,15 +15,46 @@ import java.util.Set;
  * @param outlineBlock the block type used for the outline
  * @param color        the outline color
  * @param viewDistance the maximum view distance in blocks
+ * @param rendering    how blocks are turned into display entities
  */
 public record GlowOutlineConfig(
     @NotNull Set<RBlockPos> blocks,
     @NotNull RBlockType outlineBlock,
     @NotNull TextColor color,
-    double viewDistance
+    double viewDistance,
+    @NotNull Rendering rendering
 ) implements VisualConfig {
+    /** How a glow outline turns its blocks into display entities. */
+    public enum Rendering {
+        /**
+         * Adjacent blocks are merged into cuboids ({@link GlowOutlineMesher#mesh}), each rendered
+         * as one scaled display entity. Only the outer hull of a merged cuboid glows.
+         */
+        MERGED,
+        /** One display entity per block, so every block gets its own outline. */
+        PER_BLOCK
+    }
+
+    public GlowOutlineConfig(
+        @NotNull Set<RBlockPos> blocks,
+        @NotNull RBlockType outlineBlock,
+        @NotNull TextColor color,
+        double viewDistance
+    ) {
+        this(blocks, outlineBlock, color, viewDistance, Rendering.MERGED);
+    }
+
     @Override
     public double viewDistance() {
         return viewDistance;
     }
+
+    /**
+     * Returns the cuboids to render, one display entity each, according to {@link #rendering()}.
+     *
+     * @return the cuboids covering {@link #blocks()}
+     */
+    public @NotNull List<GlowOutlineMesher.Cuboid> cuboids() {
+        return rendering == Rendering.PER_BLOCK ? GlowOutlineMesher.perBlock(blocks) : GlowOutlineMesher.mesh(blocks);
+    }
 }
@@ -0,0 +1,168 @@
+package de.t14d3.rapunzellib.visuals;
+
+import de.t14d3.rapunzellib.objects.RBlockPos;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Merges the blocks of a {@link GlowOutlineConfig} into axis-aligned cuboids, so each cuboid can
+ * be rendered as one scaled display entity instead of one entity per block.
+ *
+ * <p>{@link #mesh} is greedy: starting from the lowest remaining block (ordered by y, z, x) it
+ * extends a run along +x, widens it along +z and raises it along +y as long as every block of the
+ * next row or layer is still unclaimed. The cuboids exactly cover the input and never overlap. The
+ * result is not always the minimum number of cuboids, but it reduces straight borders, walls and
+ * solid regions to a handful of entities.</p>
+ */
+public final class GlowOutlineMesher {
+    /** How far the outline block sticks out of the outlined blocks on every side. */
+    public static final float OUTLINE_MARGIN = 0.01F;
+
+    private static final Comparator<RBlockPos> SCAN_ORDER = Comparator.comparingInt(RBlockPos::y)
+        .thenComparingInt(RBlockPos::z)
+        .thenComparingInt(RBlockPos::x);
+
+    private GlowOutlineMesher() {
+    }
+
+    /**
+     * An axis-aligned box of whole blocks.
+     *
+     * @param minX  lowest block x
+     * @param minY  lowest block y
+     * @param minZ  lowest block z
+     * @param sizeX extent along x in blocks, at least {@code 1}
+     * @param sizeY extent along y in blocks, at least {@code 1}
+     * @param sizeZ extent along z in blocks, at least {@code 1}
+     */
+    public record Cuboid(int minX, int minY, int minZ, int sizeX, int sizeY, int sizeZ) {
+        public Cuboid {
+            if (sizeX < 1 || sizeY < 1 || sizeZ < 1) {
+                throw new IllegalArgumentException("cuboid sizes must be >= 1");
+            }
+        }
+
+        /** Returns the one-block cuboid at {@code pos}. */
+        public static @NotNull Cuboid of(@NotNull RBlockPos pos) {
+            return new Cuboid(pos.x(), pos.y(), pos.z(), 1, 1, 1);
+        }
+
+        /** Returns the number of blocks in this cuboid. */
+        public long volume() {
+            return (long) sizeX * sizeY * sizeZ;
+        }
+
+        public boolean contains(@NotNull RBlockPos pos) {
+            return pos.x() >= minX && pos.x() < minX + sizeX
+                && pos.y() >= minY && pos.y() < minY + sizeY
+                && pos.z() >= minZ && pos.z() < minZ + sizeZ;
+        }
+
+        /** Returns the x coordinate of the cuboid's center. */
+        public double centerX() {
+            return minX + sizeX / 2.0;
+        }
+
+        /** Returns the y coordinate of the cuboid's center. */
+        public double centerY() {
+            return minY + sizeY / 2.0;
+        }
+
+        /** Returns the z coordinate of the cuboid's center. */
+        public double centerZ() {
+            return minZ + sizeZ / 2.0;
+        }
+
+        /**
+         * Returns the transform of a block display placed at the {@linkplain #centerX() center}
+         * that wraps this cuboid, {@link #OUTLINE_MARGIN} larger on every side.
+         */
+        public @NotNull DisplayTransform outlineTransform() {
+            return new DisplayTransform(
+                new Vector3f(-sizeX / 2.0F - OUTLINE_MARGIN, -sizeY / 2.0F - OUTLINE_MARGIN, -sizeZ / 2.0F - OUTLINE_MARGIN),
+                new Vector3f(sizeX + 2 * OUTLINE_MARGIN, sizeY + 2 * OUTLINE_MARGIN, sizeZ + 2 * OUTLINE_MARGIN),
+                new Quaternionf(),
+                new Quaternionf()
+            );
+        }
+    }
+
+    /**
+     * Merges {@code blocks} into non-overlapping cuboids that cover exactly these blocks.
+     *
+     * @param blocks the blocks to merge
+     * @return the cuboids, in scan order of their lowest corner
+     */
+    public static @NotNull List<Cuboid> mesh(@NotNull Collection<RBlockPos> blocks) {
+        Objects.requireNonNull(blocks, "blocks");
+        Set<RBlockPos> remaining = new HashSet<>(blocks);
+        List<RBlockPos> ordered = new ArrayList<>(remaining);
+        ordered.sort(SCAN_ORDER);
+
+        List<Cuboid> cuboids = new ArrayList<>();
+        for (RBlockPos start : ordered) {
+            if (!remaining.contains(start)) continue;
+            int x = start.x();
+            int y = start.y();
+            int z = start.z();
+
+            int sizeX = 1;
+            while (remaining.contains(new RBlockPos(x + sizeX, y, z))) {
+                sizeX++;
+            }
+            int sizeZ = 1;
+            while (filled(remaining, x, y, z + sizeZ, sizeX, 1)) {
+                sizeZ++;
+            }
+            int sizeY = 1;
+            while (filled(remaining, x, y + sizeY, z, sizeX, sizeZ)) {
+                sizeY++;
+            }
+
+            for (int dy = 0; dy < sizeY; dy++) {
+                for (int dz = 0; dz < sizeZ; dz++) {
+                    for (int dx = 0; dx < sizeX; dx++) {
+                        remaining.remove(new RBlockPos(x + dx, y + dy, z + dz));
+                    }
+                }
+            }
+            cuboids.add(new Cuboid(x, y, z, sizeX, sizeY, sizeZ));
+        }
+        return List.copyOf(cuboids);
+    }
+
+    /**
+     * Returns one single-block cuboid per block, the fallback for shapes that merging does not help.
+     *
+     * @param blocks the blocks
+     * @return the cuboids, in scan order
+     */
+    public static @NotNull List<Cuboid> perBlock(@NotNull Collection<RBlockPos> blocks) {
+        Objects.requireNonNull(blocks, "blocks");
+        List<RBlockPos> ordered = new ArrayList<>(new HashSet<>(blocks));
+        ordered.sort(SCAN_ORDER);
+        List<Cuboid> cuboids = new ArrayList<>(ordered.size());
+        for (RBlockPos pos : ordered) {
+            cuboids.add(Cuboid.of(pos));
+        }
+        return List.copyOf(cuboids);
+    }
+
+    private static boolean filled(Set<RBlockPos> remaining, int x, int y, int z, int sizeX, int sizeZ) {
+        for (int dz = 0; dz < sizeZ; dz++) {
+            for (int dx = 0; dx < sizeX; dx++) {
+                if (!remaining.contains(new RBlockPos(x + dx, y, z + dz))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
@@ -7,6 +7,7 @@ import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.format.TextColor;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Objects;
 import java.util.Set;
 
 /**
@@ -206,6 +207,7 @@ public final class VisualBuilder {
         private TextColor color = NamedTextColor.GREEN;
         private VisualAudience audience = VisualAudience.empty();
         private double viewDistance = -1;
+        private GlowOutlineConfig.Rendering rendering = GlowOutlineConfig.Rendering.MERGED;
 
         GlowOutlineBuilder(@NotNull VisualManager manager) {
             this.manager = manager;
@@ -237,6 +239,16 @@ public final class VisualBuilder {
             return this;
         }
 
+        /**
+         * Sets how blocks are turned into display entities. Defaults to
+         * {@link GlowOutlineConfig.Rendering#MERGED}; use {@link GlowOutlineConfig.Rendering#PER_BLOCK}
+         * when every block needs its own outline.
+         */
+        public @NotNull GlowOutlineBuilder rendering(@NotNull GlowOutlineConfig.Rendering rendering) {
+            this.rendering = Objects.requireNonNull(rendering, "rendering");
+            return this;
+        }
+
         /**
          * Builds the glow outline visual.
          *
@@ -246,7 +258,7 @@ public final class VisualBuilder {
         public @NotNull GlowOutlineVisual build() {
             if (blocks.isEmpty()) throw new IllegalStateException("blocks must not be empty");
             return manager.createGlowOutline(
-                new GlowOutlineConfig(blocks, outlineBlock, color, viewDistance),
+                new GlowOutlineConfig(blocks, outlineBlock, color, viewDistance, rendering),
                 audience
             );
         }
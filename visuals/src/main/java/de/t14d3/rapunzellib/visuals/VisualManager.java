@@ -107,4 +107,22 @@ public interface VisualManager {
      */
     default void cleanupForPlayer(@NotNull UUID uuid) {
     }
+
+    /**
+     * Sets how often a visual's audience and viewers are refreshed.
+     * <p>
+     * Lower intervals pick up players entering or leaving the audience sooner, higher
+     * intervals cost less per tick. Particle emission is not affected. Default implementation
+     * is a no-op; platform implementations with staggered ticking
+     * (e.g. {@code SharedNmsVisualManager}) override this.
+     *
+     * @param visual        a visual registered with this manager
+     * @param intervalTicks the refresh interval in ticks, at least {@code 1}
+     * @throws IllegalArgumentException if {@code intervalTicks} is less than {@code 1}
+     */
+    default void updateInterval(@NotNull Visual<?> visual, int intervalTicks) {
+        if (intervalTicks < 1) {
+            throw new IllegalArgumentException("intervalTicks must be >= 1: " + intervalTicks);
+        }
+    }
 }
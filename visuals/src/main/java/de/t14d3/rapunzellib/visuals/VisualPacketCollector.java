@@ -0,0 +1,145 @@
+package de.t14d3.rapunzellib.visuals;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Collects the packets every visual sends during a tick and hands them to a {@link Sink} per viewer
+ * at the end of the tick, so a viewer receives one batch instead of one write per packet.
+ *
+ * <p>Packets keep the order they were added in for each viewer, and viewers are flushed in the order
+ * they first received a packet. Batches hold at most {@code maxBatchSize} packets; larger backlogs
+ * are split into consecutive batches.</p>
+ *
+ * <p>All methods are thread-safe. {@link #flush(Sink)} is expected to run on the platform's primary
+ * thread at the end of the visual tick.</p>
+ *
+ * @param <V> the viewer type
+ * @param <P> the packet type
+ */
+public final class VisualPacketCollector<V, P> {
+    /**
+     * Receives the batches of a flush.
+     *
+     * @param <V> the viewer type
+     * @param <P> the packet type
+     */
+    @FunctionalInterface
+    public interface Sink<V, P> {
+        /**
+         * Sends one batch to a viewer.
+         *
+         * @param viewer  the viewer
+         * @param packets between {@code 1} and {@code maxBatchSize} packets, in the order they were added
+         */
+        void send(@NotNull V viewer, @NotNull List<P> packets);
+    }
+
+    /**
+     * Cumulative collector counters.
+     *
+     * @param flushes number of flushes that sent at least one batch
+     * @param packets number of packets flushed
+     * @param batches number of batches handed to the sink
+     * @param pending number of packets waiting for the next flush
+     */
+    public record Stats(long flushes, long packets, long batches, int pending) {
+    }
+
+    private final int maxBatchSize;
+    private Map<V, List<P>> pending = new LinkedHashMap<>();
+    private int pendingPackets;
+    private long flushes;
+    private long packets;
+    private long batches;
+
+    /**
+     * Creates a collector.
+     *
+     * @param maxBatchSize the maximum number of packets per batch, at least {@code 1}
+     */
+    public VisualPacketCollector(int maxBatchSize) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be >= 1: " + maxBatchSize);
+        }
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /** Returns the maximum number of packets per batch. */
+    public int maxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * Queues a packet for a viewer until the next {@link #flush(Sink)}.
+     *
+     * @param viewer the viewer
+     * @param packet the packet
+     */
+    public synchronized void add(@NotNull V viewer, @NotNull P packet) {
+        Objects.requireNonNull(viewer, "viewer");
+        Objects.requireNonNull(packet, "packet");
+        pending.computeIfAbsent(viewer, _viewer -> new ArrayList<>()).add(packet);
+        pendingPackets++;
+    }
+
+    /**
+     * Sends every queued packet to the sink, one or more batches per viewer. A failing batch does not
+     * stop the remaining viewers; the first failure is rethrown once all batches were handed out.
+     *
+     * @param sink the sink
+     * @return the number of batches sent
+     */
+    public int flush(@NotNull Sink<V, P> sink) {
+        Objects.requireNonNull(sink, "sink");
+        Map<V, List<P>> drained;
+        int drainedPackets;
+        synchronized (this) {
+            if (pending.isEmpty()) {
+                return 0;
+            }
+            drained = pending;
+            drainedPackets = pendingPackets;
+            pending = new LinkedHashMap<>();
+            pendingPackets = 0;
+        }
+
+        int sent = 0;
+        RuntimeException failure = null;
+        for (Map.Entry<V, List<P>> entry : drained.entrySet()) {
+            List<P> queued = entry.getValue();
+            for (int from = 0; from < queued.size(); from += maxBatchSize) {
+                List<P> batch = queued.subList(from, Math.min(queued.size(), from + maxBatchSize));
+                sent++;
+                try {
+                    sink.send(entry.getKey(), batch);
+                } catch (RuntimeException e) {
+                    if (failure == null) {
+                        failure = e;
+                    } else {
+                        failure.addSuppressed(e);
+                    }
+                }
+            }
+        }
+
+        synchronized (this) {
+            flushes++;
+            packets += drainedPackets;
+            batches += sent;
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return sent;
+    }
+
+    public synchronized @NotNull Stats stats() {
+        return new Stats(flushes, packets, batches, pendingPackets);
+    }
+}
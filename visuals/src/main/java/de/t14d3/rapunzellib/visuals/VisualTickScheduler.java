@@ -0,0 +1,269 @@
+package de.t14d3.rapunzellib.visuals;
+
+import de.t14d3.rapunzellib.scheduler.ScheduledTask;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Staggered, time-budgeted scheduler for periodic per-visual work such as audience refreshes.
+ *
+ * <p>Each task runs every {@code intervalTicks} ticks on the tick where
+ * {@code tick % intervalTicks == phase}. The phase is derived from a hash of the task's phase key,
+ * so many visuals with the same interval are spread evenly across ticks instead of all running
+ * on the same one. Due tasks run in order until the per-tick budget is spent; the rest are
+ * carried over and run first on the following ticks. At least one task runs per tick, so the
+ * scheduler always makes progress even with a zero budget.</p>
+ *
+ * <p>{@link #tick()} and {@link #clear()} must only be called from a single thread (the
+ * platform's primary thread); {@link #schedule}, {@link Task#cancel()},
+ * {@link Task#intervalTicks(int)} and {@link #stats()} are thread-safe.</p>
+ */
+public final class VisualTickScheduler {
+    /** Default per-tick budget used by the visual managers. */
+    public static final Duration DEFAULT_BUDGET = Duration.ofMillis(2L);
+
+    /**
+     * Snapshot of the scheduler state after the last tick.
+     *
+     * @param ticks         number of ticks run
+     * @param scheduled     number of scheduled, not cancelled tasks
+     * @param due           number of tasks that became due in the last tick
+     * @param ran           number of tasks run in the last tick
+     * @param backlog       number of due tasks carried over to the next tick
+     * @param budgetNanos   the configured per-tick budget in nanoseconds
+     * @param lastTickNanos time spent running tasks in the last tick
+     * @param maxTickNanos  the longest tick so far
+     * @param totalNanos    cumulative time spent running tasks
+     */
+    public record Stats(
+        long ticks,
+        int scheduled,
+        int due,
+        int ran,
+        int backlog,
+        long budgetNanos,
+        long lastTickNanos,
+        long maxTickNanos,
+        long totalNanos
+    ) {
+    }
+
+    private final Logger logger;
+    private final LongSupplier nanoClock;
+    private final Queue<Task> added = new ConcurrentLinkedQueue<>();
+    private final PriorityQueue<Task> timeline = new PriorityQueue<>(Comparator.comparingLong(task -> task.nextDueTick));
+    private final ArrayDeque<Task> backlog = new ArrayDeque<>();
+    private final AtomicInteger scheduled = new AtomicInteger();
+
+    private volatile long budgetNanos;
+    private volatile Stats stats;
+    private long tick;
+    private long maxTickNanos;
+    private long totalNanos;
+
+    public VisualTickScheduler(@NotNull Duration budget, @NotNull Logger logger) {
+        this(budget, logger, System::nanoTime);
+    }
+
+    /**
+     * Creates a scheduler with an explicit clock, mainly for tests.
+     *
+     * @param budget    the per-tick time budget
+     * @param logger    the logger for failing tasks
+     * @param nanoClock monotonic nanosecond clock used for budgeting and accounting
+     */
+    public VisualTickScheduler(@NotNull Duration budget, @NotNull Logger logger, @NotNull LongSupplier nanoClock) {
+        this.logger = Objects.requireNonNull(logger, "logger");
+        this.nanoClock = Objects.requireNonNull(nanoClock, "nanoClock");
+        budget(budget);
+        this.stats = new Stats(0L, 0, 0, 0, 0, budgetNanos, 0L, 0L, 0L);
+    }
+
+    /** Returns the per-tick time budget. */
+    public @NotNull Duration budget() {
+        return Duration.ofNanos(budgetNanos);
+    }
+
+    /**
+     * Replaces the per-tick time budget. Takes effect on the next tick.
+     *
+     * @param budget the new budget; negative values are treated as zero
+     */
+    public void budget(@NotNull Duration budget) {
+        Objects.requireNonNull(budget, "budget");
+        this.budgetNanos = Math.max(0L, budget.toNanos());
+    }
+
+    /**
+     * Schedules periodic work. The first run happens on the first tick matching the task's phase.
+     *
+     * @param phaseKey      key whose hash picks the phase, usually the visual id
+     * @param intervalTicks run every this many ticks, at least {@code 1}
+     * @param work          the work to run
+     * @return a handle to change the interval or cancel the task
+     */
+    public @NotNull Task schedule(@NotNull Object phaseKey, int intervalTicks, @NotNull Runnable work) {
+        Objects.requireNonNull(phaseKey, "phaseKey");
+        Objects.requireNonNull(work, "work");
+        Task task = new Task(phaseKey.hashCode(), checkInterval(intervalTicks), work);
+        scheduled.incrementAndGet();
+        added.add(task);
+        return task;
+    }
+
+    /**
+     * Returns the phase a key gets for an interval: the tick offset in {@code [0, intervalTicks)}.
+     *
+     * @param phaseKey      the phase key
+     * @param intervalTicks the interval in ticks
+     * @return the phase
+     */
+    public static int phase(@NotNull Object phaseKey, int intervalTicks) {
+        return phaseOf(phaseKey.hashCode(), checkInterval(intervalTicks));
+    }
+
+    /**
+     * Runs one tick: collects the tasks that became due and runs them, carried-over tasks first,
+     * until the budget is spent.
+     *
+     * @return the stats of this tick
+     */
+    public @NotNull Stats tick() {
+        long current = ++tick;
+        Task task;
+        while ((task = added.poll()) != null) {
+            if (task.isCancelled()) continue;
+            task.nextDueTick = nextDue(task, current);
+            timeline.add(task);
+        }
+
+        int due = 0;
+        while ((task = timeline.peek()) != null && task.nextDueTick <= current) {
+            timeline.poll();
+            if (task.isCancelled()) continue;
+            backlog.addLast(task);
+            due++;
+        }
+
+        long budget = budgetNanos;
+        long start = nanoClock.getAsLong();
+        long now = start;
+        int ran = 0;
+        while ((ran == 0 || now - start < budget) && (task = backlog.pollFirst()) != null) {
+            if (task.isCancelled()) continue;
+            run(task);
+            now = nanoClock.getAsLong();
+            ran++;
+            if (!task.isCancelled()) {
+                task.nextDueTick = nextDue(task, current + 1);
+                timeline.add(task);
+            }
+        }
+
+        long spent = now - start;
+        maxTickNanos = Math.max(maxTickNanos, spent);
+        totalNanos += spent;
+        Stats snapshot = new Stats(current, scheduled.get(), due, ran, backlog.size(), budget, spent, maxTickNanos, totalNanos);
+        stats = snapshot;
+        return snapshot;
+    }
+
+    /** Returns the stats of the last tick. */
+    public @NotNull Stats stats() {
+        return stats;
+    }
+
+    /** Cancels all scheduled tasks. */
+    public void clear() {
+        Task task;
+        while ((task = added.poll()) != null) {
+            task.cancel();
+        }
+        while ((task = timeline.poll()) != null) {
+            task.cancel();
+        }
+        while ((task = backlog.pollFirst()) != null) {
+            task.cancel();
+        }
+    }
+
+    private void run(Task task) {
+        try {
+            task.work.run();
+        } catch (Exception e) {
+            logger.warn("Unhandled exception in scheduled visual work", e);
+        }
+    }
+
+    private static long nextDue(Task task, long fromTick) {
+        int interval = task.intervalTicks;
+        int phase = phaseOf(task.keyHash, interval);
+        return fromTick + Math.floorMod(phase - fromTick, (long) interval);
+    }
+
+    private static int phaseOf(int keyHash, int intervalTicks) {
+        // Spread the hash bits so sequential ids (and their low bits) do not cluster on a few phases.
+        int h = keyHash * 0x9E3779B9;
+        h ^= h >>> 16;
+        return Math.floorMod(h, intervalTicks);
+    }
+
+    private static int checkInterval(int intervalTicks) {
+        if (intervalTicks < 1) {
+            throw new IllegalArgumentException("intervalTicks must be >= 1: " + intervalTicks);
+        }
+        return intervalTicks;
+    }
+
+    /** A scheduled periodic task. */
+    public final class Task implements ScheduledTask {
+        private final int keyHash;
+        private final Runnable work;
+        private volatile int intervalTicks;
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+        private long nextDueTick;
+
+        private Task(int keyHash, int intervalTicks, Runnable work) {
+            this.keyHash = keyHash;
+            this.intervalTicks = intervalTicks;
+            this.work = work;
+        }
+
+        /** Returns the interval in ticks. */
+        public int intervalTicks() {
+            return intervalTicks;
+        }
+
+        /**
+         * Changes the interval. Takes effect after the task's next run.
+         *
+         * @param intervalTicks the new interval, at least {@code 1}
+         */
+        public void intervalTicks(int intervalTicks) {
+            this.intervalTicks = checkInterval(intervalTicks);
+        }
+
+        @Override
+        public void cancel() {
+            if (cancelled.compareAndSet(false, true)) {
+                scheduled.decrementAndGet();
+            }
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled.get();
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package de.t14d3.rapunzellib.visuals;
+
+import de.t14d3.rapunzellib.objects.RBlockPos;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class GlowOutlineMesherTest {
+    @Test
+    void cuboidsCoverEveryBlockExactlyOnce() {
+        for (Map.Entry<String, Set<RBlockPos>> shape : sampleShapes().entrySet()) {
+            List<GlowOutlineMesher.Cuboid> cuboids = GlowOutlineMesher.mesh(shape.getValue());
+            assertExactCover(shape.getKey(), shape.getValue(), cuboids);
+        }
+    }
+
+    @Test
+    void straightRunsAndSolidBoxesCollapse() {
+        assertEquals(List.of(new GlowOutlineMesher.Cuboid(-3, 64, 5, 1, 1, 1)),
+            GlowOutlineMesher.mesh(Set.of(new RBlockPos(-3, 64, 5))));
+        assertEquals(List.of(new GlowOutlineMesher.Cuboid(0, 10, 0, 4, 3, 5)),
+            GlowOutlineMesher.mesh(box(0, 10, 0, 4, 3, 5)));
+        assertEquals(4, GlowOutlineMesher.mesh(claimBorder(32)).size());
+        assertEquals(List.of(), GlowOutlineMesher.mesh(Set.of()));
+    }
+
+    @Test
+    void perBlockFallbackKeepsOneCuboidPerBlock() {
+        Set<RBlockPos> border = claimBorder(8);
+        List<GlowOutlineMesher.Cuboid> cuboids = GlowOutlineMesher.perBlock(border);
+
+        assertEquals(border.size(), cuboids.size());
+        assertExactCover("perBlock", border, cuboids);
+        assertEquals(border.size(), new GlowOutlineConfig(border, null, null, -1,
+            GlowOutlineConfig.Rendering.PER_BLOCK).cuboids().size());
+        assertEquals(4, new GlowOutlineConfig(border, null, null, -1).cuboids().size());
+    }
+
+    @Test
+    void outlineTransformWrapsTheCuboidSymmetrically() {
+        GlowOutlineMesher.Cuboid cuboid = new GlowOutlineMesher.Cuboid(10, 64, -4, 32, 1, 2);
+        DisplayTransform transform = cuboid.outlineTransform();
+
+        assertEquals(26.0, cuboid.centerX());
+        assertEquals(64.5, cuboid.centerY());
+        assertEquals(-3.0, cuboid.centerZ());
+        assertEquals(-16.01F, transform.translation().x(), 1e-4F);
+        assertEquals(32.02F, transform.scale().x(), 1e-4F);
+        assertEquals(-0.51F, transform.translation().y(), 1e-4F);
+        assertEquals(1.02F, transform.scale().y(), 1e-4F);
+        assertEquals(-1.01F, transform.translation().z(), 1e-4F);
+    }
+
+    @Test
+    void entityCountReductionOnSampleShapes() {
+        for (Map.Entry<String, Set<RBlockPos>> shape : sampleShapes().entrySet()) {
+            int cuboids = GlowOutlineMesher.mesh(shape.getValue()).size();
+            assertTrue(cuboids <= shape.getValue().size(), shape.getKey());
+        }
+
+        Map<String, Set<RBlockPos>> shapes = sampleShapes();
+        assertEquals(4, GlowOutlineMesher.mesh(shapes.get("32x32 claim border")).size());
+        assertEquals(1, GlowOutlineMesher.mesh(shapes.get("16x16x16 solid region")).size());
+        assertTrue(GlowOutlineMesher.mesh(shapes.get("16x8x16 hollow room")).size() <= 6 * 2);
+        assertEquals(shapes.get("8x8 checkerboard").size(), GlowOutlineMesher.mesh(shapes.get("8x8 checkerboard")).size());
+    }
+
+    private static Map<String, Set<RBlockPos>> sampleShapes() {
+        Map<String, Set<RBlockPos>> shapes = new LinkedHashMap<>();
+        shapes.put("32x32 claim border", claimBorder(32));
+        shapes.put("16x16x16 solid region", box(0, 0, 0, 16, 16, 16));
+        Set<RBlockPos> room = box(0, 0, 0, 16, 8, 16);
+        room.removeAll(box(1, 1, 1, 14, 6, 14));
+        shapes.put("16x8x16 hollow room", room);
+        Set<RBlockPos> checkerboard = new HashSet<>();
+        for (int x = 0; x < 8; x++) {
+            for (int z = 0; z < 8; z++) {
+                if (((x + z) & 1) == 0) checkerboard.add(new RBlockPos(x, 0, z));
+            }
+        }
+        shapes.put("8x8 checkerboard", checkerboard);
+        Random random = new Random(41L);
+        Set<RBlockPos> scatter = new HashSet<>();
+        for (int i = 0; i < 2_000; i++) {
+            scatter.add(new RBlockPos(random.nextInt(24), random.nextInt(6), random.nextInt(24)));
+        }
+        shapes.put("random scatter", scatter);
+        return shapes;
+    }
+
+    private static Set<RBlockPos> claimBorder(int size) {
+        Set<RBlockPos> border = new HashSet<>();
+        for (int i = 0; i < size; i++) {
+            border.add(new RBlockPos(i, 64, 0));
+            border.add(new RBlockPos(i, 64, size - 1));
+            border.add(new RBlockPos(0, 64, i));
+            border.add(new RBlockPos(size - 1, 64, i));
+        }
+        return border;
+    }
+
+    private static Set<RBlockPos> box(int minX, int minY, int minZ, int sizeX, int sizeY, int sizeZ) {
+        Set<RBlockPos> blocks = new HashSet<>();
+        for (int x = 0; x < sizeX; x++) {
+            for (int y = 0; y < sizeY; y++) {
+                for (int z = 0; z < sizeZ; z++) {
+                    blocks.add(new RBlockPos(minX + x, minY + y, minZ + z));
+                }
+            }
+        }
+        return blocks;
+    }
+
+    private static void assertExactCover(String shape, Set<RBlockPos> blocks, List<GlowOutlineMesher.Cuboid> cuboids) {
+        Set<RBlockPos> covered = new HashSet<>();
+        long volume = 0L;
+        for (GlowOutlineMesher.Cuboid cuboid : cuboids) {
+            volume += cuboid.volume();
+            for (int x = 0; x < cuboid.sizeX(); x++) {
+                for (int y = 0; y < cuboid.sizeY(); y++) {
+                    for (int z = 0; z < cuboid.sizeZ(); z++) {
+                        RBlockPos pos = new RBlockPos(cuboid.minX() + x, cuboid.minY() + y, cuboid.minZ() + z);
+                        assertTrue(blocks.contains(pos), shape + ": cuboid covers non-outline block " + pos);
+                        assertTrue(covered.add(pos), shape + ": cuboids overlap at " + pos);
+                    }
+                }
+            }
+        }
+        assertEquals(blocks, covered, shape);
+        assertEquals(blocks.size(), volume, shape);
+    }
+}
@@ -0,0 +1,102 @@
+package de.t14d3.rapunzellib.visuals;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+final class VisualPacketCollectorTest {
+    @Test
+    void packetsFromEveryVisualAreGroupedPerViewerInOrder() {
+        VisualPacketCollector<String, String> collector = new VisualPacketCollector<>(4096);
+        collector.add("alice", "display:add");
+        collector.add("bob", "display:add");
+        collector.add("alice", "display:data");
+        collector.add("alice", "outline:add");
+        collector.add("bob", "display:data");
+        RecordingSink sink = new RecordingSink();
+
+        assertEquals(2, collector.flush(sink));
+
+        assertEquals(List.of(
+            new Batch("alice", List.of("display:add", "display:data", "outline:add")),
+            new Batch("bob", List.of("display:add", "display:data"))
+        ), sink.batches);
+        assertEquals(new VisualPacketCollector.Stats(1L, 5L, 2L, 0), collector.stats());
+    }
+
+    @Test
+    void largeBacklogsAreSplitIntoConsecutiveBatches() {
+        VisualPacketCollector<String, Integer> collector = new VisualPacketCollector<>(3);
+        for (int i = 0; i < 7; i++) {
+            collector.add("alice", i);
+        }
+        List<List<Integer>> batches = new ArrayList<>();
+
+        assertEquals(3, collector.flush((viewer, packets) -> batches.add(List.copyOf(packets))));
+
+        assertEquals(List.of(List.of(0, 1, 2), List.of(3, 4, 5), List.of(6)), batches);
+    }
+
+    @Test
+    void flushDrainsTheQueueAndEmptyFlushesSendNothing() {
+        VisualPacketCollector<String, String> collector = new VisualPacketCollector<>(8);
+        RecordingSink sink = new RecordingSink();
+        assertEquals(0, collector.flush(sink));
+
+        collector.add("alice", "spawn");
+        assertEquals(1, collector.stats().pending());
+        collector.flush(sink);
+        assertEquals(0, collector.flush(sink));
+
+        collector.add("alice", "despawn");
+        collector.flush(sink);
+        assertEquals(List.of(
+            new Batch("alice", List.of("spawn")),
+            new Batch("alice", List.of("despawn"))
+        ), sink.batches);
+        assertEquals(2L, collector.stats().flushes());
+    }
+
+    @Test
+    void failingViewerDoesNotBlockTheOthers() {
+        VisualPacketCollector<String, String> collector = new VisualPacketCollector<>(8);
+        collector.add("alice", "spawn");
+        collector.add("bob", "spawn");
+        IllegalStateException closed = new IllegalStateException("channel closed");
+        List<String> delivered = new ArrayList<>();
+
+        IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> collector.flush((viewer, packets) -> {
+            if (viewer.equals("alice")) {
+                throw closed;
+            }
+            delivered.add(viewer);
+        }));
+
+        assertSame(closed, thrown);
+        assertEquals(List.of("bob"), delivered);
+        assertEquals(0, collector.stats().pending());
+    }
+
+    @Test
+    void rejectsNonPositiveBatchSize() {
+        assertThrows(IllegalArgumentException.class, () -> new VisualPacketCollector<String, String>(0));
+        assertEquals(1, new VisualPacketCollector<String, String>(1).maxBatchSize());
+    }
+
+    private record Batch(String viewer, List<String> packets) {
+    }
+
+    private static final class RecordingSink implements VisualPacketCollector.Sink<String, String> {
+        private final List<Batch> batches = new ArrayList<>();
+
+        @Override
+        public void send(String viewer, List<String> packets) {
+            batches.add(new Batch(viewer, List.copyOf(packets)));
+        }
+    }
+}
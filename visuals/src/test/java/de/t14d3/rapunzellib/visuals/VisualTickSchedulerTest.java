@@ -0,0 +1,164 @@
+package de.t14d3.rapunzellib.visuals;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class VisualTickSchedulerTest {
+    private static final Logger LOGGER = LoggerFactory.getLogger(VisualTickSchedulerTest.class);
+    private static final int VISUALS = 10_000;
+
+    @Test
+    void hashedPhasesSpreadTenThousandVisualsAcrossTicks() {
+        VisualTickScheduler scheduler = new VisualTickScheduler(Duration.ofSeconds(1L), LOGGER, () -> 0L);
+        int interval = 20;
+        int[] runs = new int[VISUALS];
+        for (int i = 0; i < VISUALS; i++) {
+            int visual = i;
+            scheduler.schedule(new VisualId(), interval, () -> runs[visual]++);
+        }
+
+        int minPerTick = Integer.MAX_VALUE;
+        int maxPerTick = 0;
+        for (int tick = 0; tick < interval * 10; tick++) {
+            VisualTickScheduler.Stats stats = scheduler.tick();
+            minPerTick = Math.min(minPerTick, stats.ran());
+            maxPerTick = Math.max(maxPerTick, stats.ran());
+            assertEquals(0, stats.backlog());
+        }
+
+        for (int count : runs) {
+            assertEquals(10, count);
+        }
+        int ideal = VISUALS / interval;
+        assertTrue(minPerTick > ideal * 3 / 4, "min " + minPerTick);
+        assertTrue(maxPerTick < ideal * 5 / 4, "max " + maxPerTick);
+    }
+
+    @Test
+    void beaconRefreshesNoLongerLandOnTheSameTick() {
+        VisualTickScheduler scheduler = new VisualTickScheduler(Duration.ofSeconds(1L), LOGGER, () -> 0L);
+        AtomicInteger refreshed = new AtomicInteger();
+        for (int i = 0; i < VISUALS; i++) {
+            scheduler.schedule(new VisualId(), 600, refreshed::incrementAndGet);
+        }
+
+        int maxPerTick = 0;
+        for (int tick = 0; tick < 600; tick++) {
+            maxPerTick = Math.max(maxPerTick, scheduler.tick().ran());
+        }
+
+        assertEquals(VISUALS, refreshed.get());
+        assertTrue(maxPerTick < 60, "max " + maxPerTick);
+    }
+
+    @Test
+    void budgetCapsEachTickAndCarriesLeftoverWorkOver() {
+        AtomicLong clock = new AtomicLong();
+        long cost = 1_000L;
+        long budget = 600L * cost;
+        VisualTickScheduler scheduler = new VisualTickScheduler(Duration.ofNanos(budget), LOGGER, clock::get);
+        int interval = 20;
+        List<List<Long>> runTicks = new ArrayList<>(VISUALS);
+        AtomicLong currentTick = new AtomicLong();
+        for (int i = 0; i < VISUALS; i++) {
+            List<Long> ticks = new ArrayList<>();
+            runTicks.add(ticks);
+            scheduler.schedule(new VisualId(), interval, () -> {
+                clock.addAndGet(cost);
+                ticks.add(currentTick.get());
+            });
+        }
+
+        // One very expensive visual overruns the budget on its phase tick, so the visuals due
+        // after it have to be carried over to the following ticks.
+        AtomicBoolean expensiveRan = new AtomicBoolean();
+        scheduler.schedule(new VisualId(), interval, () -> {
+            clock.addAndGet(budget * 3);
+            expensiveRan.set(true);
+        });
+
+        int carried = 0;
+        long maxTickNanos = 0L;
+        int ticks = interval * 20;
+        for (int tick = 1; tick <= ticks; tick++) {
+            currentTick.set(tick);
+            expensiveRan.set(false);
+            VisualTickScheduler.Stats stats = scheduler.tick();
+            carried = Math.max(carried, stats.backlog());
+            maxTickNanos = Math.max(maxTickNanos, stats.lastTickNanos());
+            long lastTaskCost = expensiveRan.get() ? budget * 3 : cost;
+            assertTrue(stats.lastTickNanos() < budget + lastTaskCost, "tick " + tick + " took " + stats.lastTickNanos());
+        }
+
+        assertTrue(carried > 0);
+        assertEquals(scheduler.stats().maxTickNanos(), maxTickNanos);
+        for (List<Long> visualTicks : runTicks) {
+            assertTrue(visualTicks.size() >= ticks / interval - 1, "runs " + visualTicks.size());
+            for (int i = 1; i < visualTicks.size(); i++) {
+                long gap = visualTicks.get(i) - visualTicks.get(i - 1);
+                assertTrue(gap >= 1 && gap < interval * 2, "gap " + gap);
+            }
+        }
+    }
+
+    @Test
+    void runsAtLeastOneTaskWithZeroBudget() {
+        AtomicLong clock = new AtomicLong();
+        VisualTickScheduler scheduler = new VisualTickScheduler(Duration.ZERO, LOGGER, clock::get);
+        AtomicInteger ran = new AtomicInteger();
+        for (int i = 0; i < 3; i++) {
+            scheduler.schedule(new VisualId(), 1, () -> {
+                clock.addAndGet(10L);
+                ran.incrementAndGet();
+            });
+        }
+
+        VisualTickScheduler.Stats stats = scheduler.tick();
+        assertEquals(1, ran.get());
+        assertEquals(3, stats.due());
+        assertEquals(2, stats.backlog());
+        assertEquals(10L, stats.lastTickNanos());
+    }
+
+    @Test
+    void cancelIntervalChangesAndFailuresAreHandled() {
+        VisualTickScheduler scheduler = new VisualTickScheduler(Duration.ofSeconds(1L), LOGGER, () -> 0L);
+        AtomicInteger fast = new AtomicInteger();
+        AtomicInteger cancelled = new AtomicInteger();
+        AtomicInteger failing = new AtomicInteger();
+        VisualTickScheduler.Task fastTask = scheduler.schedule("fast", 10, fast::incrementAndGet);
+        VisualTickScheduler.Task cancelledTask = scheduler.schedule("cancelled", 1, cancelled::incrementAndGet);
+        scheduler.schedule("failing", 1, () -> {
+            failing.incrementAndGet();
+            throw new IllegalStateException("boom");
+        });
+
+        scheduler.tick();
+        cancelledTask.cancel();
+        fastTask.intervalTicks(1);
+        for (int tick = 0; tick < 20; tick++) {
+            scheduler.tick();
+        }
+
+        assertEquals(1, cancelled.get());
+        assertEquals(21, failing.get());
+        assertTrue(fast.get() >= 10, "fast " + fast.get());
+        assertEquals(2, scheduler.stats().scheduled());
+        assertThrows(IllegalArgumentException.class, () -> fastTask.intervalTicks(0));
+        assertThrows(IllegalArgumentException.class, () -> scheduler.schedule("zero", 0, () -> {
+        }));
+        assertEquals(VisualTickScheduler.phase("fast", 10), VisualTickScheduler.phase("fast", 10));
+    }
+}